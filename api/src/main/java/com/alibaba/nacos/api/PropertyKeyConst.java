@@ -91,6 +91,10 @@ public class PropertyKeyConst {
     
     public static final String REDO_DELAY_THREAD_COUNT = "redoDelayThreadCount";
     
+    public static final String REDO_JITTER_TIME = "redoJitterTime";
+    
+    public static final String REDO_BATCH_SIZE = "redoBatchSize";
+    
     public static final String SIGNATURE_REGION_ID = "signatureRegionId";
     
     public static final String LOG_ALL_PROPERTIES = "logAllProperties";
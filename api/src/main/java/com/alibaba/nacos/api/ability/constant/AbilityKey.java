@@ -37,6 +37,12 @@ public enum AbilityKey {
     SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC("supportPersistentInstanceByGrpc",
             "support persistent instance by grpc", AbilityMode.SERVER),
     
+    /**
+     * Server support subscribe or unsubscribe multiple services by one request.
+     */
+    SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE("supportBatchSubscribeService",
+            "support batch subscribe service by grpc", AbilityMode.SERVER),
+    
     /**
      * For Test temporarily.
      */
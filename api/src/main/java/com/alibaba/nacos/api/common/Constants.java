@@ -225,6 +225,13 @@ public class Constants {
     
     public static final int DEFAULT_REDO_THREAD_COUNT = 1;
     
+    /**
+     * millisecond.
+     */
+    public static final long DEFAULT_REDO_JITTER_TIME = 3000L;
+    
+    public static final int DEFAULT_REDO_BATCH_SIZE = 200;
+    
     public static final String APP_CONN_LABELS_KEY = "nacos.app.conn.labels";
     
     public static final String DOT = ".";
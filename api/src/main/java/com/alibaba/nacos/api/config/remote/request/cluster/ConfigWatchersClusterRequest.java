@@ -0,0 +1,40 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
+
+/**
+ * Query listeners of config on other servers in cluster.
+ *
+ * <p>If {@link #ip} is set, query the configs listened by the client ip, otherwise query the clients listening the
+ * config of dataId, group and tenant.
+ *
+ * @author agent
+ */
+public class ConfigWatchersClusterRequest extends AbstractConfigRequest {
+    
+    private String ip;
+    
+    public String getIp() {
+        return ip;
+    }
+    
+    public void setIp(String ip) {
+        this.ip = ip;
+    }
+}
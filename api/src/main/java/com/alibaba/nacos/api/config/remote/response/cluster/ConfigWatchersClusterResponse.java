@@ -0,0 +1,43 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response.cluster;
+
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Listeners of config on one server in cluster.
+ *
+ * @author agent
+ */
+public class ConfigWatchersClusterResponse extends Response {
+    
+    /**
+     * Key is client ip and value is md5 when querying by config, key is groupKey and value is md5 when querying by ip.
+     */
+    private Map<String, String> listenersGroupkeyStatus = new HashMap<>();
+    
+    public Map<String, String> getListenersGroupkeyStatus() {
+        return listenersGroupkeyStatus;
+    }
+    
+    public void setListenersGroupkeyStatus(Map<String, String> listenersGroupkeyStatus) {
+        this.listenersGroupkeyStatus = listenersGroupkeyStatus;
+    }
+}
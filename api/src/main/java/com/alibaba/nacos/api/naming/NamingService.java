@@ -577,6 +577,33 @@ public interface NamingService {
     void unsubscribe(String serviceName, String groupName, NamingSelector selector, EventListener listener)
             throws NacosException;
     
+    /**
+     * Subscribe multiple services of one group to receive events of instances alteration, the listener is added to
+     * every service. The services are subscribed by one request if the server supports it.
+     *
+     * @param serviceNames names of services
+     * @param groupName    group of services
+     * @param clusters     list of cluster
+     * @param listener     event listener
+     * @throws NacosException nacos exception
+     * @since 2.4.0
+     */
+    void batchSubscribe(List<String> serviceNames, String groupName, List<String> clusters, EventListener listener)
+            throws NacosException;
+    
+    /**
+     * Unsubscribe event listener of multiple services of one group.
+     *
+     * @param serviceNames names of services
+     * @param groupName    group of services
+     * @param clusters     list of cluster
+     * @param listener     event listener
+     * @throws NacosException nacos exception
+     * @since 2.4.0
+     */
+    void batchUnsubscribe(List<String> serviceNames, String groupName, List<String> clusters, EventListener listener)
+            throws NacosException;
+    
     /**
      * Get all service names from server.
      *
@@ -0,0 +1,71 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import java.util.List;
+
+/**
+ * Nacos naming batch subscribe service request.
+ *
+ * <p>All services in one request should be in the same namespace and group, so the request is authorized by the
+ * group.
+ *
+ * @author agent
+ */
+public class BatchSubscribeServiceRequest extends AbstractNamingRequest {
+    
+    private boolean subscribe;
+    
+    private String clusters;
+    
+    private List<String> serviceNames;
+    
+    public BatchSubscribeServiceRequest() {
+    }
+    
+    public BatchSubscribeServiceRequest(String namespace, String groupName, List<String> serviceNames,
+            String clusters, boolean subscribe) {
+        super(namespace, null, groupName);
+        this.serviceNames = serviceNames;
+        this.clusters = clusters;
+        this.subscribe = subscribe;
+    }
+    
+    public String getClusters() {
+        return clusters;
+    }
+    
+    public void setClusters(String clusters) {
+        this.clusters = clusters;
+    }
+    
+    public boolean isSubscribe() {
+        return subscribe;
+    }
+    
+    public void setSubscribe(boolean subscribe) {
+        this.subscribe = subscribe;
+    }
+    
+    public List<String> getServiceNames() {
+        return serviceNames;
+    }
+    
+    public void setServiceNames(List<String> serviceNames) {
+        this.serviceNames = serviceNames;
+    }
+}
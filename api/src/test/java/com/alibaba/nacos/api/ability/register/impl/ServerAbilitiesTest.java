@@ -33,4 +33,9 @@ class ServerAbilitiesTest {
     void testSupportPersistentInstanceByGrpcAbilities() {
         assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC));
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testSupportBatchSubscribeServiceAbilities() {
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.remote.request.BasedConfigRequestTest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigWatchersClusterRequestTest extends BasedConfigRequestTest {
+    
+    ConfigWatchersClusterRequest configWatchersClusterRequest;
+    
+    String requestId;
+    
+    @BeforeEach
+    void before() {
+        configWatchersClusterRequest = new ConfigWatchersClusterRequest();
+        configWatchersClusterRequest.setDataId(DATA_ID);
+        configWatchersClusterRequest.setGroup(GROUP);
+        configWatchersClusterRequest.setTenant(TENANT);
+        configWatchersClusterRequest.putAllHeader(HEADERS);
+        requestId = injectRequestUuId(configWatchersClusterRequest);
+    }
+    
+    @Override
+    @Test
+    public void testSerialize() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configWatchersClusterRequest);
+        assertTrue(json.contains("\"module\":\"" + Constants.Config.CONFIG_MODULE));
+        assertTrue(json.contains("\"dataId\":\"" + DATA_ID));
+        assertTrue(json.contains("\"group\":\"" + GROUP));
+        assertTrue(json.contains("\"tenant\":\"" + TENANT));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{\"header1\":\"test_header1\"},\"requestId\":\"ece89111-3c42-4055-aca4-c95e16ec564b\","
+                + "\"ip\":\"127.0.0.1\",\"module\":\"config\"}";
+        ConfigWatchersClusterRequest actual = mapper.readValue(json, ConfigWatchersClusterRequest.class);
+        assertEquals("127.0.0.1", actual.getIp());
+        assertNull(actual.getDataId());
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchSubscribeServiceRequestTest extends BasedNamingRequestTest {
+    
+    @Test
+    void testSerialize() throws JsonProcessingException {
+        BatchSubscribeServiceRequest request = new BatchSubscribeServiceRequest(NAMESPACE, GROUP,
+                Arrays.asList(SERVICE, "service2"), "", true);
+        String json = mapper.writeValueAsString(request);
+        assertTrue(json.contains("\"groupName\":\"" + GROUP + "\""));
+        assertTrue(json.contains("\"namespace\":\"" + NAMESPACE + "\""));
+        assertTrue(json.contains("\"serviceNames\":[\"service\",\"service2\"]"));
+        assertTrue(json.contains("\"clusters\":\"\""));
+        assertTrue(json.contains("\"subscribe\":true"));
+    }
+    
+    @Test
+    void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{},\"namespace\":\"namespace\",\"groupName\":\"group\","
+                + "\"serviceNames\":[\"service\",\"service2\"],\"subscribe\":false,\"clusters\":\"aa,bb\","
+                + "\"module\":\"naming\"}";
+        BatchSubscribeServiceRequest actual = mapper.readValue(json, BatchSubscribeServiceRequest.class);
+        assertEquals(NAMESPACE, actual.getNamespace());
+        assertEquals(GROUP, actual.getGroupName());
+        assertEquals(NAMING_MODULE, actual.getModule());
+        assertEquals(Arrays.asList(SERVICE, "service2"), actual.getServiceNames());
+        assertEquals("aa,bb", actual.getClusters());
+        assertFalse(actual.isSubscribe());
+    }
+}
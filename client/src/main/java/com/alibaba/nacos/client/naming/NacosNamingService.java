@@ -493,6 +493,43 @@ public class NacosNamingService implements NamingService {
         }
     }
     
+    @Override
+    public void batchSubscribe(List<String> serviceNames, String groupName, List<String> clusters,
+            EventListener listener) throws NacosException {
+        if (CollectionUtils.isEmpty(serviceNames) || listener == null) {
+            return;
+        }
+        NamingSelector clusterSelector = NamingSelectorFactory.newClusterSelector(clusters);
+        String clusterString = getUniqueClusterString(clusters);
+        for (String each : serviceNames) {
+            NamingSelectorWrapper wrapper = new NamingSelectorWrapper(each, groupName, clusterString,
+                    clusterSelector, listener);
+            notifyIfSubscribed(each, groupName, wrapper);
+            changeNotifier.registerListener(groupName, each, wrapper);
+        }
+        clientProxy.batchSubscribe(groupName, serviceNames, Constants.NULL);
+    }
+    
+    @Override
+    public void batchUnsubscribe(List<String> serviceNames, String groupName, List<String> clusters,
+            EventListener listener) throws NacosException {
+        if (CollectionUtils.isEmpty(serviceNames) || listener == null) {
+            return;
+        }
+        NamingSelectorWrapper wrapper = new NamingSelectorWrapper(NamingSelectorFactory.newClusterSelector(clusters),
+                listener);
+        List<String> unsubscribedNames = new ArrayList<>(serviceNames.size());
+        for (String each : serviceNames) {
+            changeNotifier.deregisterListener(groupName, each, wrapper);
+            if (!changeNotifier.isSubscribed(groupName, each)) {
+                unsubscribedNames.add(each);
+            }
+        }
+        if (!unsubscribedNames.isEmpty()) {
+            clientProxy.batchUnsubscribe(groupName, unsubscribedNames, Constants.NULL);
+        }
+    }
+    
     @Override
     public ListView<String> getServicesOfServer(int pageNo, int pageSize) throws NacosException {
         return getServicesOfServer(pageNo, pageSize, Constants.DEFAULT_GROUP);
@@ -170,6 +170,30 @@ public interface NamingClientProxy extends Closeable {
      */
     void unsubscribe(String serviceName, String groupName, String clusters) throws NacosException;
     
+    /**
+     * Subscribe multiple services of one group.
+     *
+     * @param groupName    group name
+     * @param serviceNames service names
+     * @param clusters     clusters, current only support subscribe all clusters, maybe deprecated
+     * @return current service infos of subscribe services, in the same order as service names
+     * @throws NacosException nacos exception
+     * @since 2.4.0
+     */
+    List<ServiceInfo> batchSubscribe(String groupName, List<String> serviceNames, String clusters)
+            throws NacosException;
+    
+    /**
+     * Unsubscribe multiple services of one group.
+     *
+     * @param groupName    group name
+     * @param serviceNames service names
+     * @param clusters     clusters, current only support subscribe all clusters, maybe deprecated
+     * @throws NacosException nacos exception
+     * @since 2.4.0
+     */
+    void batchUnsubscribe(String groupName, List<String> serviceNames, String clusters) throws NacosException;
+    
     /**
      * Judge whether service has been subscribed.
      *
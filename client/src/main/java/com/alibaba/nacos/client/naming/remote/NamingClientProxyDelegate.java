@@ -37,7 +37,10 @@ import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -181,6 +184,48 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
         grpcClientProxy.unsubscribe(serviceName, groupName, clusters);
     }
     
+    @Override
+    public List<ServiceInfo> batchSubscribe(String groupName, List<String> serviceNames, String clusters)
+            throws NacosException {
+        NAMING_LOGGER.info("[BATCH-SUBSCRIBE-SERVICE] services:{}, group:{}, clusters:{} ", serviceNames, groupName,
+                clusters);
+        Map<String, ServiceInfo> serviceInfos = new HashMap<>(serviceNames.size());
+        List<String> unsubscribedNames = new ArrayList<>(serviceNames.size());
+        for (String each : serviceNames) {
+            serviceInfoUpdateService.scheduleUpdateIfAbsent(each, groupName, clusters);
+            String serviceKey = ServiceInfo.getKey(NamingUtils.getGroupedName(each, groupName), clusters);
+            ServiceInfo cached = serviceInfoHolder.getServiceInfoMap().get(serviceKey);
+            if (null == cached || !isSubscribed(each, groupName, clusters)) {
+                unsubscribedNames.add(each);
+            } else {
+                serviceInfos.put(each, cached);
+            }
+        }
+        if (!unsubscribedNames.isEmpty()) {
+            List<ServiceInfo> subscribed = grpcClientProxy.batchSubscribe(groupName, unsubscribedNames, clusters);
+            for (int i = 0; i < unsubscribedNames.size(); i++) {
+                serviceInfos.put(unsubscribedNames.get(i), subscribed.get(i));
+            }
+        }
+        List<ServiceInfo> result = new ArrayList<>(serviceNames.size());
+        for (String each : serviceNames) {
+            ServiceInfo serviceInfo = serviceInfos.get(each);
+            serviceInfoHolder.processServiceInfo(serviceInfo);
+            result.add(serviceInfo);
+        }
+        return result;
+    }
+    
+    @Override
+    public void batchUnsubscribe(String groupName, List<String> serviceNames, String clusters) throws NacosException {
+        NAMING_LOGGER.debug("[BATCH-UNSUBSCRIBE-SERVICE] services:{}, group:{}, cluster:{} ", serviceNames, groupName,
+                clusters);
+        for (String each : serviceNames) {
+            serviceInfoUpdateService.stopUpdateIfContain(each, groupName, clusters);
+        }
+        grpcClientProxy.batchUnsubscribe(groupName, serviceNames, clusters);
+    }
+    
     @Override
     public boolean isSubscribed(String serviceName, String groupName, String clusters) throws NacosException {
         return grpcClientProxy.isSubscribed(serviceName, groupName, clusters);
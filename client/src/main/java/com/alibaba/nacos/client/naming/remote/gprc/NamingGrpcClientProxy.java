@@ -28,12 +28,14 @@ import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
 import com.alibaba.nacos.api.naming.remote.request.AbstractNamingRequest;
 import com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.PersistentInstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceListRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.response.BatchInstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.BatchSubscribeServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.QueryServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.ServiceListResponse;
 import com.alibaba.nacos.api.naming.remote.response.SubscribeServiceResponse;
@@ -403,6 +405,100 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         doUnsubscribe(serviceName, groupName, clusters);
     }
     
+    /**
+     * Subscribe multiple services of one group.
+     *
+     * <p>If the server does not support batch subscribe, services are subscribed one by one.
+     *
+     * @param groupName    group name
+     * @param serviceNames service names
+     * @param clusters     clusters, current only support subscribe all clusters, maybe deprecated
+     * @return current service infos of subscribe services, in the same order as service names
+     * @throws NacosException nacos exception
+     */
+    @Override
+    public List<ServiceInfo> batchSubscribe(String groupName, List<String> serviceNames, String clusters)
+            throws NacosException {
+        NAMING_LOGGER.info("[GRPC-BATCH-SUBSCRIBE] services:{}, group:{}, cluster:{} ", serviceNames, groupName,
+                clusters);
+        for (String each : serviceNames) {
+            redoService.cacheSubscriberForRedo(each, groupName, clusters);
+        }
+        if (isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)) {
+            return doBatchSubscribe(groupName, serviceNames, clusters);
+        }
+        List<ServiceInfo> result = new ArrayList<>(serviceNames.size());
+        for (String each : serviceNames) {
+            result.add(doSubscribe(each, groupName, clusters));
+        }
+        return result;
+    }
+    
+    /**
+     * Execute batch subscribe operation.
+     *
+     * @param groupName    group name
+     * @param serviceNames service names
+     * @param clusters     clusters, current only support subscribe all clusters, maybe deprecated
+     * @return current service infos of subscribe services, in the same order as service names
+     * @throws NacosException nacos exception
+     */
+    public List<ServiceInfo> doBatchSubscribe(String groupName, List<String> serviceNames, String clusters)
+            throws NacosException {
+        BatchSubscribeServiceRequest request = new BatchSubscribeServiceRequest(namespaceId, groupName,
+                serviceNames, clusters, true);
+        BatchSubscribeServiceResponse response = requestToServer(request, BatchSubscribeServiceResponse.class);
+        for (String each : serviceNames) {
+            redoService.subscriberRegistered(each, groupName, clusters);
+        }
+        return response.getServiceInfos();
+    }
+    
+    /**
+     * Unsubscribe multiple services of one group.
+     *
+     * <p>If the server does not support batch unsubscribe, services are unsubscribed one by one.
+     *
+     * @param groupName    group name
+     * @param serviceNames service names
+     * @param clusters     clusters, current only support subscribe all clusters, maybe deprecated
+     * @throws NacosException nacos exception
+     */
+    @Override
+    public void batchUnsubscribe(String groupName, List<String> serviceNames, String clusters)
+            throws NacosException {
+        NAMING_LOGGER.info("[GRPC-BATCH-UNSUBSCRIBE] services:{}, group:{}, cluster:{} ", serviceNames, groupName,
+                clusters);
+        for (String each : serviceNames) {
+            redoService.subscriberDeregister(each, groupName, clusters);
+        }
+        if (isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)) {
+            doBatchUnsubscribe(groupName, serviceNames, clusters);
+            return;
+        }
+        for (String each : serviceNames) {
+            doUnsubscribe(each, groupName, clusters);
+        }
+    }
+    
+    /**
+     * Execute batch unsubscribe operation.
+     *
+     * @param groupName    group name
+     * @param serviceNames service names
+     * @param clusters     clusters, current only support subscribe all clusters, maybe deprecated
+     * @throws NacosException nacos exception
+     */
+    public void doBatchUnsubscribe(String groupName, List<String> serviceNames, String clusters)
+            throws NacosException {
+        BatchSubscribeServiceRequest request = new BatchSubscribeServiceRequest(namespaceId, groupName,
+                serviceNames, clusters, false);
+        requestToServer(request, BatchSubscribeServiceResponse.class);
+        for (String each : serviceNames) {
+            redoService.removeSubscriberForRedo(each, groupName, clusters);
+        }
+    }
+    
     @Override
     public boolean isSubscribed(String serviceName, String groupName, String clusters) throws NacosException {
         return redoService.isSubscriberRegistered(serviceName, groupName, clusters);
@@ -38,6 +38,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -55,6 +56,12 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
     
     private long redoDelayTime;
     
+    private long redoJitterTime;
+    
+    private int redoBatchSize;
+    
+    private volatile long redoStartTime;
+    
     private final ConcurrentMap<String, InstanceRedoData> registeredInstances = new ConcurrentHashMap<>();
     
     private final ConcurrentMap<String, SubscriberRedoData> subscribes = new ConcurrentHashMap<>();
@@ -74,6 +81,8 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
         redoDelayTime = properties.getLong(PropertyKeyConst.REDO_DELAY_TIME, Constants.DEFAULT_REDO_DELAY_TIME);
         redoThreadCount = properties.getInteger(PropertyKeyConst.REDO_DELAY_THREAD_COUNT,
                 Constants.DEFAULT_REDO_THREAD_COUNT);
+        redoJitterTime = properties.getLong(PropertyKeyConst.REDO_JITTER_TIME, Constants.DEFAULT_REDO_JITTER_TIME);
+        redoBatchSize = properties.getInteger(PropertyKeyConst.REDO_BATCH_SIZE, Constants.DEFAULT_REDO_BATCH_SIZE);
     }
     
     public ConcurrentMap<String, InstanceRedoData> getRegisteredInstances() {
@@ -84,8 +93,30 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
         return connected;
     }
     
+    /**
+     * Whether redo should wait for the random delay after reconnected, which avoids all clients redo to the restarted
+     * server at the same time.
+     *
+     * @return {@code true} if redo should wait
+     */
+    public boolean isRedoDelayed() {
+        return System.currentTimeMillis() < redoStartTime;
+    }
+    
+    /**
+     * Max redo operations in one round of redo task, other operations will be redone in next rounds.
+     *
+     * @return max redo operations, {@code <= 0} means no limit
+     */
+    public int getRedoBatchSize() {
+        return redoBatchSize;
+    }
+    
     @Override
     public void onConnected(Connection connection) {
+        if (redoJitterTime > 0) {
+            redoStartTime = System.currentTimeMillis() + ThreadLocalRandom.current().nextLong(redoJitterTime);
+        }
         connected = true;
         LogUtils.NAMING_LOGGER.info("Grpc connection connect");
     }
@@ -94,12 +125,8 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
     public void onDisConnect(Connection connection) {
         connected = false;
         LogUtils.NAMING_LOGGER.warn("Grpc connection disconnect, mark to redo");
-        synchronized (registeredInstances) {
-            registeredInstances.values().forEach(instanceRedoData -> instanceRedoData.setRegistered(false));
-        }
-        synchronized (subscribes) {
-            subscribes.values().forEach(subscriberRedoData -> subscriberRedoData.setRegistered(false));
-        }
+        registeredInstances.values().forEach(instanceRedoData -> instanceRedoData.setRegistered(false));
+        subscribes.values().forEach(subscriberRedoData -> subscriberRedoData.setRegistered(false));
         LogUtils.NAMING_LOGGER.warn("mark to redo completed");
     }
     
@@ -113,9 +140,7 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
     public void cacheInstanceForRedo(String serviceName, String groupName, Instance instance) {
         String key = NamingUtils.getGroupedName(serviceName, groupName);
         InstanceRedoData redoData = InstanceRedoData.build(serviceName, groupName, instance);
-        synchronized (registeredInstances) {
-            registeredInstances.put(key, redoData);
-        }
+        registeredInstances.put(key, redoData);
     }
     
     /**
@@ -128,9 +153,7 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
     public void cacheInstanceForRedo(String serviceName, String groupName, List<Instance> instances) {
         String key = NamingUtils.getGroupedName(serviceName, groupName);
         BatchInstanceRedoData redoData = BatchInstanceRedoData.build(serviceName, groupName, instances);
-        synchronized (registeredInstances) {
-            registeredInstances.put(key, redoData);
-        }
+        registeredInstances.put(key, redoData);
     }
     
     /**
@@ -141,12 +164,10 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public void instanceRegistered(String serviceName, String groupName) {
         String key = NamingUtils.getGroupedName(serviceName, groupName);
-        synchronized (registeredInstances) {
-            InstanceRedoData redoData = registeredInstances.get(key);
-            if (null != redoData) {
-                redoData.registered();
-            }
-        }
+        registeredInstances.computeIfPresent(key, (k, redoData) -> {
+            redoData.registered();
+            return redoData;
+        });
     }
     
     /**
@@ -157,13 +178,11 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public void instanceDeregister(String serviceName, String groupName) {
         String key = NamingUtils.getGroupedName(serviceName, groupName);
-        synchronized (registeredInstances) {
-            InstanceRedoData redoData = registeredInstances.get(key);
-            if (null != redoData) {
-                redoData.setUnregistering(true);
-                redoData.setExpectedRegistered(false);
-            }
-        }
+        registeredInstances.computeIfPresent(key, (k, redoData) -> {
+            redoData.setUnregistering(true);
+            redoData.setExpectedRegistered(false);
+            return redoData;
+        });
     }
     
     /**
@@ -174,12 +193,10 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public void instanceDeregistered(String serviceName, String groupName) {
         String key = NamingUtils.getGroupedName(serviceName, groupName);
-        synchronized (registeredInstances) {
-            InstanceRedoData redoData = registeredInstances.get(key);
-            if (null != redoData) {
-                redoData.unregistered();
-            }
-        }
+        registeredInstances.computeIfPresent(key, (k, redoData) -> {
+            redoData.unregistered();
+            return redoData;
+        });
     }
     
     /**
@@ -190,12 +207,7 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public void removeInstanceForRedo(String serviceName, String groupName) {
         String key = NamingUtils.getGroupedName(serviceName, groupName);
-        synchronized (registeredInstances) {
-            InstanceRedoData redoData = registeredInstances.get(key);
-            if (null != redoData && !redoData.isExpectedRegistered()) {
-                registeredInstances.remove(key);
-            }
-        }
+        registeredInstances.computeIfPresent(key, (k, redoData) -> redoData.isExpectedRegistered() ? redoData : null);
     }
     
     /**
@@ -205,11 +217,9 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public Set<InstanceRedoData> findInstanceRedoData() {
         Set<InstanceRedoData> result = new HashSet<>();
-        synchronized (registeredInstances) {
-            for (InstanceRedoData each : registeredInstances.values()) {
-                if (each.isNeedRedo()) {
-                    result.add(each);
-                }
+        for (InstanceRedoData each : registeredInstances.values()) {
+            if (each.isNeedRedo()) {
+                result.add(each);
             }
         }
         return result;
@@ -225,9 +235,7 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
     public void cacheSubscriberForRedo(String serviceName, String groupName, String cluster) {
         String key = ServiceInfo.getKey(NamingUtils.getGroupedName(serviceName, groupName), cluster);
         SubscriberRedoData redoData = SubscriberRedoData.build(serviceName, groupName, cluster);
-        synchronized (subscribes) {
-            subscribes.put(key, redoData);
-        }
+        subscribes.put(key, redoData);
     }
     
     /**
@@ -239,12 +247,10 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public void subscriberRegistered(String serviceName, String groupName, String cluster) {
         String key = ServiceInfo.getKey(NamingUtils.getGroupedName(serviceName, groupName), cluster);
-        synchronized (subscribes) {
-            SubscriberRedoData redoData = subscribes.get(key);
-            if (null != redoData) {
-                redoData.setRegistered(true);
-            }
-        }
+        subscribes.computeIfPresent(key, (k, redoData) -> {
+            redoData.setRegistered(true);
+            return redoData;
+        });
     }
     
     /**
@@ -256,13 +262,11 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public void subscriberDeregister(String serviceName, String groupName, String cluster) {
         String key = ServiceInfo.getKey(NamingUtils.getGroupedName(serviceName, groupName), cluster);
-        synchronized (subscribes) {
-            SubscriberRedoData redoData = subscribes.get(key);
-            if (null != redoData) {
-                redoData.setUnregistering(true);
-                redoData.setExpectedRegistered(false);
-            }
-        }
+        subscribes.computeIfPresent(key, (k, redoData) -> {
+            redoData.setUnregistering(true);
+            redoData.setExpectedRegistered(false);
+            return redoData;
+        });
     }
     
     /**
@@ -275,10 +279,8 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public boolean isSubscriberRegistered(String serviceName, String groupName, String cluster) {
         String key = ServiceInfo.getKey(NamingUtils.getGroupedName(serviceName, groupName), cluster);
-        synchronized (subscribes) {
-            SubscriberRedoData redoData = subscribes.get(key);
-            return null != redoData && redoData.isRegistered();
-        }
+        SubscriberRedoData redoData = subscribes.get(key);
+        return null != redoData && redoData.isRegistered();
     }
     
     /**
@@ -290,12 +292,7 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public void removeSubscriberForRedo(String serviceName, String groupName, String cluster) {
         String key = ServiceInfo.getKey(NamingUtils.getGroupedName(serviceName, groupName), cluster);
-        synchronized (subscribes) {
-            SubscriberRedoData redoData = subscribes.get(key);
-            if (null != redoData && !redoData.isExpectedRegistered()) {
-                subscribes.remove(key);
-            }
-        }
+        subscribes.computeIfPresent(key, (k, redoData) -> redoData.isExpectedRegistered() ? redoData : null);
     }
     
     /**
@@ -305,11 +302,9 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
      */
     public Set<SubscriberRedoData> findSubscriberRedoData() {
         Set<SubscriberRedoData> result = new HashSet<>();
-        synchronized (subscribes) {
-            for (SubscriberRedoData each : subscribes.values()) {
-                if (each.isNeedRedo()) {
-                    result.add(each);
-                }
+        for (SubscriberRedoData each : subscribes.values()) {
+            if (each.isNeedRedo()) {
+                result.add(each);
             }
         }
         return result;
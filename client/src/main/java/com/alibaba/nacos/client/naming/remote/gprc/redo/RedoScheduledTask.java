@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc.redo;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.client.naming.remote.gprc.NamingGrpcClientProxy;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.BatchInstanceRedoData;
@@ -25,6 +26,12 @@ import com.alibaba.nacos.client.naming.remote.gprc.redo.data.SubscriberRedoData;
 import com.alibaba.nacos.client.utils.LogUtils;
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Redo task.
  *
@@ -32,6 +39,11 @@ import com.alibaba.nacos.common.task.AbstractExecuteTask;
  */
 public class RedoScheduledTask extends AbstractExecuteTask {
     
+    /**
+     * Max count of services in one batch subscribe redo request, which limits the size of response.
+     */
+    private static final int BATCH_SUBSCRIBE_SIZE = 100;
+    
     private final NamingGrpcClientProxy clientProxy;
     
     private final NamingGrpcRedoService redoService;
@@ -47,16 +59,26 @@ public class RedoScheduledTask extends AbstractExecuteTask {
             LogUtils.NAMING_LOGGER.warn("Grpc Connection is disconnect, skip current redo task");
             return;
         }
+        if (redoService.isRedoDelayed()) {
+            LogUtils.NAMING_LOGGER.info("Grpc Connection is just reconnected, delay current redo task");
+            return;
+        }
         try {
-            redoForInstances();
-            redoForSubscribes();
+            int redoBatchSize = redoService.getRedoBatchSize();
+            int remainCount = redoBatchSize > 0 ? redoBatchSize : Integer.MAX_VALUE;
+            remainCount = redoForInstances(remainCount);
+            redoForSubscribes(remainCount);
         } catch (Exception e) {
             LogUtils.NAMING_LOGGER.warn("Redo task run with unexpected exception: ", e);
         }
     }
     
-    private void redoForInstances() {
+    private int redoForInstances(int remainCount) {
         for (InstanceRedoData each : redoService.findInstanceRedoData()) {
+            if (remainCount-- <= 0) {
+                LogUtils.NAMING_LOGGER.info("Redo count reach limit, left instances will be redone in next round");
+                return 0;
+            }
             try {
                 redoForInstance(each);
             } catch (NacosException e) {
@@ -64,6 +86,7 @@ public class RedoScheduledTask extends AbstractExecuteTask {
                         each.getGroupName(), each.getServiceName(), e);
             }
         }
+        return remainCount;
     }
     
     private void redoForInstance(InstanceRedoData redoData) throws NacosException {
@@ -102,14 +125,74 @@ public class RedoScheduledTask extends AbstractExecuteTask {
         clientProxy.doRegisterService(serviceName, groupName, redoData.get());
     }
     
-    private void redoForSubscribes() {
+    private void redoForSubscribes(int remainCount) {
+        if (clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)) {
+            redoForSubscribesInBatch(remainCount);
+            return;
+        }
         for (SubscriberRedoData each : redoService.findSubscriberRedoData()) {
-            try {
-                redoForSubscribe(each);
-            } catch (NacosException e) {
-                LogUtils.NAMING_LOGGER.error("Redo subscriber operation {} for {}@@{}#{} failed. ", each.getRedoType(),
-                        each.getGroupName(), each.getServiceName(), each.get(), e);
+            if (remainCount-- <= 0) {
+                LogUtils.NAMING_LOGGER.info("Redo count reach limit, left subscribers will be redone in next round");
+                return;
+            }
+            redoForSubscribeSafely(each);
+        }
+    }
+    
+    /**
+     * Redo subscribe and unsubscribe operations by batch requests, grouped by redo type, group and clusters.
+     */
+    private void redoForSubscribesInBatch(int remainCount) {
+        Map<List<Object>, List<String>> batches = new LinkedHashMap<>();
+        for (SubscriberRedoData each : redoService.findSubscriberRedoData()) {
+            if (remainCount-- <= 0) {
+                LogUtils.NAMING_LOGGER.info("Redo count reach limit, left subscribers will be redone in next round");
+                break;
             }
+            RedoData.RedoType redoType = each.getRedoType();
+            if (RedoData.RedoType.REGISTER != redoType && RedoData.RedoType.UNREGISTER != redoType) {
+                redoForSubscribeSafely(each);
+                continue;
+            }
+            List<Object> batchKey = Arrays.asList(redoType, each.getGroupName(), each.get());
+            batches.computeIfAbsent(batchKey, key -> new ArrayList<>()).add(each.getServiceName());
+        }
+        for (Map.Entry<List<Object>, List<String>> entry : batches.entrySet()) {
+            List<Object> batchKey = entry.getKey();
+            List<String> serviceNames = entry.getValue();
+            for (int i = 0; i < serviceNames.size(); i += BATCH_SUBSCRIBE_SIZE) {
+                List<String> subList = serviceNames.subList(i, Math.min(i + BATCH_SUBSCRIBE_SIZE, serviceNames.size()));
+                redoForSubscribeBatch((RedoData.RedoType) batchKey.get(0), (String) batchKey.get(1), subList,
+                        (String) batchKey.get(2));
+            }
+        }
+    }
+    
+    private void redoForSubscribeBatch(RedoData.RedoType redoType, String groupName, List<String> serviceNames,
+            String cluster) {
+        if (isClientDisabled()) {
+            return;
+        }
+        LogUtils.NAMING_LOGGER.info("Redo subscriber operation {} for {} services of group {}#{}", redoType,
+                serviceNames.size(), groupName, cluster);
+        try {
+            if (RedoData.RedoType.REGISTER == redoType) {
+                clientProxy.doBatchSubscribe(groupName, serviceNames, cluster);
+            } else {
+                clientProxy.doBatchUnsubscribe(groupName, serviceNames, cluster);
+            }
+        } catch (NacosException e) {
+            LogUtils.NAMING_LOGGER.error("Redo subscriber operation {} for group {}#{} services {} failed. ", redoType,
+                    groupName, cluster, serviceNames, e);
+        }
+    }
+    
+    private void redoForSubscribeSafely(SubscriberRedoData redoData) {
+        try {
+            redoForSubscribe(redoData);
+        } catch (NacosException e) {
+            LogUtils.NAMING_LOGGER.error("Redo subscriber operation {} for {}@@{}#{} failed. ",
+                    redoData.getRedoType(), redoData.getGroupName(), redoData.getServiceName(), redoData.get(), e);
         }
     }
     
@@ -321,6 +321,16 @@ public class NamingHttpClientProxy extends AbstractNamingClientProxy {
     public void unsubscribe(String serviceName, String groupName, String clusters) throws NacosException {
     }
     
+    @Override
+    public List<ServiceInfo> batchSubscribe(String groupName, List<String> serviceNames, String clusters)
+            throws NacosException {
+        throw new UnsupportedOperationException("Do not support subscribe service by UDP, please use gRPC replaced.");
+    }
+    
+    @Override
+    public void batchUnsubscribe(String groupName, List<String> serviceNames, String clusters) throws NacosException {
+    }
+    
     @Override
     public boolean isSubscribed(String serviceName, String groupName, String clusters) throws NacosException {
         return true;
@@ -891,6 +891,46 @@ class NacosNamingServiceTest {
         
     }
     
+    @Test
+    void testBatchSubscribe() throws NacosException {
+        //given
+        List<String> serviceNames = Arrays.asList("service1", "service2");
+        String groupName = "group1";
+        EventListener listener = event -> {
+        
+        };
+        //when
+        client.batchSubscribe(serviceNames, groupName, Collections.emptyList(), listener);
+        //then
+        for (String each : serviceNames) {
+            NamingSelectorWrapper wrapper = new NamingSelectorWrapper(each, groupName, Constants.NULL,
+                    NamingSelectorFactory.newClusterSelector(Collections.emptyList()), listener);
+            verify(changeNotifier, times(1)).registerListener(groupName, each, wrapper);
+        }
+        verify(proxy, times(1)).batchSubscribe(groupName, serviceNames, Constants.NULL);
+    }
+    
+    @Test
+    void testBatchUnsubscribe() throws NacosException {
+        //given
+        List<String> serviceNames = Arrays.asList("service1", "service2");
+        String groupName = "group1";
+        EventListener listener = event -> {
+        
+        };
+        when(changeNotifier.isSubscribed(groupName, "service1")).thenReturn(true);
+        when(changeNotifier.isSubscribed(groupName, "service2")).thenReturn(false);
+        //when
+        client.batchUnsubscribe(serviceNames, groupName, Collections.emptyList(), listener);
+        //then
+        NamingSelectorWrapper wrapper = new NamingSelectorWrapper(
+                NamingSelectorFactory.newClusterSelector(Collections.emptyList()), listener);
+        verify(changeNotifier, times(1)).deregisterListener(groupName, "service1", wrapper);
+        verify(changeNotifier, times(1)).deregisterListener(groupName, "service2", wrapper);
+        // service1 is still listened by other listeners.
+        verify(proxy, times(1)).batchUnsubscribe(groupName, Collections.singletonList("service2"), Constants.NULL);
+    }
+    
     @Test
     void testUnSubscribe1() throws NacosException {
         //given
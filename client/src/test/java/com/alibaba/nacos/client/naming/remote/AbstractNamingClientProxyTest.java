@@ -169,6 +169,18 @@ class AbstractNamingClientProxyTest {
         
         }
         
+        @Override
+        public List<ServiceInfo> batchSubscribe(String groupName, List<String> serviceNames, String clusters)
+                throws NacosException {
+            return null;
+        }
+        
+        @Override
+        public void batchUnsubscribe(String groupName, List<String> serviceNames, String clusters)
+                throws NacosException {
+        
+        }
+        
         @Override
         public boolean isSubscribed(String serviceName, String groupName, String clusters) throws NacosException {
             return false;
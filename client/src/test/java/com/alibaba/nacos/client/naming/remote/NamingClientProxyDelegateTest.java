@@ -23,6 +23,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.Service;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.api.selector.AbstractSelector;
 import com.alibaba.nacos.api.selector.ExpressionSelector;
 import com.alibaba.nacos.api.selector.NoneSelector;
@@ -42,7 +43,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -306,6 +311,40 @@ class NamingClientProxyDelegateTest {
         verify(mockGrpcClient, times(1)).unsubscribe(serviceName, groupName, clusters);
     }
     
+    @Test
+    void testBatchSubscribe() throws NacosException {
+        String groupName = "group1";
+        String clusters = "";
+        ServiceInfo cached = new ServiceInfo();
+        cached.setName("service1");
+        cached.setGroupName(groupName);
+        Map<String, ServiceInfo> serviceInfoMap = new HashMap<>();
+        serviceInfoMap.put(ServiceInfo.getKey(NamingUtils.getGroupedName("service1", groupName), clusters), cached);
+        when(holder.getServiceInfoMap()).thenReturn(serviceInfoMap);
+        when(mockGrpcClient.isSubscribed("service1", groupName, clusters)).thenReturn(true);
+        ServiceInfo info = new ServiceInfo();
+        info.setName("service2");
+        info.setGroupName(groupName);
+        when(mockGrpcClient.batchSubscribe(groupName, Collections.singletonList("service2"), clusters)).thenReturn(
+                Collections.singletonList(info));
+        
+        List<ServiceInfo> actual = delegate.batchSubscribe(groupName, Arrays.asList("service1", "service2"), clusters);
+        // service1 has been subscribed, only service2 is subscribed from server.
+        assertEquals(Arrays.asList(cached, info), actual);
+        verify(mockGrpcClient, times(1)).batchSubscribe(groupName, Collections.singletonList("service2"), clusters);
+        verify(holder, times(1)).processServiceInfo(cached);
+        verify(holder, times(1)).processServiceInfo(info);
+    }
+    
+    @Test
+    void testBatchUnsubscribe() throws NacosException {
+        String groupName = "group1";
+        String clusters = "";
+        List<String> serviceNames = Arrays.asList("service1", "service2");
+        delegate.batchUnsubscribe(groupName, serviceNames, clusters);
+        verify(mockGrpcClient, times(1)).batchUnsubscribe(groupName, serviceNames, clusters);
+    }
+    
     @Test
     void testServerHealthy() {
         Mockito.when(mockGrpcClient.serverHealthy()).thenReturn(true);
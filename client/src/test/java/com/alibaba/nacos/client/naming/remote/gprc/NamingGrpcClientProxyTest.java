@@ -28,10 +28,12 @@ import com.alibaba.nacos.api.naming.pojo.Service;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
 import com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.PersistentInstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.response.BatchInstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.BatchSubscribeServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.InstanceResponse;
 import com.alibaba.nacos.api.naming.remote.response.QueryServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.ServiceListResponse;
@@ -515,6 +517,49 @@ class NamingGrpcClientProxyTest {
         assertTrue(client.isSubscribed(SERVICE_NAME, GROUP_NAME, CLUSTERS));
     }
     
+    @Test
+    void testBatchSubscribe() throws Exception {
+        when(this.rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                AbilityStatus.SUPPORTED);
+        ServiceInfo info1 = new ServiceInfo(GROUP_NAME + "@@" + SERVICE_NAME + "@@" + CLUSTERS);
+        ServiceInfo info2 = new ServiceInfo(GROUP_NAME + "@@" + SERVICE_NAME + "2@@" + CLUSTERS);
+        BatchSubscribeServiceResponse res = new BatchSubscribeServiceResponse(200, null, Arrays.asList(info1, info2));
+        when(this.rpcClient.request(any())).thenReturn(res);
+        List<String> serviceNames = Arrays.asList(SERVICE_NAME, SERVICE_NAME + "2");
+        List<ServiceInfo> actual = client.batchSubscribe(GROUP_NAME, serviceNames, CLUSTERS);
+        assertEquals(Arrays.asList(info1, info2), actual);
+        verify(this.rpcClient, times(1)).request(argThat(request -> request instanceof BatchSubscribeServiceRequest
+                && ((BatchSubscribeServiceRequest) request).isSubscribe() && serviceNames.equals(
+                ((BatchSubscribeServiceRequest) request).getServiceNames())));
+        assertTrue(client.isSubscribed(SERVICE_NAME, GROUP_NAME, CLUSTERS));
+        assertTrue(client.isSubscribed(SERVICE_NAME + "2", GROUP_NAME, CLUSTERS));
+    }
+    
+    @Test
+    void testBatchSubscribeWithoutServerAbility() throws Exception {
+        SubscribeServiceResponse res = new SubscribeServiceResponse();
+        ServiceInfo info = new ServiceInfo(GROUP_NAME + "@@" + SERVICE_NAME + "@@" + CLUSTERS);
+        res.setServiceInfo(info);
+        when(this.rpcClient.request(any())).thenReturn(res);
+        List<ServiceInfo> actual = client.batchSubscribe(GROUP_NAME, Arrays.asList(SERVICE_NAME, SERVICE_NAME + "2"),
+                CLUSTERS);
+        assertEquals(2, actual.size());
+        verify(this.rpcClient, times(2)).request(argThat(request -> request instanceof SubscribeServiceRequest));
+    }
+    
+    @Test
+    void testBatchUnsubscribe() throws Exception {
+        when(this.rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                AbilityStatus.SUPPORTED);
+        when(this.rpcClient.request(any())).thenReturn(new BatchSubscribeServiceResponse());
+        List<String> serviceNames = Arrays.asList(SERVICE_NAME, SERVICE_NAME + "2");
+        client.batchUnsubscribe(GROUP_NAME, serviceNames, CLUSTERS);
+        verify(this.rpcClient, times(1)).request(argThat(request -> request instanceof BatchSubscribeServiceRequest
+                && !((BatchSubscribeServiceRequest) request).isSubscribe() && NAMESPACE_ID.equals(
+                ((BatchSubscribeServiceRequest) request).getNamespace())));
+        assertFalse(client.isSubscribed(SERVICE_NAME, GROUP_NAME, CLUSTERS));
+    }
+    
     @Test
     void testServerHealthy() {
         when(this.rpcClient.isRunning()).thenReturn(true);
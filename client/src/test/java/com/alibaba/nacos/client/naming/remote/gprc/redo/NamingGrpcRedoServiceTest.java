@@ -116,6 +116,26 @@ class NamingGrpcRedoServiceTest {
         assertTrue(redoService.isConnected());
     }
     
+    @Test
+    void testOnConnectedWithRedoJitter() {
+        Properties prop = new Properties();
+        prop.setProperty(PropertyKeyConst.REDO_JITTER_TIME, "60000");
+        prop.setProperty(PropertyKeyConst.REDO_BATCH_SIZE, "10");
+        NamingGrpcRedoService redoService = new NamingGrpcRedoService(clientProxy,
+                NacosClientProperties.PROTOTYPE.derive(prop));
+        try {
+            assertFalse(redoService.isRedoDelayed());
+            assertEquals(10, redoService.getRedoBatchSize());
+            long now = System.currentTimeMillis();
+            redoService.onConnected(new TestConnection(new RpcClient.ServerInfo()));
+            long redoStartTime = (long) ReflectUtils.getFieldValue(redoService, "redoStartTime");
+            assertTrue(redoStartTime >= now);
+            assertTrue(redoStartTime < System.currentTimeMillis() + 60000L);
+        } finally {
+            redoService.shutdown();
+        }
+    }
+    
     @Test
     void testOnDisConnect() {
         redoService.onConnected(new TestConnection(new RpcClient.ServerInfo()));
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc.redo;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.client.naming.remote.gprc.NamingGrpcClientProxy;
@@ -34,6 +35,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -203,6 +206,46 @@ class RedoScheduledTaskTest {
         // Not any exception thrown
     }
     
+    @Test
+    void testRunRedoRegisterSubscriberInBatch() throws NacosException {
+        when(clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                true);
+        Set<SubscriberRedoData> mockData = generateMockSubscriberData(false, false, true);
+        SubscriberRedoData another = SubscriberRedoData.build(SERVICE + "2", GROUP, CLUSTER);
+        another.setExpectedRegistered(true);
+        mockData.add(another);
+        when(redoService.findSubscriberRedoData()).thenReturn(mockData);
+        redoTask.run();
+        verify(clientProxy).doBatchSubscribe(eq(GROUP),
+                argThat(serviceNames -> serviceNames.size() == 2 && serviceNames.contains(SERVICE)
+                        && serviceNames.contains(SERVICE + "2")), eq(CLUSTER));
+        verify(clientProxy, never()).doSubscribe(SERVICE, GROUP, CLUSTER);
+    }
+    
+    @Test
+    void testRunRedoDeregisterSubscriberInBatch() throws NacosException {
+        when(clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                true);
+        Set<SubscriberRedoData> mockData = generateMockSubscriberData(true, true, false);
+        mockData.addAll(generateMockSubscriberData(false, true, false));
+        when(redoService.findSubscriberRedoData()).thenReturn(mockData);
+        redoTask.run();
+        verify(clientProxy).doBatchUnsubscribe(GROUP, Collections.singletonList(SERVICE), CLUSTER);
+        verify(redoService).removeSubscriberForRedo(SERVICE, GROUP, CLUSTER);
+    }
+    
+    @Test
+    void testRunRedoRegisterSubscriberInBatchWithNacosException() throws NacosException {
+        when(clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                true);
+        Set<SubscriberRedoData> mockData = generateMockSubscriberData(false, false, true);
+        when(redoService.findSubscriberRedoData()).thenReturn(mockData);
+        doThrow(new NacosException()).when(clientProxy)
+                .doBatchSubscribe(GROUP, Collections.singletonList(SERVICE), CLUSTER);
+        redoTask.run();
+        // Not any exception thrown
+    }
+    
     private Set<SubscriberRedoData> generateMockSubscriberData(boolean registered, boolean unregistering,
             boolean expectedRegistered) {
         SubscriberRedoData redoData = SubscriberRedoData.build(SERVICE, GROUP, CLUSTER);
@@ -221,4 +264,22 @@ class RedoScheduledTaskTest {
         verify(redoService, never()).findInstanceRedoData();
         verify(redoService, never()).findSubscriberRedoData();
     }
+    
+    @Test
+    void testRunRedoWithDelayed() {
+        when(redoService.isRedoDelayed()).thenReturn(true);
+        redoTask.run();
+        verify(redoService, never()).findInstanceRedoData();
+        verify(redoService, never()).findSubscriberRedoData();
+    }
+    
+    @Test
+    void testRunRedoWithBatchSizeLimit() throws NacosException {
+        when(redoService.getRedoBatchSize()).thenReturn(1);
+        when(redoService.findInstanceRedoData()).thenReturn(generateMockInstanceData(false, false, true));
+        redoTask.run();
+        verify(clientProxy).doRegisterService(SERVICE, GROUP, INSTANCE);
+        verify(redoService).findSubscriberRedoData();
+        verify(clientProxy, never()).doSubscribe(SERVICE, GROUP, CLUSTER);
+    }
 }
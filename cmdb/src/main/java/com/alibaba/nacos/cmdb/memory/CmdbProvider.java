@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.cmdb.pojo.Label;
 import com.alibaba.nacos.api.cmdb.spi.CmdbService;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.cmdb.core.SwitchAndOptions;
+import com.alibaba.nacos.cmdb.monitor.MetricsMonitor;
 import com.alibaba.nacos.cmdb.service.CmdbReader;
 import com.alibaba.nacos.cmdb.service.CmdbWriter;
 import com.alibaba.nacos.cmdb.utils.CmdbExecutor;
@@ -33,18 +34,23 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * CMDB provider.
  *
+ * <p>Entities are synced incrementally by the entity events of {@link CmdbService}. The periodic dump and label tasks
+ * only apply the differences to the cached maps, so unchanged entities and labels are kept and the revision is only
+ * increased when something really changed.
+ *
  * @author nkorange
  * @since 0.7.0
  */
@@ -56,17 +62,25 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
     
     private CmdbService cmdbService;
     
-    private final Collection<CmdbService> services = NacosServiceLoader.load(CmdbService.class);
+    private final Collection<CmdbService> services;
+    
+    private final Map<String, Map<String, Entity>> entityMap = new ConcurrentHashMap<>();
     
-    private Map<String, Map<String, Entity>> entityMap = new ConcurrentHashMap<>();
+    private final Map<String, Label> labelMap = new ConcurrentHashMap<>();
     
-    private Map<String, Label> labelMap = new ConcurrentHashMap<>();
+    private final Set<String> entityTypeSet = ConcurrentHashMap.newKeySet();
     
-    private Set<String> entityTypeSet = new HashSet<>();
+    private volatile long eventTimestamp = System.currentTimeMillis();
     
-    private long eventTimestamp = System.currentTimeMillis();
+    private final AtomicLong revision = new AtomicLong();
     
     public CmdbProvider() throws NacosException {
+        this.services = NacosServiceLoader.load(CmdbService.class);
+    }
+    
+    CmdbProvider(SwitchAndOptions switches, CmdbService cmdbService) {
+        this.switches = switches;
+        this.services = Collections.singletonList(cmdbService);
     }
     
     private void initCmdbService() throws NacosException {
@@ -94,17 +108,11 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
         if (labelNames == null || labelNames.isEmpty()) {
             Loggers.MAIN.warn("[LOAD] init label names failed!");
         } else {
-            for (String labelName : labelNames) {
-                // If get null label, it's still ok. We will try it later when we meet this label:
-                labelMap.put(labelName, cmdbService.getLabel(labelName));
-            }
+            syncLabels(labelNames);
         }
         
-        // init entity type set:
-        entityTypeSet = cmdbService.getEntityTypes();
-        
-        // init entity map:
-        entityMap = cmdbService.getAllEntities();
+        // init entity type set and entity map:
+        syncEntities(cmdbService.getEntityTypes(), cmdbService.getAllEntities());
     }
     
     /**
@@ -125,10 +133,11 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
     
     @Override
     public Entity queryEntity(String entityName, String entityType) {
-        if (!entityMap.containsKey(entityType)) {
+        Map<String, Entity> entities = entityMap.get(entityType);
+        if (entities == null) {
             return null;
         }
-        return entityMap.get(entityType).get(entityName);
+        return entities.get(entityName);
     }
     
     @Override
@@ -145,6 +154,15 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
         throw new UnsupportedOperationException("Not available now!");
     }
     
+    @Override
+    public long getRevision() {
+        return revision.get();
+    }
+    
+    Label queryLabelMeta(String labelName) {
+        return labelMap.get(labelName);
+    }
+    
     /**
      * Remove CMDB entity.
      *
@@ -152,10 +170,13 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
      * @param entityType entity type
      */
     public void removeEntity(String entityName, String entityType) {
-        if (!entityMap.containsKey(entityType)) {
+        Map<String, Entity> entities = entityMap.get(entityType);
+        if (entities == null) {
             return;
         }
-        entityMap.get(entityType).remove(entityName);
+        if (null != entities.remove(entityName)) {
+            onEntitiesChanged();
+        }
     }
     
     /**
@@ -167,7 +188,74 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
         if (!entityTypeSet.contains(entity.getType())) {
             return;
         }
-        entityMap.get(entity.getType()).put(entity.getName(), entity);
+        Map<String, Entity> entities = entityMap.computeIfAbsent(entity.getType(), k -> new ConcurrentHashMap<>(16));
+        if (!isSameEntity(entities.get(entity.getName()), entity)) {
+            entities.put(entity.getName(), entity);
+            onEntitiesChanged();
+        }
+    }
+    
+    private void syncLabels(Set<String> labelNames) {
+        boolean changed = labelMap.keySet().retainAll(labelNames);
+        for (String labelName : labelNames) {
+            Label label = cmdbService.getLabel(labelName);
+            if (label == null) {
+                // If get null label, it's still ok. We will try it later when we meet this label:
+                continue;
+            }
+            if (!isSameLabel(labelMap.get(labelName), label)) {
+                labelMap.put(labelName, label);
+                changed = true;
+            }
+        }
+        if (changed) {
+            revision.incrementAndGet();
+        }
+    }
+    
+    private void syncEntities(Set<String> entityTypes, Map<String, Map<String, Entity>> latestEntities) {
+        if (entityTypes != null) {
+            entityTypeSet.retainAll(entityTypes);
+            entityTypeSet.addAll(entityTypes);
+        }
+        if (latestEntities == null) {
+            return;
+        }
+        boolean changed = entityMap.keySet().retainAll(latestEntities.keySet());
+        for (Map.Entry<String, Map<String, Entity>> entry : latestEntities.entrySet()) {
+            Map<String, Entity> entities = entityMap.computeIfAbsent(entry.getKey(), k -> new ConcurrentHashMap<>(16));
+            Map<String, Entity> latest = entry.getValue() == null ? Collections.emptyMap() : entry.getValue();
+            changed |= entities.keySet().retainAll(latest.keySet());
+            for (Entity entity : latest.values()) {
+                if (!isSameEntity(entities.get(entity.getName()), entity)) {
+                    entities.put(entity.getName(), entity);
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            onEntitiesChanged();
+        }
+    }
+    
+    private void onEntitiesChanged() {
+        revision.incrementAndGet();
+        long count = 0;
+        for (Map<String, Entity> entities : entityMap.values()) {
+            count += entities.size();
+        }
+        MetricsMonitor.getEntityCount().set(count);
+    }
+    
+    private boolean isSameEntity(Entity origin, Entity latest) {
+        return origin != null && Objects.equals(origin.getType(), latest.getType()) && Objects
+                .equals(origin.getName(), latest.getName()) && Objects.equals(origin.getLabels(), latest.getLabels());
+    }
+    
+    private boolean isSameLabel(Label origin, Label latest) {
+        return origin != null && Objects.equals(origin.getName(), latest.getName()) && Objects
+                .equals(origin.getValues(), latest.getValues()) && Objects
+                .equals(origin.getDescription(), latest.getDescription());
     }
     
     public class CmdbLabelTask implements Runnable {
@@ -183,22 +271,15 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
             
             try {
                 
-                Map<String, Label> tmpLabelMap = new HashMap<>(16);
-                
                 Set<String> labelNames = cmdbService.getLabelNames();
                 if (labelNames == null || labelNames.isEmpty()) {
                     Loggers.MAIN.warn("CMDB-LABEL-TASK {}", "load label names failed!");
                 } else {
-                    for (String labelName : labelNames) {
-                        // If get null label, it's still ok. We will try it later when we meet this label:
-                        tmpLabelMap.put(labelName, cmdbService.getLabel(labelName));
-                    }
+                    syncLabels(labelNames);
                     
                     if (Loggers.MAIN.isDebugEnabled()) {
-                        Loggers.MAIN.debug("LABEL-TASK {}", "got label map:" + JacksonUtils.toJson(tmpLabelMap));
+                        Loggers.MAIN.debug("LABEL-TASK {}", "got label map:" + JacksonUtils.toJson(labelMap));
                     }
-                    
-                    labelMap = tmpLabelMap;
                 }
                 
             } catch (Exception e) {
@@ -221,8 +302,8 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
                 if (cmdbService == null) {
                     return;
                 }
-                // refresh entity map:
-                entityMap = cmdbService.getAllEntities();
+                // reconcile entity map in case of lost events:
+                syncEntities(cmdbService.getEntityTypes(), cmdbService.getAllEntities());
             } catch (Exception e) {
                 Loggers.MAIN.error("DUMP-TASK {}", "dump failed!", e);
             } finally {
@@ -245,7 +326,6 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
                 
                 long current = System.currentTimeMillis();
                 List<EntityEvent> events = cmdbService.getEntityEvents(eventTimestamp);
-                eventTimestamp = current;
                 
                 if (Loggers.MAIN.isDebugEnabled()) {
                     Loggers.MAIN.debug("EVENT-TASK {}", "got events size:" + ", events:" + JacksonUtils.toJson(events));
@@ -254,24 +334,37 @@ public class CmdbProvider implements CmdbReader, CmdbWriter {
                 if (events != null && !events.isEmpty()) {
                     
                     for (EntityEvent event : events) {
-                        switch (event.getType()) {
-                            case ENTITY_REMOVE:
-                                removeEntity(event.getEntityName(), event.getEntityType());
-                                break;
-                            case ENTITY_ADD_OR_UPDATE:
-                                updateEntity(cmdbService.getEntity(event.getEntityName(), event.getEntityType()));
-                                break;
-                            default:
-                                break;
-                        }
+                        applyEvent(event);
                     }
                 }
+                // Only move forward after all events applied, so the failed events will be fetched again next time.
+                eventTimestamp = current;
+                MetricsMonitor.getSyncLag().set(System.currentTimeMillis() - current);
                 
             } catch (Exception e) {
+                MetricsMonitor.getSyncLag().set(System.currentTimeMillis() - eventTimestamp);
                 Loggers.MAIN.error("CMDB-EVENT {}", "event task failed!", e);
             } finally {
                 CmdbExecutor.scheduleCmdbTask(this, switches.getEventTaskInterval(), TimeUnit.SECONDS);
             }
         }
+        
+        private void applyEvent(EntityEvent event) {
+            switch (event.getType()) {
+                case ENTITY_REMOVE:
+                    removeEntity(event.getEntityName(), event.getEntityType());
+                    break;
+                case ENTITY_ADD_OR_UPDATE:
+                    Entity entity = cmdbService.getEntity(event.getEntityName(), event.getEntityType());
+                    if (entity == null) {
+                        removeEntity(event.getEntityName(), event.getEntityType());
+                    } else {
+                        updateEntity(entity);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.cmdb.monitor;
+
+import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of CMDB module.
+ *
+ * @author agent
+ */
+public final class MetricsMonitor {
+    
+    private static final String METER_REGISTRY = NacosMeterRegistryCenter.CORE_STABLE_REGISTRY;
+    
+    /**
+     * Count of entities cached in memory.
+     */
+    private static final AtomicLong ENTITY_COUNT = new AtomicLong();
+    
+    /**
+     * Milliseconds of CMDB changes which may not be synced to memory yet.
+     */
+    private static final AtomicLong SYNC_LAG = new AtomicLong();
+    
+    static {
+        ImmutableTag immutableTag = new ImmutableTag("module", "cmdb");
+        List<Tag> tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "entityCount"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, ENTITY_COUNT);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "syncLag"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, SYNC_LAG);
+    }
+    
+    public static AtomicLong getEntityCount() {
+        return ENTITY_COUNT;
+    }
+    
+    public static AtomicLong getSyncLag() {
+        return SYNC_LAG;
+    }
+}
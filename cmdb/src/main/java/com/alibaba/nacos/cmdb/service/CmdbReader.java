@@ -55,4 +55,11 @@ public interface CmdbReader {
      * @return list of entity
      */
     List<Entity> queryEntitiesByLabel(String labelName, String labelValue);
+    
+    /**
+     * Get revision of CMDB data, the revision is increased whenever entities or labels are changed.
+     *
+     * @return revision of CMDB data
+     */
+    long getRevision();
 }
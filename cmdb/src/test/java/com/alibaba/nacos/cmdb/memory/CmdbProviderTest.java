@@ -0,0 +1,137 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.cmdb.memory;
+
+import com.alibaba.nacos.api.cmdb.pojo.Entity;
+import com.alibaba.nacos.cmdb.core.SwitchAndOptions;
+import com.alibaba.nacos.cmdb.monitor.MetricsMonitor;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CmdbProviderTest {
+    
+    private static final String TYPE = "ip";
+    
+    private FakeCmdbService cmdbService;
+    
+    private CmdbProvider provider;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        SwitchAndOptions switches = mock(SwitchAndOptions.class);
+        when(switches.isLoadDataAtStart()).thenReturn(true);
+        when(switches.getDumpTaskInterval()).thenReturn(3600);
+        when(switches.getLabelTaskInterval()).thenReturn(3600);
+        when(switches.getEventTaskInterval()).thenReturn(3600);
+        cmdbService = new FakeCmdbService();
+        cmdbService.putLabel("site", "a", "b");
+        cmdbService.putEntity(TYPE, "1.1.1.1", Collections.singletonMap("site", "a"), false);
+        cmdbService.putEntity(TYPE, "1.1.1.2", Collections.singletonMap("site", "b"), false);
+        provider = new CmdbProvider(switches, cmdbService);
+        provider.init();
+    }
+    
+    @Test
+    void testLoad() {
+        assertEquals("a", provider.queryLabel("1.1.1.1", TYPE, "site"));
+        assertEquals("b", provider.queryLabel("1.1.1.2", TYPE, "site"));
+        assertNotNull(provider.queryLabelMeta("site"));
+        assertEquals(2, MetricsMonitor.getEntityCount().get());
+        assertEquals(1, cmdbService.getAllEntitiesQueryCount());
+    }
+    
+    @Test
+    void testSyncByEvents() {
+        final long revision = provider.getRevision();
+        final Entity unchanged = provider.queryEntity("1.1.1.2", TYPE);
+        cmdbService.putEntity(TYPE, "1.1.1.1", Collections.singletonMap("site", "b"), true);
+        cmdbService.putEntity(TYPE, "1.1.1.3", Collections.singletonMap("site", "a"), true);
+        cmdbService.removeEntity(TYPE, "1.1.1.2", false);
+        cmdbService.putEntity(TYPE, "1.1.1.2", Collections.singletonMap("site", "b"), true);
+        provider.new CmdbEventTask().run();
+        assertEquals("b", provider.queryLabel("1.1.1.1", TYPE, "site"));
+        assertEquals("a", provider.queryLabel("1.1.1.3", TYPE, "site"));
+        assertEquals(3, MetricsMonitor.getEntityCount().get());
+        assertEquals(revision + 2, provider.getRevision());
+        // events are applied without dumping all entities.
+        assertEquals(1, cmdbService.getAllEntitiesQueryCount());
+        // entity without change will not replace the cached one.
+        assertSame(unchanged, provider.queryEntity("1.1.1.2", TYPE));
+        cmdbService.removeEntity(TYPE, "1.1.1.3", true);
+        provider.new CmdbEventTask().run();
+        assertNull(provider.queryEntity("1.1.1.3", TYPE));
+        assertEquals(2, MetricsMonitor.getEntityCount().get());
+    }
+    
+    @Test
+    void testSyncByEventsFailed() throws InterruptedException {
+        cmdbService.setFailEvents(true);
+        Thread.sleep(10);
+        provider.new CmdbEventTask().run();
+        assertTrue(MetricsMonitor.getSyncLag().get() >= 10);
+        cmdbService.setFailEvents(false);
+        provider.new CmdbEventTask().run();
+        assertTrue(MetricsMonitor.getSyncLag().get() < 10);
+    }
+    
+    @Test
+    void testDumpOnlyAppliesDifference() {
+        final long revision = provider.getRevision();
+        final Entity unchanged = provider.queryEntity("1.1.1.2", TYPE);
+        provider.new CmdbDumpTask().run();
+        assertEquals(revision, provider.getRevision());
+        cmdbService.putEntity(TYPE, "1.1.1.1", Collections.singletonMap("site", "b"), false);
+        cmdbService.removeEntity(TYPE, "1.1.1.2", false);
+        cmdbService.putEntity(TYPE, "1.1.1.2", Collections.singletonMap("site", "b"), false);
+        cmdbService.putEntity("host", "host1", Collections.emptyMap(), false);
+        provider.new CmdbDumpTask().run();
+        assertEquals(revision + 1, provider.getRevision());
+        assertEquals("b", provider.queryLabel("1.1.1.1", TYPE, "site"));
+        assertSame(unchanged, provider.queryEntity("1.1.1.2", TYPE));
+        assertNotNull(provider.queryEntity("host1", "host"));
+        assertEquals(3, MetricsMonitor.getEntityCount().get());
+        cmdbService.removeEntity(TYPE, "1.1.1.1", false);
+        provider.new CmdbDumpTask().run();
+        assertNull(provider.queryEntity("1.1.1.1", TYPE));
+    }
+    
+    @Test
+    void testLabelTaskOnlyAppliesDifference() {
+        final long revision = provider.getRevision();
+        provider.new CmdbLabelTask().run();
+        assertEquals(revision, provider.getRevision());
+        cmdbService.putLabel("zone", "z1");
+        cmdbService.removeLabel("site");
+        provider.new CmdbLabelTask().run();
+        assertEquals(revision + 1, provider.getRevision());
+        assertNull(provider.queryLabelMeta("site"));
+        assertNotNull(provider.queryLabelMeta("zone"));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.cmdb.memory;
+
+import com.alibaba.nacos.api.cmdb.pojo.Entity;
+import com.alibaba.nacos.api.cmdb.pojo.EntityEvent;
+import com.alibaba.nacos.api.cmdb.pojo.EntityEventType;
+import com.alibaba.nacos.api.cmdb.pojo.Label;
+import com.alibaba.nacos.api.cmdb.spi.CmdbService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In memory {@link CmdbService} for tests, the entities and labels can be changed and the change events are recorded.
+ *
+ * @author agent
+ */
+class FakeCmdbService implements CmdbService {
+    
+    private final Map<String, Map<String, Entity>> entities = new HashMap<>();
+    
+    private final Map<String, Label> labels = new HashMap<>();
+    
+    private final List<EntityEvent> events = new ArrayList<>();
+    
+    private final AtomicInteger allEntitiesQueryCount = new AtomicInteger();
+    
+    private boolean failEvents;
+    
+    void putEntity(String type, String name, Map<String, String> labelValues, boolean withEvent) {
+        Entity entity = new Entity();
+        entity.setType(type);
+        entity.setName(name);
+        entity.setLabels(new HashMap<>(labelValues));
+        entities.computeIfAbsent(type, k -> new HashMap<>(16)).put(name, entity);
+        if (withEvent) {
+            addEvent(EntityEventType.ENTITY_ADD_OR_UPDATE, type, name);
+        }
+    }
+    
+    void removeEntity(String type, String name, boolean withEvent) {
+        Map<String, Entity> typeEntities = entities.get(type);
+        if (null != typeEntities) {
+            typeEntities.remove(name);
+        }
+        if (withEvent) {
+            addEvent(EntityEventType.ENTITY_REMOVE, type, name);
+        }
+    }
+    
+    void putLabel(String name, String... values) {
+        Label label = new Label();
+        label.setName(name);
+        label.setValues(new HashSet<>(Arrays.asList(values)));
+        labels.put(name, label);
+    }
+    
+    void removeLabel(String name) {
+        labels.remove(name);
+    }
+    
+    void setFailEvents(boolean failEvents) {
+        this.failEvents = failEvents;
+    }
+    
+    int getAllEntitiesQueryCount() {
+        return allEntitiesQueryCount.get();
+    }
+    
+    private void addEvent(EntityEventType type, String entityType, String entityName) {
+        EntityEvent event = new EntityEvent();
+        event.setType(type);
+        event.setEntityType(entityType);
+        event.setEntityName(entityName);
+        events.add(event);
+    }
+    
+    @Override
+    public Set<String> getLabelNames() {
+        return new HashSet<>(labels.keySet());
+    }
+    
+    @Override
+    public Set<String> getEntityTypes() {
+        return new HashSet<>(entities.keySet());
+    }
+    
+    @Override
+    public Label getLabel(String labelName) {
+        return labels.get(labelName);
+    }
+    
+    @Override
+    public String getLabelValue(String entityName, String entityType, String labelName) {
+        Entity entity = getEntity(entityName, entityType);
+        return null == entity ? null : entity.getLabels().get(labelName);
+    }
+    
+    @Override
+    public Map<String, String> getLabelValues(String entityName, String entityType) {
+        Entity entity = getEntity(entityName, entityType);
+        return null == entity ? null : entity.getLabels();
+    }
+    
+    @Override
+    public Map<String, Map<String, Entity>> getAllEntities() {
+        allEntitiesQueryCount.incrementAndGet();
+        Map<String, Map<String, Entity>> result = new HashMap<>(entities.size());
+        entities.forEach((type, typeEntities) -> result.put(type, new HashMap<>(typeEntities)));
+        return result;
+    }
+    
+    @Override
+    public List<EntityEvent> getEntityEvents(long timestamp) {
+        if (failEvents) {
+            throw new IllegalStateException("mock events failed");
+        }
+        List<EntityEvent> result = new ArrayList<>(events);
+        events.clear();
+        return result;
+    }
+    
+    @Override
+    public Entity getEntity(String entityName, String entityType) {
+        Map<String, Entity> typeEntities = entities.get(entityType);
+        return null == typeEntities ? null : typeEntities.get(entityName);
+    }
+}
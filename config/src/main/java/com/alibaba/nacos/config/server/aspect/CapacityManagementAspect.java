@@ -21,6 +21,7 @@ import com.alibaba.nacos.config.server.constant.CounterMode;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.capacity.Capacity;
 import com.alibaba.nacos.config.server.service.capacity.CapacityService;
+import com.alibaba.nacos.config.server.service.capacity.CapacityUsageCache;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -57,10 +58,18 @@ public class CapacityManagementAspect {
     private final CapacityService capacityService;
 
     private final ConfigInfoPersistService configInfoPersistService;
+    
+    private final CapacityUsageCache usageCache;
 
     public CapacityManagementAspect(ConfigInfoPersistService configInfoPersistService, CapacityService capacityService) {
+        this(configInfoPersistService, capacityService, new CapacityUsageCache(capacityService));
+    }
+    
+    public CapacityManagementAspect(ConfigInfoPersistService configInfoPersistService, CapacityService capacityService,
+            CapacityUsageCache usageCache) {
         this.configInfoPersistService = configInfoPersistService;
         this.capacityService = capacityService;
+        this.usageCache = usageCache;
     }
     
     /**
@@ -101,6 +110,13 @@ public class CapacityManagementAspect {
         }
         try {
             boolean hasTenant = hasTenant(tenant);
+            if (isLocalUsage(group, hasTenant)) {
+                int maxSize = usageCache.getCounter(group, tenant).getMaxSize();
+                if (isOverSize(group, tenant, getCurrentSize(content), maxSize, hasTenant)) {
+                    return response4Limit(request, response, LimitType.OVER_MAX_SIZE);
+                }
+                return pjp.proceed();
+            }
             Capacity capacity = getCapacity(group, tenant, hasTenant);
             if (isSizeLimited(group, tenant, getCurrentSize(content), hasTenant, false, capacity)) {
                 return response4Limit(request, response, LimitType.OVER_MAX_SIZE);
@@ -122,6 +138,9 @@ public class CapacityManagementAspect {
         LOGGER.info("[capacityManagement] do4Insert");
         CounterMode counterMode = CounterMode.INCREMENT;
         boolean hasTenant = hasTenant(tenant);
+        if (isLocalUsage(group, hasTenant)) {
+            return do4InsertLocally(pjp, request, response, group, tenant, content, hasTenant);
+        }
         if (PropertyUtil.isCapacityLimitCheck()) {
             // Write or update: usage + 1
             LimitType limitType = getLimitType(counterMode, group, tenant, content, hasTenant);
@@ -135,6 +154,68 @@ public class CapacityManagementAspect {
         return getResult(pjp, response, group, tenant, counterMode, hasTenant);
     }
     
+    /**
+     * Write operation with usage counted in memory, the quota is checked locally and the usage is reconciled with
+     * capacity tables by {@link CapacityUsageCache} asynchronously.
+     *
+     * @throws Throwable Exception.
+     */
+    private Object do4InsertLocally(ProceedingJoinPoint pjp, HttpServletRequest request, HttpServletResponse response,
+            String group, String tenant, String content, boolean hasTenant) throws Throwable {
+        CapacityUsageCache.UsageCounter clusterCounter;
+        CapacityUsageCache.UsageCounter counter;
+        try {
+            clusterCounter = usageCache.getClusterCounter();
+            counter = usageCache.getCounter(group, tenant);
+        } catch (Exception e) {
+            LOGGER.error("[capacityManagement] do4InsertLocally ", e);
+            return pjp.proceed();
+        }
+        if (PropertyUtil.isCapacityLimitCheck()) {
+            LimitType limitType = getLocalLimitType(clusterCounter, counter, group, tenant, content, hasTenant);
+            if (limitType != null) {
+                return response4Limit(request, response, limitType);
+            }
+        } else {
+            clusterCounter.increase();
+            counter.increase();
+        }
+        boolean success = false;
+        try {
+            Object result = pjp.proceed();
+            success = isSuccess(response, result);
+            return result;
+        } finally {
+            clusterCounter.complete(success);
+            counter.complete(success);
+        }
+    }
+    
+    private LimitType getLocalLimitType(CapacityUsageCache.UsageCounter clusterCounter,
+            CapacityUsageCache.UsageCounter counter, String group, String tenant, String content, boolean hasTenant) {
+        if (isOverSize(group, tenant, getCurrentSize(content), counter.getMaxSize(), hasTenant)) {
+            return LimitType.OVER_MAX_SIZE;
+        }
+        if (!clusterCounter.tryIncrease()) {
+            LOGGER.warn("[capacityManagement] cluster capacity reaches quota.");
+            return LimitType.OVER_CLUSTER_QUOTA;
+        }
+        if (counter.tryIncrease()) {
+            return null;
+        }
+        clusterCounter.complete(false);
+        if (hasTenant) {
+            LOGGER.warn("[capacityManagement] tenant capacity reaches quota, tenant: {}", tenant);
+            return LimitType.OVER_TENANT_QUOTA;
+        }
+        LOGGER.warn("[capacityManagement] group capacity reaches quota, group: {}", group);
+        return LimitType.OVER_GROUP_QUOTA;
+    }
+    
+    private boolean isLocalUsage(String group, boolean hasTenant) {
+        return PropertyUtil.isCapacityLocalUsage() && (hasTenant || group != null);
+    }
+    
     private Object response4Limit(HttpServletRequest request, HttpServletResponse response, LimitType limitType) {
         response.setStatus(limitType.status);
         return String.valueOf(limitType.status);
@@ -185,6 +266,9 @@ public class CapacityManagementAspect {
             return pjp.proceed();
         }
         
+        if (isLocalUsage(group, hasTenant)) {
+            return do4DeleteLocally(pjp, response, group, tenant);
+        }
         // The same record can be deleted concurrently. This interface can be deleted asynchronously(submit MergeDataTask
         // to MergeTaskProcessor for processing), It may lead to more than one decrease in usage.
         // Therefore, it is necessary to modify the usage job regularly.
@@ -193,6 +277,20 @@ public class CapacityManagementAspect {
         return getResult(pjp, response, group, tenant, counterMode, hasTenant);
     }
     
+    private Object do4DeleteLocally(ProceedingJoinPoint pjp, HttpServletResponse response, String group,
+            String tenant) throws Throwable {
+        Object result = pjp.proceed();
+        if (isSuccess(response, result)) {
+            try {
+                usageCache.getClusterCounter().decrease();
+                usageCache.getCounter(group, tenant).decrease();
+            } catch (Exception e) {
+                LOGGER.error("[capacityManagement] do4DeleteLocally ", e);
+            }
+        }
+        return result;
+    }
+    
     private void correctUsage(String group, String tenant, boolean hasTenant) {
         try {
             if (hasTenant) {
@@ -37,6 +37,10 @@ public class PropertiesConstant {
     
     public static final String IS_CAPACITY_LIMIT_CHECK = "isCapacityLimitCheck";
     
+    public static final String IS_CAPACITY_LOCAL_USAGE = "isCapacityLocalUsage";
+    
+    public static final String CAPACITY_USAGE_FLUSH_INTERVAL = "capacityUsageFlushInterval";
+    
     public static final String DEFAULT_CLUSTER_QUOTA = "defaultClusterQuota";
     
     public static final String DEFAULT_GROUP_QUOTA = "defaultGroupQuota";
@@ -63,5 +67,13 @@ public class PropertiesConstant {
     
     public static final String DUMP_CHANGE_WORKER_INTERVAL = "dumpChangeWorkerInterval";
     
+    public static final String PUBLISH_PIPELINE_ENABLED = "publishPipelineEnabled";
+    
+    public static final String PUBLISH_PIPELINE_WINDOW = "publishPipelineWindow";
+    
+    public static final String PUBLISH_PIPELINE_MAX_BATCH_SIZE = "publishPipelineMaxBatchSize";
+    
+    public static final String PUBLISH_PIPELINE_TIMEOUT = "publishPipelineTimeout";
+    
     
 }
@@ -66,9 +66,7 @@ import com.alibaba.nacos.plugin.encryption.handler.EncryptionHandler;
 import com.alibaba.nacos.sys.utils.InetUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -89,11 +87,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.ZipOutputStream;
 
 import static com.alibaba.nacos.config.server.utils.RequestUtil.getRemoteIp;
 
@@ -115,6 +116,10 @@ public class ConfigController {
     
     private static final String EXPORT_CONFIG_FILE_NAME_DATE_FORMAT = "yyyyMMddHHmmss";
     
+    private static final int EXPORT_CONFIG_PAGE_SIZE = 100;
+    
+    private static final int IMPORT_CONFIG_BATCH_SIZE = 100;
+    
     private final ConfigServletInner inner;
     
     private ConfigInfoPersistService configInfoPersistService;
@@ -497,109 +502,129 @@ public class ConfigController {
     /**
      * Execute export config operation.
      *
-     * @param dataId  dataId string value.
-     * @param group   group string value.
-     * @param appName appName string value.
-     * @param tenant  tenant string value.
-     * @param ids     id list value.
-     * @return ResponseEntity.
+     * @param response http servlet response.
+     * @param dataId   dataId string value.
+     * @param group    group string value.
+     * @param appName  appName string value.
+     * @param tenant   tenant string value.
+     * @param ids      id list value.
+     * @throws IOException if writing response failed.
      */
     @GetMapping(params = "export=true")
     @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
-    public ResponseEntity<byte[]> exportConfig(@RequestParam(value = "dataId", required = false) String dataId,
+    public void exportConfig(HttpServletResponse response,
+            @RequestParam(value = "dataId", required = false) String dataId,
             @RequestParam(value = "group", required = false) String group,
             @RequestParam(value = "appName", required = false) String appName,
             @RequestParam(value = "tenant", required = false, defaultValue = StringUtils.EMPTY) String tenant,
-            @RequestParam(value = "ids", required = false) List<Long> ids) {
+            @RequestParam(value = "ids", required = false) List<Long> ids) throws IOException {
         ids.removeAll(Collections.singleton(null));
         tenant = NamespaceUtil.processNamespaceParameter(tenant);
-        List<ConfigAllInfo> dataList = configInfoPersistService.findAllConfigInfo4Export(dataId, group, tenant, appName,
-                ids);
-        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
         StringBuilder metaData = null;
-        for (ConfigInfo ci : dataList) {
-            if (StringUtils.isNotBlank(ci.getAppName())) {
-                // Handle appName
-                if (metaData == null) {
-                    metaData = new StringBuilder();
+        try (ZipOutputStream zipOut = startExport(response)) {
+            long lastMaxId = 0L;
+            List<ConfigAllInfo> dataList;
+            do {
+                dataList = configInfoPersistService.findAllConfigInfo4ExportFragment(dataId, group, tenant, appName,
+                        ids, lastMaxId, EXPORT_CONFIG_PAGE_SIZE);
+                for (ConfigAllInfo ci : dataList) {
+                    if (StringUtils.isNotBlank(ci.getAppName())) {
+                        // Handle appName
+                        if (metaData == null) {
+                            metaData = new StringBuilder();
+                        }
+                        String metaDataId = ci.getDataId();
+                        if (metaDataId.contains(".")) {
+                            metaDataId = metaDataId.substring(0, metaDataId.lastIndexOf(".")) + "~"
+                                    + metaDataId.substring(metaDataId.lastIndexOf(".") + 1);
+                        }
+                        metaData.append(ci.getGroup()).append('.').append(metaDataId).append(".app=")
+                                // Fixed use of "\r\n" here
+                                .append(ci.getAppName()).append("\r\n");
+                    }
+                    writeExportItem(zipOut, ci);
+                    lastMaxId = ci.getId();
                 }
-                String metaDataId = ci.getDataId();
-                if (metaDataId.contains(".")) {
-                    metaDataId = metaDataId.substring(0, metaDataId.lastIndexOf(".")) + "~" + metaDataId.substring(
-                            metaDataId.lastIndexOf(".") + 1);
-                }
-                metaData.append(ci.getGroup()).append('.').append(metaDataId).append(".app=")
-                        // Fixed use of "\r\n" here
-                        .append(ci.getAppName()).append("\r\n");
+            } while (dataList.size() >= EXPORT_CONFIG_PAGE_SIZE);
+            if (metaData != null) {
+                ZipUtils.zip(zipOut, Constants.CONFIG_EXPORT_METADATA, metaData.toString());
             }
-            Pair<String, String> pair = EncryptionHandler.decryptHandler(ci.getDataId(), ci.getEncryptedDataKey(),
-                    ci.getContent());
-            String itemName = ci.getGroup() + Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR + ci.getDataId();
-            zipItemList.add(new ZipUtils.ZipItem(itemName, pair.getSecond()));
-        }
-        if (metaData != null) {
-            zipItemList.add(new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA, metaData.toString()));
         }
-        
-        HttpHeaders headers = new HttpHeaders();
-        String fileName =
-                EXPORT_CONFIG_FILE_NAME + DateFormatUtils.format(new Date(), EXPORT_CONFIG_FILE_NAME_DATE_FORMAT)
-                        + EXPORT_CONFIG_FILE_NAME_EXT;
-        headers.add("Content-Disposition", "attachment;filename=" + fileName);
-        return new ResponseEntity<>(ZipUtils.zip(zipItemList), headers, HttpStatus.OK);
     }
     
     /**
      * new version export config add metadata.yml file record config metadata.
      *
-     * @param dataId  dataId string value.
-     * @param group   group string value.
-     * @param appName appName string value.
-     * @param tenant  tenant string value.
-     * @param ids     id list value.
-     * @return ResponseEntity.
+     * @param response http servlet response.
+     * @param dataId   dataId string value.
+     * @param group    group string value.
+     * @param appName  appName string value.
+     * @param tenant   tenant string value.
+     * @param ids      id list value.
+     * @throws IOException if writing response failed.
      */
     @GetMapping(params = "exportV2=true")
     @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
-    public ResponseEntity<byte[]> exportConfigV2(@RequestParam(value = "dataId", required = false) String dataId,
+    public void exportConfigV2(HttpServletResponse response,
+            @RequestParam(value = "dataId", required = false) String dataId,
             @RequestParam(value = "group", required = false) String group,
             @RequestParam(value = "appName", required = false) String appName,
             @RequestParam(value = "tenant", required = false, defaultValue = StringUtils.EMPTY) String tenant,
-            @RequestParam(value = "ids", required = false) List<Long> ids) {
+            @RequestParam(value = "ids", required = false) List<Long> ids) throws IOException {
         ids.removeAll(Collections.singleton(null));
         tenant = NamespaceUtil.processNamespaceParameter(tenant);
-        List<ConfigAllInfo> dataList = configInfoPersistService.findAllConfigInfo4Export(dataId, group, tenant, appName,
-                ids);
-        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
         List<ConfigMetadata.ConfigExportItem> configMetadataItems = new ArrayList<>();
-        for (ConfigAllInfo ci : dataList) {
-            ConfigMetadata.ConfigExportItem configMetadataItem = new ConfigMetadata.ConfigExportItem();
-            configMetadataItem.setAppName(ci.getAppName());
-            configMetadataItem.setDataId(ci.getDataId());
-            configMetadataItem.setDesc(ci.getDesc());
-            configMetadataItem.setGroup(ci.getGroup());
-            configMetadataItem.setType(ci.getType());
-            configMetadataItems.add(configMetadataItem);
-            Pair<String, String> pair = EncryptionHandler.decryptHandler(ci.getDataId(), ci.getEncryptedDataKey(),
-                    ci.getContent());
-            String itemName = ci.getGroup() + Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR + ci.getDataId();
-            zipItemList.add(new ZipUtils.ZipItem(itemName, pair.getSecond()));
-        }
-        ConfigMetadata configMetadata = new ConfigMetadata();
-        configMetadata.setMetadata(configMetadataItems);
-        zipItemList.add(
-                new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
-        HttpHeaders headers = new HttpHeaders();
+        try (ZipOutputStream zipOut = startExport(response)) {
+            long lastMaxId = 0L;
+            List<ConfigAllInfo> dataList;
+            do {
+                dataList = configInfoPersistService.findAllConfigInfo4ExportFragment(dataId, group, tenant, appName,
+                        ids, lastMaxId, EXPORT_CONFIG_PAGE_SIZE);
+                for (ConfigAllInfo ci : dataList) {
+                    ConfigMetadata.ConfigExportItem configMetadataItem = new ConfigMetadata.ConfigExportItem();
+                    configMetadataItem.setAppName(ci.getAppName());
+                    configMetadataItem.setDataId(ci.getDataId());
+                    configMetadataItem.setDesc(ci.getDesc());
+                    configMetadataItem.setGroup(ci.getGroup());
+                    configMetadataItem.setType(ci.getType());
+                    configMetadataItems.add(configMetadataItem);
+                    writeExportItem(zipOut, ci);
+                    lastMaxId = ci.getId();
+                }
+            } while (dataList.size() >= EXPORT_CONFIG_PAGE_SIZE);
+            ConfigMetadata configMetadata = new ConfigMetadata();
+            configMetadata.setMetadata(configMetadataItems);
+            ZipUtils.zip(zipOut, Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata));
+        }
+    }
+    
+    /**
+     * Set the headers of export file and open zip stream on the response, so that the configs are written to the
+     * response page by page instead of being zipped in memory.
+     */
+    private ZipOutputStream startExport(HttpServletResponse response) throws IOException {
         String fileName =
                 EXPORT_CONFIG_FILE_NAME + DateFormatUtils.format(new Date(), EXPORT_CONFIG_FILE_NAME_DATE_FORMAT)
                         + EXPORT_CONFIG_FILE_NAME_EXT;
-        headers.add("Content-Disposition", "attachment;filename=" + fileName);
-        return new ResponseEntity<>(ZipUtils.zip(zipItemList), headers, HttpStatus.OK);
+        response.setHeader("Content-Disposition", "attachment;filename=" + fileName);
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        return new ZipOutputStream(response.getOutputStream());
+    }
+    
+    private void writeExportItem(ZipOutputStream zipOut, ConfigAllInfo ci) throws IOException {
+        Pair<String, String> pair = EncryptionHandler.decryptHandler(ci.getDataId(), ci.getEncryptedDataKey(),
+                ci.getContent());
+        String itemName = ci.getGroup() + Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR + ci.getDataId();
+        ZipUtils.zip(zipOut, itemName, pair.getSecond());
     }
     
     /**
      * Execute import and publish config operation.
      *
+     * <p>The upload file is read as stream twice, so the whole file is never unzipped in memory. The first time reads
+     * through all items to find the metadata and to make sure the file is complete before anything is saved, and the
+     * second time parses the configs one by one and saves them in batches.
+     *
      * @param request   http servlet request .
      * @param srcUser   src user string value.
      * @param namespace namespace string value.
@@ -629,35 +654,131 @@ public class ConfigController {
         if (StringUtils.isBlank(srcUser)) {
             srcUser = RequestUtil.getSrcUserName(request);
         }
-        List<ConfigAllInfo> configInfoList = new ArrayList<>();
-        List<Map<String, String>> unrecognizedList = new ArrayList<>();
+        ZipUtils.ZipItem metaDataZipItem;
+        List<String> itemNames = new ArrayList<>();
         try {
-            ZipUtils.UnZipResult unziped = ZipUtils.unzip(file.getBytes());
-            ZipUtils.ZipItem metaDataZipItem = unziped.getMetaDataItem();
-            RestResult<Map<String, Object>> errorResult;
-            if (metaDataZipItem != null && Constants.CONFIG_EXPORT_METADATA_NEW.equals(metaDataZipItem.getItemName())) {
-                // new export
-                errorResult = parseImportDataV2(srcUser, unziped, configInfoList, unrecognizedList, namespace);
-            } else {
-                errorResult = parseImportData(srcUser, unziped, configInfoList, unrecognizedList, namespace);
-            }
-            if (errorResult != null) {
-                return errorResult;
-            }
+            metaDataZipItem = ZipUtils.findMetaDataItem(file.getInputStream(), itemNames);
         } catch (IOException e) {
             failedData.put("succCount", 0);
             LOGGER.error("parsing data failed", e);
             return RestResultUtils.buildResult(ResultCodeEnum.PARSING_DATA_FAILED, failedData);
         }
+        boolean newExport =
+                metaDataZipItem != null && Constants.CONFIG_EXPORT_METADATA_NEW.equals(metaDataZipItem.getItemName());
+        Map<String, String> appNameMap = new HashMap<>(16);
+        Map<String, ConfigMetadata.ConfigExportItem> configExportItemMap = new LinkedHashMap<>(16);
+        RestResult<Map<String, Object>> errorResult = newExport ? parseImportMetaDataV2(metaDataZipItem,
+                configExportItemMap) : parseImportMetaData(metaDataZipItem, appNameMap);
+        if (errorResult != null) {
+            return errorResult;
+        }
+        Map<String, Integer> lastItemIndexes =
+                newExport ? findLastImportItems(itemNames, configExportItemMap) : Collections.emptyMap();
         
-        if (CollectionUtils.isEmpty(configInfoList)) {
+        final String srcIp = RequestUtil.getRemoteIp(request);
+        final String requestIpApp = RequestUtil.getAppName(request);
+        List<ConfigAllInfo> configInfoList = new ArrayList<>(IMPORT_CONFIG_BATCH_SIZE);
+        List<Map<String, String>> unrecognizedList = new ArrayList<>();
+        Set<String> importedKeys = new HashSet<>();
+        Map<String, Object> saveResult = new HashMap<>(8);
+        int configCount = 0;
+        boolean aborted = false;
+        try (ZipUtils.ZipItemReader reader = new ZipUtils.ZipItemReader(file.getInputStream())) {
+            boolean metaDataSkipped = false;
+            int itemIndex = -1;
+            String itemName;
+            while ((itemName = reader.nextEntry()) != null) {
+                itemIndex++;
+                if (!metaDataSkipped && ZipUtils.isMetaDataItem(itemName)) {
+                    metaDataSkipped = true;
+                    continue;
+                }
+                Integer lastItemIndex = lastItemIndexes.get(itemName);
+                if (lastItemIndex != null && lastItemIndex != itemIndex) {
+                    // overwritten by a later item of the same config
+                    continue;
+                }
+                ZipUtils.ZipItem item = new ZipUtils.ZipItem(itemName, reader.readData());
+                ConfigAllInfo ci = newExport ? parseImportItemV2(srcUser, item, configExportItemMap, importedKeys,
+                        unrecognizedList, namespace)
+                        : parseImportItem(srcUser, item, appNameMap, unrecognizedList, namespace);
+                if (ci == null) {
+                    continue;
+                }
+                configCount++;
+                if (aborted) {
+                    skipImportConfig(ci, saveResult);
+                    continue;
+                }
+                configInfoList.add(ci);
+                if (configInfoList.size() >= IMPORT_CONFIG_BATCH_SIZE) {
+                    aborted = saveImportBatch(configInfoList, srcUser, srcIp, requestIpApp, policy, saveResult);
+                    configInfoList.clear();
+                }
+            }
+        } catch (IOException e) {
+            failedData.put("succCount", saveResult.getOrDefault("succCount", 0));
+            LOGGER.error("parsing data failed", e);
+            return RestResultUtils.buildResult(ResultCodeEnum.PARSING_DATA_FAILED, failedData);
+        }
+        
+        if (configCount == 0) {
             failedData.put("succCount", 0);
             return RestResultUtils.buildResult(ResultCodeEnum.DATA_EMPTY, failedData);
         }
-        final String srcIp = RequestUtil.getRemoteIp(request);
-        String requestIpApp = RequestUtil.getAppName(request);
+        if (!configInfoList.isEmpty()) {
+            saveImportBatch(configInfoList, srcUser, srcIp, requestIpApp, policy, saveResult);
+        }
+        if (newExport) {
+            // config file not in metadata
+            configExportItemMap.forEach((key, configExportItem) -> {
+                if (!importedKeys.contains(key)) {
+                    Map<String, String> unrecognizedItem = new HashMap<>(2);
+                    unrecognizedItem.put("itemName",
+                            "未在文件中找到: " + configExportItem.getGroup() + "/" + configExportItem.getDataId());
+                    unrecognizedList.add(unrecognizedItem);
+                }
+            });
+        }
+        // unrecognizedCount
+        if (!unrecognizedList.isEmpty()) {
+            saveResult.put("unrecognizedCount", unrecognizedList.size());
+            saveResult.put("unrecognizedData", unrecognizedList);
+        }
+        return RestResultUtils.success("导入成功", saveResult);
+    }
+    
+    /**
+     * Find the index of the last item of each config for new version import. The former items of the same config are
+     * overwritten by the last one, the same as the whole file was unzipped into a map.
+     *
+     * @param itemNames           names of all items in the file.
+     * @param configExportItemMap parsed metadata.
+     * @return the index of last item, the key is item name.
+     */
+    private static Map<String, Integer> findLastImportItems(List<String> itemNames,
+            Map<String, ConfigMetadata.ConfigExportItem> configExportItemMap) {
+        Map<String, Integer> lastItemIndexes = new HashMap<>(16);
+        int itemNameLength = 2;
+        for (int i = 0; i < itemNames.size(); i++) {
+            String[] groupAdnDataId = itemNames.get(i).split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
+            if (groupAdnDataId.length == itemNameLength && configExportItemMap.containsKey(
+                    GroupKey.getKey(groupAdnDataId[1], groupAdnDataId[0]))) {
+                lastItemIndexes.put(itemNames.get(i), i);
+            }
+        }
+        return lastItemIndexes;
+    }
+    
+    /**
+     * Save a batch of imported configs and merge the result of the batch into the result of whole import.
+     *
+     * @return {@code true} if the import is aborted by a conflict config
+     */
+    private boolean saveImportBatch(List<ConfigAllInfo> configInfoList, String srcUser, String srcIp,
+            String requestIpApp, SameConfigPolicy policy, Map<String, Object> saveResult) throws NacosException {
         final Timestamp time = TimeUtils.getCurrentTime();
-        Map<String, Object> saveResult = configInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
+        Map<String, Object> batchResult = configInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
                 null, policy);
         for (ConfigInfo configInfo : configInfoList) {
             ConfigChangePublisher.notifyConfigChange(
@@ -668,28 +789,44 @@ public class ConfigController {
                     ConfigTraceService.PERSISTENCE_EVENT, ConfigTraceService.PERSISTENCE_TYPE_PUB,
                     configInfo.getContent());
         }
-        // unrecognizedCount
-        if (!unrecognizedList.isEmpty()) {
-            saveResult.put("unrecognizedCount", unrecognizedList.size());
-            saveResult.put("unrecognizedData", unrecognizedList);
+        batchResult.forEach((key, value) -> saveResult.merge(key, value, ConfigController::mergeImportResult));
+        return SameConfigPolicy.ABORT.equals(policy) && batchResult.containsKey("failData");
+    }
+    
+    /**
+     * Record the config which is skipped because the import has been aborted by a former batch.
+     */
+    private void skipImportConfig(ConfigInfo configInfo, Map<String, Object> saveResult) {
+        Map<String, String> skipItem = new HashMap<>(2);
+        skipItem.put("dataId", configInfo.getDataId());
+        skipItem.put("group", configInfo.getGroup());
+        List<Map<String, String>> skipData = new ArrayList<>(1);
+        skipData.add(skipItem);
+        saveResult.merge("skipData", skipData, ConfigController::mergeImportResult);
+        saveResult.merge("skipCount", 1, ConfigController::mergeImportResult);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Object mergeImportResult(Object oldValue, Object value) {
+        if (oldValue instanceof Integer && value instanceof Integer) {
+            return (Integer) oldValue + (Integer) value;
         }
-        return RestResultUtils.success("导入成功", saveResult);
+        if (oldValue instanceof List && value instanceof List) {
+            ((List<Object>) oldValue).addAll((List<Object>) value);
+            return oldValue;
+        }
+        return value;
     }
     
     /**
-     * old import config.
+     * old import config metadata.
      *
-     * @param unziped          export file.
-     * @param configInfoList   parse file result.
-     * @param unrecognizedList unrecognized file.
-     * @param namespace        import namespace.
+     * @param metaDataZipItem metadata item.
+     * @param metaDataMap     parse metadata result, the key is group.dataId.app and the value is appName.
      * @return error result.
      */
-    private RestResult<Map<String, Object>> parseImportData(String srcUser, ZipUtils.UnZipResult unziped,
-            List<ConfigAllInfo> configInfoList, List<Map<String, String>> unrecognizedList, String namespace) {
-        ZipUtils.ZipItem metaDataZipItem = unziped.getMetaDataItem();
-        
-        Map<String, String> metaDataMap = new HashMap<>(16);
+    private RestResult<Map<String, Object>> parseImportMetaData(ZipUtils.ZipItem metaDataZipItem,
+            Map<String, String> metaDataMap) {
         if (metaDataZipItem != null) {
             // compatible all file separator
             String metaDataStr = metaDataZipItem.getItemData().replaceAll("[\r\n]+", "|");
@@ -704,59 +841,64 @@ public class ConfigController {
                 metaDataMap.put(metaDataItemArr[0], metaDataItemArr[1]);
             }
         }
-        
-        List<ZipUtils.ZipItem> itemList = unziped.getZipItemList();
-        if (itemList != null && !itemList.isEmpty()) {
-            for (ZipUtils.ZipItem item : itemList) {
-                String[] groupAdnDataId = item.getItemName().split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
-                if (groupAdnDataId.length != 2) {
-                    Map<String, String> unrecognizedItem = new HashMap<>(2);
-                    unrecognizedItem.put("itemName", item.getItemName());
-                    unrecognizedList.add(unrecognizedItem);
-                    continue;
-                }
-                String group = groupAdnDataId[0];
-                String dataId = groupAdnDataId[1];
-                String tempDataId = dataId;
-                if (tempDataId.contains(".")) {
-                    tempDataId = tempDataId.substring(0, tempDataId.lastIndexOf(".")) + "~" + tempDataId.substring(
-                            tempDataId.lastIndexOf(".") + 1);
-                }
-                final String metaDataId = group + "." + tempDataId + ".app";
-                
-                //encrypted
-                String content = item.getItemData();
-                Pair<String, String> pair = EncryptionHandler.encryptHandler(dataId, content);
-                content = pair.getSecond();
-                
-                ConfigAllInfo ci = new ConfigAllInfo();
-                ci.setGroup(group);
-                ci.setDataId(dataId);
-                ci.setContent(content);
-                if (metaDataMap.get(metaDataId) != null) {
-                    ci.setAppName(metaDataMap.get(metaDataId));
-                }
-                ci.setTenant(namespace);
-                ci.setEncryptedDataKey(pair.getFirst());
-                ci.setCreateUser(srcUser);
-                configInfoList.add(ci);
-            }
-        }
         return null;
     }
     
     /**
-     * new version import config add .metadata.yml file.
+     * old import config.
      *
-     * @param unziped          export file.
-     * @param configInfoList   parse file result.
+     * @param item             config file item.
+     * @param metaDataMap      parsed metadata.
      * @param unrecognizedList unrecognized file.
      * @param namespace        import namespace.
+     * @return parsed config, or {@code null} if unrecognized.
+     */
+    private ConfigAllInfo parseImportItem(String srcUser, ZipUtils.ZipItem item, Map<String, String> metaDataMap,
+            List<Map<String, String>> unrecognizedList, String namespace) {
+        String[] groupAdnDataId = item.getItemName().split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
+        int itemNameLength = 2;
+        if (groupAdnDataId.length != itemNameLength) {
+            Map<String, String> unrecognizedItem = new HashMap<>(2);
+            unrecognizedItem.put("itemName", item.getItemName());
+            unrecognizedList.add(unrecognizedItem);
+            return null;
+        }
+        String group = groupAdnDataId[0];
+        String dataId = groupAdnDataId[1];
+        String tempDataId = dataId;
+        int dotIndex = tempDataId.lastIndexOf('.');
+        if (dotIndex >= 0) {
+            tempDataId = tempDataId.substring(0, dotIndex) + "~" + tempDataId.substring(dotIndex + 1);
+        }
+        final String metaDataId = group + "." + tempDataId + ".app";
+        
+        //encrypted
+        String content = item.getItemData();
+        Pair<String, String> pair = EncryptionHandler.encryptHandler(dataId, content);
+        content = pair.getSecond();
+        
+        ConfigAllInfo ci = new ConfigAllInfo();
+        ci.setGroup(group);
+        ci.setDataId(dataId);
+        ci.setContent(content);
+        if (metaDataMap.get(metaDataId) != null) {
+            ci.setAppName(metaDataMap.get(metaDataId));
+        }
+        ci.setTenant(namespace);
+        ci.setEncryptedDataKey(pair.getFirst());
+        ci.setCreateUser(srcUser);
+        return ci;
+    }
+    
+    /**
+     * new version import config metadata from .metadata.yml file.
+     *
+     * @param metaDataItem        metadata item.
+     * @param configExportItemMap parse metadata result, the key is group key of config.
      * @return error result.
      */
-    private RestResult<Map<String, Object>> parseImportDataV2(String srcUser, ZipUtils.UnZipResult unziped,
-            List<ConfigAllInfo> configInfoList, List<Map<String, String>> unrecognizedList, String namespace) {
-        ZipUtils.ZipItem metaDataItem = unziped.getMetaDataItem();
+    private RestResult<Map<String, Object>> parseImportMetaDataV2(ZipUtils.ZipItem metaDataItem,
+            Map<String, ConfigMetadata.ConfigExportItem> configExportItemMap) {
         String metaData = metaDataItem.getItemData();
         Map<String, Object> failedData = new HashMap<>(4);
         
@@ -774,68 +916,64 @@ public class ConfigController {
                 return RestResultUtils.buildResult(ResultCodeEnum.METADATA_ILLEGAL, failedData);
             }
         }
-        
-        List<ZipUtils.ZipItem> zipItemList = unziped.getZipItemList();
-        Set<String> metaDataKeys = configExportItems.stream()
-                .map(metaItem -> GroupKey.getKey(metaItem.getDataId(), metaItem.getGroup()))
-                .collect(Collectors.toSet());
-        
-        Map<String, String> configContentMap = new HashMap<>(zipItemList.size());
-        int itemNameLength = 2;
-        zipItemList.forEach(item -> {
-            String itemName = item.getItemName();
-            String[] groupAdnDataId = itemName.split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
-            if (groupAdnDataId.length != itemNameLength) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", item.getItemName());
-                unrecognizedList.add(unrecognizedItem);
-                return;
-            }
-            
-            String group = groupAdnDataId[0];
-            String dataId = groupAdnDataId[1];
-            String key = GroupKey.getKey(dataId, group);
-            // metadata does not contain config file
-            if (!metaDataKeys.contains(key)) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", "未在元数据中找到: " + item.getItemName());
-                unrecognizedList.add(unrecognizedItem);
-                return;
-            }
-            String itemData = item.getItemData();
-            configContentMap.put(key, itemData);
-        });
-        
         for (ConfigMetadata.ConfigExportItem configExportItem : configExportItems) {
-            String dataId = configExportItem.getDataId();
-            String group = configExportItem.getGroup();
-            String content = configContentMap.get(GroupKey.getKey(dataId, group));
-            // config file not in metadata
-            if (content == null) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", "未在文件中找到: " + group + "/" + dataId);
-                unrecognizedList.add(unrecognizedItem);
-                continue;
-            }
-            // encrypted
-            Pair<String, String> pair = EncryptionHandler.encryptHandler(dataId, content);
-            content = pair.getSecond();
-            
-            ConfigAllInfo ci = new ConfigAllInfo();
-            ci.setGroup(group);
-            ci.setDataId(dataId);
-            ci.setContent(content);
-            ci.setType(configExportItem.getType());
-            ci.setDesc(configExportItem.getDesc());
-            ci.setAppName(configExportItem.getAppName());
-            ci.setTenant(namespace);
-            ci.setEncryptedDataKey(pair.getFirst());
-            ci.setCreateUser(srcUser);
-            configInfoList.add(ci);
+            configExportItemMap.put(GroupKey.getKey(configExportItem.getDataId(), configExportItem.getGroup()),
+                    configExportItem);
         }
         return null;
     }
     
+    /**
+     * new version import config add .metadata.yml file.
+     *
+     * @param item                config file item.
+     * @param configExportItemMap parsed metadata.
+     * @param importedKeys        group keys of parsed configs.
+     * @param unrecognizedList    unrecognized file.
+     * @param namespace           import namespace.
+     * @return parsed config, or {@code null} if unrecognized.
+     */
+    private ConfigAllInfo parseImportItemV2(String srcUser, ZipUtils.ZipItem item,
+            Map<String, ConfigMetadata.ConfigExportItem> configExportItemMap, Set<String> importedKeys,
+            List<Map<String, String>> unrecognizedList, String namespace) {
+        String itemName = item.getItemName();
+        String[] groupAdnDataId = itemName.split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
+        int itemNameLength = 2;
+        if (groupAdnDataId.length != itemNameLength) {
+            Map<String, String> unrecognizedItem = new HashMap<>(2);
+            unrecognizedItem.put("itemName", item.getItemName());
+            unrecognizedList.add(unrecognizedItem);
+            return null;
+        }
+        
+        String group = groupAdnDataId[0];
+        String dataId = groupAdnDataId[1];
+        String key = GroupKey.getKey(dataId, group);
+        ConfigMetadata.ConfigExportItem configExportItem = configExportItemMap.get(key);
+        // metadata does not contain config file
+        if (configExportItem == null) {
+            Map<String, String> unrecognizedItem = new HashMap<>(2);
+            unrecognizedItem.put("itemName", "未在元数据中找到: " + item.getItemName());
+            unrecognizedList.add(unrecognizedItem);
+            return null;
+        }
+        importedKeys.add(key);
+        // encrypted
+        Pair<String, String> pair = EncryptionHandler.encryptHandler(dataId, item.getItemData());
+        
+        ConfigAllInfo ci = new ConfigAllInfo();
+        ci.setGroup(group);
+        ci.setDataId(dataId);
+        ci.setContent(pair.getSecond());
+        ci.setType(configExportItem.getType());
+        ci.setDesc(configExportItem.getDesc());
+        ci.setAppName(configExportItem.getAppName());
+        ci.setTenant(namespace);
+        ci.setEncryptedDataKey(pair.getFirst());
+        ci.setCreateUser(srcUser);
+        return ci;
+    }
+    
     /**
      * Execute clone config operation.
      *
@@ -922,5 +1060,5 @@ public class ConfigController {
         }
         return RestResultUtils.success("Clone Completed Successfully", saveResult);
     }
-    
+
 }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.remote;
 
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigWatchersClusterRequest;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.core.cluster.Member;
@@ -52,4 +53,17 @@ public class ConfigClusterRpcClientProxy {
         clusterRpcClientProxy.asyncRequest(member, request, callBack);
         
     }
+    
+    /**
+     * query listeners of config on member.
+     *
+     * @param member   member of server.
+     * @param request  request of config watchers query.
+     * @param callBack callBack of config watchers query.
+     * @throws NacosException exception.
+     */
+    public void queryConfigWatchers(Member member, ConfigWatchersClusterRequest request, RequestCallBack callBack)
+            throws NacosException {
+        clusterRpcClientProxy.asyncRequest(member, request, callBack);
+    }
 }
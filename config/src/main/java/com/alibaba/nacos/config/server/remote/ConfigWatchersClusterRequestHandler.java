@@ -0,0 +1,116 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigWatchersClusterRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigWatchersClusterResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.SampleResult;
+import com.alibaba.nacos.config.server.service.LongPollingService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.ConfigRequestParamExtractor;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Handler to query listeners of config in current server for other servers.
+ *
+ * @author agent
+ */
+@Component
+public class ConfigWatchersClusterRequestHandler
+        extends RequestHandler<ConfigWatchersClusterRequest, ConfigWatchersClusterResponse> {
+    
+    private final LongPollingService longPollingService;
+    
+    private final ConfigChangeListenContext configChangeListenContext;
+    
+    private final ConnectionManager connectionManager;
+    
+    public ConfigWatchersClusterRequestHandler(LongPollingService longPollingService,
+            ConfigChangeListenContext configChangeListenContext, ConnectionManager connectionManager) {
+        this.longPollingService = longPollingService;
+        this.configChangeListenContext = configChangeListenContext;
+        this.connectionManager = connectionManager;
+    }
+    
+    @TpsControl(pointName = "ClusterConfigWatchersQuery")
+    @Override
+    @ExtractorManager.Extractor(rpcExtractor = ConfigRequestParamExtractor.class)
+    public ConfigWatchersClusterResponse handle(ConfigWatchersClusterRequest request, RequestMeta meta)
+            throws NacosException {
+        ConfigWatchersClusterResponse response = new ConfigWatchersClusterResponse();
+        SampleResult result = StringUtils.isNotBlank(request.getIp()) ? collectByIp(request.getIp())
+                : collectByConfig(request.getDataId(), request.getGroup(), request.getTenant());
+        response.setListenersGroupkeyStatus(result.getLisentersGroupkeyStatus());
+        return response;
+    }
+    
+    /**
+     * Collect the clients listening the config in current server.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @return sample result with client ip as key and md5 as value
+     */
+    public SampleResult collectByConfig(String dataId, String group, String tenant) {
+        group = StringUtils.isBlank(group) ? Constants.DEFAULT_GROUP : group;
+        SampleResult result = longPollingService.getCollectSubscribleInfo(dataId, group, tenant);
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        Set<String> listenersClients = configChangeListenContext.getListeners(groupKey);
+        if (null == listenersClients) {
+            return result;
+        }
+        for (String connectionId : listenersClients) {
+            Connection client = connectionManager.getConnection(connectionId);
+            String md5 = configChangeListenContext.getListenKeyMd5(connectionId, groupKey);
+            if (null != client && null != md5) {
+                result.getLisentersGroupkeyStatus().put(client.getMetaInfo().getClientIp(), md5);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Collect the configs listened by the client ip in current server.
+     *
+     * @param ip client ip
+     * @return sample result with groupKey as key and md5 as value
+     */
+    public SampleResult collectByIp(String ip) {
+        SampleResult result = longPollingService.getCollectSubscribleInfoByIp(ip);
+        for (Connection connection : connectionManager.getConnectionByIp(ip)) {
+            Map<String, String> listenKeys = configChangeListenContext.getListenKeys(
+                    connection.getMetaInfo().getConnectionId());
+            if (null != listenKeys) {
+                result.getLisentersGroupkeyStatus().putAll(listenKeys);
+            }
+        }
+        return result;
+    }
+}
@@ -31,13 +31,16 @@ import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistServi
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoTagPersistService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.config.server.utils.TimeUtils;
+import com.alibaba.nacos.persistence.configuration.DatasourceConfiguration;
 import com.alibaba.nacos.sys.utils.InetUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
 import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.Map;
@@ -58,6 +61,11 @@ public class ConfigOperationService {
     
     private ConfigInfoBetaPersistService configInfoBetaPersistService;
     
+    /**
+     * Pipeline to publish normal configs in batched transactions, {@code null} if the pipeline is disabled.
+     */
+    private ConfigPublishPipeline publishPipeline;
+    
     private static final Logger LOGGER = LoggerFactory.getLogger(ConfigOperationService.class);
     
     public ConfigOperationService(ConfigInfoPersistService configInfoPersistService,
@@ -66,6 +74,21 @@ public class ConfigOperationService {
         this.configInfoPersistService = configInfoPersistService;
         this.configInfoTagPersistService = configInfoTagPersistService;
         this.configInfoBetaPersistService = configInfoBetaPersistService;
+        if (PropertyUtil.isPublishPipelineEnabled() && !DatasourceConfiguration.isEmbeddedStorage()) {
+            this.publishPipeline = new ConfigPublishPipeline(configInfoPersistService,
+                    PropertyUtil.getPublishPipelineWindow(), PropertyUtil.getPublishPipelineMaxBatchSize(),
+                    PropertyUtil.getPublishPipelineTimeout());
+        }
+    }
+    
+    /**
+     * Stop the publish pipeline, the publishes not committed are failed.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (null != publishPipeline) {
+            publishPipeline.shutdown();
+        }
     }
     
     /**
@@ -110,6 +133,9 @@ public class ConfigOperationService {
                         throw new NacosApiException(HttpStatus.INTERNAL_SERVER_ERROR.value(),
                                 ErrorCode.RESOURCE_CONFLICT, "Cas publish fail, server md5 may have changed.");
                     }
+                } else if (null != publishPipeline) {
+                    configOperateResult = publishPipeline.publish(configRequestInfo.getSrcIp(),
+                            configForm.getSrcUser(), configInfo, configAdvanceInfo);
                 } else {
                     configOperateResult = configInfoPersistService.insertOrUpdate(configRequestInfo.getSrcIp(),
                             configForm.getSrcUser(), configInfo, configAdvanceInfo);
@@ -0,0 +1,229 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigOperateResult;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publish pipeline of normal configs.
+ *
+ * <p>The publishes submitted concurrently within the commit window are written in one database transaction, up to max
+ * batch size, so the config rows, tags and histories of them share one commit. If the batch transaction fails, the
+ * publishes are retried one by one, so that one bad publish does not fail the others.
+ *
+ * <p>The batches are committed by one thread, which avoids the row locks of different batches deadlocking each other.
+ *
+ * @author agent
+ */
+public class ConfigPublishPipeline {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigPublishPipeline.class);
+    
+    private final ConfigInfoPersistService configInfoPersistService;
+    
+    private final long windowNanos;
+    
+    private final int maxBatchSize;
+    
+    private final long publishTimeoutMillis;
+    
+    private final BlockingQueue<PendingPublish> pendingPublishes = new LinkedBlockingQueue<>();
+    
+    private final ExecutorService commitExecutor;
+    
+    private volatile boolean shutdown;
+    
+    public ConfigPublishPipeline(ConfigInfoPersistService configInfoPersistService, long windowMillis,
+            int maxBatchSize, long publishTimeoutMillis) {
+        this.configInfoPersistService = configInfoPersistService;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(windowMillis, 0L));
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.publishTimeoutMillis = publishTimeoutMillis;
+        this.commitExecutor = ExecutorFactory.Managed.newSingleExecutorService(
+                ConfigPublishPipeline.class.getCanonicalName(),
+                new NameThreadFactory("com.alibaba.nacos.config.publish.pipeline"));
+        this.commitExecutor.execute(this::commitLoop);
+    }
+    
+    /**
+     * Submit a config publish into the pipeline.
+     *
+     * @param srcIp             remote ip
+     * @param srcUser           user
+     * @param configInfo        config info
+     * @param configAdvanceInfo advance info
+     * @return future of the config operation result
+     */
+    public CompletableFuture<ConfigOperateResult> submit(String srcIp, String srcUser, ConfigInfo configInfo,
+            Map<String, Object> configAdvanceInfo) {
+        PendingPublish pendingPublish = new PendingPublish(srcIp, srcUser, configInfo, configAdvanceInfo);
+        if (shutdown) {
+            pendingPublish.future.completeExceptionally(
+                    new IllegalStateException("config publish pipeline is shutdown"));
+            return pendingPublish.future;
+        }
+        pendingPublishes.offer(pendingPublish);
+        if (shutdown) {
+            failPendingPublishes();
+        }
+        return pendingPublish.future;
+    }
+    
+    /**
+     * Publish a config through the pipeline and wait until it is committed. If the publish is not committed within the
+     * timeout, a server error is thrown, but the publish may still be committed later.
+     *
+     * @param srcIp             remote ip
+     * @param srcUser           user
+     * @param configInfo        config info
+     * @param configAdvanceInfo advance info
+     * @return config operation result
+     */
+    public ConfigOperateResult publish(String srcIp, String srcUser, ConfigInfo configInfo,
+            Map<String, Object> configAdvanceInfo) {
+        try {
+            return submit(srcIp, srcUser, configInfo, configAdvanceInfo).get(publishTimeoutMillis,
+                    TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("publish config {} timeout after {} ms", configInfo.getDataId(), publishTimeoutMillis);
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "publish config timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, e.getCause());
+        }
+    }
+    
+    /**
+     * Stop the pipeline, the publishes not committed are failed.
+     */
+    public void shutdown() {
+        shutdown = true;
+        commitExecutor.shutdownNow();
+        failPendingPublishes();
+    }
+    
+    private void failPendingPublishes() {
+        PendingPublish each;
+        while (null != (each = pendingPublishes.poll())) {
+            each.future.completeExceptionally(new IllegalStateException("config publish pipeline is shutdown"));
+        }
+    }
+    
+    private void commitLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<PendingPublish> batch = new ArrayList<>();
+                batch.add(pendingPublishes.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remain = deadline - System.nanoTime();
+                    PendingPublish next = remain > 0 ? pendingPublishes.poll(remain, TimeUnit.NANOSECONDS)
+                            : pendingPublishes.poll();
+                    if (null == next) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void commit(List<PendingPublish> batch) {
+        if (batch.size() == 1) {
+            commitOne(batch.get(0));
+            return;
+        }
+        List<ConfigOperateResult> results;
+        try {
+            results = configInfoPersistService.executeInTransaction(() -> {
+                List<ConfigOperateResult> batchResults = new ArrayList<>(batch.size());
+                for (PendingPublish each : batch) {
+                    batchResults.add(configInfoPersistService.insertOrUpdate(each.srcIp, each.srcUser, each.configInfo,
+                            each.configAdvanceInfo));
+                }
+                return batchResults;
+            });
+        } catch (Throwable e) {
+            LOGGER.warn("publish {} configs in batch failed, retry one by one : {}", batch.size(), e.toString());
+            for (PendingPublish each : batch) {
+                commitOne(each);
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future.complete(results.get(i));
+        }
+    }
+    
+    private void commitOne(PendingPublish pendingPublish) {
+        try {
+            pendingPublish.future.complete(
+                    configInfoPersistService.insertOrUpdate(pendingPublish.srcIp, pendingPublish.srcUser,
+                            pendingPublish.configInfo, pendingPublish.configAdvanceInfo));
+        } catch (Throwable e) {
+            pendingPublish.future.completeExceptionally(e);
+        }
+    }
+    
+    private static class PendingPublish {
+        
+        private final String srcIp;
+        
+        private final String srcUser;
+        
+        private final ConfigInfo configInfo;
+        
+        private final Map<String, Object> configAdvanceInfo;
+        
+        private final CompletableFuture<ConfigOperateResult> future = new CompletableFuture<>();
+        
+        private PendingPublish(String srcIp, String srcUser, ConfigInfo configInfo,
+                Map<String, Object> configAdvanceInfo) {
+            this.srcIp = srcIp;
+            this.srcUser = srcUser;
+            this.configInfo = configInfo;
+            this.configAdvanceInfo = configAdvanceInfo;
+        }
+    }
+}
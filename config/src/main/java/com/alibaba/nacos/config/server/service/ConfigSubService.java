@@ -16,7 +16,14 @@
 
 package com.alibaba.nacos.config.server.service;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigWatchersClusterRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigWatchersClusterResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.common.cache.Cache;
+import com.alibaba.nacos.common.cache.builder.CacheBuilder;
 import com.alibaba.nacos.common.constant.HttpHeaderConsts;
+import com.alibaba.nacos.common.http.Callback;
 import com.alibaba.nacos.common.http.param.Header;
 import com.alibaba.nacos.common.http.param.Query;
 import com.alibaba.nacos.common.model.RestResult;
@@ -25,28 +32,24 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.ListenerCheckResult;
 import com.alibaba.nacos.config.server.model.SampleResult;
+import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
+import com.alibaba.nacos.config.server.remote.ConfigWatchersClusterRequestHandler;
 import com.alibaba.nacos.config.server.service.notify.HttpClientManager;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Service;
 
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.net.URLEncoder;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -55,16 +58,45 @@ import static com.alibaba.nacos.common.constant.RequestUrlConstants.HTTP_PREFIX;
 /**
  * Config sub service.
  *
+ * <p>Listeners are queried from all members in parallel by cluster rpc, and the members which don't support the rpc
+ * query are queried by http instead. The results returned before the deadline are merged, and the merged result is
+ * cached for a short time so that refreshing console pages doesn't query the whole cluster again.
+ *
  * @author Nacos
  */
 @Service
 public class ConfigSubService {
     
-    private ServerMemberManager memberManager;
+    private static final String CONFIG_WATCHERS_URL = Constants.COMMUNICATION_CONTROLLER_PATH + "/configWatchers";
+    
+    private static final String WATCHER_CONFIGS_URL = Constants.COMMUNICATION_CONTROLLER_PATH + "/watcherConfigs";
+    
+    /**
+     * Deadline of each round querying all members.
+     */
+    private static final long QUERY_TIMEOUT_MILLS = 1000L;
+    
+    private static final long RESULT_CACHE_EXPIRE_MILLS = 3000L;
+    
+    private static final int RESULT_CACHE_SIZE = 1024;
+    
+    private static final int LISTENER_CHECK_NOT_COMPLETED = 201;
+    
+    private final ServerMemberManager memberManager;
+    
+    private final ConfigClusterRpcClientProxy configClusterRpcClientProxy;
+    
+    private final ConfigWatchersClusterRequestHandler configWatchersClusterRequestHandler;
+    
+    private final Cache<String, SampleResult> resultCache = CacheBuilder.<String, SampleResult>builder()
+            .expireNanos(RESULT_CACHE_EXPIRE_MILLS, TimeUnit.MILLISECONDS).maximumSize(RESULT_CACHE_SIZE).sync(true)
+            .build();
     
-    @SuppressWarnings("PMD.ThreadPoolCreationRule")
-    public ConfigSubService(ServerMemberManager memberManager) {
+    public ConfigSubService(ServerMemberManager memberManager, ConfigClusterRpcClientProxy configClusterRpcClientProxy,
+            ConfigWatchersClusterRequestHandler configWatchersClusterRequestHandler) {
         this.memberManager = memberManager;
+        this.configClusterRpcClientProxy = configClusterRpcClientProxy;
+        this.configWatchersClusterRequestHandler = configWatchersClusterRequestHandler;
     }
     
     /**
@@ -78,170 +110,162 @@ public class ConfigSubService {
         return HTTP_PREFIX + ip + EnvUtil.getContextPath() + relativePath;
     }
     
-    private List<SampleResult> runConfigListenerCollectionJob(Map<String, String> params,
-            CompletionService<SampleResult> completionService) {
-        return new ClusterListenerJob(params, completionService, memberManager).runJobs();
-    }
-    
-    static class ClusterListenerJob extends ClusterJob<SampleResult> {
-        
-        static final String URL = Constants.COMMUNICATION_CONTROLLER_PATH + "/configWatchers";
-        
-        ClusterListenerJob(Map<String, String> params, CompletionService<SampleResult> completionService,
-                ServerMemberManager serverMemberManager) {
-            super(URL, params, completionService, serverMemberManager);
+    /**
+     * Query listeners from all members in parallel, the members not responding before deadline are ignored.
+     *
+     * @param dataId dataId, ignored if ip is not blank
+     * @param group  group, ignored if ip is not blank
+     * @param tenant tenant, ignored if ip is not blank
+     * @param ip     client ip
+     * @return sample results of members responding before deadline
+     */
+    List<SampleResult> queryAllMembers(String dataId, String group, String tenant, String ip) {
+        Map<Member, CompletableFuture<SampleResult>> futures = new LinkedHashMap<>();
+        for (Member member : memberManager.allMembers()) {
+            futures.put(member, queryMember(member, dataId, group, tenant, ip));
         }
-    }
-    
-    private List<ListenerCheckResult> runHasCheckListenerCollectionJob(Map<String, String> params,
-            CompletionService<ListenerCheckResult> completionService) {
-        return new ClusterCheckHasListenerJob(params, completionService, memberManager).runJobs();
-    }
-    
-    class ClusterCheckHasListenerJob extends ClusterJob<ListenerCheckResult> {
-        
-        static final String URL = Constants.COMMUNICATION_CONTROLLER_PATH + "/checkConfigWatchers";
-        
-        ClusterCheckHasListenerJob(Map<String, String> params, CompletionService<ListenerCheckResult> completionService,
-                ServerMemberManager serverMemberManager) {
-            super(URL, params, completionService, serverMemberManager);
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .get(QUERY_TIMEOUT_MILLS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LogUtil.DEFAULT_LOG.warn("Query config listeners did not completed in {}ms, return partial results",
+                    QUERY_TIMEOUT_MILLS);
+        } catch (Exception e) {
+            LogUtil.DEFAULT_LOG.warn("Query config listeners with exception: {}", e.getMessage());
         }
+        List<SampleResult> result = new ArrayList<>(futures.size());
+        for (Map.Entry<Member, CompletableFuture<SampleResult>> entry : futures.entrySet()) {
+            SampleResult sampleResult = entry.getValue().getNow(null);
+            if (null != sampleResult) {
+                result.add(sampleResult);
+            } else {
+                LogUtil.DEFAULT_LOG.warn("Query config listeners from {} failed or timeout",
+                        entry.getKey().getAddress());
+            }
+        }
+        return result;
     }
     
-    @SuppressWarnings("PMD.AbstractClassShouldStartWithAbstractNamingRule")
-    abstract static class ClusterJob<T> {
-        
-        private String url;
-        
-        private Map<String, String> params;
-        
-        private CompletionService<T> completionService;
-        
-        private ServerMemberManager serverMemberManager;
-        
-        ClusterJob(String url, Map<String, String> params, CompletionService<T> completionService,
-                ServerMemberManager serverMemberManager) {
-            this.url = url;
-            this.params = params;
-            this.completionService = completionService;
-            this.serverMemberManager = serverMemberManager;
+    private CompletableFuture<SampleResult> queryMember(Member member, String dataId, String group, String tenant,
+            String ip) {
+        if (memberManager.getSelf().getAddress().equals(member.getAddress())) {
+            return CompletableFuture.supplyAsync(() -> StringUtils.isNotBlank(ip)
+                    ? configWatchersClusterRequestHandler.collectByIp(ip)
+                    : configWatchersClusterRequestHandler.collectByConfig(dataId, group, tenant),
+                    ConfigExecutor.getConfigSubServiceExecutor());
         }
-        
-        class Job<T> implements Callable<T> {
-            
-            private String ip;
+        CompletableFuture<SampleResult> future = new CompletableFuture<>();
+        ConfigWatchersClusterRequest request = new ConfigWatchersClusterRequest();
+        request.setDataId(dataId);
+        request.setGroup(group);
+        request.setTenant(tenant);
+        request.setIp(ip);
+        RequestCallBack<ConfigWatchersClusterResponse> callBack = new RequestCallBack<ConfigWatchersClusterResponse>() {
             
-            public Job(String ip) {
-                this.ip = ip;
+            @Override
+            public Executor getExecutor() {
+                return ConfigExecutor.getConfigSubServiceExecutor();
             }
             
             @Override
-            public T call() throws Exception {
-                return (T) runSingleJob(ip, params, url, ((ParameterizedType) ClusterJob.this.getClass()
-                        .getGenericSuperclass()).getActualTypeArguments()[0]);
+            public long getTimeout() {
+                return QUERY_TIMEOUT_MILLS;
             }
-        }
-        
-        List<T> runJobs() {
-            Collection<Member> ipList = serverMemberManager.allMembers();
-            List<T> collectionResult = new ArrayList<>(ipList.size());
-            // Submit query task.
-            for (Member ip : ipList) {
-                try {
-                    completionService.submit(new Job<T>(ip.getAddress()) {
-                    });
-                } catch (Exception e) { // Send request failed.
-                    LogUtil.DEFAULT_LOG.warn("invoke to {} with exception: {} during submit job", ip, e.getMessage());
+            
+            @Override
+            public void onResponse(ConfigWatchersClusterResponse response) {
+                if (response.isSuccess()) {
+                    SampleResult sampleResult = new SampleResult();
+                    sampleResult.setLisentersGroupkeyStatus(response.getListenersGroupkeyStatus());
+                    future.complete(sampleResult);
+                } else {
+                    queryMemberByHttp(member, request, future);
                 }
             }
-            // Get and merge result.
-            T sampleResults;
-            for (Member member : ipList) {
-                try {
-                    Future<T> f = completionService.poll(1000, TimeUnit.MILLISECONDS);
-                    try {
-                        if (f != null) {
-                            sampleResults = f.get(500, TimeUnit.MILLISECONDS);
-                            if (sampleResults != null) {
-                                collectionResult.add(sampleResults);
-                            }
-                        } else {
-                            LogUtil.DEFAULT_LOG.warn("The task in ip: {}  did not completed in 1000ms ", member);
-                        }
-                    } catch (TimeoutException e) {
-                        if (f != null) {
-                            f.cancel(true);
-                        }
-                        LogUtil.DEFAULT_LOG.warn("get task result with TimeoutException: {} ", e.getMessage());
-                    }
-                } catch (Exception e) {
-                    LogUtil.DEFAULT_LOG.warn("get task result with Exception: {} ", e.getMessage());
-                }
+            
+            @Override
+            public void onException(Throwable e) {
+                queryMemberByHttp(member, request, future);
             }
-            return collectionResult;
+        };
+        try {
+            configClusterRpcClientProxy.queryConfigWatchers(member, request, callBack);
+        } catch (NacosException e) {
+            queryMemberByHttp(member, request, future);
         }
+        return future;
     }
     
-    /**
-     * run job to a single member.
-     *
-     * @param ip     ip.
-     * @param params params.
-     * @param url    url.
-     * @param type   type.
-     * @return
-     */
-    public static Object runSingleJob(String ip, Map<String, String> params, String url, Type type) {
-        try {
-            StringBuilder paramUrl = new StringBuilder();
-            for (Map.Entry<String, String> param : params.entrySet()) {
-                paramUrl.append("&").append(param.getKey()).append("=")
-                        .append(URLEncoder.encode(param.getValue(), Constants.ENCODE_UTF8));
-            }
-            
-            String urlAll = getUrl(ip, url) + "?" + paramUrl;
-            RestResult<String> result = invokeUrl(urlAll, Constants.ENCODE_UTF8);
-            // Http code 200
-            if (result.ok()) {
-                Object t = JacksonUtils.toObj(result.getData(), type);
-                return t;
-            } else {
-                LogUtil.DEFAULT_LOG.info("Can not get remote from {} with {}", ip, result.getData());
-                return null;
+    private void queryMemberByHttp(Member member, ConfigWatchersClusterRequest request,
+            CompletableFuture<SampleResult> future) {
+        Map<String, String> params = new HashMap<>(4);
+        String url;
+        if (StringUtils.isNotBlank(request.getIp())) {
+            params.put("ip", request.getIp());
+            url = getUrl(member.getAddress(), WATCHER_CONFIGS_URL);
+        } else {
+            params.put("dataId", request.getDataId());
+            params.put("group", request.getGroup());
+            if (StringUtils.isNotBlank(request.getTenant())) {
+                params.put("tenant", request.getTenant());
             }
+            url = getUrl(member.getAddress(), CONFIG_WATCHERS_URL);
+        }
+        Header header = Header.newInstance();
+        header.addParam(HttpHeaderConsts.ACCEPT_CHARSET, Constants.ENCODE_UTF8);
+        try {
+            HttpClientManager.getNacosAsyncRestTemplate()
+                    .get(url, header, Query.newInstance().initParams(params), String.class, new Callback<String>() {
+                        
+                        @Override
+                        public void onReceive(RestResult<String> result) {
+                            if (result.ok()) {
+                                future.complete(JacksonUtils.toObj(result.getData(), SampleResult.class));
+                            } else {
+                                LogUtil.DEFAULT_LOG.info("Can not get remote from {} with {}", member.getAddress(),
+                                        result.getData());
+                                future.complete(null);
+                            }
+                        }
+                        
+                        @Override
+                        public void onError(Throwable throwable) {
+                            LogUtil.DEFAULT_LOG.warn("Get remote info from {} with exception: {}", member.getAddress(),
+                                    throwable.getMessage());
+                            future.complete(null);
+                        }
+                        
+                        @Override
+                        public void onCancel() {
+                            future.complete(null);
+                        }
+                    });
         } catch (Exception e) {
-            LogUtil.DEFAULT_LOG.warn("Get remote info from {} with exception: {}", ip, e.getMessage());
-            return null;
+            LogUtil.DEFAULT_LOG.warn("Get remote info from {} with exception: {}", member.getAddress(), e.getMessage());
+            future.complete(null);
         }
     }
     
     public ListenerCheckResult getCheckHasListenerResult(String dataId, String group, String tenant, int sampleTime)
             throws Exception {
-        Map<String, String> params = new HashMap<>(5);
-        params.put("dataId", dataId);
-        params.put("group", group);
-        if (!StringUtils.isBlank(tenant)) {
-            params.put("tenant", tenant);
-        }
-        int size = memberManager.getServerList().size();
-        BlockingQueue<Future<ListenerCheckResult>> queue = new LinkedBlockingDeque<>(
-                memberManager.getServerList().size());
-        CompletionService<ListenerCheckResult> completionService = new ExecutorCompletionService<>(
-                ConfigExecutor.getConfigSubServiceExecutor(), queue);
-        
+        int size = memberManager.allMembers().size();
         ListenerCheckResult sampleCollectResult = new ListenerCheckResult();
-        sampleCollectResult.setCode(201);
+        sampleCollectResult.setCode(LISTENER_CHECK_NOT_COMPLETED);
         for (int i = 0; i < sampleTime; i++) {
-            List<ListenerCheckResult> sampleResults = runHasCheckListenerCollectionJob(params, completionService);
-            if (sampleResults != null) {
-                sampleCollectResult = mergeListenerCheckResult(sampleCollectResult, sampleResults, size);
+            List<SampleResult> sampleResults = queryAllMembers(dataId, group, tenant, null);
+            List<ListenerCheckResult> checkResults = new ArrayList<>(sampleResults.size());
+            for (SampleResult each : sampleResults) {
+                ListenerCheckResult checkResult = new ListenerCheckResult();
+                checkResult.setCode(200);
+                checkResult.setHasListener(
+                        null != each.getLisentersGroupkeyStatus() && !each.getLisentersGroupkeyStatus().isEmpty());
+                checkResults.add(checkResult);
             }
+            sampleCollectResult = mergeListenerCheckResult(sampleCollectResult, checkResults, size);
             if (sampleCollectResult.isHasListener()) {
                 break;
             }
-            
         }
-        
         return sampleCollectResult;
     }
     
@@ -262,7 +286,7 @@ public class ConfigSubService {
             }
         }
         if (!listenerCheckResult.isHasListener() && sampleResults.size() != expectSize) {
-            listenerCheckResult.setCode(201);
+            listenerCheckResult.setCode(LISTENER_CHECK_NOT_COMPLETED);
         }
         
         return listenerCheckResult;
@@ -287,7 +311,9 @@ public class ConfigSubService {
         
         for (SampleResult sampleResult : sampleResults) {
             Map<String, String> listenersGroupkeyStatusTmp = sampleResult.getLisentersGroupkeyStatus();
-            listenersGroupkeyStatus.putAll(listenersGroupkeyStatusTmp);
+            if (listenersGroupkeyStatusTmp != null) {
+                listenersGroupkeyStatus.putAll(listenersGroupkeyStatusTmp);
+            }
         }
         mergeResult.setLisentersGroupkeyStatus(listenersGroupkeyStatus);
         return mergeResult;
@@ -295,54 +321,28 @@ public class ConfigSubService {
     
     public SampleResult getCollectSampleResult(String dataId, String group, String tenant, int sampleTime)
             throws Exception {
-        Map<String, String> params = new HashMap<>(5);
-        params.put("dataId", dataId);
-        params.put("group", group);
-        if (!StringUtils.isBlank(tenant)) {
-            params.put("tenant", tenant);
-        }
-        BlockingQueue<Future<SampleResult>> queue = new LinkedBlockingDeque<>(memberManager.getServerList().size());
-        CompletionService<SampleResult> completionService = new ExecutorCompletionService<>(
-                ConfigExecutor.getConfigSubServiceExecutor(), queue);
-        
-        SampleResult sampleCollectResult = new SampleResult();
-        for (int i = 0; i < sampleTime; i++) {
-            List<SampleResult> sampleResults = runConfigListenerCollectionJob(params, completionService);
-            if (sampleResults != null) {
-                sampleCollectResult = mergeSampleResult(sampleCollectResult, sampleResults);
-            }
-        }
-        return sampleCollectResult;
+        String cacheKey = GroupKey2.getKey(dataId, group, tenant) + "@" + sampleTime;
+        return collectSampleResult(cacheKey, dataId, group, tenant, null, sampleTime);
     }
     
     public SampleResult getCollectSampleResultByIp(String ip, int sampleTime) {
-        Map<String, String> params = new HashMap<>(50);
-        params.put("ip", ip);
-        BlockingQueue<Future<SampleResult>> queue = new LinkedBlockingDeque<>(memberManager.getServerList().size());
-        CompletionService<SampleResult> completionService = new ExecutorCompletionService<>(
-                ConfigExecutor.getConfigSubServiceExecutor(), queue);
-        
-        SampleResult sampleCollectResult = new SampleResult();
-        for (int i = 0; i < sampleTime; i++) {
-            List<SampleResult> sampleResults = runConfigListenerCollectionJob(params, completionService);
-            if (sampleResults != null) {
-                sampleCollectResult = mergeSampleResult(sampleCollectResult, sampleResults);
-            }
-        }
-        return sampleCollectResult;
+        String cacheKey = ip + "@" + sampleTime;
+        return collectSampleResult(cacheKey, null, null, null, ip, sampleTime);
     }
     
-    /**
-     * invoke url with http.
-     *
-     * @param url      url.
-     * @param encoding encoding.
-     * @return result.
-     * @throws Exception exception.
-     */
-    public static RestResult<String> invokeUrl(String url, String encoding) throws Exception {
-        Header header = Header.newInstance();
-        header.addParam(HttpHeaderConsts.ACCEPT_CHARSET, encoding);
-        return HttpClientManager.getNacosRestTemplate().get(url, header, Query.EMPTY, String.class);
+    private SampleResult collectSampleResult(String cacheKey, String dataId, String group, String tenant, String ip,
+            int sampleTime) {
+        SampleResult sampleCollectResult = resultCache.get(cacheKey);
+        if (null == sampleCollectResult) {
+            sampleCollectResult = new SampleResult();
+            for (int i = 0; i < sampleTime; i++) {
+                sampleCollectResult = mergeSampleResult(sampleCollectResult,
+                        queryAllMembers(dataId, group, tenant, ip));
+            }
+            resultCache.put(cacheKey, sampleCollectResult);
+        }
+        SampleResult result = new SampleResult();
+        result.setLisentersGroupkeyStatus(new HashMap<>(sampleCollectResult.getLisentersGroupkeyStatus()));
+        return result;
     }
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.capacity;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.capacity.Capacity;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Capacity usage counted in memory of current node.
+ *
+ * <p>Each tenant, group and the cluster has its own counter, so the quota is checked without updating the same row of
+ * capacity table for every publish and delete. The dirty counters are reconciled with the capacity tables
+ * asynchronously: the usage in table is corrected by the count of configs, and the counter is reloaded from table with
+ * the operations which are still in flight. Counters which are neither got nor in flight in a whole reconcile round are
+ * evicted, so the next use reloads the latest quota. The callers should use the counter right after getting it.
+ *
+ * <p>The other nodes' changes are seen after reconciling, so the quota may be exceeded slightly when configs are
+ * published to multiple nodes concurrently.
+ *
+ * @author agent
+ */
+public class CapacityUsageCache {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(CapacityUsageCache.class);
+    
+    private static final String TENANT_KEY_PREFIX = "tenant:";
+    
+    private static final String GROUP_KEY_PREFIX = "group:";
+    
+    private final CapacityService capacityService;
+    
+    private final Map<String, UsageCounter> counters = new ConcurrentHashMap<>(16);
+    
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    
+    public CapacityUsageCache(CapacityService capacityService) {
+        this.capacityService = capacityService;
+    }
+    
+    /**
+     * Get usage counter of cluster.
+     *
+     * @return usage counter of cluster
+     */
+    public UsageCounter getClusterCounter() {
+        return getCounter(GroupCapacityPersistService.CLUSTER, GroupCapacityPersistService.CLUSTER, null);
+    }
+    
+    /**
+     * Get usage counter of tenant if tenant is not blank, otherwise get usage counter of group.
+     *
+     * @param group  group
+     * @param tenant tenant
+     * @return usage counter
+     */
+    public UsageCounter getCounter(String group, String tenant) {
+        if (StringUtils.isNotBlank(tenant)) {
+            return getCounter(TENANT_KEY_PREFIX + tenant, null, tenant);
+        }
+        return getCounter(GROUP_KEY_PREFIX + group, group, null);
+    }
+    
+    private UsageCounter getCounter(String key, String group, String tenant) {
+        startReconcileIfAbsent();
+        while (true) {
+            UsageCounter result = counters.get(key);
+            if (null == result) {
+                // load out of the map, concurrent loading of the same key only wastes one query.
+                UsageCounter counter = new UsageCounter(group, tenant);
+                reload(counter);
+                result = counters.putIfAbsent(key, counter);
+                if (null == result) {
+                    result = counter;
+                }
+            }
+            // pairs with evictIfIdle, either the counter is kept or the evicted one is not returned.
+            result.accessed = true;
+            if (!result.evicted) {
+                return result;
+            }
+        }
+    }
+    
+    private void startReconcileIfAbsent() {
+        if (started.compareAndSet(false, true)) {
+            long interval = PropertyUtil.getCapacityUsageFlushInterval();
+            ConfigExecutor.scheduleCorrectUsageTask(this::reconcile, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Reconcile the dirty counters with capacity tables and evict the idle counters.
+     */
+    void reconcile() {
+        for (Map.Entry<String, UsageCounter> entry : counters.entrySet()) {
+            UsageCounter counter = entry.getValue();
+            if (!counter.dirty.compareAndSet(true, false)) {
+                evictIfIdle(entry.getKey(), counter);
+                continue;
+            }
+            counter.accessed = false;
+            try {
+                reload(counter);
+            } catch (Exception e) {
+                counter.dirty.set(true);
+                LOGGER.warn("[capacityManagement] reconcile usage failed, group: {}, tenant: {}", counter.group,
+                        counter.tenant, e);
+            }
+        }
+    }
+    
+    private void evictIfIdle(String key, UsageCounter counter) {
+        if (counter.accessed || counter.inflight.get() != 0) {
+            counter.accessed = false;
+            return;
+        }
+        counter.evicted = true;
+        // the counter may be got concurrently after the check above, keep it if so.
+        if (counter.accessed || counter.inflight.get() != 0 || counter.dirty.get()) {
+            counter.evicted = false;
+            return;
+        }
+        counters.remove(key, counter);
+    }
+    
+    private void reload(UsageCounter counter) {
+        if (null != counter.tenant) {
+            capacityService.correctTenantUsage(counter.tenant);
+        } else {
+            capacityService.correctGroupUsage(counter.group);
+        }
+        Capacity capacity = capacityService.getCapacityWithDefault(counter.group, counter.tenant);
+        if (null == capacity) {
+            capacityService.initCapacity(counter.group, counter.tenant);
+            capacity = capacityService.getCapacityWithDefault(counter.group, counter.tenant);
+        }
+        if (null == capacity) {
+            throw new IllegalStateException(
+                    String.format("Capacity not found, group: %s, tenant: %s", counter.group, counter.tenant));
+        }
+        counter.quota = capacity.getQuota();
+        counter.maxSize = capacity.getMaxSize();
+        int usage = null == capacity.getUsage() ? 0 : capacity.getUsage();
+        counter.usage.set(usage + counter.inflight.get());
+    }
+    
+    /**
+     * Usage counter of one tenant, group or the cluster.
+     */
+    public static class UsageCounter {
+        
+        private final String group;
+        
+        private final String tenant;
+        
+        private final AtomicInteger usage = new AtomicInteger();
+        
+        /**
+         * Count of increased usage whose config operations are not completed yet.
+         */
+        private final AtomicInteger inflight = new AtomicInteger();
+        
+        private final AtomicBoolean dirty = new AtomicBoolean(false);
+        
+        /**
+         * Whether the counter is got since last reconcile round.
+         */
+        private volatile boolean accessed;
+        
+        private volatile boolean evicted;
+        
+        private volatile int quota;
+        
+        private volatile int maxSize;
+        
+        UsageCounter(String group, String tenant) {
+            this.group = group;
+            this.tenant = tenant;
+        }
+        
+        /**
+         * Increase usage by one if the usage does not reach quota.
+         *
+         * @return {@code true} if increased, {@code false} if the usage reaches quota
+         */
+        public boolean tryIncrease() {
+            while (true) {
+                int current = usage.get();
+                if (current >= quota) {
+                    return false;
+                }
+                if (usage.compareAndSet(current, current + 1)) {
+                    inflight.incrementAndGet();
+                    dirty.set(true);
+                    return true;
+                }
+            }
+        }
+        
+        /**
+         * Increase usage by one without checking quota.
+         */
+        public void increase() {
+            usage.incrementAndGet();
+            inflight.incrementAndGet();
+            dirty.set(true);
+        }
+        
+        /**
+         * Complete the config operation of an increased usage, the usage is rolled back if the operation failed.
+         *
+         * @param success whether the config operation succeeded
+         */
+        public void complete(boolean success) {
+            if (!success) {
+                usage.decrementAndGet();
+            }
+            inflight.decrementAndGet();
+            dirty.set(true);
+        }
+        
+        /**
+         * Decrease usage by one after a config deleted.
+         */
+        public void decrease() {
+            usage.updateAndGet(current -> Math.max(current - 1, 0));
+            dirty.set(true);
+        }
+        
+        public int getUsage() {
+            return usage.get();
+        }
+        
+        public int getQuota() {
+            return quota;
+        }
+        
+        public int getMaxSize() {
+            return maxSize;
+        }
+    }
+}
@@ -78,11 +78,12 @@ public class DumpChangeConfigWorker implements Runnable {
             long startDeletedConfigTime = System.currentTimeMillis();
             LogUtil.DEFAULT_LOG.info("Check delete configs from  time {}", startTime);
             
+            Timestamp deleteCursorTime = startTime;
             long deleteCursorId = 0L;
             
             while (true) {
-                List<ConfigInfoStateWrapper> configDeleted = historyConfigInfoPersistService.findDeletedConfig(startTime,
-                        deleteCursorId, pageSize);
+                List<ConfigInfoStateWrapper> configDeleted = historyConfigInfoPersistService.findDeletedConfigByCursor(
+                        deleteCursorTime, deleteCursorId, pageSize);
                 for (ConfigInfoStateWrapper configInfo : configDeleted) {
                     if (configInfoPersistService.findConfigInfoState(configInfo.getDataId(), configInfo.getGroup(),
                             configInfo.getTenant()) == null) {
@@ -95,7 +96,9 @@ public class DumpChangeConfigWorker implements Runnable {
                 if (configDeleted.size() < pageSize) {
                     break;
                 }
-                deleteCursorId = configDeleted.get(configDeleted.size() - 1).getId();
+                ConfigInfoStateWrapper lastDeleted = configDeleted.get(configDeleted.size() - 1);
+                deleteCursorTime = new Timestamp(lastDeleted.getLastModified());
+                deleteCursorId = lastDeleted.getId();
                 
             }
             LogUtil.DEFAULT_LOG.info("Check delete configs finished,cost:{}",
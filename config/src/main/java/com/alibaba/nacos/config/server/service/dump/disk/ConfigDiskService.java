@@ -121,6 +121,21 @@ public interface ConfigDiskService {
      */
     String getTagContent(String dataId, String group, String tenant, String tag) throws IOException;
     
+    /**
+     * Start bulk loading of configuration information, such as dump all configs when startup. Configs saved before
+     * {@link #finishBulkLoad()} may be written in batch but can be read back immediately.
+     */
+    default void startBulkLoad() {
+    }
+    
+    /**
+     * Finish bulk loading, write all pending configs and make them durable.
+     *
+     * @throws IOException io exception.
+     */
+    default void finishBulkLoad() throws IOException {
+    }
+    
     /**
      * Clear all config file.
      */
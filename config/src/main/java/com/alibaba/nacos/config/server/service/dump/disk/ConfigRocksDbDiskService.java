@@ -22,9 +22,13 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.FlushOptions;
 import org.rocksdb.Options;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
 
 import java.io.File;
 import java.io.IOException;
@@ -53,8 +57,19 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private static final long DEFAULT_WRITE_BUFFER_MB = 32;
     
+    private static final int BULK_LOAD_BATCH_SIZE = 1000;
+    
     Map<String, RocksDB> rocksDbMap = new HashMap<>();
     
+    private final Object bulkLoadLock = new Object();
+    
+    /**
+     * Pending writes of config-data during bulk loading, indexed so that they can be read before written to db.
+     */
+    private volatile WriteBatchWithIndex bulkLoadBatch;
+    
+    private WriteOptions bulkLoadWriteOptions;
+    
     private void createDirIfNotExist(String dir) {
         File roskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
         if (!roskDataDir.exists()) {
@@ -119,7 +134,18 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
             throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+            byte[] key = getKeyByte(dataId, group, tenant, tag);
+            byte[] value = content.getBytes(ENCODE_UTF8);
+            if (isBulkLoading(type)) {
+                synchronized (bulkLoadLock) {
+                    if (null != bulkLoadBatch) {
+                        bulkLoadBatch.put(key, value);
+                        flushBulkLoadBatchIfFull();
+                        return;
+                    }
+                }
+            }
+            initAndGetDB(type).put(key, value);
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -212,7 +238,18 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     private String getContentInner(String type, String dataId, String group, String tenant) throws IOException {
         byte[] bytes = null;
         try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, null));
+            byte[] key = getKeyByte(dataId, group, tenant, null);
+            if (isBulkLoading(type)) {
+                synchronized (bulkLoadLock) {
+                    if (null != bulkLoadBatch) {
+                        try (ReadOptions readOptions = new ReadOptions()) {
+                            return byte2String(
+                                    bulkLoadBatch.getFromBatchAndDB(initAndGetDB(type), readOptions, key));
+                        }
+                    }
+                }
+            }
+            bytes = initAndGetDB(type).get(key);
             String string = byte2String(bytes);
             return string;
         } catch (RocksDBException e) {
@@ -233,7 +270,17 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private void removeContentInner(String type, String dataId, String group, String tenant, String tag) {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, tag));
+            byte[] key = getKeyByte(dataId, group, tenant, tag);
+            if (isBulkLoading(type)) {
+                synchronized (bulkLoadLock) {
+                    if (null != bulkLoadBatch) {
+                        bulkLoadBatch.delete(key);
+                        flushBulkLoadBatchIfFull();
+                        return;
+                    }
+                }
+            }
+            initAndGetDB(type).delete(key);
         } catch (Exception e) {
             LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
                     group, tenant, e.getCause());
@@ -258,6 +305,69 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         return getContentInner(BASE_DIR, dataId, group, tenant);
     }
     
+    /**
+     * Start bulk loading config-data, the configs are written by {@link WriteBatchWithIndex} without WAL.
+     */
+    @Override
+    public void startBulkLoad() {
+        synchronized (bulkLoadLock) {
+            if (null != bulkLoadBatch) {
+                return;
+            }
+            RocksDB.loadLibrary();
+            bulkLoadWriteOptions = new WriteOptions().setDisableWAL(true);
+            bulkLoadBatch = new WriteBatchWithIndex(true);
+            LogUtil.DEFAULT_LOG.info("start bulk load config-data.");
+        }
+    }
+    
+    /**
+     * Finish bulk loading config-data, flush the memtable written without WAL and compact into a read friendly layout.
+     *
+     * @throws IOException io exception.
+     */
+    @Override
+    public void finishBulkLoad() throws IOException {
+        synchronized (bulkLoadLock) {
+            if (null == bulkLoadBatch) {
+                return;
+            }
+            try {
+                writeBulkLoadBatch();
+                RocksDB db = initAndGetDB(BASE_DIR);
+                try (FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+                    db.flush(flushOptions);
+                }
+                db.compactRange();
+                LogUtil.DEFAULT_LOG.info("finish bulk load config-data.");
+            } catch (RocksDBException e) {
+                throw new IOException(e);
+            } finally {
+                bulkLoadBatch.close();
+                bulkLoadBatch = null;
+                bulkLoadWriteOptions.close();
+                bulkLoadWriteOptions = null;
+            }
+        }
+    }
+    
+    private boolean isBulkLoading(String type) {
+        return BASE_DIR.equals(type) && null != bulkLoadBatch;
+    }
+    
+    private void flushBulkLoadBatchIfFull() throws RocksDBException {
+        if (bulkLoadBatch.count() >= BULK_LOAD_BATCH_SIZE) {
+            writeBulkLoadBatch();
+        }
+    }
+    
+    private void writeBulkLoadBatch() throws RocksDBException {
+        if (bulkLoadBatch.count() > 0) {
+            initAndGetDB(BASE_DIR).write(bulkLoadWriteOptions, bulkLoadBatch);
+            bulkLoadBatch.clear();
+        }
+    }
+    
     Options createOptions(String dir) {
         DBOptions dbOptions = new DBOptions();
         dbOptions.setMaxBackgroundJobs(Runtime.getRuntime().availableProcessors());
@@ -315,7 +425,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void clearAll() {
         try {
             if (rocksDbMap.containsKey(BASE_DIR)) {
-                rocksDbMap.get(BASE_DIR).close();
+                rocksDbMap.remove(BASE_DIR).close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + BASE_DIR, new Options());
             }
             deleteDirIfExist(BASE_DIR);
@@ -331,7 +441,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void clearAllBeta() {
         try {
             if (rocksDbMap.containsKey(BETA_DIR)) {
-                rocksDbMap.get(BETA_DIR).close();
+                rocksDbMap.remove(BETA_DIR).close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + BETA_DIR, new Options());
             }
             deleteDirIfExist(BETA_DIR);
@@ -348,7 +458,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         
         try {
             if (rocksDbMap.containsKey(TAG_DIR)) {
-                rocksDbMap.get(TAG_DIR).close();
+                rocksDbMap.remove(TAG_DIR).close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + TAG_DIR, new Options());
             }
             deleteDirIfExist(TAG_DIR);
@@ -24,6 +24,8 @@ import com.alibaba.nacos.config.server.service.AggrWhitelist;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.SwitchService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -31,6 +33,7 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
+import java.io.IOException;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -58,9 +61,27 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             return false;
         }
         DumpAllTask dumpAllTask = (DumpAllTask) task;
-        
+        final ConfigDiskService configDiskService = ConfigDiskServiceFactory.getInstance();
+        if (dumpAllTask.isStartUp()) {
+            configDiskService.startBulkLoad();
+        }
+        try {
+            dumpAll(dumpAllTask);
+        } finally {
+            if (dumpAllTask.isStartUp()) {
+                try {
+                    configDiskService.finishBulkLoad();
+                } catch (IOException e) {
+                    DEFAULT_LOG.error("[all-dump] finish bulk load config-info error", e);
+                }
+            }
+        }
+        DEFAULT_LOG.info("success to  dump all config-info。");
+        return true;
+    }
+    
+    private void dumpAll(DumpAllTask dumpAllTask) {
         long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
         ThreadPoolExecutor executorService = null;
         if (dumpAllTask.isStartUp()) {
             executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
@@ -73,7 +94,15 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         }
         
         DEFAULT_LOG.info("start dump all config-info...");
-        
+        try {
+            dumpAllPages(dumpAllTask, currentMaxId, executorService);
+        } finally {
+            waitDumpTasksFinished(executorService);
+        }
+    }
+    
+    private void dumpAllPages(DumpAllTask dumpAllTask, long currentMaxId, ThreadPoolExecutor executorService) {
+        long lastMaxId = 0;
         while (lastMaxId < currentMaxId) {
             
             long start = System.currentTimeMillis();
@@ -145,7 +174,9 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
                     (dbTimeStamp - start), (diskStamp - dbTimeStamp));
         }
-        
+    }
+    
+    private void waitDumpTasksFinished(ThreadPoolExecutor executorService) {
         //wait all task are finished and then shutdown executor.
         try {
             int unfinishedTaskCount = 0;
@@ -158,8 +189,6 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         } catch (Exception e) {
             DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
         }
-        DEFAULT_LOG.info("success to  dump all config-info。");
-        return true;
     }
     
     final ConfigInfoPersistService configInfoPersistService;
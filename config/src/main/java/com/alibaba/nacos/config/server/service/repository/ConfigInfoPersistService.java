@@ -31,6 +31,7 @@ import com.alibaba.nacos.persistence.repository.PaginationHelper;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Database service, providing access to config_info in the database.
@@ -59,6 +60,18 @@ public interface ConfigInfoPersistService {
      */
     String generateLikeArgument(String s);
     
+    /**
+     * Execute the operations in one transaction, the operations are executed directly if the storage does not support
+     * joining them into one transaction.
+     *
+     * @param operations operations to execute
+     * @param <T>        type of result
+     * @return result of operations
+     */
+    default <T> T executeInTransaction(Supplier<T> operations) {
+        return operations.get();
+    }
+    
     //------------------------------------------insert---------------------------------------------//
     
     
@@ -409,6 +422,21 @@ public interface ConfigInfoPersistService {
     List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
             final String appName, final List<Long> ids);
     
+    /**
+     * query configuration information for export by page, the configs are ordered by id and start after lastMaxId.
+     *
+     * @param dataId    data id
+     * @param group     group
+     * @param tenant    tenant
+     * @param appName   appName
+     * @param ids       ids
+     * @param lastMaxId max id of last page
+     * @param pageSize  page size
+     * @return Collection of ConfigInfo objects
+     */
+    List<ConfigAllInfo> findAllConfigInfo4ExportFragment(final String dataId, final String group, final String tenant,
+            final String appName, final List<Long> ids, final long lastMaxId, final int pageSize);
+    
     /**
      * Query dataId list by namespace.
      *
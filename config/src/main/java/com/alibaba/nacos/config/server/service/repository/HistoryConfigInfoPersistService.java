@@ -57,7 +57,8 @@ public interface HistoryConfigInfoPersistService {
     //------------------------------------------delete---------------------------------------------//
     
     /**
-     * Delete data before startTime.
+     * Delete data before startTime. If the history table is partitioned by day, the expired partitions are dropped as
+     * a whole, and the partitions of coming days are created ahead.
      *
      * @param startTime start time
      * @param limitSize limit size
@@ -73,9 +74,22 @@ public interface HistoryConfigInfoPersistService {
      * @param startId   last max id
      * @param size      page size
      * @return {@link ConfigInfoStateWrapper} list
+     * @deprecated use {@link #findDeletedConfigByCursor(Timestamp, long, int)} instead.
      */
+    @Deprecated
     List<ConfigInfoStateWrapper> findDeletedConfig(final Timestamp startTime, final long startId, int size);
     
+    /**
+     * Query deleted config after the cursor, ordered by modified time and nid. The next page is queried with the
+     * modified time and id of the last one in current page.
+     *
+     * @param cursorTime modified time of cursor, the start time for the first page
+     * @param cursorId   nid of cursor, 0 for the first page
+     * @param size       page size
+     * @return {@link ConfigInfoStateWrapper} list, the id is the nid of history
+     */
+    List<ConfigInfoStateWrapper> findDeletedConfigByCursor(final Timestamp cursorTime, final long cursorId, int size);
+    
     /**
      * List configuration history change record.
      *
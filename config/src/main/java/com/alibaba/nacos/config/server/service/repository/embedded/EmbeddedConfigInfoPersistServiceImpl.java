@@ -201,15 +201,19 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     
     private ConfigOperateResult addConfigInfo(final String srcIp, final String srcUser, final ConfigInfo configInfo,
             final Map<String, Object> configAdvanceInfo, BiConsumer<Boolean, Throwable> consumer) {
+        return addConfigInfo(srcIp, srcUser, configInfo, configAdvanceInfo, consumer,
+                idGeneratorManager.nextId(RESOURCE_CONFIG_INFO_ID), idGeneratorManager.nextId(RESOURCE_CONFIG_HISTORY_ID));
+    }
+    
+    private ConfigOperateResult addConfigInfo(final String srcIp, final String srcUser, final ConfigInfo configInfo,
+            final Map<String, Object> configAdvanceInfo, BiConsumer<Boolean, Throwable> consumer, long configId,
+            long hisId) {
         
         try {
             final String tenantTmp =
                     StringUtils.isBlank(configInfo.getTenant()) ? StringUtils.EMPTY : configInfo.getTenant();
             configInfo.setTenant(tenantTmp);
             
-            long configId = idGeneratorManager.nextId(RESOURCE_CONFIG_INFO_ID);
-            long hisId = idGeneratorManager.nextId(RESOURCE_CONFIG_HISTORY_ID);
-            
             addConfigInfoAtomic(configId, srcIp, srcUser, configInfo, configAdvanceInfo);
             String configTags = configAdvanceInfo == null ? null : (String) configAdvanceInfo.get("config_tags");
             
@@ -310,6 +314,9 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
                 throw new NacosRuntimeException(0, t);
             }
         };
+        // allocate ids of the whole import at once instead of competing for them row by row.
+        long[] configIds = idGeneratorManager.nextIds(RESOURCE_CONFIG_INFO_ID, configInfoList.size());
+        long[] hisIds = idGeneratorManager.nextIds(RESOURCE_CONFIG_HISTORY_ID, configInfoList.size());
         
         for (int i = 0; i < configInfoList.size(); i++) {
             ConfigAllInfo configInfo = configInfoList.get(i);
@@ -346,7 +353,8 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
                 if (foundCfg != null) {
                     throw new Throwable("DuplicateKeyException: config already exists, should be overridden");
                 }
-                addConfigInfo(srcIp, srcUser, configInfo2Save, configAdvanceInfo, callFinally);
+                addConfigInfo(srcIp, srcUser, configInfo2Save, configAdvanceInfo, callFinally, configIds[i],
+                        hisIds[i]);
                 succCount++;
             } catch (Throwable e) {
                 if (!StringUtils.contains(e.toString(), "DuplicateKeyException")) {
@@ -959,30 +967,48 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     @Override
     public List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
             final String appName, final List<Long> ids) {
-        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
         ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
                 TableConstant.CONFIG_INFO);
         MapperContext context = new MapperContext();
-        if (!CollectionUtils.isEmpty(ids)) {
-            context.putWhereParameter(FieldConstant.IDS, ids);
-        } else {
-            context.putWhereParameter(FieldConstant.TENANT_ID, tenantTmp);
-            if (!StringUtils.isBlank(dataId)) {
-                context.putWhereParameter(FieldConstant.DATA_ID, generateLikeArgument(dataId));
-            }
-            if (StringUtils.isNotBlank(group)) {
-                context.putWhereParameter(FieldConstant.GROUP_ID, group);
-            }
-            if (StringUtils.isNotBlank(appName)) {
-                context.putWhereParameter(FieldConstant.APP_NAME, appName);
-            }
-        }
+        buildExportContext(context, dataId, group, tenant, appName, ids);
         
         MapperResult mapperResult = configInfoMapper.findAllConfigInfo4Export(context);
         return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
                 CONFIG_ALL_INFO_ROW_MAPPER);
     }
     
+    @Override
+    public List<ConfigAllInfo> findAllConfigInfo4ExportFragment(final String dataId, final String group,
+            final String tenant, final String appName, final List<Long> ids, final long lastMaxId,
+            final int pageSize) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = new MapperContext(0, pageSize);
+        buildExportContext(context, dataId, group, tenant, appName, ids);
+        context.putWhereParameter(FieldConstant.ID, lastMaxId);
+        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4ExportFragment(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_ALL_INFO_ROW_MAPPER);
+    }
+    
+    private void buildExportContext(MapperContext context, String dataId, String group, String tenant, String appName,
+            List<Long> ids) {
+        if (!CollectionUtils.isEmpty(ids)) {
+            context.putWhereParameter(FieldConstant.IDS, ids);
+            return;
+        }
+        context.putWhereParameter(FieldConstant.TENANT_ID, StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant);
+        if (!StringUtils.isBlank(dataId)) {
+            context.putWhereParameter(FieldConstant.DATA_ID, generateLikeArgument(dataId));
+        }
+        if (StringUtils.isNotBlank(group)) {
+            context.putWhereParameter(FieldConstant.GROUP_ID, group);
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            context.putWhereParameter(FieldConstant.APP_NAME, appName);
+        }
+    }
+    
     @Override
     public List<ConfigInfoWrapper> queryConfigInfoByNamespace(String tenantId) {
         if (Objects.isNull(tenantId)) {
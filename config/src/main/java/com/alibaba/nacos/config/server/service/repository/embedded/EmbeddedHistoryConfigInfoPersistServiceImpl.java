@@ -134,6 +134,21 @@ public class EmbeddedHistoryConfigInfoPersistServiceImpl implements HistoryConfi
                 CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER);
     }
     
+    @Override
+    public List<ConfigInfoStateWrapper> findDeletedConfigByCursor(final Timestamp cursorTime, final long cursorId,
+            final int pageSize) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.START_TIME, cursorTime);
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, cursorId);
+        context.putWhereParameter(FieldConstant.PAGE_SIZE, pageSize);
+        
+        MapperResult mapperResult = historyConfigInfoMapper.findDeletedConfigByCursor(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER);
+    }
+    
     @Override
     public Page<ConfigHistoryInfo> findConfigHistory(String dataId, String group, String tenant, int pageNo,
             int pageSize) {
@@ -77,6 +77,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_ADVANCE_INFO_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_ALL_INFO_ROW_MAPPER;
@@ -162,6 +163,11 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         });
     }
     
+    @Override
+    public <T> T executeInTransaction(Supplier<T> operations) {
+        return tjt.execute(status -> operations.get());
+    }
+    
     /**
      * insert or update config.
      *
@@ -1044,24 +1050,10 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     @Override
     public List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
             final String appName, final List<Long> ids) {
-        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
         ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
                 TableConstant.CONFIG_INFO);
         MapperContext context = new MapperContext();
-        if (!CollectionUtils.isEmpty(ids)) {
-            context.putWhereParameter(FieldConstant.IDS, ids);
-        } else {
-            context.putWhereParameter(FieldConstant.TENANT_ID, tenantTmp);
-            if (!StringUtils.isBlank(dataId)) {
-                context.putWhereParameter(FieldConstant.DATA_ID, generateLikeArgument(dataId));
-            }
-            if (StringUtils.isNotBlank(group)) {
-                context.putWhereParameter(FieldConstant.GROUP_ID, group);
-            }
-            if (StringUtils.isNotBlank(appName)) {
-                context.putWhereParameter(FieldConstant.APP_NAME, appName);
-            }
-        }
+        buildExportContext(context, dataId, group, tenant, appName, ids);
         MapperResult mapperResult = configInfoMapper.findAllConfigInfo4Export(context);
         try {
             return this.jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
@@ -1072,6 +1064,43 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         }
     }
     
+    @Override
+    public List<ConfigAllInfo> findAllConfigInfo4ExportFragment(final String dataId, final String group,
+            final String tenant, final String appName, final List<Long> ids, final long lastMaxId,
+            final int pageSize) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = new MapperContext(0, pageSize);
+        buildExportContext(context, dataId, group, tenant, appName, ids);
+        context.putWhereParameter(FieldConstant.ID, lastMaxId);
+        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4ExportFragment(context);
+        try {
+            return this.jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                    CONFIG_ALL_INFO_ROW_MAPPER);
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
+    private void buildExportContext(MapperContext context, String dataId, String group, String tenant, String appName,
+            List<Long> ids) {
+        if (!CollectionUtils.isEmpty(ids)) {
+            context.putWhereParameter(FieldConstant.IDS, ids);
+            return;
+        }
+        context.putWhereParameter(FieldConstant.TENANT_ID, StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant);
+        if (!StringUtils.isBlank(dataId)) {
+            context.putWhereParameter(FieldConstant.DATA_ID, generateLikeArgument(dataId));
+        }
+        if (StringUtils.isNotBlank(group)) {
+            context.putWhereParameter(FieldConstant.GROUP_ID, group);
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            context.putWhereParameter(FieldConstant.APP_NAME, appName);
+        }
+    }
+    
     @Override
     public List<ConfigInfoWrapper> queryConfigInfoByNamespace(String tenant) {
         if (Objects.isNull(tenant)) {
@@ -46,6 +46,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -64,6 +67,19 @@ import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapper
 @Service("externalHistoryConfigInfoPersistServiceImpl")
 public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfigInfoPersistService {
     
+    private static final String PARTITION_NAME_PREFIX = "p";
+    
+    private static final DateTimeFormatter PARTITION_DAY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    
+    private static final DateTimeFormatter PARTITION_BOUND_FORMATTER = DateTimeFormatter.ofPattern(
+            "yyyy-MM-dd HH:mm:ss");
+    
+    /**
+     * Count of coming days whose partitions are created ahead, so the partitions still exist if rolling fails for a
+     * while.
+     */
+    private static final int PRE_CREATED_PARTITION_DAYS = 2;
+    
     private DataSourceService dataSourceService;
     
     protected JdbcTemplate jt;
@@ -112,6 +128,7 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
     public void removeConfigHistory(final Timestamp startTime, final int limitSize) {
         HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
                 dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        rollConfigHistoryPartitions(historyConfigInfoMapper, startTime);
         MapperContext context = new MapperContext();
         context.putWhereParameter(FieldConstant.START_TIME, startTime);
         context.putWhereParameter(FieldConstant.LIMIT_SIZE, limitSize);
@@ -120,6 +137,68 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         paginationHelper.updateLimit(mapperResult.getSql(), mapperResult.getParamList().toArray());
     }
     
+    /**
+     * Drop the day partitions which are all before startTime, and create the partitions of coming days. Nothing is
+     * done if the database does not support partitions or the history table is not partitioned.
+     *
+     * <p>New day partitions are split from the max value partition, which copies the rows in it. The conversion script
+     * creates the first day partitions so the max value partition stays empty. If the table is partitioned with the max
+     * value partition only, the first roll moves the whole history into the partition of today and rebuilds the table.
+     */
+    private void rollConfigHistoryPartitions(HistoryConfigInfoMapper historyConfigInfoMapper, Timestamp startTime) {
+        MapperResult mapperResult = historyConfigInfoMapper.findConfigHistoryPartitions(new MapperContext());
+        if (null == mapperResult) {
+            return;
+        }
+        try {
+            List<String> partitions = jt.queryForList(mapperResult.getSql(), String.class,
+                    mapperResult.getParamList().toArray());
+            if (partitions.isEmpty()) {
+                return;
+            }
+            LocalDate lastDay = null;
+            for (String each : partitions) {
+                LocalDate day = parsePartitionDay(each);
+                if (null == day) {
+                    continue;
+                }
+                lastDay = day;
+                if (!day.plusDays(1).atStartOfDay().isAfter(startTime.toLocalDateTime())) {
+                    MapperContext context = new MapperContext();
+                    context.putWhereParameter(FieldConstant.PARTITION_NAME, each);
+                    jt.execute(historyConfigInfoMapper.dropConfigHistoryPartition(context).getSql());
+                    LogUtil.DEFAULT_LOG.info("[config-history] drop expired partition {}", each);
+                }
+            }
+            LocalDate today = LocalDate.now();
+            LocalDate day = null == lastDay || lastDay.isBefore(today) ? today : lastDay.plusDays(1);
+            LocalDate lastCreatedDay = today.plusDays(PRE_CREATED_PARTITION_DAYS);
+            while (!day.isAfter(lastCreatedDay)) {
+                MapperContext context = new MapperContext();
+                context.putWhereParameter(FieldConstant.PARTITION_NAME,
+                        PARTITION_NAME_PREFIX + PARTITION_DAY_FORMATTER.format(day));
+                context.putWhereParameter(FieldConstant.PARTITION_BOUND,
+                        PARTITION_BOUND_FORMATTER.format(day.plusDays(1).atStartOfDay()));
+                jt.execute(historyConfigInfoMapper.addConfigHistoryPartition(context).getSql());
+                LogUtil.DEFAULT_LOG.info("[config-history] add partition of {}", day);
+                day = day.plusDays(1);
+            }
+        } catch (DataAccessException e) {
+            LogUtil.DEFAULT_LOG.warn("[config-history] roll partitions failed, expired history is removed by rows", e);
+        }
+    }
+    
+    private LocalDate parsePartitionDay(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_NAME_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partitionName.substring(PARTITION_NAME_PREFIX.length()), PARTITION_DAY_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+    
     @Override
     public List<ConfigInfoStateWrapper> findDeletedConfig(final Timestamp startTime, long startId, int pageSize) {
         try {
@@ -139,6 +218,26 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         }
     }
     
+    @Override
+    public List<ConfigInfoStateWrapper> findDeletedConfigByCursor(final Timestamp cursorTime, final long cursorId,
+            final int pageSize) {
+        try {
+            HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                    dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+            MapperContext context = new MapperContext();
+            context.putWhereParameter(FieldConstant.START_TIME, cursorTime);
+            context.putWhereParameter(FieldConstant.LAST_MAX_ID, cursorId);
+            context.putWhereParameter(FieldConstant.PAGE_SIZE, pageSize);
+            
+            MapperResult mapperResult = historyConfigInfoMapper.findDeletedConfigByCursor(context);
+            return jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                    CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER);
+        } catch (DataAccessException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
     @Override
     public Page<ConfigHistoryInfo> findConfigHistory(String dataId, String group, String tenant, int pageNo,
             int pageSize) {
@@ -59,6 +59,17 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static boolean isCapacityLimitCheck = false;
     
+    /**
+     * Whether to count the usage of capacity in memory and check the quota locally, the usage is reconciled with the
+     * capacity tables asynchronously.
+     */
+    private static boolean isCapacityLocalUsage = false;
+    
+    /**
+     * The interval to reconcile the usage counted in memory with the capacity tables, the unit is in milliseconds.
+     */
+    private static long capacityUsageFlushInterval = 1000L;
+    
     /**
      * The default cluster capacity limit.
      */
@@ -106,6 +117,26 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * Whether to group the concurrent config publishes into batched transactions, only works with external storage.
+     */
+    private static boolean publishPipelineEnabled = false;
+    
+    /**
+     * The time to wait for more publishes joining a batch, the unit is in milliseconds.
+     */
+    private static long publishPipelineWindow = 1L;
+    
+    /**
+     * The max count of config publishes in one batch.
+     */
+    private static int publishPipelineMaxBatchSize = 32;
+    
+    /**
+     * The max time to wait for a publish committed by the pipeline, the unit is in milliseconds.
+     */
+    private static long publishPipelineTimeout = 10000L;
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -122,6 +153,38 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.dumpChangeWorkerInterval = dumpChangeWorkerInterval;
     }
     
+    public static boolean isPublishPipelineEnabled() {
+        return publishPipelineEnabled;
+    }
+    
+    public static void setPublishPipelineEnabled(boolean publishPipelineEnabled) {
+        PropertyUtil.publishPipelineEnabled = publishPipelineEnabled;
+    }
+    
+    public static long getPublishPipelineWindow() {
+        return publishPipelineWindow;
+    }
+    
+    public static void setPublishPipelineWindow(long publishPipelineWindow) {
+        PropertyUtil.publishPipelineWindow = publishPipelineWindow;
+    }
+    
+    public static int getPublishPipelineMaxBatchSize() {
+        return publishPipelineMaxBatchSize;
+    }
+    
+    public static void setPublishPipelineMaxBatchSize(int publishPipelineMaxBatchSize) {
+        PropertyUtil.publishPipelineMaxBatchSize = publishPipelineMaxBatchSize;
+    }
+    
+    public static long getPublishPipelineTimeout() {
+        return publishPipelineTimeout;
+    }
+    
+    public static void setPublishPipelineTimeout(long publishPipelineTimeout) {
+        PropertyUtil.publishPipelineTimeout = publishPipelineTimeout;
+    }
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -170,6 +233,22 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.isManageCapacity = isManageCapacity;
     }
     
+    public static boolean isCapacityLocalUsage() {
+        return isCapacityLocalUsage;
+    }
+    
+    public static void setCapacityLocalUsage(boolean isCapacityLocalUsage) {
+        PropertyUtil.isCapacityLocalUsage = isCapacityLocalUsage;
+    }
+    
+    public static long getCapacityUsageFlushInterval() {
+        return capacityUsageFlushInterval;
+    }
+    
+    public static void setCapacityUsageFlushInterval(long capacityUsageFlushInterval) {
+        PropertyUtil.capacityUsageFlushInterval = capacityUsageFlushInterval;
+    }
+    
     public static int getDefaultClusterQuota() {
         return defaultClusterQuota;
     }
@@ -267,6 +346,9 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             // capacity management
             setManageCapacity(getBoolean(PropertiesConstant.IS_MANAGE_CAPACITY, isManageCapacity));
             setCapacityLimitCheck(getBoolean(PropertiesConstant.IS_CAPACITY_LIMIT_CHECK, isCapacityLimitCheck));
+            setCapacityLocalUsage(getBoolean(PropertiesConstant.IS_CAPACITY_LOCAL_USAGE, isCapacityLocalUsage));
+            setCapacityUsageFlushInterval(
+                    getLong(PropertiesConstant.CAPACITY_USAGE_FLUSH_INTERVAL, capacityUsageFlushInterval));
             setDefaultClusterQuota(getInt(PropertiesConstant.DEFAULT_CLUSTER_QUOTA, defaultClusterQuota));
             setDefaultGroupQuota(getInt(PropertiesConstant.DEFAULT_GROUP_QUOTA, defaultGroupQuota));
             setDefaultTenantQuota(getInt(PropertiesConstant.DEFAULT_TENANT_QUOTA, defaultTenantQuota));
@@ -278,6 +360,11 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeOn(getBoolean(PropertiesConstant.DUMP_CHANGE_ON, dumpChangeOn));
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
+            setPublishPipelineEnabled(getBoolean(PropertiesConstant.PUBLISH_PIPELINE_ENABLED, publishPipelineEnabled));
+            setPublishPipelineWindow(getLong(PropertiesConstant.PUBLISH_PIPELINE_WINDOW, publishPipelineWindow));
+            setPublishPipelineMaxBatchSize(
+                    getInt(PropertiesConstant.PUBLISH_PIPELINE_MAX_BATCH_SIZE, publishPipelineMaxBatchSize));
+            setPublishPipelineTimeout(getLong(PropertiesConstant.PUBLISH_PIPELINE_TIMEOUT, publishPipelineTimeout));
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
             throw e;
@@ -22,7 +22,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -104,8 +106,7 @@ public class ZipUtils {
         try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream(); ZipOutputStream zipOut = new ZipOutputStream(
                 byteOut)) {
             for (ZipItem item : source) {
-                zipOut.putNextEntry(new ZipEntry(item.getItemName()));
-                zipOut.write(item.getItemData().getBytes(StandardCharsets.UTF_8));
+                zip(zipOut, item.getItemName(), item.getItemData());
             }
             zipOut.flush();
             zipOut.finish();
@@ -116,37 +117,34 @@ public class ZipUtils {
         return result;
     }
     
+    /**
+     * Write one item into the zip output stream, so that the items can be zipped one by one.
+     *
+     * @param zipOut   zip output stream
+     * @param itemName item name
+     * @param itemData item data
+     * @throws IOException if writing failed
+     */
+    public static void zip(ZipOutputStream zipOut, String itemName, String itemData) throws IOException {
+        zipOut.putNextEntry(new ZipEntry(itemName));
+        zipOut.write(itemData.getBytes(StandardCharsets.UTF_8));
+        zipOut.closeEntry();
+    }
+    
     /**
      * unzip method.
      */
     public static UnZipResult unzip(byte[] source) {
         List<ZipItem> itemList = new ArrayList<>();
         ZipItem metaDataItem = null;
-        try (ZipInputStream zipIn = new ZipInputStream(new ByteArrayInputStream(source))) {
-            ZipEntry entry;
-            while ((entry = zipIn.getNextEntry()) != null) {
-                if (entry.isDirectory()) {
+        try (ZipItemReader reader = new ZipItemReader(new ByteArrayInputStream(source))) {
+            String entryName;
+            while ((entryName = reader.nextEntry()) != null) {
+                if (metaDataItem == null && isMetaDataItem(entryName)) {
+                    metaDataItem = new ZipItem(entryName, reader.readData());
                     continue;
                 }
-                try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                    byte[] buffer = new byte[1024];
-                    int offset;
-                    while ((offset = zipIn.read(buffer)) != -1) {
-                        out.write(buffer, 0, offset);
-                    }
-                    String entryName = entry.getName();
-                    if (metaDataItem == null && Constants.CONFIG_EXPORT_METADATA.equals(entryName)) {
-                        metaDataItem = new ZipItem(entryName, out.toString("UTF-8"));
-                        continue;
-                    }
-                    if (metaDataItem == null && Constants.CONFIG_EXPORT_METADATA_NEW.equals(entryName)) {
-                        metaDataItem = new ZipItem(entryName, out.toString("UTF-8"));
-                        continue;
-                    }
-                    itemList.add(new ZipItem(entryName, out.toString("UTF-8")));
-                } catch (IOException e) {
-                    LOGGER.error("unzip error", e);
-                }
+                itemList.add(new ZipItem(entryName, reader.readData()));
             }
         } catch (IOException e) {
             LOGGER.error("unzip error", e);
@@ -154,4 +152,97 @@ public class ZipUtils {
         return new UnZipResult(itemList, metaDataItem);
     }
     
+    /**
+     * Read through the whole zip stream and find the first metadata item. The data of every item is read so that a
+     * truncated or corrupted stream fails here, the data of items other than metadata is not kept in memory. The
+     * source stream is closed after reading.
+     *
+     * @param source    zip input stream
+     * @param itemNames names of all items in stream order, including the metadata item
+     * @return the first metadata item, or {@code null} if absent
+     * @throws IOException if reading failed or the stream is corrupted
+     */
+    public static ZipItem findMetaDataItem(InputStream source, List<String> itemNames) throws IOException {
+        ZipItem metaDataItem = null;
+        try (ZipItemReader reader = new ZipItemReader(source)) {
+            String entryName;
+            while ((entryName = reader.nextEntry()) != null) {
+                itemNames.add(entryName);
+                if (metaDataItem == null && isMetaDataItem(entryName)) {
+                    metaDataItem = new ZipItem(entryName, reader.readData());
+                } else {
+                    reader.skipData();
+                }
+            }
+        }
+        return metaDataItem;
+    }
+    
+    public static boolean isMetaDataItem(String itemName) {
+        return Constants.CONFIG_EXPORT_METADATA.equals(itemName) || Constants.CONFIG_EXPORT_METADATA_NEW.equals(
+                itemName);
+    }
+    
+    /**
+     * Reader of zip stream which reads the items one by one, directories are skipped.
+     */
+    public static class ZipItemReader implements Closeable {
+        
+        private final ZipInputStream zipIn;
+        
+        public ZipItemReader(InputStream source) {
+            this.zipIn = new ZipInputStream(source);
+        }
+        
+        /**
+         * Move to the next item, the data of current item is skipped if not read.
+         *
+         * @return name of next item, or {@code null} if no more items
+         * @throws IOException if reading failed
+         */
+        public String nextEntry() throws IOException {
+            ZipEntry entry;
+            while ((entry = zipIn.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    return entry.getName();
+                }
+            }
+            return null;
+        }
+        
+        /**
+         * Read the data of current item.
+         *
+         * @return data of current item
+         * @throws IOException if reading failed
+         */
+        public String readData() throws IOException {
+            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                byte[] buffer = new byte[1024];
+                int offset;
+                while ((offset = zipIn.read(buffer)) != -1) {
+                    out.write(buffer, 0, offset);
+                }
+                return out.toString("UTF-8");
+            }
+        }
+        
+        /**
+         * Read and drop the data of current item, which checks the data is complete without keeping it in memory.
+         *
+         * @throws IOException if reading failed or the data is corrupted
+         */
+        public void skipData() throws IOException {
+            byte[] buffer = new byte[1024];
+            while (zipIn.read(buffer) != -1) {
+                // drop the data
+            }
+        }
+        
+        @Override
+        public void close() throws IOException {
+            zipIn.close();
+        }
+    }
+
 }
@@ -61,6 +61,7 @@ CREATE TABLE his_config_info (
 CREATE INDEX hisconfiginfo_dataid_key_idx ON his_config_info(data_id);
 CREATE INDEX hisconfiginfo_gmt_create_idx ON his_config_info(gmt_create);
 CREATE INDEX hisconfiginfo_gmt_modified_idx ON his_config_info(gmt_modified);
+CREATE INDEX hisconfiginfo_optype_modified_idx ON his_config_info(op_type, gmt_modified, nid);
 
 
 CREATE TABLE config_info_beta (
@@ -21,6 +21,7 @@ import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.capacity.GroupCapacity;
 import com.alibaba.nacos.config.server.model.capacity.TenantCapacity;
 import com.alibaba.nacos.config.server.service.capacity.CapacityService;
+import com.alibaba.nacos.config.server.service.capacity.CapacityUsageCache;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.plugin.datasource.constants.CommonConstant;
@@ -39,10 +40,12 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static com.alibaba.nacos.config.server.aspect.CapacityManagementAspect.LimitType.OVER_CLUSTER_QUOTA;
 import static com.alibaba.nacos.config.server.aspect.CapacityManagementAspect.LimitType.OVER_MAX_SIZE;
+import static com.alibaba.nacos.config.server.aspect.CapacityManagementAspect.LimitType.OVER_TENANT_QUOTA;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -458,4 +461,35 @@ class CapacityManagementAspectTest {
         Mockito.verify(capacityService, Mockito.times(1)).updateGroupUsage(eq(CounterMode.INCREMENT), eq(mockGroup));
         Mockito.verify(localMockProceedingJoinPoint, Mockito.times(1)).proceed();
     }
+    
+    @Test
+    void testAroundSyncUpdateConfigAllForInsertWithLocalUsage() throws Throwable {
+        when(PropertyUtil.isManageCapacity()).thenReturn(true);
+        when(PropertyUtil.isCapacityLimitCheck()).thenReturn(true);
+        when(PropertyUtil.isCapacityLocalUsage()).thenReturn(true);
+        when(PropertyUtil.getCapacityUsageFlushInterval()).thenReturn(1000L);
+        when(configInfoPersistService.findConfigInfo(any(), any(), any())).thenReturn(null);
+        GroupCapacity clusterCapacity = new GroupCapacity();
+        clusterCapacity.setQuota(10);
+        clusterCapacity.setMaxSize(10 * 1024);
+        when(capacityService.getCapacityWithDefault("", null)).thenReturn(clusterCapacity);
+        TenantCapacity tenantCapacity = new TenantCapacity();
+        tenantCapacity.setQuota(1);
+        tenantCapacity.setMaxSize(10 * 1024);
+        when(capacityService.getCapacityWithDefault(null, mockTenant)).thenReturn(tenantCapacity);
+        capacityManagementAspect = new CapacityManagementAspect(configInfoPersistService, capacityService,
+                new CapacityUsageCache(capacityService));
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
+        MockHttpServletResponse mockHttpServletResponse = new MockHttpServletResponse();
+        
+        String localMockResult = (String) capacityManagementAspect.aroundSyncUpdateConfigAll(proceedingJoinPoint, mockHttpServletRequest,
+                mockHttpServletResponse, mockDataId, mockGroup, mockContent, null, null, mockTenant, null);
+        assertEquals(localMockResult, mockProceedingJoinPointResult);
+        localMockResult = (String) capacityManagementAspect.aroundSyncUpdateConfigAll(proceedingJoinPoint, mockHttpServletRequest,
+                mockHttpServletResponse, mockDataId, mockGroup, mockContent, null, null, mockTenant, null);
+        assertEquals(localMockResult, String.valueOf(OVER_TENANT_QUOTA.status));
+        Mockito.verify(proceedingJoinPoint, Mockito.times(1)).proceed();
+        Mockito.verify(capacityService, Mockito.times(0)).insertAndUpdateClusterUsage(any(), anyBoolean());
+        Mockito.verify(capacityService, Mockito.times(0)).insertAndUpdateTenantUsage(any(), anyString(), anyBoolean());
+    }
 }
@@ -20,6 +20,7 @@ import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.SampleResult;
 import com.alibaba.nacos.config.server.remote.ConfigChangeListenContext;
+import com.alibaba.nacos.config.server.remote.ConfigWatchersClusterRequestHandler;
 import com.alibaba.nacos.config.server.service.LongPollingService;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -31,14 +32,12 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.mock.web.MockServletContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -60,7 +59,6 @@ import static org.mockito.Mockito.when;
 @WebAppConfiguration
 class CommunicationControllerTest {
     
-    @InjectMocks
     CommunicationController communicationController;
     
     @Mock
@@ -84,9 +82,8 @@ class CommunicationControllerTest {
     void setUp() {
         EnvUtil.setEnvironment(new StandardEnvironment());
         when(servletContext.getContextPath()).thenReturn("/nacos");
-        ReflectionTestUtils.setField(communicationController, "longPollingService", longPollingService);
-        ReflectionTestUtils.setField(communicationController, "configChangeListenContext", configChangeListenContext);
-        ReflectionTestUtils.setField(communicationController, "connectionManager", connectionManager);
+        communicationController = new CommunicationController(
+                new ConfigWatchersClusterRequestHandler(longPollingService, configChangeListenContext, connectionManager));
         mockMvc = MockMvcBuilders.standaloneSetup(communicationController).build();
     }
     
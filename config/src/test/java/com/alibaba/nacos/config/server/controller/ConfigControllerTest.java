@@ -31,6 +31,7 @@ import com.alibaba.nacos.config.server.model.ConfigMetadata;
 import com.alibaba.nacos.config.server.model.GroupkeyListenserStatus;
 import com.alibaba.nacos.config.server.model.SampleResult;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
+import com.alibaba.nacos.config.server.result.code.ResultCodeEnum;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
 import com.alibaba.nacos.config.server.service.ConfigSubService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistService;
@@ -46,9 +47,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.mock.web.MockServletContext;
 import org.springframework.test.context.ContextConfiguration;
@@ -61,19 +62,29 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import javax.servlet.ServletContext;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -381,14 +392,21 @@ class ConfigControllerTest {
         List<ConfigAllInfo> dataList = new ArrayList<>();
         dataList.add(configAllInfo);
         
-        Mockito.when(configInfoPersistService.findAllConfigInfo4Export(eq(dataId), eq(group), eq(tenant), eq(appname),
-                eq(Arrays.asList(1L, 2L)))).thenReturn(dataList);
+        Mockito.when(configInfoPersistService.findAllConfigInfo4ExportFragment(eq(dataId), eq(group), eq(tenant),
+                eq(appname), eq(Arrays.asList(1L, 2L)), eq(0L), anyInt())).thenReturn(dataList);
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.CONFIG_CONTROLLER_PATH).param("export", "true")
                 .param("dataId", dataId).param("group", group).param("tenant", tenant).param("appName", appname).param("ids", "1,2");
         
-        int actualValue = mockmvc.perform(builder).andReturn().getResponse().getStatus();
+        MockHttpServletResponse response = mockmvc.perform(builder).andReturn().getResponse();
         
-        assertEquals(200, actualValue);
+        assertEquals(200, response.getStatus());
+        assertTrue(response.getHeader("Content-Disposition").startsWith("attachment;filename=nacos_config_export_"));
+        ZipUtils.UnZipResult unziped = ZipUtils.unzip(response.getContentAsByteArray());
+        assertEquals(1, unziped.getZipItemList().size());
+        assertEquals(group + "/" + dataId, unziped.getZipItemList().get(0).getItemName());
+        assertEquals("contet45678", unziped.getZipItemList().get(0).getItemData());
+        assertEquals(Constants.CONFIG_EXPORT_METADATA, unziped.getMetaDataItem().getItemName());
+        assertEquals("group2.dataId1~json.app=appname2\r\n", unziped.getMetaDataItem().getItemData());
     }
     
     @Test
@@ -405,30 +423,76 @@ class ConfigControllerTest {
         configAllInfo.setContent("content1234");
         List<ConfigAllInfo> dataList = new ArrayList<>();
         dataList.add(configAllInfo);
-        Mockito.when(configInfoPersistService.findAllConfigInfo4Export(eq(dataId), eq(group), eq(tenant), eq(appname),
-                eq(Arrays.asList(1L, 2L)))).thenReturn(dataList);
+        Mockito.when(configInfoPersistService.findAllConfigInfo4ExportFragment(eq(dataId), eq(group), eq(tenant),
+                eq(appname), eq(Arrays.asList(1L, 2L)), eq(0L), anyInt())).thenReturn(dataList);
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.CONFIG_CONTROLLER_PATH).param("exportV2", "true")
                 .param("dataId", dataId).param("group", group).param("tenant", tenant).param("appName", appname).param("ids", "1,2");
         
-        int actualValue = mockmvc.perform(builder).andReturn().getResponse().getStatus();
+        MockHttpServletResponse response = mockmvc.perform(builder).andReturn().getResponse();
         
-        assertEquals(200, actualValue);
+        assertEquals(200, response.getStatus());
+        ZipUtils.UnZipResult unziped = ZipUtils.unzip(response.getContentAsByteArray());
+        assertEquals(1, unziped.getZipItemList().size());
+        assertEquals("content1234", unziped.getZipItemList().get(0).getItemData());
+        ConfigMetadata configMetadata = YamlParserUtil.loadObject(unziped.getMetaDataItem().getItemData(),
+                ConfigMetadata.class);
+        assertEquals(1, configMetadata.getMetadata().size());
+        assertEquals(appname, configMetadata.getMetadata().get(0).getAppName());
+    }
+    
+    @Test
+    void testExportConfigByPage() throws Exception {
+        List<ConfigAllInfo> firstPage = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            firstPage.add(mockExportConfig(i));
+        }
+        List<ConfigAllInfo> secondPage = new ArrayList<>();
+        secondPage.add(mockExportConfig(101));
+        when(configInfoPersistService.findAllConfigInfo4ExportFragment(any(), any(), anyString(), any(), anyList(),
+                eq(0L), eq(100))).thenReturn(firstPage);
+        when(configInfoPersistService.findAllConfigInfo4ExportFragment(any(), any(), anyString(), any(), anyList(),
+                eq(100L), eq(100))).thenReturn(secondPage);
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.CONFIG_CONTROLLER_PATH)
+                .param("exportV2", "true").param("tenant", "tenant").param("ids", "");
+        
+        MockHttpServletResponse response = mockmvc.perform(builder).andReturn().getResponse();
+        
+        assertEquals(200, response.getStatus());
+        ZipUtils.UnZipResult unziped = ZipUtils.unzip(response.getContentAsByteArray());
+        assertEquals(101, unziped.getZipItemList().size());
+        assertEquals("group/dataId101", unziped.getZipItemList().get(100).getItemName());
+        verify(configInfoPersistService, times(2)).findAllConfigInfo4ExportFragment(any(), any(), anyString(),
+                any(), anyList(), anyLong(), eq(100));
+    }
+    
+    private ConfigAllInfo mockExportConfig(long id) {
+        ConfigAllInfo configAllInfo = new ConfigAllInfo();
+        configAllInfo.setId(id);
+        configAllInfo.setDataId("dataId" + id);
+        configAllInfo.setGroup("group");
+        configAllInfo.setContent("content" + id);
+        configAllInfo.setType("text");
+        return configAllInfo;
     }
     
     @Test
     void testImportAndPublishConfig() throws Exception {
-        MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class);
         List<ZipUtils.ZipItem> zipItems = new ArrayList<>();
         ZipUtils.ZipItem zipItem = new ZipUtils.ZipItem("test/test", "test");
         zipItems.add(zipItem);
-        ZipUtils.UnZipResult unziped = new ZipUtils.UnZipResult(zipItems, null);
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
+        zipItems.add(new ZipUtils.ZipItem("unrecognized", "test"));
+        zipItems.add(new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA, "test.test.app=app"));
+        final MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", ZipUtils.zip(zipItems));
         
-        zipUtilsMockedStatic.when(() -> ZipUtils.unzip(file.getBytes())).thenReturn(unziped);
         when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
         Map<String, Object> map = new HashMap<>();
         map.put("test", "test");
-        when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(), any())).thenReturn(map);
+        AtomicReference<List<ConfigAllInfo>> imported = new AtomicReference<>();
+        when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(), any())).thenAnswer(
+                invocation -> {
+                    imported.set(new ArrayList<>(invocation.getArgument(0)));
+                    return map;
+                });
         
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.multipart(Constants.CONFIG_CONTROLLER_PATH).file(file)
                 .param("import", "true").param("src_user", "test").param("namespace", "public").param("policy", "ABORT");
@@ -439,8 +503,10 @@ class ConfigControllerTest {
         assertEquals("200", code);
         Map<String, Object> resultMap = JacksonUtils.toObj(JacksonUtils.toObj(actualValue).get("data").toString(), Map.class);
         assertEquals(map.get("test"), resultMap.get("test").toString());
-        
-        zipUtilsMockedStatic.close();
+        assertEquals(1, resultMap.get("unrecognizedCount"));
+        assertEquals(1, imported.get().size());
+        assertEquals("test", imported.get().get(0).getContent());
+        assertEquals("app", imported.get().get(0).getAppName());
     }
     
     @Test
@@ -459,15 +525,22 @@ class ConfigControllerTest {
         configExportItem.setType("json");
         configExportItem.setAppName("appna123");
         configMetadata.getMetadata().add(configExportItem);
-        ZipUtils.UnZipResult unziped = new ZipUtils.UnZipResult(zipItems,
-                new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
-        MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class);
-        zipUtilsMockedStatic.when(() -> ZipUtils.unzip(eq(file.getBytes()))).thenReturn(unziped);
+        ConfigMetadata.ConfigExportItem missingItem = new ConfigMetadata.ConfigExportItem();
+        missingItem.setDataId("missing");
+        missingItem.setGroup(group);
+        missingItem.setType("text");
+        configMetadata.getMetadata().add(missingItem);
+        zipItems.add(new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
+        final MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", ZipUtils.zip(zipItems));
         when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
         Map<String, Object> map = new HashMap<>();
         map.put("test", "test");
-        when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(), any())).thenReturn(map);
+        AtomicReference<List<ConfigAllInfo>> imported = new AtomicReference<>();
+        when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(), any())).thenAnswer(
+                invocation -> {
+                    imported.set(new ArrayList<>(invocation.getArgument(0)));
+                    return map;
+                });
         
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.multipart(Constants.CONFIG_CONTROLLER_PATH).file(file)
                 .param("import", "true").param("src_user", "test").param("namespace", "public").param("policy", "ABORT");
@@ -478,8 +551,128 @@ class ConfigControllerTest {
         assertEquals("200", code);
         Map<String, Object> resultMap = JacksonUtils.toObj(JacksonUtils.toObj(actualValue).get("data").toString(), Map.class);
         assertEquals(map.get("test"), resultMap.get("test").toString());
+        assertEquals(1, resultMap.get("unrecognizedCount"));
+        assertEquals(1, imported.get().size());
+        assertEquals("json", imported.get().get(0).getType());
+        assertEquals("appna123", imported.get().get(0).getAppName());
+    }
+    
+    @Test
+    void testImportAndPublishConfigInBatches() throws Exception {
+        List<ZipUtils.ZipItem> zipItems = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            zipItems.add(new ZipUtils.ZipItem("group/dataId" + i, "content" + i));
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", ZipUtils.zip(zipItems));
+        when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
+        List<Integer> batchSizes = new ArrayList<>();
+        when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(), any())).thenAnswer(
+                invocation -> {
+                    List<ConfigAllInfo> configInfoList = invocation.getArgument(0);
+                    batchSizes.add(configInfoList.size());
+                    Map<String, Object> result = new HashMap<>();
+                    if (batchSizes.size() == 1) {
+                        result.put("succCount", configInfoList.size());
+                        result.put("skipCount", 0);
+                        return result;
+                    }
+                    // the first config of second batch conflicts.
+                    List<Map<String, String>> failData = new ArrayList<>();
+                    failData.add(Collections.singletonMap("dataId", configInfoList.get(0).getDataId()));
+                    List<Map<String, String>> skipData = new ArrayList<>();
+                    for (int i = 1; i < configInfoList.size(); i++) {
+                        skipData.add(Collections.singletonMap("dataId", configInfoList.get(i).getDataId()));
+                    }
+                    result.put("succCount", 0);
+                    result.put("skipCount", skipData.size());
+                    result.put("failData", failData);
+                    result.put("skipData", skipData);
+                    return result;
+                });
+        
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.multipart(Constants.CONFIG_CONTROLLER_PATH).file(file)
+                .param("import", "true").param("src_user", "test").param("namespace", "public").param("policy", "ABORT");
         
-        zipUtilsMockedStatic.close();
+        String actualValue = mockmvc.perform(builder).andReturn().getResponse().getContentAsString();
+        
+        assertEquals(Arrays.asList(100, 100), batchSizes);
+        JsonNode data = JacksonUtils.toObj(actualValue).get("data");
+        assertEquals(100, data.get("succCount").asInt());
+        assertEquals(149, data.get("skipCount").asInt());
+        assertEquals(149, data.get("skipData").size());
+        assertEquals("dataId249", data.get("skipData").get(148).get("dataId").asText());
+        assertEquals(1, data.get("failData").size());
+    }
+    
+    @Test
+    void testImportAndPublishTruncatedConfig() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            for (int i = 0; i < 150; i++) {
+                ZipUtils.zip(zipOut, "group/dataId" + i, "content" + i);
+            }
+            zipOut.putNextEntry(new ZipEntry("group/truncated"));
+            Random random = new Random(0);
+            byte[] content = new byte[64 * 1024];
+            random.nextBytes(content);
+            zipOut.write(content);
+            zipOut.flush();
+            // the last item is cut off in the middle.
+            byte[] truncated = out.toByteArray();
+            MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", truncated);
+            when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
+            
+            MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.multipart(Constants.CONFIG_CONTROLLER_PATH)
+                    .file(file).param("import", "true").param("src_user", "test").param("namespace", "public")
+                    .param("policy", "OVERWRITE");
+            
+            String actualValue = mockmvc.perform(builder).andReturn().getResponse().getContentAsString();
+            
+            JsonNode result = JacksonUtils.toObj(actualValue);
+            assertEquals(ResultCodeEnum.PARSING_DATA_FAILED.getCode(), result.get("code").asInt());
+            assertEquals(0, result.get("data").get("succCount").asInt());
+            verify(configInfoPersistService, never()).batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
+                    any());
+        }
+    }
+    
+    @Test
+    void testImportAndPublishDuplicatedConfigV2() throws Exception {
+        ConfigMetadata configMetadata = new ConfigMetadata();
+        configMetadata.setMetadata(new ArrayList<>());
+        ConfigMetadata.ConfigExportItem configExportItem = new ConfigMetadata.ConfigExportItem();
+        configExportItem.setDataId("dataId");
+        configExportItem.setGroup("group");
+        configExportItem.setType("text");
+        configMetadata.getMetadata().add(configExportItem);
+        List<ZipUtils.ZipItem> zipItems = new ArrayList<>();
+        zipItems.add(new ZipUtils.ZipItem("group/dataId", "new"));
+        zipItems.add(new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
+        // zip output stream refuses duplicated entries, so join a local entry of the same config before the zip.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            ZipUtils.zip(zipOut, "group/dataId", "old");
+            zipOut.flush();
+            out.write(ZipUtils.zip(zipItems));
+            MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", out.toByteArray());
+            when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
+            List<ConfigAllInfo> imported = new ArrayList<>();
+            when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
+                    any())).thenAnswer(invocation -> {
+                        imported.addAll(invocation.getArgument(0));
+                        return new HashMap<>();
+                    });
+            
+            MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.multipart(Constants.CONFIG_CONTROLLER_PATH)
+                    .file(file).param("import", "true").param("src_user", "test").param("namespace", "public")
+                    .param("policy", "ABORT");
+            
+            String actualValue = mockmvc.perform(builder).andReturn().getResponse().getContentAsString();
+            
+            assertEquals(200, JacksonUtils.toObj(actualValue).get("code").asInt());
+            assertEquals(1, imported.size());
+            assertEquals("new", imported.get(0).getContent());
+        }
     }
     
     @Test
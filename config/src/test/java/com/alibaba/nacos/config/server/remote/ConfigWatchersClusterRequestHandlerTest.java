@@ -0,0 +1,107 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigWatchersClusterRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigWatchersClusterResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.config.server.model.SampleResult;
+import com.alibaba.nacos.config.server.service.LongPollingService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.ConnectionMeta;
+import com.alibaba.nacos.core.remote.grpc.GrpcConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigWatchersClusterRequestHandlerTest {
+    
+    private static final String IP = "127.0.0.1";
+    
+    private ConfigWatchersClusterRequestHandler configWatchersClusterRequestHandler;
+    
+    @Mock
+    private LongPollingService longPollingService;
+    
+    @Mock
+    private ConfigChangeListenContext configChangeListenContext;
+    
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    @BeforeEach
+    void setUp() {
+        configWatchersClusterRequestHandler = new ConfigWatchersClusterRequestHandler(longPollingService,
+                configChangeListenContext, connectionManager);
+    }
+    
+    @Test
+    void testHandleByConfig() throws NacosException {
+        SampleResult result = new SampleResult();
+        result.setLisentersGroupkeyStatus(new HashMap<>());
+        result.getLisentersGroupkeyStatus().put("1.1.1.1", "md5_1");
+        when(longPollingService.getCollectSubscribleInfo("test", "test", "test")).thenReturn(result);
+        String groupKey = GroupKey2.getKey("test", "test", "test");
+        when(configChangeListenContext.getListeners(groupKey)).thenReturn(Collections.singleton(IP));
+        when(connectionManager.getConnection(IP)).thenReturn(createConnection());
+        when(configChangeListenContext.getListenKeyMd5(IP, groupKey)).thenReturn("md5");
+        
+        ConfigWatchersClusterRequest request = new ConfigWatchersClusterRequest();
+        request.setDataId("test");
+        request.setGroup("test");
+        request.setTenant("test");
+        ConfigWatchersClusterResponse response = configWatchersClusterRequestHandler.handle(request, new RequestMeta());
+        assertTrue(response.isSuccess());
+        assertEquals(2, response.getListenersGroupkeyStatus().size());
+        assertEquals("md5", response.getListenersGroupkeyStatus().get(IP));
+    }
+    
+    @Test
+    void testHandleByIp() throws NacosException {
+        SampleResult result = new SampleResult();
+        result.setLisentersGroupkeyStatus(new HashMap<>());
+        when(longPollingService.getCollectSubscribleInfoByIp(IP)).thenReturn(result);
+        when(connectionManager.getConnectionByIp(IP)).thenReturn(Collections.singletonList(createConnection()));
+        Map<String, String> listenKeys = new HashMap<>();
+        listenKeys.put("test+test+test", "md5");
+        when(configChangeListenContext.getListenKeys(IP)).thenReturn(listenKeys);
+        
+        ConfigWatchersClusterRequest request = new ConfigWatchersClusterRequest();
+        request.setIp(IP);
+        ConfigWatchersClusterResponse response = configWatchersClusterRequestHandler.handle(request, new RequestMeta());
+        assertEquals(listenKeys, response.getListenersGroupkeyStatus());
+    }
+    
+    private Connection createConnection() {
+        ConnectionMeta connectionMeta = new ConnectionMeta(IP, IP, IP, 8888, 9848, "GRPC", "", "", new HashMap<>());
+        return new GrpcConnection(connectionMeta, null, null);
+    }
+}
@@ -24,6 +24,8 @@ import com.alibaba.nacos.config.server.model.form.ConfigForm;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoTagPersistService;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.persistence.configuration.DatasourceConfiguration;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,7 +33,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -126,6 +131,36 @@ class ConfigOperationServiceTest {
         assertTrue(fResult);
     }
     
+    @Test
+    void testPublishConfigByPipeline() throws NacosException {
+        boolean embeddedStorage = DatasourceConfiguration.isEmbeddedStorage();
+        PropertyUtil.setPublishPipelineEnabled(true);
+        DatasourceConfiguration.setEmbeddedStorage(false);
+        ConfigOperationService pipelineService = new ConfigOperationService(configInfoPersistService,
+                configInfoTagPersistService, configInfoBetaPersistService);
+        ConfigPublishPipeline publishPipeline = (ConfigPublishPipeline) ReflectionTestUtils.getField(pipelineService,
+                "publishPipeline");
+        try {
+            assertNotNull(publishPipeline);
+            ConfigForm configForm = new ConfigForm();
+            configForm.setDataId("test");
+            configForm.setGroup("test");
+            configForm.setContent("test content");
+            when(configInfoPersistService.insertOrUpdate(any(), any(), any(ConfigInfo.class), any())).thenReturn(
+                    new ConfigOperateResult());
+            assertTrue(pipelineService.publishConfig(configForm, new ConfigRequestInfo(), ""));
+            verify(configInfoPersistService).insertOrUpdate(any(), any(), any(ConfigInfo.class), any());
+            
+            pipelineService.destroy();
+            assertThrows(IllegalStateException.class,
+                    () -> publishPipeline.publish("ip", "user", new ConfigInfo("test", "test", "test"), null));
+        } finally {
+            pipelineService.destroy();
+            PropertyUtil.setPublishPipelineEnabled(false);
+            DatasourceConfiguration.setEmbeddedStorage(embeddedStorage);
+        }
+    }
+    
     @Test
     void testDeleteConfig() {
         
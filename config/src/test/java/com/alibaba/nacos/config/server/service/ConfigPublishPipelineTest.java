@@ -0,0 +1,175 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigOperateResult;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigPublishPipelineTest {
+    
+    @Mock
+    private ConfigInfoPersistService configInfoPersistService;
+    
+    private ConfigPublishPipeline publishPipeline;
+    
+    private final CountDownLatch firstStarted = new CountDownLatch(1);
+    
+    private final CountDownLatch firstReleased = new CountDownLatch(1);
+    
+    @BeforeEach
+    void setUp() {
+        publishPipeline = new ConfigPublishPipeline(configInfoPersistService, 0L, 10, 200L);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        publishPipeline.shutdown();
+    }
+    
+    /**
+     * Block the commit thread by the first publish, so the publishes submitted later are committed in one batch.
+     */
+    private CompletableFuture<ConfigOperateResult> submitBlockingPublish() throws InterruptedException {
+        ConfigInfo blocking = new ConfigInfo("blocking", "group", "content");
+        when(configInfoPersistService.insertOrUpdate(any(), any(), eq(blocking), any())).thenAnswer(invocation -> {
+            firstStarted.countDown();
+            firstReleased.await();
+            return new ConfigOperateResult(true);
+        });
+        CompletableFuture<ConfigOperateResult> result = publishPipeline.submit("ip", "user", blocking, null);
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        return result;
+    }
+    
+    private List<CompletableFuture<ConfigOperateResult>> submitPublishes(List<ConfigInfo> configInfos) {
+        List<CompletableFuture<ConfigOperateResult>> result = new ArrayList<>();
+        for (ConfigInfo each : configInfos) {
+            result.add(publishPipeline.submit("ip", "user", each, null));
+        }
+        return result;
+    }
+    
+    private List<ConfigInfo> mockConfigInfos(int size) {
+        List<ConfigInfo> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(new ConfigInfo("dataId" + i, "group", "content" + i));
+        }
+        return result;
+    }
+    
+    @Test
+    void testPublishInBatch() throws Exception {
+        when(configInfoPersistService.executeInTransaction(any())).thenAnswer(
+                invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        final CompletableFuture<ConfigOperateResult> blocking = submitBlockingPublish();
+        List<ConfigInfo> configInfos = mockConfigInfos(3);
+        List<ConfigOperateResult> results = new ArrayList<>();
+        for (ConfigInfo each : configInfos) {
+            ConfigOperateResult result = new ConfigOperateResult(true);
+            results.add(result);
+            when(configInfoPersistService.insertOrUpdate(any(), any(), eq(each), any())).thenReturn(result);
+        }
+        List<CompletableFuture<ConfigOperateResult>> futures = submitPublishes(configInfos);
+        firstReleased.countDown();
+        assertTrue(blocking.get(5, TimeUnit.SECONDS).isSuccess());
+        for (int i = 0; i < futures.size(); i++) {
+            assertSame(results.get(i), futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+        verify(configInfoPersistService).executeInTransaction(any());
+    }
+    
+    @Test
+    void testRetryOneByOneWhenBatchFailed() throws Exception {
+        when(configInfoPersistService.executeInTransaction(any())).thenThrow(new IllegalStateException("deadlock"));
+        final CompletableFuture<ConfigOperateResult> blocking = submitBlockingPublish();
+        List<ConfigInfo> configInfos = mockConfigInfos(3);
+        when(configInfoPersistService.insertOrUpdate(any(), any(), eq(configInfos.get(0)), any())).thenReturn(
+                new ConfigOperateResult(true));
+        when(configInfoPersistService.insertOrUpdate(any(), any(), eq(configInfos.get(1)), any())).thenThrow(
+                new IllegalArgumentException("bad config"));
+        when(configInfoPersistService.insertOrUpdate(any(), any(), eq(configInfos.get(2)), any())).thenReturn(
+                new ConfigOperateResult(true));
+        List<CompletableFuture<ConfigOperateResult>> futures = submitPublishes(configInfos);
+        firstReleased.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+        assertTrue(futures.get(0).get(5, TimeUnit.SECONDS).isSuccess());
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> futures.get(1).get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        assertTrue(futures.get(2).get(5, TimeUnit.SECONDS).isSuccess());
+        verify(configInfoPersistService, times(1)).insertOrUpdate(any(), any(), eq(configInfos.get(2)), any());
+    }
+    
+    @Test
+    void testPublishRethrowException() {
+        ConfigInfo configInfo = new ConfigInfo("dataId", "group", "content");
+        when(configInfoPersistService.insertOrUpdate(any(), any(), eq(configInfo), any())).thenThrow(
+                new IllegalArgumentException("bad config"));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> publishPipeline.publish("ip", "user", configInfo, null));
+        assertEquals("bad config", exception.getMessage());
+    }
+    
+    @Test
+    void testPublishTimeout() throws Exception {
+        submitBlockingPublish();
+        try {
+            NacosRuntimeException exception = assertThrows(NacosRuntimeException.class,
+                    () -> publishPipeline.publish("ip", "user", new ConfigInfo("dataId", "group", "content"), null));
+            assertEquals(NacosException.SERVER_ERROR, exception.getErrCode());
+        } finally {
+            firstReleased.countDown();
+        }
+    }
+    
+    @Test
+    void testSubmitAfterShutdown() {
+        publishPipeline.shutdown();
+        CompletableFuture<ConfigOperateResult> future = publishPipeline.submit("ip", "user",
+                new ConfigInfo("dataId", "group", "content"), null);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+}
@@ -16,15 +16,20 @@
 
 package com.alibaba.nacos.config.server.service;
 
-import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigWatchersClusterRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigWatchersClusterResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.common.http.Callback;
 import com.alibaba.nacos.common.http.HttpRestResult;
 import com.alibaba.nacos.common.http.client.NacosAsyncRestTemplate;
-import com.alibaba.nacos.common.http.client.NacosRestTemplate;
 import com.alibaba.nacos.common.http.param.Header;
 import com.alibaba.nacos.common.http.param.Query;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.config.server.model.ListenerCheckResult;
 import com.alibaba.nacos.config.server.model.SampleResult;
+import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
+import com.alibaba.nacos.config.server.remote.ConfigWatchersClusterRequestHandler;
 import com.alibaba.nacos.config.server.service.notify.HttpClientManager;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -36,23 +41,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
-import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -62,133 +63,98 @@ class ConfigSubServiceTest {
     @Mock
     ServerMemberManager serverMemberManager;
     
+    @Mock
+    ConfigClusterRpcClientProxy configClusterRpcClientProxy;
+    
+    @Mock
+    ConfigWatchersClusterRequestHandler configWatchersClusterRequestHandler;
+    
     MockedStatic<EnvUtil> envUtilMockedStatic;
     
     MockedStatic<HttpClientManager> httpClientManagerMockedStatic;
     
-    @Mock
-    NacosRestTemplate nacosRestTemplate;
-    
     @Mock
     NacosAsyncRestTemplate nacosAsyncRestTemplate;
     
     private ConfigSubService configSubService;
     
+    private Member self;
+    
+    private Member rpcMember;
+    
+    private Member httpMember;
+    
     @BeforeEach
     void startUP() {
-        
         httpClientManagerMockedStatic = Mockito.mockStatic(HttpClientManager.class);
         envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
-        configSubService = new ConfigSubService(serverMemberManager);
+        self = createMember("127.0.0.1");
+        rpcMember = createMember("127.0.0.2");
+        httpMember = createMember("127.0.0.3");
+        configSubService = new ConfigSubService(serverMemberManager, configClusterRpcClientProxy,
+                configWatchersClusterRequestHandler);
         envUtilMockedStatic.when(() -> EnvUtil.getContextPath()).thenReturn("/nacos");
-        envUtilMockedStatic.when(() -> EnvUtil.getProperty(anyString(), anyString())).thenReturn("mock string");
-        EnvUtil.setContextPath("/nacos");
-        httpClientManagerMockedStatic.when(() -> HttpClientManager.getNacosRestTemplate()).thenReturn(nacosRestTemplate);
         httpClientManagerMockedStatic.when(() -> HttpClientManager.getNacosAsyncRestTemplate()).thenReturn(nacosAsyncRestTemplate);
+        Mockito.when(serverMemberManager.getSelf()).thenReturn(self);
+        Mockito.when(serverMemberManager.allMembers()).thenReturn(Arrays.asList(self, rpcMember, httpMember));
     }
     
     @AfterEach
     void after() {
-        if (!envUtilMockedStatic.isClosed()) {
-            envUtilMockedStatic.close();
-        }
+        envUtilMockedStatic.close();
         httpClientManagerMockedStatic.close();
     }
     
     @Test
     void testGetCollectSampleResult() throws Exception {
-        envUtilMockedStatic.close();
-        EnvUtil.setContextPath("/nacos");
-        ConfigurableEnvironment environment = Mockito.mock(ConfigurableEnvironment.class);
-        EnvUtil.setEnvironment(environment);
-        Mockito.when(environment.getProperty(anyString(), anyString())).thenReturn("/nacos");
+        Mockito.when(configWatchersClusterRequestHandler.collectByConfig("dataId", "group", "tenant"))
+                .thenReturn(createSampleResult("1.1.1.1"));
+        mockRpcResponse(rpcMember, createResponse("1.1.1.2"));
+        mockRpcNotSupported(httpMember);
+        mockHttpResponse(createSampleResult("1.1.1.3"));
         
-        Map<String, Member> mockedMembers = new HashMap<>();
-        mockedMembers.put("127.0.0.1", createMember("127.0.0.1"));
-        mockedMembers.put("127.0.0.2", createMember("127.0.0.2"));
-        mockedMembers.put("127.0.0.3", createMember("127.0.0.3"));
-        //mock server member
-        Mockito.when(serverMemberManager.allMembers()).thenReturn(mockedMembers.values());
-        Mockito.when(serverMemberManager.getServerList()).thenReturn(mockedMembers);
-        String dataId = "dataid1234";
-        String group = "group34567";
-        String tenant = "tenant456789";
-        int sampleTimes = 3;
-        //cant mock static method cross thread,so cant verify return obj here.
-        configSubService.getCollectSampleResult(dataId, group, tenant, sampleTimes);
-        configSubService.getCollectSampleResultByIp("127.0.0.1", 3);
-        configSubService.getCheckHasListenerResult(dataId, group, tenant, 3);
+        SampleResult result = configSubService.getCollectSampleResult("dataId", "group", "tenant", 1);
+        assertEquals(3, result.getLisentersGroupkeyStatus().size());
+        assertTrue(result.getLisentersGroupkeyStatus().containsKey("1.1.1.3"));
+        // merged result is cached for a short time.
+        result = configSubService.getCollectSampleResult("dataId", "group", "tenant", 1);
+        assertEquals(3, result.getLisentersGroupkeyStatus().size());
+        Mockito.verify(configClusterRpcClientProxy, Mockito.times(1))
+                .queryConfigWatchers(eq(rpcMember), any(ConfigWatchersClusterRequest.class), any(RequestCallBack.class));
+        Mockito.verify(nacosAsyncRestTemplate, Mockito.times(1))
+                .get(eq("http://127.0.0.3:8848/nacos/v1/cs/communication/configWatchers"), any(Header.class),
+                        any(Query.class), eq(String.class), any(Callback.class));
     }
     
     @Test
-    void testRunSingleJob() throws Exception {
-        Map<String, String> params = new HashMap<>();
-        params.put("dataId", "d1");
-        params.put("group", "g1");
-        params.put("tenant", "t1");
-        
-        HttpRestResult<Object> httpRestResult = new HttpRestResult<>();
-        httpRestResult.setCode(200);
-        httpRestResult.setMessage("success");
-        
-        SampleResult sampleResult1 = new SampleResult();
-        Map<String, String> listener1 = new HashMap<>();
-        listener1.put("config1", "md51123");
-        listener1.put("config11", "md5123123");
-        sampleResult1.setLisentersGroupkeyStatus(listener1);
-        String mockJsonString = JacksonUtils.toJson(sampleResult1);
-        httpRestResult.setData(mockJsonString);
-        //mock success
-        Mockito.when(nacosRestTemplate.get(anyString(), any(Header.class), eq(Query.EMPTY), eq(String.class))).thenReturn(httpRestResult);
-        String url = "url";
-        SampleResult returnObj = (SampleResult) ConfigSubService.runSingleJob("127.0.0.1", params, url, SampleResult.class);
-        assertEquals(sampleResult1.getLisentersGroupkeyStatus(), returnObj.getLisentersGroupkeyStatus());
-        //mock fail response
-        httpRestResult.setCode(500);
-        Mockito.when(nacosRestTemplate.get(anyString(), any(Header.class), eq(Query.EMPTY), eq(String.class))).thenReturn(httpRestResult);
-        SampleResult returnObj500 = (SampleResult) ConfigSubService.runSingleJob("127.0.0.1", params, url, SampleResult.class);
-        assertNull(returnObj500);
-        
-        //mock get url throw exception
-        Mockito.when(nacosRestTemplate.get(anyString(), any(Header.class), eq(Query.EMPTY), eq(String.class)))
-                .thenThrow(new NacosRuntimeException(500, "timeout"));
-        SampleResult returnObjTimeout = (SampleResult) ConfigSubService.runSingleJob("127.0.0.1", params, url, SampleResult.class);
-        assertNull(returnObjTimeout);
+    void testGetCollectSampleResultByIp() throws Exception {
+        Mockito.when(configWatchersClusterRequestHandler.collectByIp("1.1.1.1")).thenReturn(createSampleResult("key1"));
+        mockRpcResponse(rpcMember, createResponse("key2"));
+        // http member doesn't respond before deadline.
+        mockRpcNotSupported(httpMember);
         
+        SampleResult result = configSubService.getCollectSampleResultByIp("1.1.1.1", 1);
+        assertEquals(2, result.getLisentersGroupkeyStatus().size());
+        Mockito.verify(nacosAsyncRestTemplate)
+                .get(eq("http://127.0.0.3:8848/nacos/v1/cs/communication/watcherConfigs"), any(Header.class),
+                        any(Query.class), eq(String.class), any(Callback.class));
     }
     
     @Test
-    void testClusterListenerJob() throws Exception {
-        Map<String, Member> mockedMembers = new HashMap<>();
-        mockedMembers.put("127.0.0.1", createMember("127.0.0.1"));
-        mockedMembers.put("127.0.0.2", createMember("127.0.0.2"));
-        mockedMembers.put("127.0.0.3", createMember("127.0.0.3"));
-        //mock server member
-        Mockito.when(serverMemberManager.allMembers()).thenReturn(mockedMembers.values());
-        Mockito.when(serverMemberManager.getServerList()).thenReturn(mockedMembers);
-        
-        CompletionService mockService = Mockito.mock(CompletionService.class);
-        //mock all success
-        Mockito.when(mockService.poll(anyLong(), any(TimeUnit.class)))
-                .thenReturn(createSampleResultFuture(true, true), createSampleResultFuture(true, true),
-                        createSampleResultFuture(true, true));
-        Map<String, String> params = new HashMap<>();
-        ConfigSubService.ClusterListenerJob clusterListenerJob = new ConfigSubService.ClusterListenerJob(params, mockService,
-                serverMemberManager);
-        List<SampleResult> sampleResults = clusterListenerJob.runJobs();
-        assertEquals(3, sampleResults.size());
+    void testGetCheckHasListenerResult() throws Exception {
+        Mockito.when(configWatchersClusterRequestHandler.collectByConfig("dataId", "group", null))
+                .thenReturn(new SampleResult());
+        mockRpcResponse(rpcMember, createResponse("1.1.1.2"));
+        mockRpcNotSupported(httpMember);
+        mockHttpResponse(new SampleResult());
         
-        //mock success with exception
-        Mockito.when(mockService.poll(anyLong(), any(TimeUnit.class)))
-                .thenReturn(createSampleResultFuture(true, true), createSampleResultFuture(false, false))
-                .thenThrow(new NacosRuntimeException(500, "13"));
-        Map<String, String> params2 = new HashMap<>();
-        ConfigSubService.ClusterListenerJob clusterListenerJob2 = new ConfigSubService.ClusterListenerJob(params2, mockService,
-                serverMemberManager);
-        List<SampleResult> sampleResults2 = clusterListenerJob2.runJobs();
-        assertEquals(1, sampleResults2.size());
-        assertFalse(sampleResults2.get(0).getLisentersGroupkeyStatus().isEmpty());
+        ListenerCheckResult result = configSubService.getCheckHasListenerResult("dataId", "group", null, 1);
+        assertTrue(result.isHasListener());
+        assertEquals(200, result.getCode());
         
+        mockRpcResponse(rpcMember, new ConfigWatchersClusterResponse());
+        result = configSubService.getCheckHasListenerResult("dataId", "group", null, 1);
+        assertFalse(result.isHasListener());
     }
     
     @Test
@@ -245,47 +211,44 @@ class ConfigSubServiceTest {
         
     }
     
-    private Future<SampleResult> createSampleResultFuture(boolean success, boolean lisentersGroupkeyStatus) {
-        Future<SampleResult> future = new Future<SampleResult>() {
-            
-            @Override
-            public boolean cancel(boolean mayInterruptIfRunning) {
-                return false;
-            }
-            
-            @Override
-            public boolean isCancelled() {
-                return false;
-            }
-            
-            @Override
-            public boolean isDone() {
-                return success ? true : false;
-            }
-            
-            @Override
-            public SampleResult get() {
-                
-                return success ? createSampleResult() : null;
-            }
-            
-            @Override
-            public SampleResult get(long timeout, TimeUnit unit) {
-                return success ? createSampleResult() : null;
-            }
-            
-            SampleResult createSampleResult() {
-                SampleResult sampleResult = new SampleResult();
-                if (lisentersGroupkeyStatus) {
-                    Map<String, String> listener = new HashMap<>();
-                    listener.put("config1", "md51123");
-                    listener.put("config2", "md5123123");
-                    sampleResult.setLisentersGroupkeyStatus(listener);
-                }
-                return sampleResult;
-            }
-        };
-        return future;
+    private void mockRpcResponse(Member member, ConfigWatchersClusterResponse response) throws NacosException {
+        Mockito.doAnswer(invocationOnMock -> {
+            RequestCallBack<ConfigWatchersClusterResponse> callBack = invocationOnMock.getArgument(2);
+            callBack.onResponse(response);
+            return null;
+        }).when(configClusterRpcClientProxy).queryConfigWatchers(eq(member), any(), any());
+    }
+    
+    private void mockRpcNotSupported(Member member) throws NacosException {
+        Mockito.doAnswer(invocationOnMock -> {
+            RequestCallBack<ConfigWatchersClusterResponse> callBack = invocationOnMock.getArgument(2);
+            callBack.onException(new NacosException(NacosException.NO_HANDLER, "No handler for request"));
+            return null;
+        }).when(configClusterRpcClientProxy).queryConfigWatchers(eq(member), any(), any());
+    }
+    
+    private void mockHttpResponse(SampleResult sampleResult) {
+        Mockito.doAnswer(invocationOnMock -> {
+            Callback<String> callback = invocationOnMock.getArgument(4);
+            HttpRestResult<String> restResult = new HttpRestResult<>();
+            restResult.setCode(200);
+            restResult.setData(JacksonUtils.toJson(sampleResult));
+            callback.onReceive(restResult);
+            return null;
+        }).when(nacosAsyncRestTemplate).get(anyString(), any(Header.class), any(Query.class), eq(String.class),
+                any(Callback.class));
+    }
+    
+    private SampleResult createSampleResult(String key) {
+        SampleResult result = new SampleResult();
+        result.setLisentersGroupkeyStatus(new HashMap<>(Collections.singletonMap(key, "md5")));
+        return result;
+    }
+    
+    private ConfigWatchersClusterResponse createResponse(String key) {
+        ConfigWatchersClusterResponse response = new ConfigWatchersClusterResponse();
+        response.getListenersGroupkeyStatus().put(key, "md5");
+        return response;
     }
     
     Member createMember(String ip) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.capacity;
+
+import com.alibaba.nacos.config.server.model.capacity.Capacity;
+import com.alibaba.nacos.config.server.model.capacity.TenantCapacity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CapacityUsageCacheTest {
+    
+    private static final String TENANT = "tenant";
+    
+    @Mock
+    private CapacityService capacityService;
+    
+    private CapacityUsageCache usageCache;
+    
+    @BeforeEach
+    void setUp() {
+        usageCache = new CapacityUsageCache(capacityService);
+    }
+    
+    private Capacity mockCapacity(int usage, int quota) {
+        TenantCapacity result = new TenantCapacity();
+        result.setTenant(TENANT);
+        result.setUsage(usage);
+        result.setQuota(quota);
+        result.setMaxSize(100);
+        return result;
+    }
+    
+    @Test
+    void testTryIncreaseUntilQuota() {
+        when(capacityService.getCapacityWithDefault(null, TENANT)).thenReturn(mockCapacity(1, 3));
+        CapacityUsageCache.UsageCounter counter = usageCache.getCounter("group", TENANT);
+        verify(capacityService).correctTenantUsage(TENANT);
+        assertEquals(1, counter.getUsage());
+        assertEquals(100, counter.getMaxSize());
+        assertTrue(counter.tryIncrease());
+        assertTrue(counter.tryIncrease());
+        assertFalse(counter.tryIncrease());
+        counter.complete(false);
+        assertEquals(2, counter.getUsage());
+        assertTrue(counter.tryIncrease());
+        assertSame(counter, usageCache.getCounter("otherGroup", TENANT));
+    }
+    
+    @Test
+    void testDecrease() {
+        when(capacityService.getCapacityWithDefault(null, TENANT)).thenReturn(mockCapacity(1, 3));
+        CapacityUsageCache.UsageCounter counter = usageCache.getCounter(null, TENANT);
+        counter.decrease();
+        counter.decrease();
+        assertEquals(0, counter.getUsage());
+    }
+    
+    @Test
+    void testInitCapacityIfAbsent() {
+        when(capacityService.getCapacityWithDefault(GroupCapacityPersistService.CLUSTER, null)).thenReturn(null,
+                mockCapacity(0, 10));
+        CapacityUsageCache.UsageCounter counter = usageCache.getClusterCounter();
+        verify(capacityService).initCapacity(GroupCapacityPersistService.CLUSTER, null);
+        assertEquals(10, counter.getQuota());
+    }
+    
+    @Test
+    void testReconcile() {
+        when(capacityService.getCapacityWithDefault(null, TENANT)).thenReturn(mockCapacity(1, 10),
+                mockCapacity(5, 10));
+        CapacityUsageCache.UsageCounter counter = usageCache.getCounter(null, TENANT);
+        assertTrue(counter.tryIncrease());
+        // usage in table is corrected by another node, and one operation is still in flight in current node.
+        usageCache.reconcile();
+        verify(capacityService, times(2)).correctTenantUsage(TENANT);
+        assertEquals(6, counter.getUsage());
+        counter.complete(true);
+        assertEquals(6, counter.getUsage());
+    }
+    
+    @Test
+    void testEvictIdleCounter() {
+        when(capacityService.getCapacityWithDefault(null, TENANT)).thenReturn(mockCapacity(1, 10));
+        CapacityUsageCache.UsageCounter counter = usageCache.getCounter(null, TENANT);
+        counter.increase();
+        counter.complete(true);
+        usageCache.reconcile();
+        assertSame(counter, usageCache.getCounter(null, TENANT));
+        // got in last round
+        usageCache.reconcile();
+        // idle in a whole round
+        usageCache.reconcile();
+        assertNotSame(counter, usageCache.getCounter(null, TENANT));
+    }
+    
+    @Test
+    void testKeepCounterInFlight() {
+        when(capacityService.getCapacityWithDefault(null, TENANT)).thenReturn(mockCapacity(1, 10));
+        CapacityUsageCache.UsageCounter counter = usageCache.getCounter(null, TENANT);
+        assertTrue(counter.tryIncrease());
+        for (int i = 0; i < 3; i++) {
+            usageCache.reconcile();
+        }
+        counter.complete(true);
+        assertSame(counter, usageCache.getCounter(null, TENANT));
+        assertEquals(2, counter.getUsage());
+    }
+}
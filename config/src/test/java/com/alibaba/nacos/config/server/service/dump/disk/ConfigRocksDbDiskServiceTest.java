@@ -0,0 +1,91 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigRocksDbDiskServiceTest {
+    
+    @TempDir
+    Path nacosHome;
+    
+    private String cachedNacosHome;
+    
+    private ConfigRocksDbDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        cachedNacosHome = EnvUtil.getNacosHome();
+        EnvUtil.setNacosHomePath(nacosHome.toString());
+        diskService = new ConfigRocksDbDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        diskService.clearAll();
+        diskService.clearAllBeta();
+        EnvUtil.setNacosHomePath(cachedNacosHome);
+    }
+    
+    @Test
+    void testBulkLoadReadBeforeFinish() throws IOException {
+        diskService.startBulkLoad();
+        for (int i = 0; i < 2500; i++) {
+            diskService.saveToDisk("dataId" + i, "group", "tenant", "content" + i);
+        }
+        diskService.removeConfigInfo("dataId1", "group", "tenant");
+        diskService.saveBetaToDisk("dataId0", "group", "tenant", "beta");
+        assertEquals("content0", diskService.getContent("dataId0", "group", "tenant"));
+        assertEquals("content2499", diskService.getContent("dataId2499", "group", "tenant"));
+        assertNull(diskService.getContent("dataId1", "group", "tenant"));
+        assertEquals("beta", diskService.getBetaContent("dataId0", "group", "tenant"));
+        
+        diskService.finishBulkLoad();
+        assertEquals("content0", diskService.getContent("dataId0", "group", "tenant"));
+        assertEquals("content2499", diskService.getContent("dataId2499", "group", "tenant"));
+        assertNull(diskService.getContent("dataId1", "group", "tenant"));
+    }
+    
+    @Test
+    void testSaveAfterBulkLoad() throws IOException {
+        diskService.startBulkLoad();
+        diskService.saveToDisk("dataId", "group", "tenant", "bulk");
+        diskService.finishBulkLoad();
+        diskService.finishBulkLoad();
+        diskService.saveToDisk("dataId", "group", "tenant", "single");
+        assertEquals("single", diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    void testClearAllThenSave() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+    }
+}
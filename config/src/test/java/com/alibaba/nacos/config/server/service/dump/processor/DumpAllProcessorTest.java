@@ -21,6 +21,7 @@ import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.dump.ExternalDumpService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistService;
@@ -42,11 +43,13 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -181,6 +184,21 @@ class DumpAllProcessorTest {
     /**
      * test dump all for all check task.
      */
+    @Test
+    void testFinishBulkLoadWhenDumpAllFailed() throws Exception {
+        ConfigDiskService originalDiskService = ConfigDiskServiceFactory.getInstance();
+        ConfigDiskService configDiskService = Mockito.mock(ConfigDiskService.class);
+        ReflectionTestUtils.setField(ConfigDiskServiceFactory.class, "configDiskService", configDiskService);
+        try {
+            Mockito.when(configInfoPersistService.findConfigMaxId()).thenThrow(new IllegalStateException("db error"));
+            assertThrows(IllegalStateException.class, () -> dumpAllProcessor.process(new DumpAllTask(true)));
+            Mockito.verify(configDiskService).startBulkLoad();
+            Mockito.verify(configDiskService).finishBulkLoad();
+        } finally {
+            ReflectionTestUtils.setField(ConfigDiskServiceFactory.class, "configDiskService", originalDiskService);
+        }
+    }
+    
     @Test
     void testDumpAllOnCheckAll() throws Exception {
         ConfigInfoWrapper configInfoWrapper1 = createNewConfig(1);
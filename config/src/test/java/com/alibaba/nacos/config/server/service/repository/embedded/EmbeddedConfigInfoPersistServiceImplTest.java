@@ -60,6 +60,7 @@ import static com.alibaba.nacos.persistence.repository.RowMapperManager.MAP_ROW_
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -106,6 +107,8 @@ class EmbeddedConfigInfoPersistServiceImplTest {
         when(dynamicDataSource.getDataSource()).thenReturn(dataSourceService);
         when(dataSourceService.getDataSourceType()).thenReturn("derby");
         envUtilMockedStatic.when(() -> EnvUtil.getProperty(anyString(), eq(Boolean.class), eq(false))).thenReturn(false);
+        when(idGeneratorManager.nextIds(anyString(), anyInt())).thenAnswer(
+                invocation -> new long[(int) invocation.getArgument(1)]);
         embeddedConfigInfoPersistService = new EmbeddedConfigInfoPersistServiceImpl(databaseOperate, idGeneratorManager,
                 historyConfigInfoPersistService);
     }
@@ -470,6 +473,9 @@ class EmbeddedConfigInfoPersistServiceImplTest {
                 configAdvanceInfo, SameConfigPolicy.OVERWRITE);
         assertEquals(3, stringObjectMap.get("succCount"));
         assertEquals(0, stringObjectMap.get("skipCount"));
+        Mockito.verify(idGeneratorManager).nextIds("config-info-id", 3);
+        Mockito.verify(idGeneratorManager).nextIds("config-history-id", 3);
+        Mockito.verify(idGeneratorManager, times(0)).nextId("config-info-id");
     }
     
     @Test
@@ -916,6 +922,21 @@ class EmbeddedConfigInfoPersistServiceImplTest {
         
     }
     
+    @Test
+    void testFindAllConfigInfo4ExportFragment() {
+        List<ConfigAllInfo> mockConfigs = new ArrayList<>();
+        mockConfigs.add(createMockConfigAllInfo(0));
+        mockConfigs.add(createMockConfigAllInfo(1));
+        String tenant = "tenant13245";
+        String appName = "appName1243";
+        
+        when(databaseOperate.queryMany(anyString(), eq(new Object[] {tenant, appName, 100L}),
+                eq(CONFIG_ALL_INFO_ROW_MAPPER))).thenReturn(mockConfigs);
+        List<ConfigAllInfo> configAllInfos = embeddedConfigInfoPersistService.findAllConfigInfo4ExportFragment(null,
+                null, tenant, appName, null, 100L, 2);
+        assertEquals(mockConfigs, configAllInfos);
+    }
+    
     @Test
     void testQueryConfigInfoByNamespace() {
         
@@ -163,6 +163,24 @@ class EmbeddedHistoryConfigInfoPersistServiceImplTest {
         assertEquals(mockObj2.getLastModified(), deletedConfig.get(1).getLastModified());
     }
     
+    @Test
+    void testFindDeletedConfigByCursor() {
+        ConfigInfoStateWrapper mockObj = new ConfigInfoStateWrapper();
+        mockObj.setDataId("data_id1");
+        mockObj.setId(23457L);
+        List<ConfigInfoStateWrapper> list = new ArrayList<>();
+        list.add(mockObj);
+        int pageSize = 1233;
+        long cursorId = 23456;
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        Mockito.when(databaseOperate.queryMany(anyString(), eq(new Object[] {timestamp, timestamp, cursorId, pageSize}),
+                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(list);
+        List<ConfigInfoStateWrapper> deletedConfig = embeddedHistoryConfigInfoPersistService.findDeletedConfigByCursor(timestamp,
+                cursorId, pageSize);
+        assertEquals(1, deletedConfig.size());
+        assertEquals(23457L, deletedConfig.get(0).getId());
+    }
+    
     @Test
     void testFindConfigHistory() {
         String dataId = "dataId34567";
@@ -74,6 +74,7 @@ import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapper
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -421,6 +422,13 @@ class ExternalConfigInfoPersistServiceImplTest {
         
     }
     
+    @Test
+    void testExecuteInTransaction() {
+        String result = externalConfigInfoPersistService.executeInTransaction(() -> "result");
+        assertEquals("result", result);
+        Mockito.verify(transactionTemplate.getTransactionManager()).commit(any());
+    }
+    
     @Test
     void testCreatePsForInsertConfigInfo() throws SQLException {
         
@@ -1140,6 +1148,26 @@ class ExternalConfigInfoPersistServiceImplTest {
         }
     }
     
+    @Test
+    void testFindAllConfigInfo4ExportFragment() {
+        List<ConfigAllInfo> mockConfigs = new ArrayList<>();
+        mockConfigs.add(createMockConfigAllInfo(0));
+        mockConfigs.add(createMockConfigAllInfo(1));
+        List<Long> ids = Arrays.asList(132L, 1343L, 245L);
+        
+        when(jdbcTemplate.query(anyString(), eq(new Object[] {132L, 1343L, 245L, 100L}),
+                eq(CONFIG_ALL_INFO_ROW_MAPPER))).thenReturn(mockConfigs);
+        List<ConfigAllInfo> configAllInfos = externalConfigInfoPersistService.findAllConfigInfo4ExportFragment(null,
+                null, null, null, ids, 100L, 2);
+        assertEquals(mockConfigs, configAllInfos);
+        
+        when(jdbcTemplate.query(anyString(), eq(new Object[] {132L, 1343L, 245L, 100L}),
+                eq(CONFIG_ALL_INFO_ROW_MAPPER))).thenThrow(new CannotGetJdbcConnectionException("mock exp11"));
+        assertThrows(CannotGetJdbcConnectionException.class,
+                () -> externalConfigInfoPersistService.findAllConfigInfo4ExportFragment(null, null, null, null, ids,
+                        100L, 2));
+    }
+    
     @Test
     void testQueryConfigInfoByNamespace() {
         
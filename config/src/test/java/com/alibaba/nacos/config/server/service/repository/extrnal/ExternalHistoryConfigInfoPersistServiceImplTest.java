@@ -39,6 +39,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -48,6 +51,7 @@ import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapper
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
@@ -136,6 +140,53 @@ class ExternalHistoryConfigInfoPersistServiceImplTest {
         Mockito.verify(jdbcTemplate, times(1)).update(anyString(), eq(timestamp), eq(pageSize));
     }
     
+    @Test
+    void testRemoveConfigHistoryByPartitions() {
+        LocalDate today = LocalDate.now();
+        final Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now().minusDays(7));
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        List<String> partitions = new ArrayList<>();
+        partitions.add("p" + formatter.format(today.minusDays(9)));
+        partitions.add("p" + formatter.format(today.minusDays(8)));
+        partitions.add("p" + formatter.format(today.minusDays(7)));
+        partitions.add("p" + formatter.format(today));
+        partitions.add("pmax");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).thenReturn(partitions);
+        externalHistoryConfigInfoPersistService.removeConfigHistory(timestamp, 1000);
+        //expect the partitions all before start time dropped.
+        Mockito.verify(jdbcTemplate).execute("ALTER TABLE his_config_info DROP PARTITION " + partitions.get(0));
+        Mockito.verify(jdbcTemplate).execute("ALTER TABLE his_config_info DROP PARTITION " + partitions.get(1));
+        Mockito.verify(jdbcTemplate, times(0)).execute("ALTER TABLE his_config_info DROP PARTITION " + partitions.get(2));
+        //expect the partitions of coming days created.
+        for (int i = 1; i <= 2; i++) {
+            LocalDate day = today.plusDays(i);
+            Mockito.verify(jdbcTemplate).execute("ALTER TABLE his_config_info REORGANIZE PARTITION pmax INTO (PARTITION p"
+                    + formatter.format(day) + " VALUES LESS THAN ('" + day.plusDays(1) + " 00:00:00'), "
+                    + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        }
+        Mockito.verify(jdbcTemplate, times(4)).execute(anyString());
+        //expect the rest expired history deleted by rows.
+        Mockito.verify(jdbcTemplate, times(1)).update(anyString(), eq(timestamp), eq(1000));
+    }
+    
+    @Test
+    void testFindDeletedConfigByCursor() {
+        ConfigInfoStateWrapper mockObj = new ConfigInfoStateWrapper();
+        mockObj.setDataId("data_id1");
+        mockObj.setId(23457L);
+        List<ConfigInfoStateWrapper> list = new ArrayList<>();
+        list.add(mockObj);
+        int pageSize = 1233;
+        long cursorId = 23456;
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        Mockito.when(jdbcTemplate.query(anyString(), eq(new Object[] {timestamp, timestamp, cursorId, pageSize}),
+                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(list);
+        List<ConfigInfoStateWrapper> deletedConfig = externalHistoryConfigInfoPersistService.findDeletedConfigByCursor(timestamp,
+                cursorId, pageSize);
+        assertEquals(1, deletedConfig.size());
+        assertEquals(23457L, deletedConfig.get(0).getId());
+    }
+    
     @Test
     void testFindDeletedConfig() {
         
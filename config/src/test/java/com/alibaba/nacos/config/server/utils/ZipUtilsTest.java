@@ -16,12 +16,19 @@
 
 package com.alibaba.nacos.config.server.utils;
 
+import com.alibaba.nacos.config.server.constant.Constants;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ZipUtilsTest {
@@ -47,6 +54,64 @@ class ZipUtilsTest {
         assertEquals(zipItemList.size(), result.size());
         assertEquals(zipItemList.get(0).getItemName(), result.get(0).getItemName());
         assertEquals(zipItemList.get(0).getItemData(), result.get(0).getItemData());
+    
+    }
+    
+    @Test
+    void testZipItemReader() throws IOException {
+        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
+        zipItemList.add(new ZipUtils.ZipItem("group/dataId1", "content1"));
+        zipItemList.add(new ZipUtils.ZipItem("group/dataId2", "content2"));
+        byte[] zip = ZipUtils.zip(zipItemList);
+        try (ZipUtils.ZipItemReader reader = new ZipUtils.ZipItemReader(new ByteArrayInputStream(zip))) {
+            assertEquals("group/dataId1", reader.nextEntry());
+            // data of first item is skipped without reading.
+            assertEquals("group/dataId2", reader.nextEntry());
+            assertEquals("content2", reader.readData());
+            assertNull(reader.nextEntry());
+        }
+    }
+    
+    @Test
+    void testFindMetaDataItem() throws IOException {
+        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
+        zipItemList.add(new ZipUtils.ZipItem("group/dataId", "content"));
+        zipItemList.add(new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, "metadata"));
+        zipItemList.add(new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA, "oldMetadata"));
+        byte[] zip = ZipUtils.zip(zipItemList);
+        List<String> itemNames = new ArrayList<>();
+        ZipUtils.ZipItem metaDataItem = ZipUtils.findMetaDataItem(new ByteArrayInputStream(zip), itemNames);
+        assertEquals(Constants.CONFIG_EXPORT_METADATA_NEW, metaDataItem.getItemName());
+        assertEquals("metadata", metaDataItem.getItemData());
+        assertEquals(Arrays.asList("group/dataId", Constants.CONFIG_EXPORT_METADATA_NEW,
+                Constants.CONFIG_EXPORT_METADATA), itemNames);
+        
+        ZipUtils.UnZipResult unZipResult = ZipUtils.unzip(zip);
+        assertEquals(metaDataItem.getItemName(), unZipResult.getMetaDataItem().getItemName());
+        assertEquals(2, unZipResult.getZipItemList().size());
         
+        zipItemList.remove(2);
+        zipItemList.remove(1);
+        assertNull(ZipUtils.findMetaDataItem(new ByteArrayInputStream(ZipUtils.zip(zipItemList)), new ArrayList<>()));
+    }
+    
+    @Test
+    void testFindMetaDataItemFromTruncatedZip() {
+        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
+        zipItemList.add(new ZipUtils.ZipItem("group/dataId1", "content1"));
+        zipItemList.add(new ZipUtils.ZipItem("group/dataId2", randomContent(4096)));
+        byte[] zip = ZipUtils.zip(zipItemList);
+        byte[] truncated = Arrays.copyOf(zip, zip.length / 2);
+        assertThrows(IOException.class,
+                () -> ZipUtils.findMetaDataItem(new ByteArrayInputStream(truncated), new ArrayList<>()));
+    }
+    
+    private static String randomContent(int length) {
+        Random random = new Random(0);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(26)));
+        }
+        return builder.toString();
     }
 }
@@ -51,6 +51,20 @@ public interface IdGenerator {
      */
     long nextId();
     
+    /**
+     * Get next ids in batch, which is used by bulk inserts to avoid competing for id one by one.
+     *
+     * @param count count of ids
+     * @return next ids, in increasing order
+     */
+    default long[] nextIds(int count) {
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = nextId();
+        }
+        return result;
+    }
+    
     /**
      * Returns information for the current IDGenerator.
      *
@@ -31,6 +31,8 @@ public class SerializeFactory {
     
     public static final String HESSIAN_INDEX = "Hessian".toLowerCase();
     
+    public static final String COMPACT_INDEX = "Compact".toLowerCase();
+    
     private static final Map<String, Serializer> SERIALIZER_MAP = new HashMap<>(4);
     
     public static String defaultSerializer = HESSIAN_INDEX;
@@ -19,6 +19,8 @@ package com.alibaba.nacos.consistency.cp;
 import com.alibaba.nacos.consistency.Config;
 import com.alibaba.nacos.consistency.ConsistencyProtocol;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * cp protocol.
  *
@@ -35,4 +37,16 @@ public interface CPProtocol<C extends Config, P extends RequestProcessor4CP> ext
      */
     boolean isLeader(String group);
     
+    /**
+     * Wait until the local state machine of the group is linearizable readable, such as ReadIndex or leader lease
+     * confirmed, then the data can be read from local storage directly.
+     *
+     * @param group business module info
+     * @return future of whether local state machine is readable, {@code false} means should read by {@link
+     * #getData(com.alibaba.nacos.consistency.entity.ReadRequest)}
+     */
+    default CompletableFuture<Boolean> readBarrier(String group) {
+        return CompletableFuture.completedFuture(false);
+    }
+    
 }
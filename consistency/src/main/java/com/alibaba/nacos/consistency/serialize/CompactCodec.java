@@ -0,0 +1,59 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.serialize;
+
+/**
+ * Schema of one type for {@link CompactSerializer}, loaded by SPI.
+ *
+ * <p>The codec writes the fields of the type in a fixed order, so the field names and class names are never written
+ * into the data. The id is written into the data instead of the class name, so it must be unique and never changed
+ * once released. Changing the fields of a released codec must keep the old data decodable.
+ *
+ * @author agent
+ */
+public interface CompactCodec<T> {
+    
+    /**
+     * The unique id of this codec, must be positive.
+     *
+     * @return id of codec
+     */
+    int id();
+    
+    /**
+     * The exact type handled by this codec, sub types are not handled.
+     *
+     * @return type of codec
+     */
+    Class<T> type();
+    
+    /**
+     * Encode the fields of value into output.
+     *
+     * @param value  value, never null
+     * @param output output
+     */
+    void encode(T value, CompactOutput output);
+    
+    /**
+     * Decode the fields written by {@link #encode(Object, CompactOutput)}.
+     *
+     * @param input input
+     * @return decoded value
+     */
+    T decode(CompactInput input);
+}
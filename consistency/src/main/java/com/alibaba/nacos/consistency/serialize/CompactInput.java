@@ -0,0 +1,232 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.serialize;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Input of {@link CompactSerializer}, reads the data written by {@link CompactOutput}.
+ *
+ * <p>Malformed data throws {@link IllegalStateException}.
+ *
+ * @author agent
+ */
+public class CompactInput {
+    
+    private final byte[] buffer;
+    
+    private int position;
+    
+    private final List<String> strings = new ArrayList<>();
+    
+    public CompactInput(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+    
+    /**
+     * Read boolean.
+     *
+     * @return boolean value
+     */
+    public boolean readBoolean() {
+        byte tag = readByte();
+        if (CompactOutput.TAG_TRUE == tag) {
+            return true;
+        }
+        if (CompactOutput.TAG_FALSE == tag) {
+            return false;
+        }
+        throw new IllegalStateException("Illegal boolean tag " + tag + " at " + (position - 1));
+    }
+    
+    /**
+     * Read unsigned varint.
+     *
+     * @return int value
+     */
+    public int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += CompactOutput.VARINT_SHIFT) {
+            byte each = readByte();
+            result |= (each & CompactOutput.VARINT_MASK) << shift;
+            if ((each & CompactOutput.VARINT_CONTINUE) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at " + position);
+    }
+    
+    public int readInt() {
+        int zigzag = readVarInt();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+    
+    /**
+     * Read zigzag varint long.
+     *
+     * @return long value
+     */
+    public long readLong() {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += CompactOutput.VARINT_SHIFT) {
+            byte each = readByte();
+            result |= (long) (each & CompactOutput.VARINT_MASK) << shift;
+            if ((each & CompactOutput.VARINT_CONTINUE) == 0) {
+                return (result >>> 1) ^ -(result & 1);
+            }
+        }
+        throw new IllegalStateException("Malformed varlong at " + position);
+    }
+    
+    /**
+     * Read nullable string.
+     *
+     * @return string value
+     */
+    public String readString() {
+        int header = readVarInt();
+        if (0 == header) {
+            return null;
+        }
+        if ((header & 1) == 1) {
+            int reference = header >>> 1;
+            if (reference >= strings.size()) {
+                throw new IllegalStateException("Illegal string reference " + reference + " at " + position);
+            }
+            return strings.get(reference);
+        }
+        int length = (header >>> 1) - 1;
+        checkRemaining(length);
+        String result = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        strings.add(result);
+        return result;
+    }
+    
+    /**
+     * Read nullable tagged value.
+     *
+     * @return value
+     */
+    public Object readValue() {
+        byte tag = readByte();
+        switch (tag) {
+            case CompactOutput.TAG_NULL:
+                return null;
+            case CompactOutput.TAG_TRUE:
+                return Boolean.TRUE;
+            case CompactOutput.TAG_FALSE:
+                return Boolean.FALSE;
+            case CompactOutput.TAG_INT:
+                return readInt();
+            case CompactOutput.TAG_LONG:
+                return readLong();
+            case CompactOutput.TAG_STRING:
+                return readString();
+            case CompactOutput.TAG_DOUBLE:
+                return Double.longBitsToDouble(readFixedLong());
+            case CompactOutput.TAG_FLOAT:
+                return Float.intBitsToFloat(readInt());
+            case CompactOutput.TAG_SHORT:
+                return (short) readInt();
+            case CompactOutput.TAG_BYTE:
+                return readByte();
+            case CompactOutput.TAG_BYTES:
+                return readBytes(readVarInt());
+            case CompactOutput.TAG_TIMESTAMP:
+                Timestamp timestamp = new Timestamp(readLong());
+                timestamp.setNanos(readVarInt());
+                return timestamp;
+            case CompactOutput.TAG_DATE:
+                return new Date(readLong());
+            case CompactOutput.TAG_LIST:
+                return readList();
+            case CompactOutput.TAG_MAP:
+                return readMap();
+            case CompactOutput.TAG_OBJECT:
+                return readObject();
+            default:
+                throw new IllegalStateException("Illegal compact tag " + tag + " at " + (position - 1));
+        }
+    }
+    
+    private List<Object> readList() {
+        int size = readVarInt();
+        checkRemaining(size);
+        List<Object> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(readValue());
+        }
+        return result;
+    }
+    
+    private Map<Object, Object> readMap() {
+        int size = readVarInt();
+        checkRemaining(size);
+        Map<Object, Object> result = new HashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            Object key = readValue();
+            result.put(key, readValue());
+        }
+        return result;
+    }
+    
+    private Object readObject() {
+        int id = readVarInt();
+        CompactCodec<?> codec = CompactSerializer.findCodec(id);
+        if (null == codec) {
+            throw new IllegalStateException("No compact codec found for id " + id);
+        }
+        return codec.decode(this);
+    }
+    
+    byte readByte() {
+        checkRemaining(1);
+        return buffer[position++];
+    }
+    
+    private byte[] readBytes(int length) {
+        checkRemaining(length);
+        byte[] result = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return result;
+    }
+    
+    private long readFixedLong() {
+        checkRemaining(Long.BYTES);
+        long result = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            result |= (buffer[position++] & 0xFFL) << (i * Byte.SIZE);
+        }
+        return result;
+    }
+    
+    private void checkRemaining(int required) {
+        if (required < 0 || required > buffer.length - position) {
+            throw new IllegalStateException(
+                    "Compact data is truncated, required " + required + " bytes at " + position);
+        }
+    }
+}
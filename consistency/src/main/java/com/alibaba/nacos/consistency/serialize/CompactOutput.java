@@ -0,0 +1,303 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.serialize;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Output of {@link CompactSerializer}, integers are written as zigzag varint, strings as UTF-8 and the repeated strings
+ * as references.
+ *
+ * <p>Values written by {@link #writeValue(Object)} are tagged, unsupported values throw
+ * {@link IllegalArgumentException} so the caller can fall back to other serializer.
+ *
+ * @author agent
+ */
+public class CompactOutput {
+    
+    static final byte TAG_NULL = 0;
+    
+    static final byte TAG_TRUE = 1;
+    
+    static final byte TAG_FALSE = 2;
+    
+    static final byte TAG_INT = 3;
+    
+    static final byte TAG_LONG = 4;
+    
+    static final byte TAG_STRING = 5;
+    
+    static final byte TAG_DOUBLE = 6;
+    
+    static final byte TAG_FLOAT = 7;
+    
+    static final byte TAG_SHORT = 8;
+    
+    static final byte TAG_BYTE = 9;
+    
+    static final byte TAG_BYTES = 10;
+    
+    static final byte TAG_TIMESTAMP = 11;
+    
+    static final byte TAG_DATE = 12;
+    
+    static final byte TAG_LIST = 13;
+    
+    static final byte TAG_MAP = 14;
+    
+    static final byte TAG_OBJECT = 15;
+    
+    static final int VARINT_SHIFT = 7;
+    
+    static final int VARINT_MASK = 0x7F;
+    
+    static final int VARINT_CONTINUE = 0x80;
+    
+    private static final int INITIAL_SIZE = 256;
+    
+    private static final int MAX_RETAINED_SIZE = 1024 * 1024;
+    
+    private static final int MAX_RETAINED_REFERENCES = 1024;
+    
+    private byte[] buffer;
+    
+    private int position;
+    
+    private Map<String, Integer> stringReferences = new HashMap<>(16);
+    
+    public CompactOutput() {
+        this(INITIAL_SIZE);
+    }
+    
+    public CompactOutput(int initialSize) {
+        this.buffer = new byte[Math.max(16, initialSize)];
+    }
+    
+    public void writeBoolean(boolean value) {
+        writeByte(value ? TAG_TRUE : TAG_FALSE);
+    }
+    
+    /**
+     * Write non-negative int as unsigned varint, such as length and size.
+     *
+     * @param value non-negative value
+     */
+    public void writeVarInt(int value) {
+        ensureCapacity(Integer.BYTES + 1);
+        while ((value & ~VARINT_MASK) != 0) {
+            buffer[position++] = (byte) ((value & VARINT_MASK) | VARINT_CONTINUE);
+            value >>>= VARINT_SHIFT;
+        }
+        buffer[position++] = (byte) value;
+    }
+    
+    public void writeInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+    
+    /**
+     * Write long as zigzag varint.
+     *
+     * @param value value
+     */
+    public void writeLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        ensureCapacity(Long.BYTES + 2);
+        while ((zigzag & ~(long) VARINT_MASK) != 0) {
+            buffer[position++] = (byte) ((zigzag & VARINT_MASK) | VARINT_CONTINUE);
+            zigzag >>>= VARINT_SHIFT;
+        }
+        buffer[position++] = (byte) zigzag;
+    }
+    
+    /**
+     * Write nullable string. The header {@code 0} means null, odd header is the index of a string written before and
+     * even header is the length of the following UTF-8 bytes.
+     *
+     * @param value nullable string
+     */
+    public void writeString(String value) {
+        if (null == value) {
+            writeVarInt(0);
+            return;
+        }
+        Integer reference = stringReferences.putIfAbsent(value, stringReferences.size());
+        if (null != reference) {
+            writeVarInt((reference << 1) | 1);
+            return;
+        }
+        int length = value.length();
+        if (isAscii(value, length)) {
+            writeVarInt((length + 1) << 1);
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) value.charAt(i);
+            }
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt((bytes.length + 1) << 1);
+        writeRaw(bytes);
+    }
+    
+    /**
+     * Write nullable tagged value.
+     *
+     * @param value value
+     * @throws IllegalArgumentException if the type of value or its elements is not supported
+     */
+    @SuppressWarnings("unchecked")
+    public void writeValue(Object value) {
+        if (null == value) {
+            writeByte(TAG_NULL);
+        } else if (value instanceof String) {
+            writeByte(TAG_STRING);
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            writeByte(TAG_INT);
+            writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            writeByte(TAG_LONG);
+            writeLong((Long) value);
+        } else if (value instanceof Timestamp) {
+            Timestamp timestamp = (Timestamp) value;
+            writeByte(TAG_TIMESTAMP);
+            writeLong(timestamp.getTime());
+            writeVarInt(timestamp.getNanos());
+        } else if (value.getClass() == Date.class) {
+            writeByte(TAG_DATE);
+            writeLong(((Date) value).getTime());
+        } else if (value instanceof Double) {
+            writeByte(TAG_DOUBLE);
+            writeFixedLong(Double.doubleToLongBits((Double) value));
+        } else if (value instanceof Float) {
+            writeByte(TAG_FLOAT);
+            writeInt(Float.floatToIntBits((Float) value));
+        } else if (value instanceof Short) {
+            writeByte(TAG_SHORT);
+            writeInt((Short) value);
+        } else if (value instanceof Byte) {
+            writeByte(TAG_BYTE);
+            writeByte((Byte) value);
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            writeByte(TAG_BYTES);
+            writeVarInt(bytes.length);
+            writeRaw(bytes);
+        } else if (value instanceof List) {
+            writeList((List<Object>) value);
+        } else if (value instanceof HashMap) {
+            writeMap((Map<Object, Object>) value);
+        } else {
+            writeObject(value);
+        }
+    }
+    
+    private void writeList(List<Object> list) {
+        writeByte(TAG_LIST);
+        writeVarInt(list.size());
+        for (Object each : list) {
+            writeValue(each);
+        }
+    }
+    
+    private void writeMap(Map<Object, Object> map) {
+        writeByte(TAG_MAP);
+        writeVarInt(map.size());
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+            writeValue(entry.getKey());
+            writeValue(entry.getValue());
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void writeObject(Object value) {
+        CompactCodec<Object> codec = (CompactCodec<Object>) CompactSerializer.findCodec(value.getClass());
+        if (null == codec) {
+            throw new IllegalArgumentException("Unsupported compact type " + value.getClass().getName());
+        }
+        writeByte(TAG_OBJECT);
+        writeVarInt(codec.id());
+        codec.encode(value, this);
+    }
+    
+    void writeByte(byte value) {
+        ensureCapacity(1);
+        buffer[position++] = value;
+    }
+    
+    void writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+    
+    private void writeFixedLong(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int i = 0; i < Long.BYTES; i++) {
+            buffer[position++] = (byte) (value >>> (i * Byte.SIZE));
+        }
+    }
+    
+    private static boolean isAscii(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void ensureCapacity(int required) {
+        if (position + required <= buffer.length) {
+            return;
+        }
+        int newSize = Math.max(buffer.length << 1, position + required);
+        buffer = Arrays.copyOf(buffer, newSize);
+    }
+    
+    /**
+     * Reset the output for reuse, the buffer is dropped if it grows too large.
+     */
+    void reset() {
+        position = 0;
+        if (buffer.length > MAX_RETAINED_SIZE) {
+            buffer = new byte[INITIAL_SIZE];
+        }
+        if (stringReferences.size() > MAX_RETAINED_REFERENCES) {
+            stringReferences = new HashMap<>(16);
+        } else {
+            stringReferences.clear();
+        }
+    }
+    
+    public int size() {
+        return position;
+    }
+    
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.serialize;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.alibaba.nacos.common.utils.ByteUtils;
+import com.alibaba.nacos.consistency.Serializer;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schema based serializer for the hot raft payloads.
+ *
+ * <p>Values of the types registered by {@link CompactCodec} and the common JDK values are written as compact tagged
+ * binary without class names. Other values fall back to {@link HessianSerializer}, and data without the compact magic
+ * header is decoded by hessian, so the logs and snapshots written before switching serializer can still be read.
+ * {@link HessianSerializer} can also decode the compact data, which makes it safe to switch back.
+ *
+ * @author agent
+ */
+public class CompactSerializer implements Serializer {
+    
+    private static final String NAME = "Compact";
+    
+    /**
+     * The leading {@code 0x00} is an empty string in hessian 2 and hessian never writes more bytes after it.
+     */
+    private static final byte[] MAGIC = new byte[] {0x00, 'N', 'C', 0x01};
+    
+    private static final Map<Class<?>, CompactCodec<?>> CODECS_BY_TYPE = new ConcurrentHashMap<>(8);
+    
+    private static final Map<Integer, CompactCodec<?>> CODECS_BY_ID = new ConcurrentHashMap<>(8);
+    
+    private static final ThreadLocal<CompactOutput> OUTPUT_CACHE = ThreadLocal.withInitial(CompactOutput::new);
+    
+    static {
+        for (CompactCodec<?> each : NacosServiceLoader.load(CompactCodec.class)) {
+            registerCodec(each);
+        }
+    }
+    
+    private final HessianSerializer fallback = new HessianSerializer();
+    
+    /**
+     * Register codec.
+     *
+     * @param codec codec
+     * @throws IllegalStateException if the id or type is already registered by another codec
+     */
+    public static synchronized void registerCodec(CompactCodec<?> codec) {
+        if (codec.id() <= 0) {
+            throw new IllegalStateException("Id of compact codec must be positive: " + codec.getClass().getName());
+        }
+        CompactCodec<?> existed = CODECS_BY_ID.get(codec.id());
+        if (null == existed) {
+            existed = CODECS_BY_TYPE.get(codec.type());
+        }
+        if (null != existed && existed.getClass() != codec.getClass()) {
+            throw new IllegalStateException(
+                    String.format("Compact codec %s conflicts with %s", codec.getClass().getName(),
+                            existed.getClass().getName()));
+        }
+        CODECS_BY_ID.put(codec.id(), codec);
+        CODECS_BY_TYPE.put(codec.type(), codec);
+    }
+    
+    static CompactCodec<?> findCodec(Class<?> type) {
+        return CODECS_BY_TYPE.get(type);
+    }
+    
+    static CompactCodec<?> findCodec(int id) {
+        return CODECS_BY_ID.get(id);
+    }
+    
+    /**
+     * Whether the data is written in compact format.
+     *
+     * @param data data
+     * @return {@code true} if data starts with compact magic header
+     */
+    public static boolean isCompact(byte[] data) {
+        if (null == data || data.length <= MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @SuppressWarnings("unchecked")
+    static <T> T decode(byte[] data) {
+        try {
+            return (T) new CompactInput(data, MAGIC.length).readValue();
+        } catch (IllegalStateException e) {
+            throw new NacosDeserializationException(e);
+        }
+    }
+    
+    @Override
+    public <T> T deserialize(byte[] data) {
+        if (ByteUtils.isEmpty(data)) {
+            return null;
+        }
+        return isCompact(data) ? decode(data) : fallback.deserialize(data);
+    }
+    
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> cls) {
+        T result = deserialize(data);
+        if (null == result || cls.isAssignableFrom(result.getClass())) {
+            return result;
+        }
+        throw new NacosDeserializationException(cls, new ClassCastException(
+                String.format("%s cannot be cast to %s", result.getClass().getCanonicalName(),
+                        cls.getCanonicalName())));
+    }
+    
+    @Override
+    public <T> T deserialize(byte[] data, Type type) {
+        return deserialize(data);
+    }
+    
+    @Override
+    public <T> byte[] serialize(T obj) {
+        if (null == obj) {
+            return fallback.serialize(null);
+        }
+        CompactOutput output = OUTPUT_CACHE.get();
+        output.reset();
+        try {
+            output.writeRaw(MAGIC);
+            output.writeValue(obj);
+            return output.toByteArray();
+        } catch (IllegalArgumentException e) {
+            return fallback.serialize(obj);
+        } finally {
+            output.reset();
+        }
+    }
+    
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
@@ -70,6 +70,9 @@ public class HessianSerializer implements Serializer {
         if (ByteUtils.isEmpty(data)) {
             return null;
         }
+        if (CompactSerializer.isCompact(data)) {
+            return CompactSerializer.decode(data);
+        }
         
         Hessian2Input input = new Hessian2Input(new ByteArrayInputStream(data));
         input.setSerializerFactory(serializerFactory);
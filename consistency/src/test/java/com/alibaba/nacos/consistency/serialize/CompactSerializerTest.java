@@ -0,0 +1,169 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.serialize;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.consistency.SerializeFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactSerializerTest {
+    
+    private final CompactSerializer serializer = new CompactSerializer();
+    
+    private final HessianSerializer hessianSerializer = new HessianSerializer();
+    
+    @BeforeAll
+    static void registerCodec() {
+        CompactSerializer.registerCodec(new MockObjectCodec());
+    }
+    
+    @Test
+    void testSerializeFactory() {
+        assertEquals(CompactSerializer.class, SerializeFactory.getSerializer(SerializeFactory.COMPACT_INDEX).getClass());
+    }
+    
+    @Test
+    void testSerializeValues() {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        timestamp.setNanos(123456789);
+        Map<String, Object> map = new HashMap<>();
+        map.put("key", "值");
+        map.put("null", null);
+        List<Object> values = Arrays.asList("test", 1, -1L, Long.MAX_VALUE, Integer.MIN_VALUE, true, false, 1.5D,
+                2.5F, (short) 3, (byte) 4, timestamp, new Date(), "test".getBytes(StandardCharsets.UTF_8), null, map,
+                new MockObject("test", 10));
+        byte[] data = serializer.serialize(values);
+        assertTrue(CompactSerializer.isCompact(data));
+        List<Object> actual = serializer.deserialize(data, List.class);
+        assertEquals(values.size(), actual.size());
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) instanceof byte[]) {
+                assertArrayEquals((byte[]) values.get(i), (byte[]) actual.get(i));
+            } else {
+                assertEquals(values.get(i), actual.get(i));
+            }
+        }
+    }
+    
+    @Test
+    void testFallbackToHessian() {
+        Map<String, String> map = new ConcurrentHashMap<>();
+        map.put("key", "value");
+        byte[] data = serializer.serialize(map);
+        assertFalse(CompactSerializer.isCompact(data));
+        assertEquals(map, serializer.deserialize(data));
+        List<Object> list = new ArrayList<>();
+        list.add("test");
+        list.add(new StringBuilder("unsupported"));
+        data = serializer.serialize(list);
+        assertFalse(CompactSerializer.isCompact(data));
+        assertNull(serializer.deserialize(serializer.serialize(null)));
+    }
+    
+    @Test
+    void testCompatibleWithHessian() {
+        List<MockObject> list = Arrays.asList(new MockObject("a", 1), new MockObject("b", 2));
+        assertEquals(list, hessianSerializer.deserialize(serializer.serialize(list)));
+        assertEquals("test", serializer.deserialize(hessianSerializer.serialize("test"), String.class));
+    }
+    
+    @Test
+    void testDeserializeIllegalData() {
+        byte[] data = serializer.serialize(Arrays.asList("test", new MockObject("test", 1)));
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+        assertThrows(NacosDeserializationException.class, () -> serializer.deserialize(truncated));
+        assertThrows(NacosDeserializationException.class, () -> serializer.deserialize(data, Map.class));
+    }
+    
+    @Test
+    void testRegisterConflictCodec() {
+        assertThrows(IllegalStateException.class, () -> CompactSerializer.registerCodec(new MockObjectCodec() {
+        }));
+    }
+    
+    private static class MockObject {
+        
+        private final String name;
+        
+        private final int count;
+        
+        MockObject(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MockObject)) {
+                return false;
+            }
+            MockObject that = (MockObject) o;
+            return count == that.count && Objects.equals(name, that.name);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, count);
+        }
+    }
+    
+    private static class MockObjectCodec implements CompactCodec<MockObject> {
+        
+        @Override
+        public int id() {
+            return 1000;
+        }
+        
+        @Override
+        public Class<MockObject> type() {
+            return MockObject.class;
+        }
+        
+        @Override
+        public void encode(MockObject value, CompactOutput output) {
+            output.writeString(value.name);
+            output.writeInt(value.count);
+        }
+        
+        @Override
+        public MockObject decode(CompactInput input) {
+            return new MockObject(input.readString(), input.readInt());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.cluster;
+
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.MD5Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versions of member state used by member report.
+ *
+ * <p>The state of current node gets a new version only when its content changes, and the version starts from the
+ * startup time so a restarted node never reuses an old version. Each node remembers which version of its own state has
+ * been acknowledged by a peer and which version of the peer's state has been applied locally, so the steady-state
+ * report only exchanges versions and the whole member is sent when the version changes.
+ *
+ * @author agent
+ */
+public class MemberStateVersions {
+    
+    /**
+     * Version of peers which do not support versioned report.
+     */
+    public static final long UNKNOWN_VERSION = 0L;
+    
+    private final Map<String, Long> ackedVersions = new ConcurrentHashMap<>(16);
+    
+    private final Map<String, Long> peerVersions = new ConcurrentHashMap<>(16);
+    
+    private volatile long selfVersion = System.currentTimeMillis();
+    
+    private volatile String selfDigest;
+    
+    /**
+     * Refresh version of current node by the content of self member.
+     *
+     * @param self self member
+     * @return latest version of current node
+     */
+    public synchronized long refreshSelfVersion(Member self) {
+        String digest = MD5Utils.md5Hex(JacksonUtils.toJson(self), StandardCharsets.UTF_8.name());
+        if (null != selfDigest && !selfDigest.equals(digest)) {
+            selfVersion++;
+        }
+        selfDigest = digest;
+        return selfVersion;
+    }
+    
+    public long getSelfVersion() {
+        return selfVersion;
+    }
+    
+    /**
+     * Whether the peer has acknowledged the version of current node.
+     *
+     * @param address address of peer
+     * @param version version of current node
+     * @return {@code true} if acknowledged, the state of current node is not needed to be sent again
+     */
+    public boolean isAcked(String address, long version) {
+        return Objects.equals(ackedVersions.get(address), version);
+    }
+    
+    public void ack(String address, long version) {
+        ackedVersions.put(address, version);
+    }
+    
+    public void resetAck(String address) {
+        ackedVersions.remove(address);
+    }
+    
+    /**
+     * Get version of peer state which has been applied locally.
+     *
+     * @param address address of peer
+     * @return version of peer state, or {@link #UNKNOWN_VERSION} if not applied
+     */
+    public long getPeerVersion(String address) {
+        return peerVersions.getOrDefault(address, UNKNOWN_VERSION);
+    }
+    
+    /**
+     * Update version of peer state after the state applied locally.
+     *
+     * @param address address of peer
+     * @param version version of peer state
+     */
+    public void updatePeerVersion(String address, long version) {
+        if (UNKNOWN_VERSION == version) {
+            peerVersions.remove(address);
+        } else {
+            peerVersions.put(address, version);
+        }
+    }
+    
+    /**
+     * Remove versions of peer.
+     *
+     * @param address address of peer
+     */
+    public void remove(String address) {
+        ackedVersions.remove(address);
+        peerVersions.remove(address);
+    }
+}
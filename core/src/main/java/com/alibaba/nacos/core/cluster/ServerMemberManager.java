@@ -108,6 +108,12 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
     
     private static final long DEFAULT_TASK_DELAY_TIME = 5_000L;
     
+    private static final String MEMBER_REPORT_FANOUT_PROPERTY = "nacos.core.member.report.fanout";
+    
+    private static final String MEMBER_REPORT_INTERVAL_PROPERTY = "nacos.core.member.report.interval";
+    
+    private static final long DEFAULT_MEMBER_REPORT_INTERVAL = 2_000L;
+    
     /**
      * Cluster node list.
      */
@@ -151,6 +157,11 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
     private final MemberInfoReportTask infoReportTask = new MemberInfoReportTask();
     
     private final UnhealthyMemberInfoReportTask unhealthyMemberInfoReportTask = new UnhealthyMemberInfoReportTask();
+    
+    /**
+     * Versions of member state exchanged by member report.
+     */
+    private final MemberStateVersions stateVersions = new MemberStateVersions();
 
     public ServerMemberManager(ServletContext servletContext) throws Exception {
         this.serverList = new ConcurrentSkipListMap<>();
@@ -285,6 +296,22 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
         return true;
     }
     
+    /**
+     * Refresh member which reported an unchanged state version, the member is treated as healthy.
+     *
+     * @param address address of member
+     * @return {@code true} if member exists and refreshed
+     */
+    public boolean refresh(String address) {
+        Member member = serverList.get(address);
+        if (null == member) {
+            return false;
+        }
+        member.setExtendVal(MemberMetaDataConstants.LAST_REFRESH_TIME, System.currentTimeMillis());
+        MemberUtil.onSuccess(this, member);
+        return true;
+    }
+    
     void notifyMemberChange(Member member) {
         NotifyCenter.publishEvent(MembersChangeEvent.builder().trigger(member).members(allMembers()).build());
     }
@@ -400,6 +427,11 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
             }
         }
         
+        for (String each : serverList.keySet()) {
+            if (!tmpMap.containsKey(each)) {
+                stateVersions.remove(each);
+            }
+        }
         serverList = tmpMap;
         memberAddressInfos = tmpAddressInfo;
         
@@ -533,6 +565,10 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
         return infoReportTask;
     }
     
+    public MemberStateVersions getStateVersions() {
+        return stateVersions;
+    }
+    
     public Map<String, Member> getServerList() {
         return Collections.unmodifiableMap(serverList);
     }
@@ -569,16 +605,22 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
                 return;
             }
             
-            this.cursor = (this.cursor + 1) % members.size();
-            Member target = members.get(cursor);
-            
-            Loggers.CLUSTER.debug("report the metadata to the node : {}", target.getAddress());
-
-            // adapt old version
-            if (target.getAbilities().getRemoteAbility().isGrpcReportEnabled() || target.isGrpcReportEnabled()) {
-                reportByGrpc(target);
-            } else {
-                reportByHttp(target);
+            stateVersions.refreshSelfVersion(getSelf());
+            // report to several members per round by fan-out, which can work with a longer interval in large cluster.
+            int fanout = Math.min(Math.max(EnvUtil.getProperty(MEMBER_REPORT_FANOUT_PROPERTY, Integer.class, 1), 1),
+                    members.size());
+            for (int i = 0; i < fanout; i++) {
+                this.cursor = (this.cursor + 1) % members.size();
+                Member target = members.get(cursor);
+                
+                Loggers.CLUSTER.debug("report the metadata to the node : {}", target.getAddress());
+                
+                // adapt old version
+                if (target.getAbilities().getRemoteAbility().isGrpcReportEnabled() || target.isGrpcReportEnabled()) {
+                    reportByGrpc(target);
+                } else {
+                    reportByHttp(target);
+                }
             }
         }
 
@@ -640,17 +682,23 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
                 return;
             }
 
-            MemberReportRequest memberReportRequest = new MemberReportRequest(getSelf());
-
             try {
-                MemberReportResponse response = (MemberReportResponse) clusterRpcClientProxy.sendRequest(target,
-                        memberReportRequest);
+                long selfVersion = stateVersions.getSelfVersion();
+                MemberReportResponse response = sendReportRequest(target, selfVersion,
+                        stateVersions.isAcked(target.getAddress(), selfVersion));
+                if (response.isFullReportRequired()) {
+                    stateVersions.resetAck(target.getAddress());
+                    response = sendReportRequest(target, selfVersion, false);
+                }
                 if (response.getResultCode() == ResponseCode.SUCCESS.getCode()) {
-                    MemberUtil.onSuccess(ServerMemberManager.this, target, response.getNode());
+                    handleReportResponse(target, selfVersion, response);
                 } else {
+                    // the target may not receive the state, report the whole member next time.
+                    stateVersions.resetAck(target.getAddress());
                     MemberUtil.onFail(ServerMemberManager.this, target);
                 }
             } catch (NacosException e) {
+                stateVersions.resetAck(target.getAddress());
                 if (e.getErrCode() == NacosException.NO_HANDLER) {
                     target.getAbilities().getRemoteAbility().setGrpcReportEnabled(false);
                     target.setGrpcReportEnabled(false);
@@ -660,9 +708,37 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
             }
         }
         
+        private MemberReportResponse sendReportRequest(Member target, long selfVersion, boolean versionOnly)
+                throws NacosException {
+            MemberReportRequest request = versionOnly ? new MemberReportRequest() : new MemberReportRequest(getSelf());
+            request.setAddress(getSelf().getAddress());
+            request.setVersion(selfVersion);
+            request.setPeerVersion(stateVersions.getPeerVersion(target.getAddress()));
+            return (MemberReportResponse) clusterRpcClientProxy.sendRequest(target, request);
+        }
+        
+        private void handleReportResponse(Member target, long selfVersion, MemberReportResponse response) {
+            // old version member always responses the whole member without version.
+            if (MemberStateVersions.UNKNOWN_VERSION != response.getVersion()) {
+                stateVersions.ack(target.getAddress(), selfVersion);
+            }
+            if (null != response.getNode()) {
+                MemberUtil.onSuccess(ServerMemberManager.this, target, response.getNode());
+                stateVersions.updatePeerVersion(target.getAddress(), response.getVersion());
+                return;
+            }
+            if (response.getVersion() != stateVersions.getPeerVersion(target.getAddress())) {
+                // the state of target is changed but not responded, request the whole member next time.
+                stateVersions.updatePeerVersion(target.getAddress(), MemberStateVersions.UNKNOWN_VERSION);
+            }
+            MemberUtil.onSuccess(ServerMemberManager.this, target);
+        }
+        
         @Override
         protected void after() {
-            GlobalExecutor.scheduleByCommon(this, 2_000L);
+            long interval = EnvUtil.getProperty(MEMBER_REPORT_INTERVAL_PROPERTY, Long.class,
+                    DEFAULT_MEMBER_REPORT_INTERVAL);
+            GlobalExecutor.scheduleByCommon(this, interval > 0 ? interval : DEFAULT_MEMBER_REPORT_INTERVAL);
         }
 
         private void handleReportResult(String reportResult, Member target) {
@@ -694,6 +770,7 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
             if (members.isEmpty()) {
                 return;
             }
+            stateVersions.refreshSelfVersion(getSelf());
             for (Member member : members) {
                 if (!member.getState().equals(NodeState.UP)) {
                     if (member.getAbilities().getRemoteAbility().isGrpcReportEnabled()) {
@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.utils.LoggerUtils;
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberStateVersions;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.cluster.remote.request.MemberReportRequest;
@@ -47,6 +48,9 @@ public class MemberReportHandler extends RequestHandler<MemberReportRequest, Mem
     @Override
     public MemberReportResponse handle(MemberReportRequest request, RequestMeta meta) throws NacosException {
         Member node = request.getNode();
+        if (null == node) {
+            return handleVersionReport(request);
+        }
         if (!node.check()) {
             MemberReportResponse result = new MemberReportResponse();
             result.setErrorInfo(400, "Node information is illegal");
@@ -55,8 +59,34 @@ public class MemberReportHandler extends RequestHandler<MemberReportRequest, Mem
         LoggerUtils.printIfDebugEnabled(Loggers.CLUSTER, "node state report, receive info : {}", node);
         node.setState(NodeState.UP);
         node.setFailAccessCnt(0);
-        memberManager.update(node);
-        return new MemberReportResponse(memberManager.getSelf());
+        if (memberManager.update(node)) {
+            memberManager.getStateVersions().updatePeerVersion(node.getAddress(), request.getVersion());
+        }
+        return buildResponse(request.getPeerVersion());
+    }
+    
+    private MemberReportResponse handleVersionReport(MemberReportRequest request) {
+        String address = request.getAddress();
+        long version = request.getVersion();
+        MemberStateVersions stateVersions = memberManager.getStateVersions();
+        if (MemberStateVersions.UNKNOWN_VERSION == version || version != stateVersions.getPeerVersion(address)
+                || !memberManager.refresh(address)) {
+            LoggerUtils.printIfDebugEnabled(Loggers.CLUSTER, "node {} state version {} unknown, require full report",
+                    address, version);
+            MemberReportResponse result = new MemberReportResponse();
+            result.setVersion(stateVersions.getSelfVersion());
+            result.setFullReportRequired(true);
+            return result;
+        }
+        return buildResponse(request.getPeerVersion());
+    }
+    
+    private MemberReportResponse buildResponse(long peerVersion) {
+        long selfVersion = memberManager.getStateVersions().getSelfVersion();
+        MemberReportResponse result =
+                selfVersion == peerVersion ? new MemberReportResponse() : new MemberReportResponse(memberManager.getSelf());
+        result.setVersion(selfVersion);
+        return result;
     }
     
 }
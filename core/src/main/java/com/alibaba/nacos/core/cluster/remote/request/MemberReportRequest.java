@@ -29,6 +29,21 @@ public class MemberReportRequest extends AbstractClusterRequest {
     
     private Member node;
     
+    /**
+     * Address of reporter, used when {@link #node} is omitted because the receiver already has the same version.
+     */
+    private String address;
+    
+    /**
+     * Version of reporter state, {@code 0} means the reporter does not support versioned report.
+     */
+    private long version;
+    
+    /**
+     * Version of receiver state known by reporter, the receiver omits its state in response if not changed.
+     */
+    private long peerVersion;
+    
     public MemberReportRequest() {
     }
     
@@ -43,4 +58,28 @@ public class MemberReportRequest extends AbstractClusterRequest {
     public void setNode(Member node) {
         this.node = node;
     }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
+    
+    public long getPeerVersion() {
+        return peerVersion;
+    }
+    
+    public void setPeerVersion(long peerVersion) {
+        this.peerVersion = peerVersion;
+    }
 }
@@ -30,6 +30,16 @@ public class MemberReportResponse extends Response {
     
     private Member node;
     
+    /**
+     * Version of responder state, {@code 0} means the responder does not support versioned report.
+     */
+    private long version;
+    
+    /**
+     * Whether the responder does not know the reported version and needs the whole member state.
+     */
+    private boolean fullReportRequired;
+    
     public MemberReportResponse() {
     }
     
@@ -44,4 +54,20 @@ public class MemberReportResponse extends Response {
     public void setNode(Member node) {
         this.node = node;
     }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
+    
+    public boolean isFullReportRequired() {
+        return fullReportRequired;
+    }
+    
+    public void setFullReportRequired(boolean fullReportRequired) {
+        this.fullReportRequired = fullReportRequired;
+    }
 }
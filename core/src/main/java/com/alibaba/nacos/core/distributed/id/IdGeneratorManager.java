@@ -83,6 +83,21 @@ public class IdGeneratorManager {
                 "The resource is not registered with the distributed " + "ID resource for the time being.");
     }
     
+    /**
+     * request next ids in batch by resource name, used by import paths.
+     *
+     * @param resource resource name
+     * @param count    count of ids
+     * @return ids
+     */
+    public long[] nextIds(String resource, int count) {
+        if (generatorMap.containsKey(resource)) {
+            return generatorMap.get(resource).nextIds(count);
+        }
+        throw new NoSuchElementException(
+                "The resource is not registered with the distributed " + "ID resource for the time being.");
+    }
+    
     public Map<String, IdGenerator> getGeneratorMap() {
         return generatorMap;
     }
@@ -29,6 +29,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * copy from http://www.cluozy.com/home/hexo/2018/08/11/shariding-JDBC-snowflake/.
@@ -41,6 +42,9 @@ import java.util.concurrent.TimeUnit;
  * will take 150 seconds for the DataCenterId to be repeated. This is still based on the situation that the new master
  * needs to be selected after each election of the Leader
  *
+ * <p>The last generated id is kept in an {@link AtomicLong} and new ids are allocated by CAS, so concurrent inserts do
+ * not block each other. {@link #nextIds(int)} allocates continuous sequences of one millisecond by one CAS.
+ *
  * @author <a href="mailto:liaochunyhm@live.com">liaochuntao</a>
  */
 @SuppressWarnings("all")
@@ -73,6 +77,9 @@ public class SnowFlowerIdGenerator implements IdGenerator {
     // the max of worker ID is 1024
     private static final long WORKER_ID_MAX_VALUE = 1024L;
     
+    // the count of sequences in one millisecond
+    private static final int SEQUENCE_SIZE = 4096;
+    
     //CLOCK_REALTIME
     private final long startWallTime = System.currentTimeMillis();
     
@@ -81,11 +88,8 @@ public class SnowFlowerIdGenerator implements IdGenerator {
     
     private long workerId;
     
-    private long sequence;
-    
-    private long lastTime;
-    
-    private long currentId;
+    // the last allocated id, which contains the last time and sequence
+    private final AtomicLong lastId = new AtomicLong();
     
     {
         long workerId = EnvUtil.getProperty("nacos.core.snowflake.worker-id", Integer.class, -1);
@@ -112,7 +116,7 @@ public class SnowFlowerIdGenerator implements IdGenerator {
     
     @Override
     public long currentId() {
-        return currentId;
+        return lastId.get();
     }
     
     @Override
@@ -121,31 +125,60 @@ public class SnowFlowerIdGenerator implements IdGenerator {
     }
     
     @Override
-    public synchronized long nextId() {
-        long currentMillis = currentTimeMillis();
-        if (this.lastTime == currentMillis) {
-            if (0L == (this.sequence = ++this.sequence & 4095L)) {
-                currentMillis = this.waitUntilNextTime(currentMillis);
+    public long nextId() {
+        return allocate(1);
+    }
+    
+    @Override
+    public long[] nextIds(int count) {
+        long[] result = new long[count];
+        int index = 0;
+        while (index < count) {
+            int size = Math.min(count - index, SEQUENCE_SIZE);
+            long first = allocate(size);
+            for (int i = 0; i < size; i++) {
+                result[index++] = first + i;
             }
-        } else {
-            this.sequence = 0L;
         }
-        
-        this.lastTime = currentMillis;
-        
-        if (logger.isDebugEnabled()) {
-            logger.debug("{}-{}-{}", (new SimpleDateFormat(DATETIME_PATTERN)).format(new Date(this.lastTime)),
-                    workerId, this.sequence);
+        return result;
+    }
+    
+    /**
+     * Allocate continuous ids in one millisecond.
+     *
+     * @param count count of ids, no more than {@link #SEQUENCE_SIZE}
+     * @return the first id
+     */
+    private long allocate(int count) {
+        while (true) {
+            long last = lastId.get();
+            long lastMillis = (last >>> TIMESTAMP_LEFT_SHIFT_BITS) + EPOCH;
+            long currentMillis = currentTimeMillis();
+            long sequence = 0L;
+            if (currentMillis <= lastMillis) {
+                sequence = (last & SEQUENCE_MASK) + 1;
+                currentMillis = lastMillis;
+                if (sequence + count > SEQUENCE_SIZE) {
+                    currentMillis = waitUntilNextTime(lastMillis);
+                    sequence = 0L;
+                }
+            }
+            long first = currentMillis - EPOCH << TIMESTAMP_LEFT_SHIFT_BITS | workerId << WORKER_ID_LEFT_SHIFT_BITS
+                    | sequence;
+            if (lastId.compareAndSet(last, first + count - 1)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("{}-{}-{}", (new SimpleDateFormat(DATETIME_PATTERN)).format(new Date(currentMillis)),
+                            workerId, sequence);
+                }
+                return first;
+            }
         }
-        
-        currentId = currentMillis - EPOCH << 22 | workerId << 12 | this.sequence;
-        return currentId;
     }
     
     @Override
     public Map<Object, Object> info() {
         Map<Object, Object> info = new HashMap<>(4);
-        info.put("currentId", currentId);
+        info.put("currentId", lastId.get());
         info.put("workerId", workerId);
         return info;
     }
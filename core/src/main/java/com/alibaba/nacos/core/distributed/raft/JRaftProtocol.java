@@ -174,6 +174,11 @@ public class JRaftProtocol extends AbstractConsistencyProtocol<RaftConfig, Reque
         return raftServer.get(request);
     }
     
+    @Override
+    public CompletableFuture<Boolean> readBarrier(String group) {
+        return raftServer.readBarrier(group);
+    }
+    
     @Override
     public Response write(WriteRequest request) throws Exception {
         CompletableFuture<Response> future = writeAsync(request);
@@ -236,6 +236,7 @@ public class JRaftServer {
             // Ensure that each Raft Group has its own configuration and NodeOptions
             Configuration configuration = conf.copy();
             NodeOptions copy = nodeOptions.copy();
+            copy.setRaftOptions(RaftOptionsBuilder.initRaftOptions(raftConfig, groupName));
             JRaftUtils.initDirectory(parentPath, groupName, copy);
             
             // Here, the LogProcessor is passed into StateMachine, and when the StateMachine
@@ -253,7 +254,7 @@ public class JRaftServer {
             doSnapshotInterval = CollectionUtils.isEmpty(processor.loadSnapshotOperate()) ? 0 : doSnapshotInterval;
             
             copy.setSnapshotIntervalSecs(doSnapshotInterval);
-            Loggers.RAFT.info("create raft group : {}", groupName);
+            Loggers.RAFT.info("create raft group : {}, raft options : {}", groupName, copy.getRaftOptions());
             RaftGroupService raftGroupService = new RaftGroupService(groupName, localPeerId, copy, rpcServer, true);
     
             // Because BaseRpcServer has been started before, it is not allowed to start again here
@@ -313,6 +314,38 @@ public class JRaftServer {
         }
     }
     
+    /**
+     * Wait for ReadIndex (or leader lease when ReadOnlyLeaseBased) of the group, concurrent ReadIndex requests are
+     * batched by JRaft.
+     *
+     * @param group raft group
+     * @return future of whether the local state machine has applied to the read index
+     */
+    CompletableFuture<Boolean> readBarrier(final String group) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        final RaftGroupTuple tuple = findTupleByGroup(group);
+        if (Objects.isNull(tuple)) {
+            future.completeExceptionally(new NoSuchRaftGroupException(group));
+            return future;
+        }
+        try {
+            tuple.node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
+                @Override
+                public void run(Status status, long index, byte[] reqCtx) {
+                    if (!status.isOk()) {
+                        MetricsMonitor.raftReadIndexFailed();
+                        Loggers.RAFT.warn("ReadIndex barrier has error : {}", status.getErrorMsg());
+                    }
+                    future.complete(status.isOk());
+                }
+            });
+        } catch (Throwable e) {
+            Loggers.RAFT.warn("ReadIndex barrier failed : {}", e.toString());
+            future.complete(false);
+        }
+        return future;
+    }
+    
     public void readFromLeader(final ReadRequest request, final CompletableFuture<Response> future) {
         commit(request.getGroup(), request, future);
     }
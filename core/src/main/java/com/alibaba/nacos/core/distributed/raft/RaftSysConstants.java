@@ -126,6 +126,47 @@ public final class RaftSysConstants {
      */
     public static final boolean DEFAULT_ENABLE_LOG_ENTRY_CHECKSUM = false;
     
+    /**
+     * {@link RaftSysConstants#RAFT_PROFILE}
+     */
+    public static final String DEFAULT_PROFILE = "default";
+    
+    /**
+     * Throughput oriented profile, only changes the defaults of the batching and pipelining options below, the options
+     * configured explicitly are still respected.
+     */
+    public static final String PROFILE_THROUGHPUT = "throughput";
+    
+    /**
+     * {@link RaftSysConstants#APPLY_BATCH} of throughput profile
+     */
+    public static final int THROUGHPUT_APPLY_BATCH = 128;
+    
+    /**
+     * {@link RaftSysConstants#DISRUPTOR_BUFFER_SIZE} of throughput profile
+     */
+    public static final int THROUGHPUT_DISRUPTOR_BUFFER_SIZE = 65536;
+    
+    /**
+     * {@link RaftSysConstants#MAX_REPLICATOR_INFLIGHT_MSGS} of throughput profile
+     */
+    public static final int THROUGHPUT_MAX_REPLICATOR_INFLIGHT_MSGS = 1024;
+    
+    /**
+     * {@link RaftSysConstants#MAX_ENTRIES_SIZE} of throughput profile
+     */
+    public static final int THROUGHPUT_MAX_ENTRIES_SIZE = 4096;
+    
+    /**
+     * {@link RaftSysConstants#MAX_BODY_SIZE} of throughput profile
+     */
+    public static final int THROUGHPUT_MAX_BODY_SIZE = 2 * 1024 * 1024;
+    
+    /**
+     * {@link RaftSysConstants#MAX_APPEND_BUFFER_SIZE} of throughput profile
+     */
+    public static final int THROUGHPUT_MAX_APPEND_BUFFER_SIZE = 1024 * 1024;
+    
     // ========= setting key ========= //
     
     public static final String RAFT_STATE = "raft";
@@ -235,4 +276,9 @@ public final class RaftSysConstants {
      * Whether to enable LogEntry checksum
      */
     public static final String ENABLE_LOG_ENTRY_CHECKSUM = "enable_log_entry_checksum";
+    
+    /**
+     * Options profile of raft groups, {@code default} or {@code throughput}
+     */
+    public static final String RAFT_PROFILE = "profile";
 }
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.raft.utils;
 
 import com.alibaba.nacos.common.utils.ThreadUtils;
 import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.entity.GetRequest;
 import com.alibaba.nacos.consistency.entity.Log;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
@@ -28,6 +29,7 @@ import com.alibaba.nacos.core.distributed.raft.JRaftServer;
 import com.alibaba.nacos.core.distributed.raft.processor.NacosReadRequestProcessor;
 import com.alibaba.nacos.core.distributed.raft.processor.NacosWriteRequestProcessor;
 import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import com.alibaba.nacos.sys.utils.DiskUtils;
 import com.alipay.sofa.jraft.CliService;
@@ -59,6 +61,8 @@ import java.util.stream.Collectors;
 @SuppressWarnings("all")
 public class JRaftUtils {
     
+    private static final String GROUP_SERIALIZER_PREFIX = "nacos.core.protocol.raft.serializer.";
+    
     public static RpcServer initRpcServer(JRaftServer server, PeerId peerId) {
         GrpcRaftRpcFactory raftRpcFactory = (GrpcRaftRpcFactory) RpcFactoryHelper.rpcFactory();
         raftRpcFactory.registerProtobufSerializer(Log.class.getName(), Log.getDefaultInstance());
@@ -142,4 +146,22 @@ public class JRaftUtils {
         }
     }
     
+    /**
+     * Get the serializer of the raft payloads of group, configured by {@code nacos.core.protocol.raft.serializer.{group}}
+     * and default is hessian. Hessian and compact serializer can both read the data written by each other, but the
+     * members of old versions can't read compact data, so only switch to compact after all members upgraded.
+     *
+     * @param group raft group
+     * @return serializer of group
+     */
+    public static Serializer getGroupSerializer(String group) {
+        String type = EnvUtil.getProperty(GROUP_SERIALIZER_PREFIX + group, SerializeFactory.HESSIAN_INDEX);
+        if (!SerializeFactory.HESSIAN_INDEX.equalsIgnoreCase(type) && !SerializeFactory.COMPACT_INDEX
+                .equalsIgnoreCase(type)) {
+            Loggers.RAFT.warn("Unsupported serializer {} for raft group {}, use hessian instead.", type, group);
+            return SerializeFactory.getDefault();
+        }
+        return SerializeFactory.getSerializer(type);
+    }
+    
 }
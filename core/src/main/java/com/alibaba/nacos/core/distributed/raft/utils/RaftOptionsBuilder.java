@@ -46,9 +46,17 @@ import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.MAX_BYTE_
 import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.MAX_ELECTION_DELAY_MS;
 import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.MAX_ENTRIES_SIZE;
 import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.MAX_REPLICATOR_INFLIGHT_MSGS;
+import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.PROFILE_THROUGHPUT;
+import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.RAFT_PROFILE;
 import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.REPLICATOR_PIPELINE;
 import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.SYNC;
 import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.SYNC_META;
+import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.THROUGHPUT_APPLY_BATCH;
+import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.THROUGHPUT_DISRUPTOR_BUFFER_SIZE;
+import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.THROUGHPUT_MAX_APPEND_BUFFER_SIZE;
+import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.THROUGHPUT_MAX_BODY_SIZE;
+import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.THROUGHPUT_MAX_ENTRIES_SIZE;
+import static com.alibaba.nacos.core.distributed.raft.RaftSysConstants.THROUGHPUT_MAX_REPLICATOR_INFLIGHT_MSGS;
 
 /**
  * build {@link RaftOptions}.
@@ -64,52 +72,86 @@ public class RaftOptionsBuilder {
      * @return {@link RaftOptions}
      */
     public static RaftOptions initRaftOptions(RaftConfig config) {
+        return initRaftOptions(config, null);
+    }
+    
+    /**
+     * By {@link RaftConfig} creating a {@link RaftOptions} of raft group, the options of group such as
+     * {@code nacos.core.protocol.raft.data.{group}.apply_batch} take precedence over the global options. Each group owns
+     * its apply queue and log disruptor, so the write heavy groups can be tuned without affecting others.
+     *
+     * @param config {@link RaftConfig}
+     * @param group  raft group, {@code null} means only use global options
+     * @return {@link RaftOptions}
+     */
+    public static RaftOptions initRaftOptions(RaftConfig config, String group) {
+        boolean throughput = StringUtils.equals(PROFILE_THROUGHPUT, getVal(config, group, RAFT_PROFILE));
         RaftOptions raftOptions = new RaftOptions();
-        raftOptions.setReadOnlyOptions(raftReadIndexType(config));
+        raftOptions.setReadOnlyOptions(raftReadIndexType(getVal(config, group, RaftSysConstants.RAFT_READ_INDEX_TYPE)));
         
         raftOptions.setMaxByteCountPerRpc(
-                ConvertUtils.toInt(config.getVal(MAX_BYTE_COUNT_PER_RPC), DEFAULT_MAX_BYTE_COUNT_PER_RPC));
+                ConvertUtils.toInt(getVal(config, group, MAX_BYTE_COUNT_PER_RPC), DEFAULT_MAX_BYTE_COUNT_PER_RPC));
         
-        raftOptions.setMaxEntriesSize(ConvertUtils.toInt(config.getVal(MAX_ENTRIES_SIZE), DEFAULT_MAX_ENTRIES_SIZE));
+        raftOptions.setMaxEntriesSize(ConvertUtils.toInt(getVal(config, group, MAX_ENTRIES_SIZE),
+                throughput ? THROUGHPUT_MAX_ENTRIES_SIZE : DEFAULT_MAX_ENTRIES_SIZE));
         
-        raftOptions.setMaxBodySize(ConvertUtils.toInt(config.getVal(MAX_BODY_SIZE), DEFAULT_MAX_BODY_SIZE));
+        raftOptions.setMaxBodySize(ConvertUtils.toInt(getVal(config, group, MAX_BODY_SIZE),
+                throughput ? THROUGHPUT_MAX_BODY_SIZE : DEFAULT_MAX_BODY_SIZE));
         
-        raftOptions.setMaxAppendBufferSize(
-                ConvertUtils.toInt(config.getVal(MAX_APPEND_BUFFER_SIZE), DEFAULT_MAX_APPEND_BUFFER_SIZE));
+        raftOptions.setMaxAppendBufferSize(ConvertUtils.toInt(getVal(config, group, MAX_APPEND_BUFFER_SIZE),
+                throughput ? THROUGHPUT_MAX_APPEND_BUFFER_SIZE : DEFAULT_MAX_APPEND_BUFFER_SIZE));
         
         raftOptions.setMaxElectionDelayMs(
-                ConvertUtils.toInt(config.getVal(MAX_ELECTION_DELAY_MS), DEFAULT_MAX_ELECTION_DELAY_MS));
+                ConvertUtils.toInt(getVal(config, group, MAX_ELECTION_DELAY_MS), DEFAULT_MAX_ELECTION_DELAY_MS));
         
-        raftOptions.setElectionHeartbeatFactor(
-                ConvertUtils.toInt(config.getVal(ELECTION_HEARTBEAT_FACTOR), DEFAULT_ELECTION_HEARTBEAT_FACTOR));
+        raftOptions.setElectionHeartbeatFactor(ConvertUtils.toInt(getVal(config, group, ELECTION_HEARTBEAT_FACTOR),
+                DEFAULT_ELECTION_HEARTBEAT_FACTOR));
         
-        raftOptions.setApplyBatch(ConvertUtils.toInt(config.getVal(APPLY_BATCH), DEFAULT_APPLY_BATCH));
+        raftOptions.setApplyBatch(ConvertUtils.toInt(getVal(config, group, APPLY_BATCH),
+                throughput ? THROUGHPUT_APPLY_BATCH : DEFAULT_APPLY_BATCH));
         
-        raftOptions.setSync(ConvertUtils.toBoolean(config.getVal(SYNC), DEFAULT_SYNC));
+        raftOptions.setSync(ConvertUtils.toBoolean(getVal(config, group, SYNC), DEFAULT_SYNC));
         
-        raftOptions.setSyncMeta(ConvertUtils.toBoolean(config.getVal(SYNC_META), DEFAULT_SYNC_META));
+        raftOptions.setSyncMeta(ConvertUtils.toBoolean(getVal(config, group, SYNC_META), DEFAULT_SYNC_META));
         
-        raftOptions.setDisruptorBufferSize(
-                ConvertUtils.toInt(config.getVal(DISRUPTOR_BUFFER_SIZE), DEFAULT_DISRUPTOR_BUFFER_SIZE));
+        // disruptor requires the buffer size to be a power of 2
+        int disruptorBufferSize = ConvertUtils.toInt(getVal(config, group, DISRUPTOR_BUFFER_SIZE),
+                throughput ? THROUGHPUT_DISRUPTOR_BUFFER_SIZE : DEFAULT_DISRUPTOR_BUFFER_SIZE);
+        raftOptions.setDisruptorBufferSize(ceilingPowerOfTwo(disruptorBufferSize));
         
         raftOptions.setReplicatorPipeline(
-                ConvertUtils.toBoolean(config.getVal(REPLICATOR_PIPELINE), DEFAULT_REPLICATOR_PIPELINE));
+                ConvertUtils.toBoolean(getVal(config, group, REPLICATOR_PIPELINE), DEFAULT_REPLICATOR_PIPELINE));
         
-        raftOptions.setMaxReplicatorInflightMsgs(
-                ConvertUtils.toInt(config.getVal(MAX_REPLICATOR_INFLIGHT_MSGS), DEFAULT_MAX_REPLICATOR_INFLIGHT_MSGS));
+        raftOptions.setMaxReplicatorInflightMsgs(ConvertUtils.toInt(getVal(config, group, MAX_REPLICATOR_INFLIGHT_MSGS),
+                throughput ? THROUGHPUT_MAX_REPLICATOR_INFLIGHT_MSGS : DEFAULT_MAX_REPLICATOR_INFLIGHT_MSGS));
         
-        raftOptions.setEnableLogEntryChecksum(
-                ConvertUtils.toBoolean(config.getVal(ENABLE_LOG_ENTRY_CHECKSUM), DEFAULT_ENABLE_LOG_ENTRY_CHECKSUM));
+        raftOptions.setEnableLogEntryChecksum(ConvertUtils.toBoolean(getVal(config, group, ENABLE_LOG_ENTRY_CHECKSUM),
+                DEFAULT_ENABLE_LOG_ENTRY_CHECKSUM));
         
         return raftOptions;
     }
     
-    private static ReadOnlyOption raftReadIndexType(RaftConfig config) {
+    private static String getVal(RaftConfig config, String group, String key) {
+        if (StringUtils.isNotBlank(group)) {
+            String val = config.getVal(group + "." + key);
+            if (StringUtils.isNotBlank(val)) {
+                return val;
+            }
+        }
+        return config.getVal(key);
+    }
+    
+    private static int ceilingPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+    
+    private static ReadOnlyOption raftReadIndexType(String val) {
         String readOnySafe = "ReadOnlySafe";
         String readOnlyLeaseBased = "ReadOnlyLeaseBased";
         
-        String val = config.getVal(RaftSysConstants.RAFT_READ_INDEX_TYPE);
-        
         if (StringUtils.isBlank(val) || StringUtils.equals(readOnySafe, val)) {
             return ReadOnlyOption.ReadOnlySafe;
         }
@@ -48,13 +48,23 @@ public final class MetricsMonitor {
     
     private static final Timer RAFT_APPLY_READ_TIMER;
     
+    private static final Timer CONNECTION_EJECT_SCAN_TIMER;
+    
     private static AtomicInteger longConnection = new AtomicInteger();
+    
+    private static AtomicInteger connectionEjectScanned = new AtomicInteger();
+    
+    private static AtomicInteger connectionEjectOutdated = new AtomicInteger();
 
     private static GrpcServerExecutorMetric sdkServerExecutorMetric = new GrpcServerExecutorMetric("grpcSdkServer");
 
     private static GrpcServerExecutorMetric clusterServerExecutorMetric = new GrpcServerExecutorMetric("grpcClusterServer");
 
     private static Map<String, AtomicInteger> moduleConnectionCnt = new ConcurrentHashMap<>();
+    
+    private static Map<String, Timer> embeddedStorageTimers = new ConcurrentHashMap<>();
+    
+    private static Map<String, DistributionSummary> embeddedStorageSummaries = new ConcurrentHashMap<>();
 
     static {
         ImmutableTag immutableTag = new ImmutableTag("module", "core");
@@ -82,6 +92,21 @@ public final class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "longConnection"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, longConnection);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "connection_eject_scanned"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, connectionEjectScanned);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "connection_eject_outdated"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, connectionEjectOutdated);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "connection_eject_scan_timer"));
+        CONNECTION_EJECT_SCAN_TIMER = NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_monitor", tags);
 
         tags = new ArrayList<>();
         tags.add(immutableTag);
@@ -135,6 +160,85 @@ public final class MetricsMonitor {
         return longConnection;
     }
     
+    public static AtomicInteger getConnectionEjectScanned() {
+        return connectionEjectScanned;
+    }
+    
+    public static AtomicInteger getConnectionEjectOutdated() {
+        return connectionEjectOutdated;
+    }
+    
+    /**
+     * Record cost of one connection eject scan.
+     *
+     * @param costMillis cost milliseconds
+     */
+    public static void recordConnectionEjectScan(long costMillis) {
+        if (null != CONNECTION_EJECT_SCAN_TIMER) {
+            CONNECTION_EJECT_SCAN_TIMER.record(costMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Record the latency of embedded storage read.
+     *
+     * @param readMode  read mode, such as raft or local
+     * @param costNanos cost nanoseconds
+     */
+    public static void recordEmbeddedStorageRead(String readMode, long costNanos) {
+        Timer timer = getEmbeddedStorageTimer("embedded_storage_read", readMode);
+        if (null != timer) {
+            timer.record(costNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    /**
+     * Record the size and cost of derby snapshot saving.
+     *
+     * @param type       snapshot type, such as base or delta
+     * @param size       size of snapshot files in bytes
+     * @param costMillis cost milliseconds
+     */
+    public static void recordDerbySnapshotSave(String type, long size, long costMillis) {
+        Timer timer = getEmbeddedStorageTimer("derby_snapshot_save", type);
+        if (null != timer) {
+            timer.record(costMillis, TimeUnit.MILLISECONDS);
+        }
+        DistributionSummary summary = embeddedStorageSummaries.computeIfAbsent(type,
+                mode -> NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor",
+                        buildEmbeddedStorageTags("derby_snapshot_size", mode)));
+        if (null != summary) {
+            summary.record(size);
+        }
+    }
+    
+    /**
+     * Record the cost of derby snapshot loading, which is the catch-up time of follower installing snapshot.
+     *
+     * @param mode       load mode, such as restore or delta
+     * @param costMillis cost milliseconds
+     */
+    public static void recordDerbySnapshotLoad(String mode, long costMillis) {
+        Timer timer = getEmbeddedStorageTimer("derby_snapshot_load", mode);
+        if (null != timer) {
+            timer.record(costMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private static Timer getEmbeddedStorageTimer(String name, String mode) {
+        return embeddedStorageTimers.computeIfAbsent(name + "@" + mode,
+                key -> NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_monitor",
+                        buildEmbeddedStorageTags(name, mode)));
+    }
+    
+    private static List<Tag> buildEmbeddedStorageTags(String name, String mode) {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "core"));
+        tags.add(new ImmutableTag("name", name));
+        tags.add(new ImmutableTag("mode", mode));
+        return tags;
+    }
+    
     public static void raftReadIndexFailed() {
         RAFT_READ_INDEX_FAILED.record(1);
     }
@@ -115,6 +115,22 @@ public final class NacosMeterRegistryCenter {
         return null;
     }
     
+    /**
+     * Get or register a timer which publishes percentile histogram buckets.
+     *
+     * @param registry registry name
+     * @param name     meter name
+     * @param tags     meter tags
+     * @return timer, or null if registry not found
+     */
+    public static Timer histogramTimer(String registry, String name, Iterable<Tag> tags) {
+        CompositeMeterRegistry compositeMeterRegistry = METER_REGISTRIES.get(registry);
+        if (compositeMeterRegistry != null) {
+            return Timer.builder(name).tags(tags).publishPercentileHistogram().register(compositeMeterRegistry);
+        }
+        return null;
+    }
+    
     public static DistributionSummary summary(String registry, String name, Iterable<Tag> tags) {
         CompositeMeterRegistry compositeMeterRegistry = METER_REGISTRIES.get(registry);
         if (compositeMeterRegistry != null) {
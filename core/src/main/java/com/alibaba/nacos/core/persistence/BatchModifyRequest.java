@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One caller's modify requests and extend info in a group committed raft log.
+ *
+ * @author agent
+ */
+public class BatchModifyRequest implements Serializable {
+    
+    private static final long serialVersionUID = -2380563429387510362L;
+    
+    private List<ModifyRequest> sqlContext;
+    
+    private Map<String, String> extendInfo;
+    
+    public BatchModifyRequest() {
+    }
+    
+    public BatchModifyRequest(List<ModifyRequest> sqlContext, Map<String, String> extendInfo) {
+        this.sqlContext = sqlContext;
+        this.extendInfo = new HashMap<>(extendInfo);
+    }
+    
+    public List<ModifyRequest> getSqlContext() {
+        return sqlContext;
+    }
+    
+    public void setSqlContext(List<ModifyRequest> sqlContext) {
+        this.sqlContext = sqlContext;
+    }
+    
+    public Map<String, String> getExtendInfo() {
+        return extendInfo;
+    }
+    
+    public void setExtendInfo(Map<String, String> extendInfo) {
+        this.extendInfo = extendInfo;
+    }
+    
+    @Override
+    public String toString() {
+        return "BatchModifyRequest{" + "sqlContext=" + sqlContext + ", extendInfo=" + extendInfo + '}';
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.consistency.serialize.CompactCodec;
+import com.alibaba.nacos.consistency.serialize.CompactInput;
+import com.alibaba.nacos.consistency.serialize.CompactOutput;
+import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact codec of {@link BatchModifyRequest}.
+ *
+ * @author agent
+ */
+public class BatchModifyRequestCodec implements CompactCodec<BatchModifyRequest> {
+    
+    public static final int ID = 2;
+    
+    @Override
+    public int id() {
+        return ID;
+    }
+    
+    @Override
+    public Class<BatchModifyRequest> type() {
+        return BatchModifyRequest.class;
+    }
+    
+    @Override
+    public void encode(BatchModifyRequest value, CompactOutput output) {
+        output.writeValue(value.getSqlContext());
+        output.writeValue(value.getExtendInfo());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public BatchModifyRequest decode(CompactInput input) {
+        BatchModifyRequest result = new BatchModifyRequest();
+        result.setSqlContext((List<ModifyRequest>) input.readValue());
+        result.setExtendInfo((Map<String, String>) input.readValue());
+        return result;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.sys.utils.DiskUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Consumer;
+import java.util.zip.Checksum;
+
+/**
+ * Journal of the write logs applied to embedded storage since the last base image of derby snapshot.
+ *
+ * <p>The base image is a full derby backup archive cached locally and identified by its checksum. The journal is
+ * appended under the state machine apply and read by the snapshot operation under the write lock, so it always matches
+ * the database state. The base id is only kept in memory, so after restart the first snapshot load always restores
+ * the base image.
+ *
+ * @author agent
+ */
+public class DerbyDeltaJournal {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(DerbyDeltaJournal.class);
+    
+    private static final String JOURNAL_FILE = "delta.log";
+    
+    private static final String BASE_ARCHIVE = "derby_base.zip";
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final String journalDir;
+    
+    private final int baseInterval;
+    
+    private final long maxDeltaBytes;
+    
+    private DataOutputStream output;
+    
+    private volatile String baseId;
+    
+    private long count;
+    
+    private long bytes;
+    
+    private int snapshotsSinceBase;
+    
+    private boolean broken;
+    
+    public DerbyDeltaJournal(String journalDir, int baseInterval, long maxDeltaBytes) {
+        this.journalDir = journalDir;
+        this.baseInterval = baseInterval;
+        this.maxDeltaBytes = maxDeltaBytes;
+        reset(null);
+    }
+    
+    /**
+     * Append an applied write log.
+     *
+     * @param entry serialized write log
+     */
+    public synchronized void append(byte[] entry) {
+        if (broken) {
+            return;
+        }
+        try {
+            output.writeInt(entry.length);
+            output.write(entry);
+            count++;
+            bytes += entry.length + Integer.BYTES;
+        } catch (IOException e) {
+            LOGGER.error("Append derby delta journal failed, next snapshot will save base image.", e);
+            broken = true;
+        }
+    }
+    
+    /**
+     * Whether the next snapshot should save a new base image instead of delta.
+     *
+     * @return {@code true} if need new base image
+     */
+    public synchronized boolean isBaseRequired() {
+        return null == baseId || broken || snapshotsSinceBase >= baseInterval || bytes >= maxDeltaBytes
+                || !getBaseArchive().exists();
+    }
+    
+    /**
+     * Whether appending journal failed, then the journal does not match the local database.
+     *
+     * @return {@code true} if journal is broken
+     */
+    public synchronized boolean isBroken() {
+        return broken;
+    }
+    
+    /**
+     * Reset journal with new base image.
+     *
+     * @param newBaseId id of base image, {@code null} means no base image
+     */
+    public synchronized void reset(String newBaseId) {
+        closeOutput();
+        try {
+            DiskUtils.forceMkdir(journalDir);
+            output = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(getJournalFile(), false), BUFFER_SIZE));
+            broken = false;
+        } catch (IOException e) {
+            LOGGER.error("Reset derby delta journal failed.", e);
+            broken = true;
+        }
+        baseId = newBaseId;
+        count = 0;
+        bytes = 0;
+        snapshotsSinceBase = 0;
+    }
+    
+    /**
+     * Cache the base image archive locally and reset journal with it.
+     *
+     * @param archive   base image archive
+     * @param newBaseId id of base image
+     * @throws IOException io exception during copy
+     */
+    public synchronized void resetWithBase(File archive, String newBaseId) throws IOException {
+        reset(null);
+        DiskUtils.forceMkdir(journalDir);
+        Files.copy(archive.toPath(), getBaseArchive().toPath(), StandardCopyOption.REPLACE_EXISTING);
+        baseId = newBaseId;
+    }
+    
+    /**
+     * Link or copy the cached base image archive to target.
+     *
+     * @param target target file
+     * @throws IOException io exception during link and copy
+     */
+    public void linkBaseArchive(File target) throws IOException {
+        Path source = getBaseArchive().toPath();
+        Files.deleteIfExists(target.toPath());
+        try {
+            Files.createLink(target.toPath(), source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, target.toPath());
+        }
+    }
+    
+    /**
+     * Compress current journal into archive.
+     *
+     * @param outputFile output archive
+     * @param checksum   checksum of archive
+     * @return count of entries in archive
+     * @throws IOException io exception during compress
+     */
+    public synchronized long writeTo(String outputFile, Checksum checksum) throws IOException {
+        output.flush();
+        try (InputStream inputStream = new FileInputStream(getJournalFile())) {
+            DiskUtils.compressIntoZipFile(JOURNAL_FILE, inputStream, outputFile, checksum);
+        }
+        snapshotsSinceBase++;
+        return count;
+    }
+    
+    /**
+     * Read entries of journal file decompressed from archive.
+     *
+     * @param journalFile journal file
+     * @param skip        count of entries to skip
+     * @param consumer    consumer of entry
+     * @return count of entries in file
+     * @throws IOException io exception during read or the file is truncated
+     */
+    public static long read(File journalFile, long skip, Consumer<byte[]> consumer) throws IOException {
+        long read = 0;
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(journalFile), BUFFER_SIZE))) {
+            while (true) {
+                int length;
+                try {
+                    length = input.readInt();
+                } catch (EOFException ignore) {
+                    return read;
+                }
+                byte[] entry = new byte[length];
+                input.readFully(entry);
+                if (read++ >= skip) {
+                    consumer.accept(entry);
+                }
+            }
+        }
+    }
+    
+    public static String getJournalFileName() {
+        return JOURNAL_FILE;
+    }
+    
+    public String getBaseId() {
+        return baseId;
+    }
+    
+    public synchronized long getCount() {
+        return count;
+    }
+    
+    public synchronized long getBytes() {
+        return bytes;
+    }
+    
+    private File getJournalFile() {
+        return Paths.get(journalDir, JOURNAL_FILE).toFile();
+    }
+    
+    private File getBaseArchive() {
+        return Paths.get(journalDir, BASE_ARCHIVE).toFile();
+    }
+    
+    private void closeOutput() {
+        if (null == output) {
+            return;
+        }
+        try {
+            output.close();
+        } catch (IOException e) {
+            LOGGER.warn("Close derby delta journal failed.", e);
+        }
+        output = null;
+    }
+}
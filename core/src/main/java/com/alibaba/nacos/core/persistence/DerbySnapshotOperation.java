@@ -21,6 +21,7 @@ import com.alibaba.nacos.consistency.snapshot.LocalFileMeta;
 import com.alibaba.nacos.consistency.snapshot.Reader;
 import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
 import com.alibaba.nacos.consistency.snapshot.Writer;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.persistence.constants.PersistenceConstant;
 import com.alibaba.nacos.persistence.datasource.DataSourceService;
 import com.alibaba.nacos.persistence.datasource.DynamicDataSource;
@@ -44,12 +45,16 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.zip.Checksum;
 
 /**
  * Derby Snapshot operation.
  * TODO depend on jraft strongly, Waiting for addition split.
  *
+ * <p>If {@link DerbyDeltaJournal} is set, snapshots are saved as a base image plus the logs applied since the base
+ * image, the base image is only backed up again periodically or when the delta becomes too large.
+ *
  * @author <a href="mailto:liaochuntao@live.com">liaochuntao</a>
  */
 public class DerbySnapshotOperation implements SnapshotOperation {
@@ -73,10 +78,38 @@ public class DerbySnapshotOperation implements SnapshotOperation {
     
     private final String checkSumKey = "checkSum";
     
+    private final String baseArchive = "derby_base.zip";
+    
+    private final String deltaArchive = "derby_delta.zip";
+    
+    private final String deltaDir = "derby_delta";
+    
+    private final String baseIdKey = "baseId";
+    
+    private final String countKey = "count";
+    
     private final ReentrantReadWriteLock.WriteLock writeLock;
     
+    private final DerbyDeltaJournal deltaJournal;
+    
+    private final Consumer<byte[]> deltaApplier;
+    
     public DerbySnapshotOperation(ReentrantReadWriteLock.WriteLock writeLock) {
+        this(writeLock, null, null);
+    }
+    
+    /**
+     * Create derby snapshot operation.
+     *
+     * @param writeLock    write lock of embedded storage
+     * @param deltaJournal journal of applied logs since base image, {@code null} means save full snapshot
+     * @param deltaApplier applier to replay logs of delta snapshot
+     */
+    public DerbySnapshotOperation(ReentrantReadWriteLock.WriteLock writeLock, DerbyDeltaJournal deltaJournal,
+            Consumer<byte[]> deltaApplier) {
         this.writeLock = writeLock;
+        this.deltaJournal = deltaJournal;
+        this.deltaApplier = deltaApplier;
     }
     
     @Override
@@ -87,6 +120,10 @@ public class DerbySnapshotOperation implements SnapshotOperation {
             final Lock lock = writeLock;
             lock.lock();
             try {
+                if (null != deltaJournal) {
+                    callFinally.accept(saveIncrementalSnapshot(writer), null);
+                    return;
+                }
                 final String writePath = writer.getPath();
                 final String parentPath = Paths.get(writePath, snapshotDir).toString();
                 DiskUtils.deleteDirectory(parentPath);
@@ -122,6 +159,9 @@ public class DerbySnapshotOperation implements SnapshotOperation {
         final Lock lock = writeLock;
         lock.lock();
         try {
+            if (null == reader.getFileMeta(snapshotArchive) && null != reader.getFileMeta(baseArchive)) {
+                return loadIncrementalSnapshot(reader);
+            }
             final Checksum checksum = new CRC64();
             DiskUtils.decompress(sourceFile, readerPath, checksum);
             
@@ -145,6 +185,9 @@ public class DerbySnapshotOperation implements SnapshotOperation {
                 return null;
             });
             DiskUtils.deleteDirectory(loadPath);
+            if (null != deltaJournal) {
+                deltaJournal.reset(null);
+            }
             NotifyCenter.publishEvent(DerbyLoadEvent.INSTANCE);
             return true;
         } catch (final Throwable t) {
@@ -156,6 +199,120 @@ public class DerbySnapshotOperation implements SnapshotOperation {
         }
     }
     
+    /**
+     * Save base image if required, otherwise reuse the cached base image and save the journal as delta.
+     */
+    private boolean saveIncrementalSnapshot(Writer writer) throws Exception {
+        final long startTime = System.currentTimeMillis();
+        final String writePath = writer.getPath();
+        final File baseFile = Paths.get(writePath, baseArchive).toFile();
+        final boolean saveBase = deltaJournal.isBaseRequired();
+        if (saveBase) {
+            final String parentPath = Paths.get(writePath, snapshotDir).toString();
+            DiskUtils.deleteDirectory(parentPath);
+            DiskUtils.forceMkdir(parentPath);
+            doDerbyBackup(parentPath);
+            final Checksum checksum = new CRC64();
+            DiskUtils.compress(writePath, snapshotDir, baseFile.getPath(), checksum);
+            DiskUtils.deleteDirectory(parentPath);
+            deltaJournal.resetWithBase(baseFile, Long.toHexString(checksum.getValue()));
+        } else {
+            deltaJournal.linkBaseArchive(baseFile);
+        }
+        final String baseId = deltaJournal.getBaseId();
+        final LocalFileMeta baseMeta = new LocalFileMeta();
+        baseMeta.append(checkSumKey, baseId);
+        baseMeta.append(baseIdKey, baseId);
+        
+        final File deltaFile = Paths.get(writePath, deltaArchive).toFile();
+        final Checksum deltaChecksum = new CRC64();
+        final long count = deltaJournal.writeTo(deltaFile.getPath(), deltaChecksum);
+        final LocalFileMeta deltaMeta = new LocalFileMeta();
+        deltaMeta.append(checkSumKey, Long.toHexString(deltaChecksum.getValue()));
+        deltaMeta.append(baseIdKey, baseId);
+        deltaMeta.append(countKey, String.valueOf(count));
+        
+        final String type = saveBase ? "base" : "delta";
+        final long costMillis = System.currentTimeMillis() - startTime;
+        final long size = (saveBase ? baseFile.length() : 0L) + deltaFile.length();
+        MetricsMonitor.recordDerbySnapshotSave(type, size, costMillis);
+        LOGGER.info("Save derby {} snapshot, baseId={}, delta count={}, size={} bytes, cost={} ms.", type, baseId,
+                count, size, costMillis);
+        return writer.addFile(baseArchive, baseMeta) && writer.addFile(deltaArchive, deltaMeta);
+    }
+    
+    /**
+     * Load incremental snapshot. If local database is built from the same base image and not ahead of the snapshot, only
+     * the missing tail of delta is replayed, otherwise restore the base image and replay all delta. A broken local
+     * journal means the local database state is unknown, so the base image is always restored.
+     */
+    private boolean loadIncrementalSnapshot(Reader reader) throws Exception {
+        final long startTime = System.currentTimeMillis();
+        final String readerPath = reader.getPath();
+        final LocalFileMeta baseMeta = reader.getFileMeta(baseArchive);
+        final LocalFileMeta deltaMeta = reader.getFileMeta(deltaArchive);
+        final String baseId = (String) baseMeta.get(baseIdKey);
+        final long deltaCount = Long.parseLong((String) deltaMeta.get(countKey));
+        
+        final String deltaPath = Paths.get(readerPath, deltaDir).toString();
+        DiskUtils.deleteDirectory(deltaPath);
+        final Checksum deltaChecksum = new CRC64();
+        DiskUtils.decompress(Paths.get(readerPath, deltaArchive).toString(), deltaPath, deltaChecksum);
+        checkSum(deltaMeta, deltaChecksum);
+        
+        long skip = 0L;
+        final boolean restore = null == deltaJournal || deltaJournal.isBroken() || !Objects.equals(baseId,
+                deltaJournal.getBaseId()) || deltaJournal.getCount() > deltaCount;
+        if (restore) {
+            restoreBase(reader, baseMeta, baseId);
+        } else {
+            skip = deltaJournal.getCount();
+        }
+        final File journalFile = Paths.get(deltaPath, DerbyDeltaJournal.getJournalFileName()).toFile();
+        final long total = DerbyDeltaJournal.read(journalFile, skip, entry -> {
+            deltaApplier.accept(entry);
+            if (null != deltaJournal) {
+                deltaJournal.append(entry);
+            }
+        });
+        DiskUtils.deleteDirectory(deltaPath);
+        if (total != deltaCount) {
+            throw new IllegalArgumentException("Snapshot delta count mismatch, expect " + deltaCount + " but " + total);
+        }
+        NotifyCenter.publishEvent(DerbyLoadEvent.INSTANCE);
+        final long costMillis = System.currentTimeMillis() - startTime;
+        MetricsMonitor.recordDerbySnapshotLoad(restore ? "restore" : "delta", costMillis);
+        LOGGER.info("Load derby snapshot, baseId={}, restore base={}, replay {} of {} delta, cost={} ms.", baseId,
+                restore, total - skip, total, costMillis);
+        return true;
+    }
+    
+    void restoreBase(Reader reader, LocalFileMeta baseMeta, String baseId) throws Exception {
+        final String readerPath = reader.getPath();
+        final File baseFile = Paths.get(readerPath, baseArchive).toFile();
+        final Checksum checksum = new CRC64();
+        DiskUtils.decompress(baseFile.getPath(), readerPath, checksum);
+        checkSum(baseMeta, checksum);
+        final String loadPath = Paths.get(readerPath, snapshotDir, PersistenceConstant.DERBY_BASE_DIR).toString();
+        LOGGER.info("snapshot base load from : {}, and copy to : {}", loadPath, derbyBaseDir);
+        doDerbyRestoreFromBackup(() -> {
+            DiskUtils.copyDirectory(new File(loadPath), new File(derbyBaseDir));
+            LOGGER.info("Complete database recovery from base image");
+            return null;
+        });
+        DiskUtils.deleteDirectory(loadPath);
+        if (null != deltaJournal) {
+            deltaJournal.resetWithBase(baseFile, baseId);
+        }
+    }
+    
+    private void checkSum(LocalFileMeta fileMeta, Checksum checksum) {
+        if (fileMeta.getFileMeta().containsKey(checkSumKey) && !Objects.equals(Long.toHexString(checksum.getValue()),
+                fileMeta.get(checkSumKey))) {
+            throw new IllegalArgumentException("Snapshot checksum failed");
+        }
+    }
+    
     private void doDerbyBackup(String backupDirectory) throws Exception {
         DataSourceService sourceService = DynamicDataSource.getInstance().getDataSource();
         DataSource dataSource = sourceService.getJdbcTemplate().getDataSource();
@@ -29,7 +29,6 @@ import com.alibaba.nacos.common.utils.LoggerUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.Preconditions;
 import com.alibaba.nacos.common.utils.StringUtils;
-import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
@@ -40,6 +39,8 @@ import com.alibaba.nacos.consistency.exception.ConsistencyException;
 import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
+import com.alibaba.nacos.core.distributed.raft.utils.JRaftUtils;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.ClassUtils;
 import com.alibaba.nacos.persistence.configuration.condition.ConditionDistributedEmbedStorage;
 import com.alibaba.nacos.persistence.constants.PersistenceConstant;
@@ -57,8 +58,10 @@ import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
 import com.alibaba.nacos.persistence.repository.embedded.sql.QueryType;
 import com.alibaba.nacos.persistence.repository.embedded.sql.SelectRequest;
 import com.alibaba.nacos.persistence.utils.PersistenceExecutor;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.DiskUtils;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Conditional;
@@ -70,7 +73,9 @@ import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -78,10 +83,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -153,6 +160,52 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
      */
     private static final String DATA_IMPORT_KEY = "00--0-data_import-0--00";
     
+    /**
+     * The group commit operation is dedicated key, the log data is a list of {@link BatchModifyRequest}.
+     */
+    private static final String GROUP_COMMIT_KEY = "00--0-group_commit-0--00";
+    
+    private static final String GROUP_COMMIT_ENABLED = "nacos.core.embedded.storage.group.commit.enabled";
+    
+    private static final String GROUP_COMMIT_WINDOW_MS = "nacos.core.embedded.storage.group.commit.window.ms";
+    
+    private static final String GROUP_COMMIT_MAX_SIZE = "nacos.core.embedded.storage.group.commit.max.size";
+    
+    private static final long WRITE_TIMEOUT_MS = 10_000L;
+    
+    private static final long READ_TIMEOUT_MS = 5_000L;
+    
+    /**
+     * Read mode of embedded storage, {@code raft} reads by raft protocol, {@code local} reads local derby directly
+     * after the read barrier passed.
+     */
+    private static final String READ_MODE = "nacos.core.embedded.storage.read.mode";
+    
+    private static final String READ_MODE_RAFT = "raft";
+    
+    private static final String READ_MODE_LOCAL = "local";
+    
+    /**
+     * Timeout of read barrier in local read mode, the query goes through raft read after timeout.
+     */
+    private static final String READ_BARRIER_TIMEOUT_MS = "nacos.core.embedded.storage.read.barrier.timeout.ms";
+    
+    /**
+     * Timeout of read barrier for the query which should wait until data present, a larger bound than normal query to
+     * tolerate leader election, but the query should never hang forever.
+     */
+    private static final long BLOCK_READ_BARRIER_TIMEOUT_MS = 30_000L;
+    
+    /**
+     * Whether to save raft snapshots as base image plus delta, all members should be able to load incremental snapshots
+     * before enabled.
+     */
+    private static final String INCREMENTAL_SNAPSHOT_ENABLED = "nacos.core.embedded.storage.snapshot.incremental.enabled";
+    
+    private static final String SNAPSHOT_BASE_INTERVAL = "nacos.core.embedded.storage.snapshot.base.interval";
+    
+    private static final String SNAPSHOT_DELTA_MAX_BYTES = "nacos.core.embedded.storage.snapshot.delta.max.bytes";
+    
     private final ServerMemberManager memberManager;
     
     private CPProtocol protocol;
@@ -163,7 +216,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
     
     private TransactionTemplate transactionTemplate;
     
-    private final Serializer serializer = SerializeFactory.getDefault();
+    private final Serializer serializer = JRaftUtils.getGroupSerializer(PersistenceConstant.CONFIG_MODEL_RAFT_GROUP);
     
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     
@@ -171,6 +224,14 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
     
     private final ReentrantReadWriteLock.WriteLock writeLock = lock.writeLock();
     
+    private RaftWriteGroupCommitter groupCommitter;
+    
+    private String readMode = READ_MODE_RAFT;
+    
+    private long readBarrierTimeoutMs = READ_TIMEOUT_MS;
+    
+    private DerbyDeltaJournal deltaJournal;
+    
     public DistributedDatabaseOperateImpl(ServerMemberManager memberManager, ProtocolManager protocolManager)
             throws Exception {
         this.memberManager = memberManager;
@@ -206,8 +267,37 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             }
         });
         
+        // The snapshot operation is loaded when the processor added, so init the delta journal before.
+        if (EnvUtil.getProperty(INCREMENTAL_SNAPSHOT_ENABLED, Boolean.class, false)) {
+            this.deltaJournal = new DerbyDeltaJournal(Paths.get(EnvUtil.getNacosHome(), "data", "derby-delta").toString(),
+                    EnvUtil.getProperty(SNAPSHOT_BASE_INTERVAL, Integer.class, 10),
+                    EnvUtil.getProperty(SNAPSHOT_DELTA_MAX_BYTES, Long.class, 64L * 1024 * 1024));
+            LOGGER.info("enable incremental snapshot for embedded storage");
+        }
+        
         this.protocol.addRequestProcessors(Collections.singletonList(this));
         LOGGER.info("use DistributedTransactionServicesImpl");
+        
+        this.readMode = EnvUtil.getProperty(READ_MODE, READ_MODE_RAFT);
+        LOGGER.info("embedded storage read mode : {}", readMode);
+        this.readBarrierTimeoutMs = EnvUtil.getProperty(READ_BARRIER_TIMEOUT_MS, Long.class, READ_TIMEOUT_MS);
+        
+        // All members should enable group commit together, older members can't apply the group committed logs.
+        if (EnvUtil.getProperty(GROUP_COMMIT_ENABLED, Boolean.class, false)) {
+            this.groupCommitter = new RaftWriteGroupCommitter(EnvUtil.getProperty(GROUP_COMMIT_WINDOW_MS, Long.class, 2L),
+                    EnvUtil.getProperty(GROUP_COMMIT_MAX_SIZE, Integer.class, 64), this::writeBatch);
+            LOGGER.info("enable group commit for embedded storage writes");
+        }
+    }
+    
+    /**
+     * Stop the group commit stage, the writes not committed are failed.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (null != groupCommitter) {
+            groupCommitter.shutdown();
+        }
     }
     
     @JustForTest
@@ -220,13 +310,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LOGGER, "queryOne info : sql : {}", sql);
             
+            final boolean blockRead = EmbeddedStorageContextHolder
+                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (isLocalReadable(blockRead)) {
+                return localRead(() -> queryOne(jdbcTemplate, sql, cls));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_ONE_NO_MAPPER_NO_ARGS).sql(sql)
                             .className(cls.getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextHolder
-                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -244,13 +338,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LOGGER, "queryOne info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextHolder
+                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (isLocalReadable(blockRead)) {
+                return localRead(() -> queryOne(jdbcTemplate, sql, args, cls));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_ONE_NO_MAPPER_WITH_ARGS).sql(sql).args(args)
                             .className(cls.getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextHolder
-                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -268,13 +366,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LOGGER, "queryOne info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextHolder
+                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (isLocalReadable(blockRead)) {
+                return localRead(() -> queryOne(jdbcTemplate, sql, args, mapper));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_ONE_WITH_MAPPER_WITH_ARGS).sql(sql).args(args)
                             .className(mapper.getClass().getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextHolder
-                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -293,13 +395,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LOGGER, "queryMany info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextHolder
+                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (isLocalReadable(blockRead)) {
+                return localRead(() -> queryMany(jdbcTemplate, sql, args, mapper));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_MANY_WITH_MAPPER_WITH_ARGS).sql(sql).args(args)
                             .className(mapper.getClass().getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextHolder
-                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -317,13 +423,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LOGGER, "queryMany info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextHolder
+                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (isLocalReadable(blockRead)) {
+                return localRead(() -> queryMany(jdbcTemplate, sql, args, rClass));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_MANY_NO_MAPPER_WITH_ARGS).sql(sql).args(args)
                             .className(rClass.getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextHolder
-                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -341,13 +451,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LOGGER, "queryMany info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextHolder
+                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (isLocalReadable(blockRead)) {
+                return localRead(() -> queryMany(jdbcTemplate, sql, args));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_MANY_WITH_LIST_WITH_ARGS).sql(sql).args(args)
                             .build());
             
-            final boolean blockRead = EmbeddedStorageContextHolder
-                    .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -369,10 +483,52 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
      * @throws Exception Exception
      */
     private Response innerRead(ReadRequest request, boolean blockRead) throws Exception {
-        if (blockRead) {
-            return (Response) protocol.aGetData(request).join();
+        long startTime = System.nanoTime();
+        try {
+            if (blockRead) {
+                return (Response) protocol.aGetData(request).join();
+            }
+            return protocol.getData(request);
+        } finally {
+            MetricsMonitor.recordEmbeddedStorageRead(READ_MODE_RAFT, System.nanoTime() - startTime);
+        }
+    }
+    
+    /**
+     * Whether the query can be served from local derby, only when local read mode is enabled and the read barrier
+     * (ReadIndex or leader lease) passed, otherwise the query goes through raft read.
+     *
+     * @param blockRead is async read operation
+     * @return {@code true} if local derby is readable
+     */
+    private boolean isLocalReadable(boolean blockRead) {
+        if (!READ_MODE_LOCAL.equals(readMode)) {
+            return false;
+        }
+        try {
+            CompletableFuture<Boolean> barrier = protocol.readBarrier(group());
+            final long timeoutMs = blockRead ? Math.max(BLOCK_READ_BARRIER_TIMEOUT_MS, readBarrierTimeoutMs)
+                    : readBarrierTimeoutMs;
+            boolean passed = barrier.get(timeoutMs, TimeUnit.MILLISECONDS);
+            if (!passed) {
+                LoggerUtils.printIfDebugEnabled(LOGGER, "read barrier not passed, go to raft read");
+            }
+            return passed;
+        } catch (Exception e) {
+            LOGGER.warn("read barrier failed, go to raft read : {}", e.toString());
+            return false;
+        }
+    }
+    
+    private <R> R localRead(Supplier<R> query) {
+        long startTime = System.nanoTime();
+        readLock.lock();
+        try {
+            return query.get();
+        } finally {
+            readLock.unlock();
+            MetricsMonitor.recordEmbeddedStorageRead(READ_MODE_LOCAL, System.nanoTime() - startTime);
         }
-        return protocol.getData(request);
     }
     
     @Override
@@ -424,26 +580,24 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             
             LoggerUtils.printIfDebugEnabled(LOGGER, "modifyRequests info : {}", sqlContext);
             
-            // {timestamp}-{group}-{ip:port}-{signature}
-            
-            final String key =
-                    System.currentTimeMillis() + "-" + group() + "-" + memberManager.getSelf().getAddress() + "-"
-                            + MD5Utils.md5Hex(sqlContext.toString(), PersistenceConstant.DEFAULT_ENCODE);
-            WriteRequest request = WriteRequest.newBuilder().setGroup(group()).setKey(key)
-                    .setData(ByteString.copyFrom(serializer.serialize(sqlContext)))
-                    .putAllExtendInfo(EmbeddedStorageContextHolder.getCurrentExtendInfo())
-                    .setType(sqlContext.getClass().getCanonicalName()).build();
+            Map<String, String> extendInfo = EmbeddedStorageContextHolder.getCurrentExtendInfo();
             if (Objects.isNull(consumer)) {
-                Response response = this.protocol.write(request);
+                Response response = null != groupCommitter ? groupCommitter
+                        .submit(new BatchModifyRequest(sqlContext, extendInfo))
+                        .get(WRITE_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                        : this.protocol.write(buildWriteRequest(sqlContext, extendInfo));
                 if (response.getSuccess()) {
                     return true;
                 }
                 LOGGER.error("execute sql modify operation failed : {}", response.getErrMsg());
                 return false;
             } else {
-                this.protocol.writeAsync(request).whenComplete((BiConsumer<Response, Throwable>) (response, ex) -> {
+                CompletableFuture<Response> future = null != groupCommitter ? groupCommitter
+                        .submit(new BatchModifyRequest(sqlContext, extendInfo))
+                        : this.protocol.writeAsync(buildWriteRequest(sqlContext, extendInfo));
+                future.whenComplete((BiConsumer<Response, Throwable>) (response, ex) -> {
                     String errMsg = Objects.isNull(ex) ? response.getErrMsg() : ExceptionUtil.getCause(ex).getMessage();
-                    consumer.accept(response.getSuccess(),
+                    consumer.accept(Objects.isNull(ex) && response.getSuccess(),
                             StringUtils.isBlank(errMsg) ? null : new NJdbcException(errMsg));
                 });
             }
@@ -457,9 +611,57 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    private WriteRequest buildWriteRequest(List<ModifyRequest> sqlContext, Map<String, String> extendInfo) {
+        // {timestamp}-{group}-{ip:port}-{signature}
+        final String key =
+                System.currentTimeMillis() + "-" + group() + "-" + memberManager.getSelf().getAddress() + "-"
+                        + MD5Utils.md5Hex(sqlContext.toString(), PersistenceConstant.DEFAULT_ENCODE);
+        return WriteRequest.newBuilder().setGroup(group()).setKey(key)
+                .setData(ByteString.copyFrom(serializer.serialize(sqlContext))).putAllExtendInfo(extendInfo)
+                .setType(sqlContext.getClass().getCanonicalName()).build();
+    }
+    
+    /**
+     * Write the group committed requests as one raft log, a single request is written as a normal log.
+     */
+    private CompletableFuture<List<Response>> writeBatch(List<BatchModifyRequest> requests) {
+        if (requests.size() == 1) {
+            BatchModifyRequest request = requests.get(0);
+            CompletableFuture<Response> future = protocol
+                    .writeAsync(buildWriteRequest(request.getSqlContext(), request.getExtendInfo()));
+            return future.thenApply(Collections::singletonList);
+        }
+        // {timestamp}-{group}-{ip:port}-batch-{size}
+        final String key = System.currentTimeMillis() + "-" + group() + "-" + memberManager.getSelf().getAddress()
+                + "-batch-" + requests.size();
+        WriteRequest request = WriteRequest.newBuilder().setGroup(group()).setKey(key)
+                .setData(ByteString.copyFrom(serializer.serialize(new ArrayList<>(requests))))
+                .putExtendInfo(GROUP_COMMIT_KEY, Boolean.TRUE.toString())
+                .setType(BatchModifyRequest.class.getCanonicalName()).build();
+        CompletableFuture<Response> future = protocol.writeAsync(request);
+        return future.thenApply(response -> parseBatchResponse(response, requests.size()));
+    }
+    
+    private List<Response> parseBatchResponse(Response response, int size) {
+        if (!response.getSuccess()) {
+            // the whole log failed, every request gets the same failed response
+            return Collections.nCopies(size, response);
+        }
+        List<byte[]> data = serializer.deserialize(response.getData().toByteArray(), List.class);
+        List<Response> result = new ArrayList<>(data.size());
+        try {
+            for (byte[] each : data) {
+                result.add(Response.parseFrom(each));
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw new NJdbcException(e.getMessage(), e);
+        }
+        return result;
+    }
+    
     @Override
     public List<SnapshotOperation> loadSnapshotOperate() {
-        return Collections.singletonList(new DerbySnapshotOperation(writeLock));
+        return Collections.singletonList(new DerbySnapshotOperation(writeLock, deltaJournal, this::replayDelta));
     }
     
     @SuppressWarnings("all")
@@ -517,7 +719,33 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         final Lock lock = readLock;
         lock.lock();
         try {
-            List<ModifyRequest> sqlContext = serializer.deserialize(byteString.toByteArray(), List.class);
+            if (null != deltaJournal) {
+                deltaJournal.append(log.toByteArray());
+            }
+            return doApply(log, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Replay the log of delta snapshot, the caller should hold the write lock. The apply hooks are not called because
+     * {@link DerbyLoadEvent} will be published after snapshot loaded.
+     */
+    private void replayDelta(byte[] entry) {
+        try {
+            doApply(WriteRequest.parseFrom(entry), false);
+        } catch (InvalidProtocolBufferException e) {
+            throw new NJdbcException(e.getMessage(), e);
+        }
+    }
+    
+    private Response doApply(WriteRequest log, boolean runHooks) {
+        try {
+            if (log.containsExtendInfo(GROUP_COMMIT_KEY)) {
+                return applyBatch(log, runHooks);
+            }
+            List<ModifyRequest> sqlContext = serializer.deserialize(log.getData().toByteArray(), List.class);
             boolean isOk = false;
             if (log.containsExtendInfo(DATA_IMPORT_KEY)) {
                 isOk = doDataImport(jdbcTemplate, sqlContext);
@@ -527,11 +755,13 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
                 // If there is additional information, post processing
                 // Put into the asynchronous thread pool for processing to avoid blocking the
                 // normal execution of the state machine
-                PersistenceExecutor.executeEmbeddedDump(() -> {
-                    for (EmbeddedApplyHook each : EmbeddedApplyHookHolder.getInstance().getAllHooks()) {
-                        each.afterApply(log);
-                    }
-                });
+                if (runHooks) {
+                    PersistenceExecutor.executeEmbeddedDump(() -> {
+                        for (EmbeddedApplyHook each : EmbeddedApplyHookHolder.getInstance().getAllHooks()) {
+                            each.afterApply(log);
+                        }
+                    });
+                }
             }
             
             return Response.newBuilder().setSuccess(isOk).build();
@@ -545,8 +775,47 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         } catch (Exception e) {
             LoggerUtils.printIfWarnEnabled(LOGGER, "onApply warn : log : {}", log, e);
             return Response.newBuilder().setSuccess(false).setErrMsg(e.toString()).build();
-        } finally {
-            lock.unlock();
+        }
+    }
+    
+    /**
+     * Apply the group committed requests each in its own transaction, the response data is the serialized responses of
+     * each request.
+     */
+    private Response applyBatch(WriteRequest log, boolean runHooks) {
+        List<BatchModifyRequest> requests = serializer.deserialize(log.getData().toByteArray(), List.class);
+        List<byte[]> responses = new ArrayList<>(requests.size());
+        for (BatchModifyRequest each : requests) {
+            responses.add(applyBatchItem(log, each, runHooks).toByteArray());
+        }
+        return Response.newBuilder().setSuccess(true).setData(ByteString.copyFrom(serializer.serialize(responses)))
+                .build();
+    }
+    
+    private Response applyBatchItem(WriteRequest log, BatchModifyRequest request, boolean runHooks) {
+        try {
+            List<ModifyRequest> sqlContext = request.getSqlContext();
+            sqlContext.sort(Comparator.comparingInt(ModifyRequest::getExecuteNo));
+            boolean isOk = update(transactionTemplate, jdbcTemplate, sqlContext);
+            if (!runHooks) {
+                return Response.newBuilder().setSuccess(isOk).build();
+            }
+            WriteRequest itemLog = WriteRequest.newBuilder().setGroup(log.getGroup()).setKey(log.getKey())
+                    .putAllExtendInfo(request.getExtendInfo()).build();
+            PersistenceExecutor.executeEmbeddedDump(() -> {
+                for (EmbeddedApplyHook each : EmbeddedApplyHookHolder.getInstance().getAllHooks()) {
+                    each.afterApply(itemLog);
+                }
+            });
+            return Response.newBuilder().setSuccess(isOk).build();
+        } catch (BadSqlGrammarException | DataIntegrityViolationException e) {
+            return Response.newBuilder().setSuccess(false).setErrMsg(e.toString()).build();
+        } catch (DataAccessException e) {
+            // same as single log, let the state machine stop
+            throw e;
+        } catch (Exception e) {
+            LoggerUtils.printIfWarnEnabled(LOGGER, "onApply warn : request : {}", request, e);
+            return Response.newBuilder().setSuccess(false).setErrMsg(e.toString()).build();
         }
     }
     
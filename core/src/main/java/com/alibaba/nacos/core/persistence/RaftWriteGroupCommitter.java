@@ -0,0 +1,167 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.consistency.entity.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Group commit stage of embedded storage writes.
+ *
+ * <p>The writes submitted concurrently within the commit window are coalesced into one raft log, up to max batch size.
+ * The writer should return one {@link Response} for each request in the same order.
+ *
+ * @author agent
+ */
+public class RaftWriteGroupCommitter {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(RaftWriteGroupCommitter.class);
+    
+    private final long windowNanos;
+    
+    private final int maxBatchSize;
+    
+    private final Function<List<BatchModifyRequest>, CompletableFuture<List<Response>>> writer;
+    
+    private final BlockingQueue<PendingWrite> pendingWrites = new LinkedBlockingQueue<>();
+    
+    private final ExecutorService commitExecutor;
+    
+    private volatile boolean shutdown;
+    
+    public RaftWriteGroupCommitter(long windowMillis, int maxBatchSize,
+            Function<List<BatchModifyRequest>, CompletableFuture<List<Response>>> writer) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(windowMillis, 0L));
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.writer = writer;
+        this.commitExecutor = ExecutorFactory.Managed.newSingleExecutorService(
+                RaftWriteGroupCommitter.class.getCanonicalName(),
+                new NameThreadFactory("com.alibaba.nacos.core.persistence.group.commit"));
+        this.commitExecutor.execute(this::commitLoop);
+    }
+    
+    /**
+     * Submit a write into the group commit stage.
+     *
+     * @param request modify requests and extend info of caller
+     * @return future of the caller's own response
+     */
+    public CompletableFuture<Response> submit(BatchModifyRequest request) {
+        PendingWrite pendingWrite = new PendingWrite(request);
+        if (shutdown) {
+            pendingWrite.future.completeExceptionally(new IllegalStateException("group commit stage is shutdown"));
+            return pendingWrite.future;
+        }
+        pendingWrites.offer(pendingWrite);
+        if (shutdown) {
+            failPendingWrites();
+        }
+        return pendingWrite.future;
+    }
+    
+    /**
+     * Stop the commit stage, the writes not committed are failed.
+     */
+    public void shutdown() {
+        shutdown = true;
+        commitExecutor.shutdownNow();
+        failPendingWrites();
+    }
+    
+    private void failPendingWrites() {
+        PendingWrite each;
+        while (null != (each = pendingWrites.poll())) {
+            each.future.completeExceptionally(new IllegalStateException("group commit stage is shutdown"));
+        }
+    }
+    
+    private void commitLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<PendingWrite> batch = new ArrayList<>();
+                batch.add(pendingWrites.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remain = deadline - System.nanoTime();
+                    PendingWrite next = remain > 0 ? pendingWrites.poll(remain, TimeUnit.NANOSECONDS)
+                            : pendingWrites.poll();
+                    if (null == next) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void commit(List<PendingWrite> batch) {
+        List<BatchModifyRequest> requests = new ArrayList<>(batch.size());
+        for (PendingWrite each : batch) {
+            requests.add(each.request);
+        }
+        CompletableFuture<List<Response>> future;
+        try {
+            future = writer.apply(requests);
+        } catch (Throwable e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        future.whenComplete((responses, ex) -> {
+            Throwable error = ex;
+            if (null == error && responses.size() != batch.size()) {
+                error = new IllegalStateException(
+                        "group commit response size " + responses.size() + " mismatch request size " + batch.size());
+            }
+            if (null != error) {
+                LOGGER.error("group commit {} writes failed : {}", batch.size(), error.toString());
+                for (PendingWrite each : batch) {
+                    each.future.completeExceptionally(error);
+                }
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(responses.get(i));
+            }
+        });
+    }
+    
+    private static class PendingWrite {
+        
+        private final BatchModifyRequest request;
+        
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+        
+        private PendingWrite(BatchModifyRequest request) {
+            this.request = request;
+        }
+    }
+}
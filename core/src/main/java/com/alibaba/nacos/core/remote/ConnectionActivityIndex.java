@@ -0,0 +1,105 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Connection ids bucketed by last active time, ordered from the oldest bucket.
+ *
+ * <p>A connection is only moved when it is touched in a new bucket, so frequent requests of the same connection cost
+ * one map lookup. The entries left in the old buckets are dropped lazily when the old buckets are polled, so polling
+ * expired buckets only visits the connections which were not active after the expired time.
+ *
+ * @author agent
+ */
+public class ConnectionActivityIndex {
+    
+    private final long bucketMillis;
+    
+    private final ConcurrentSkipListMap<Long, Queue<String>> buckets = new ConcurrentSkipListMap<>();
+    
+    private final Map<String, Long> indexedBuckets = new ConcurrentHashMap<>();
+    
+    public ConnectionActivityIndex(long bucketMillis) {
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("bucketMillis should be positive");
+        }
+        this.bucketMillis = bucketMillis;
+    }
+    
+    /**
+     * Record the connection active at the time.
+     *
+     * @param connectionId connection id
+     * @param activeTime   active time of connection
+     */
+    public void touch(String connectionId, long activeTime) {
+        Long bucket = activeTime / bucketMillis;
+        Long previous = indexedBuckets.get(connectionId);
+        if (bucket.equals(previous)) {
+            return;
+        }
+        indexedBuckets.put(connectionId, bucket);
+        buckets.computeIfAbsent(bucket, key -> new ConcurrentLinkedQueue<>()).offer(connectionId);
+    }
+    
+    /**
+     * Remove the connection from index.
+     *
+     * @param connectionId connection id
+     */
+    public void remove(String connectionId) {
+        indexedBuckets.remove(connectionId);
+    }
+    
+    /**
+     * Poll the connections indexed before the expire time, the polled connections are removed from index and should be
+     * touched again if still alive.
+     *
+     * @param expireTime connections not active since this time are polled
+     * @return connection ids polled
+     */
+    public List<String> pollExpired(long expireTime) {
+        long expireBucket = expireTime / bucketMillis;
+        List<String> result = new ArrayList<>();
+        Map.Entry<Long, Queue<String>> entry;
+        while (null != (entry = buckets.firstEntry()) && entry.getKey() < expireBucket) {
+            buckets.remove(entry.getKey());
+            for (String each : entry.getValue()) {
+                if (indexedBuckets.remove(each, entry.getKey())) {
+                    result.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    public int size() {
+        return indexedBuckets.size();
+    }
+    
+    public int bucketCount() {
+        return buckets.size();
+    }
+}
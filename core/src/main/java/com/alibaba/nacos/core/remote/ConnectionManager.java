@@ -62,6 +62,11 @@ public class ConnectionManager {
     
     Map<String, Connection> connections = new ConcurrentHashMap<>();
     
+    /**
+     * Connections ordered by active time, bucketed by second.
+     */
+    final ConnectionActivityIndex activityIndex = new ConnectionActivityIndex(1000L);
+    
     private RuntimeConnectionEjector runtimeConnectionEjector;
     
     private ClientConnectionEventListenerRegistry clientConnectionEventListenerRegistry;
@@ -113,6 +118,7 @@ public class ConnectionManager {
                 connection.setTraced(true);
             }
             connections.put(connectionId, connection);
+            activityIndex.touch(connectionId, System.currentTimeMillis());
             connectionForClientIp.computeIfAbsent(clientIp, k -> new AtomicInteger(0)).getAndIncrement();
             
             clientConnectionEventListenerRegistry.notifyClientConnected(connection);
@@ -147,6 +153,7 @@ public class ConnectionManager {
     public synchronized void unregister(String connectionId) {
         Connection remove = this.connections.remove(connectionId);
         if (remove != null) {
+            activityIndex.remove(connectionId);
             String clientIp = remove.getMetaInfo().clientIp;
             AtomicInteger atomicInteger = connectionForClientIp.get(clientIp);
             if (atomicInteger != null) {
@@ -235,6 +242,7 @@ public class ConnectionManager {
         Connection connection = connections.get(connectionId);
         if (connection != null) {
             connection.freshActiveTime();
+            activityIndex.touch(connectionId, System.currentTimeMillis());
         }
     }
     
@@ -350,6 +358,31 @@ public class ConnectionManager {
         return connections;
     }
     
+    /**
+     * Poll the connections which are not refreshed since the expire time.
+     *
+     * <p>The polled connections are removed from activity index, caller should refresh the connections which are still
+     * alive by {@link #refreshActiveTime(String)} or {@link #reindexActiveTime(String)}, or unregister them.
+     *
+     * @param expireTime expire time
+     * @return ids of connections which may be expired
+     */
+    public List<String> pollExpiredConnections(long expireTime) {
+        return activityIndex.pollExpired(expireTime);
+    }
+    
+    /**
+     * Put the connection back into activity index by its last active time without refreshing it.
+     *
+     * @param connectionId connection id
+     */
+    public void reindexActiveTime(String connectionId) {
+        Connection connection = connections.get(connectionId);
+        if (connection != null) {
+            activityIndex.touch(connectionId, connection.getMetaInfo().getLastActiveTime());
+        }
+    }
+    
     public Map<String, AtomicInteger> getConnectionForClientIp() {
         return connectionForClientIp;
     }
@@ -23,9 +23,11 @@ import com.alibaba.nacos.api.remote.request.ClientDetectionRequest;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.plugin.control.Loggers;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
@@ -39,6 +41,15 @@ import java.util.concurrent.TimeUnit;
  */
 public class NacosRuntimeConnectionEjector extends RuntimeConnectionEjector {
     
+    /**
+     * Push blocked connections are ejected after blocked 5 minutes, so check them every 10 rounds (about 30 seconds).
+     */
+    private static final int PUSH_BLOCK_CHECK_ROUNDS = 10;
+    
+    private static final long PUSH_BLOCK_TIMEOUT = 300 * 1000L;
+    
+    private int checkRounds;
+    
     public NacosRuntimeConnectionEjector() {
     
     }
@@ -68,17 +79,10 @@ public class NacosRuntimeConnectionEjector extends RuntimeConnectionEjector {
             Loggers.CONNECTION.info("Long connection metrics detail ,Total count ={}, sdkCount={},clusterCount={}",
                     totalCount, currentSdkClientCount, (totalCount - currentSdkClientCount));
             
-            Set<String> outDatedConnections = new HashSet<>();
-            long now = System.currentTimeMillis();
-            //outdated connections collect.
-            for (Map.Entry<String, Connection> entry : connections.entrySet()) {
-                Connection client = entry.getValue();
-                if (now - client.getMetaInfo().getLastActiveTime() >= KEEP_ALIVE_TIME) {
-                    outDatedConnections.add(client.getMetaInfo().getConnectionId());
-                } else if (client.getMetaInfo().pushQueueBlockTimesLastOver(300 * 1000)) {
-                    outDatedConnections.add(client.getMetaInfo().getConnectionId());
-                }
-            }
+            long startTime = System.currentTimeMillis();
+            Set<String> outDatedConnections = collectOutdatedConnections(startTime);
+            MetricsMonitor.getConnectionEjectOutdated().set(outDatedConnections.size());
+            MetricsMonitor.recordConnectionEjectScan(System.currentTimeMillis() - startTime);
             
             // check out date connection
             Loggers.CONNECTION.info("Out dated connection ,size={}", outDatedConnections.size());
@@ -105,7 +109,7 @@ public class NacosRuntimeConnectionEjector extends RuntimeConnectionEjector {
                                 public void onResponse(Response response) {
                                     latch.countDown();
                                     if (response != null && response.isSuccess()) {
-                                        connection.freshActiveTime();
+                                        connectionManager.refreshActiveTime(outDateConnectionId);
                                         successConnections.add(outDateConnectionId);
                                     }
                                 }
@@ -148,6 +152,37 @@ public class NacosRuntimeConnectionEjector extends RuntimeConnectionEjector {
         }
     }
     
+    /**
+     * Collect outdated connections from the connections not active since keep alive time, and the push blocked
+     * connections every {@link #PUSH_BLOCK_CHECK_ROUNDS} rounds.
+     */
+    private Set<String> collectOutdatedConnections(long now) {
+        Set<String> outDatedConnections = new HashSet<>();
+        List<String> expiredCandidates = connectionManager.pollExpiredConnections(now - KEEP_ALIVE_TIME);
+        int scanned = expiredCandidates.size();
+        for (String each : expiredCandidates) {
+            Connection client = connectionManager.getConnection(each);
+            if (null == client) {
+                continue;
+            }
+            // always put back to index, connection will be refreshed or unregistered after detection.
+            connectionManager.reindexActiveTime(each);
+            if (now - client.getMetaInfo().getLastActiveTime() >= KEEP_ALIVE_TIME) {
+                outDatedConnections.add(each);
+            }
+        }
+        if (++checkRounds % PUSH_BLOCK_CHECK_ROUNDS == 0) {
+            for (Connection client : connectionManager.connections.values()) {
+                scanned++;
+                if (client.getMetaInfo().pushQueueBlockTimesLastOver(PUSH_BLOCK_TIMEOUT)) {
+                    outDatedConnections.add(client.getMetaInfo().getConnectionId());
+                }
+            }
+        }
+        MetricsMonitor.getConnectionEjectScanned().set(scanned);
+        return outDatedConnections;
+    }
+    
     /**
      * eject the over limit connection.
      */
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.storage.kv;
+
+import com.alipay.sofa.jraft.util.BytesUtil;
+
+import java.util.Arrays;
+
+/**
+ * Key of byte array for sorted kv storage, ordered by unsigned lexicographical order.
+ *
+ * @author agent
+ */
+final class ByteArrayKey implements Comparable<ByteArrayKey> {
+    
+    private final byte[] origin;
+    
+    ByteArrayKey(byte[] origin) {
+        this.origin = origin;
+    }
+    
+    byte[] getOrigin() {
+        return origin;
+    }
+    
+    boolean startsWith(byte[] prefix) {
+        if (origin.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (origin[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public int compareTo(ByteArrayKey o) {
+        return BytesUtil.compare(origin, o.origin);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ByteArrayKey key = (ByteArrayKey) o;
+        return Arrays.equals(origin, key.origin);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(origin);
+    }
+}
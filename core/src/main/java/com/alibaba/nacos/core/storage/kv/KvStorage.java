@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.storage.kv;
 
 import com.alibaba.nacos.core.exception.KvStorageException;
 
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +40,11 @@ public interface KvStorage {
          */
         Memory,
     
+        /**
+         * Local append-only log storage with in-memory index.
+         */
+        Log,
+    
         /**
          * RocksDB storage.
          */
@@ -122,6 +128,23 @@ public interface KvStorage {
      */
     List<byte[]> allKeys() throws KvStorageException;
     
+    /**
+     * Get all key-value pairs whose key starts with the prefix. Sorted storages return them in key order.
+     *
+     * @param prefix prefix of key
+     * @return Map byte[], byte[]
+     * @throws KvStorageException KVStorageException
+     */
+    default Map<byte[], byte[]> prefixScan(byte[] prefix) throws KvStorageException {
+        List<byte[]> keys = new LinkedList<>();
+        for (byte[] each : allKeys()) {
+            if (new ByteArrayKey(each).startsWith(prefix)) {
+                keys.add(each);
+            }
+        }
+        return batchGet(keys);
+    }
+    
     /**
      * shutdown.
      */
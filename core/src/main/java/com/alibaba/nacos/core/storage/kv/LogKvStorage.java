@@ -0,0 +1,473 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.storage.kv;
+
+import com.alibaba.nacos.core.exception.ErrorCode;
+import com.alibaba.nacos.core.exception.KvStorageException;
+import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.sys.utils.DiskUtils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Kv storage based on an append-only log file with an in-memory index.
+ *
+ * <p>Every put and delete is appended to the log as a record, and the index keeps the position of the latest value of
+ * each key, so reads only do one positional read. A batch is encoded into one buffer, written by one append and synced
+ * by one fsync. The index is rebuilt by replaying the log when opened, and a broken record at the tail left by crash is
+ * truncated. The log is compacted by rewriting live records when the overwritten and deleted records take more than
+ * half of the log. A snapshot is a compacted copy of the log.
+ *
+ * <p>Record format: type(1 byte) | key length(4 bytes) | value length(4 bytes) | key | value | crc32(4 bytes).
+ *
+ * @author agent
+ */
+public class LogKvStorage implements KvStorage {
+    
+    static final String LOG_FILE_NAME = "kv.log";
+    
+    private static final String COMPACT_FILE_NAME = "kv.log.compact";
+    
+    private static final byte TYPE_PUT = 1;
+    
+    private static final byte TYPE_DELETE = 2;
+    
+    private static final int HEADER_SIZE = 9;
+    
+    private static final int CRC_SIZE = 4;
+    
+    private static final long DEFAULT_COMPACT_THRESHOLD = 64L * 1024 * 1024;
+    
+    private final String baseDir;
+    
+    private final long compactThreshold;
+    
+    private final ConcurrentSkipListMap<ByteArrayKey, ValuePosition> index = new ConcurrentSkipListMap<>();
+    
+    /**
+     * Read lock is held by reads and appends, write lock is held when the log file is replaced.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final ReentrantReadWriteLock.ReadLock readLock = lock.readLock();
+    
+    private final ReentrantReadWriteLock.WriteLock writeLock = lock.writeLock();
+    
+    /**
+     * Serialize appends, and keep index consistent with log for snapshot.
+     */
+    private final ReentrantLock appendLock = new ReentrantLock();
+    
+    private FileChannel channel;
+    
+    private volatile long writePosition;
+    
+    private volatile long garbageBytes;
+    
+    public LogKvStorage(String baseDir) throws IOException {
+        this(baseDir, DEFAULT_COMPACT_THRESHOLD);
+    }
+    
+    LogKvStorage(String baseDir, long compactThreshold) throws IOException {
+        this.baseDir = baseDir;
+        this.compactThreshold = compactThreshold;
+        DiskUtils.forceMkdir(baseDir);
+        open();
+    }
+    
+    private Path logPath() {
+        return Paths.get(baseDir, LOG_FILE_NAME);
+    }
+    
+    private void open() throws IOException {
+        index.clear();
+        garbageBytes = 0;
+        channel = FileChannel.open(logPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        writePosition = replay();
+        if (channel.size() > writePosition) {
+            Loggers.CORE.warn("[LogKvStorage] truncate broken tail of {} from {} to {}", logPath(), channel.size(),
+                    writePosition);
+            channel.truncate(writePosition);
+        }
+    }
+    
+    private long replay() throws IOException {
+        long position = 0;
+        try (InputStream inputStream = Files.newInputStream(logPath());
+                DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream))) {
+            byte[] header = new byte[HEADER_SIZE];
+            while (true) {
+                input.readFully(header);
+                ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+                byte type = headerBuffer.get();
+                int keyLength = headerBuffer.getInt();
+                int valueLength = headerBuffer.getInt();
+                if (!isValidRecord(type, keyLength, valueLength, position)) {
+                    break;
+                }
+                byte[] key = new byte[keyLength];
+                input.readFully(key);
+                byte[] value = new byte[valueLength];
+                input.readFully(value);
+                int crc = input.readInt();
+                if (crc != crc(header, key, value)) {
+                    break;
+                }
+                int recordSize = HEADER_SIZE + keyLength + valueLength + CRC_SIZE;
+                applyToIndex(type, key, position + HEADER_SIZE + keyLength, valueLength, recordSize);
+                position += recordSize;
+            }
+        } catch (EOFException ignored) {
+            // reach the end of log or a broken record at the tail.
+        }
+        return position;
+    }
+    
+    private boolean isValidRecord(byte type, int keyLength, int valueLength, long position) throws IOException {
+        boolean validType = TYPE_PUT == type || TYPE_DELETE == type;
+        if (!validType || keyLength < 0 || valueLength < 0) {
+            return false;
+        }
+        return position + HEADER_SIZE + keyLength + valueLength + CRC_SIZE <= channel.size();
+    }
+    
+    private void applyToIndex(byte type, byte[] key, long valuePosition, int valueLength, int recordSize) {
+        ValuePosition previous;
+        if (TYPE_PUT == type) {
+            previous = index.put(new ByteArrayKey(key), new ValuePosition(valuePosition, valueLength, recordSize));
+        } else {
+            previous = index.remove(new ByteArrayKey(key));
+            garbageBytes += recordSize;
+        }
+        if (null != previous) {
+            garbageBytes += previous.recordSize;
+        }
+    }
+    
+    @Override
+    public byte[] get(byte[] key) throws KvStorageException {
+        readLock.lock();
+        try {
+            ValuePosition position = index.get(new ByteArrayKey(key));
+            return null == position ? null : read(position);
+        } catch (IOException e) {
+            throw new KvStorageException(ErrorCode.KVStorageReadError, e);
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    @Override
+    public Map<byte[], byte[]> batchGet(List<byte[]> keys) throws KvStorageException {
+        readLock.lock();
+        try {
+            Map<byte[], byte[]> result = new HashMap<>(keys.size());
+            for (byte[] key : keys) {
+                ValuePosition position = index.get(new ByteArrayKey(key));
+                if (null != position) {
+                    result.put(key, read(position));
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            throw new KvStorageException(ErrorCode.KVStorageReadError, e);
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    @Override
+    public Map<byte[], byte[]> prefixScan(byte[] prefix) throws KvStorageException {
+        readLock.lock();
+        try {
+            Map<byte[], byte[]> result = new LinkedHashMap<>();
+            for (Map.Entry<ByteArrayKey, ValuePosition> entry : index.tailMap(new ByteArrayKey(prefix)).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                result.put(entry.getKey().getOrigin(), read(entry.getValue()));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new KvStorageException(ErrorCode.KVStorageReadError, e);
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    private byte[] read(ValuePosition position) throws IOException {
+        byte[] result = new byte[position.length];
+        ByteBuffer buffer = ByteBuffer.wrap(result);
+        long offset = position.offset;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of kv log at " + offset);
+            }
+            offset += read;
+        }
+        return result;
+    }
+    
+    @Override
+    public void put(byte[] key, byte[] value) throws KvStorageException {
+        append(TYPE_PUT, Collections.singletonList(key), Collections.singletonList(value),
+                ErrorCode.KVStorageWriteError);
+    }
+    
+    @Override
+    public void batchPut(List<byte[]> keys, List<byte[]> values) throws KvStorageException {
+        if (keys.size() != values.size()) {
+            throw new KvStorageException(ErrorCode.KVStorageBatchWriteError,
+                    "key's size must be equal to value's size");
+        }
+        append(TYPE_PUT, keys, values, ErrorCode.KVStorageBatchWriteError);
+    }
+    
+    @Override
+    public void delete(byte[] key) throws KvStorageException {
+        append(TYPE_DELETE, Collections.singletonList(key), null, ErrorCode.KVStorageDeleteError);
+    }
+    
+    @Override
+    public void batchDelete(List<byte[]> keys) throws KvStorageException {
+        append(TYPE_DELETE, keys, null, ErrorCode.KVStorageDeleteError);
+    }
+    
+    private void append(byte type, List<byte[]> keys, List<byte[]> values, ErrorCode errorCode)
+            throws KvStorageException {
+        readLock.lock();
+        try {
+            appendLock.lock();
+            try {
+                doAppend(type, keys, values);
+            } finally {
+                appendLock.unlock();
+            }
+        } catch (IOException e) {
+            throw new KvStorageException(errorCode, e);
+        } finally {
+            readLock.unlock();
+        }
+        compactIfNecessary();
+    }
+    
+    private void doAppend(byte type, List<byte[]> keys, List<byte[]> values) throws IOException {
+        List<Integer> records = new ArrayList<>(keys.size());
+        int totalSize = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            // deleting absent key needs no record.
+            if (TYPE_DELETE == type && !index.containsKey(new ByteArrayKey(keys.get(i)))) {
+                continue;
+            }
+            records.add(i);
+            totalSize += HEADER_SIZE + keys.get(i).length + (null == values ? 0 : values.get(i).length) + CRC_SIZE;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(totalSize);
+        for (int i : records) {
+            encode(buffer, type, keys.get(i), null == values ? new byte[0] : values.get(i));
+        }
+        buffer.flip();
+        long start = writePosition;
+        try {
+            long offset = start;
+            while (buffer.hasRemaining()) {
+                offset += channel.write(buffer, offset);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // drop the partial written records, the log is still ended with the last complete record.
+            channel.truncate(start);
+            throw e;
+        }
+        long position = start;
+        for (int i : records) {
+            int keyLength = keys.get(i).length;
+            int valueLength = null == values ? 0 : values.get(i).length;
+            int recordSize = HEADER_SIZE + keyLength + valueLength + CRC_SIZE;
+            applyToIndex(type, keys.get(i), position + HEADER_SIZE + keyLength, valueLength, recordSize);
+            position += recordSize;
+        }
+        writePosition = position;
+    }
+    
+    private void encode(ByteBuffer buffer, byte type, byte[] key, byte[] value) {
+        int start = buffer.position();
+        buffer.put(type).putInt(key.length).putInt(value.length);
+        byte[] header = new byte[HEADER_SIZE];
+        ByteBuffer.wrap(header).put(buffer.array(), start, HEADER_SIZE);
+        buffer.put(key).put(value).putInt(crc(header, key, value));
+    }
+    
+    private int crc(byte[] header, byte[] key, byte[] value) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(header);
+        crc32.update(key);
+        crc32.update(value);
+        return (int) crc32.getValue();
+    }
+    
+    private void compactIfNecessary() {
+        if (!isCompactNeeded()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (isCompactNeeded()) {
+                compact();
+            }
+        } catch (IOException e) {
+            Loggers.CORE.warn("[LogKvStorage] compact {} failed", logPath(), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private boolean isCompactNeeded() {
+        return garbageBytes >= compactThreshold && garbageBytes * 2 >= writePosition;
+    }
+    
+    private void compact() throws IOException {
+        Path compactPath = Paths.get(baseDir, COMPACT_FILE_NAME);
+        final long before = writePosition;
+        writeLiveRecords(compactPath);
+        channel.close();
+        Files.move(compactPath, logPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        open();
+        Loggers.CORE.info("[LogKvStorage] compact {} from {} bytes to {} bytes", logPath(), before, writePosition);
+    }
+    
+    private void writeLiveRecords(Path target) throws IOException {
+        try (FileChannel output = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Map.Entry<ByteArrayKey, ValuePosition> entry : index.entrySet()) {
+                byte[] key = entry.getKey().getOrigin();
+                byte[] value = read(entry.getValue());
+                ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + key.length + value.length + CRC_SIZE);
+                encode(buffer, TYPE_PUT, key, value);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    output.write(buffer);
+                }
+            }
+            output.force(true);
+        }
+    }
+    
+    @Override
+    public void doSnapshot(String backupPath) throws KvStorageException {
+        readLock.lock();
+        try {
+            appendLock.lock();
+            try {
+                DiskUtils.forceMkdir(backupPath);
+                writeLiveRecords(Paths.get(backupPath, LOG_FILE_NAME));
+            } finally {
+                appendLock.unlock();
+            }
+        } catch (IOException e) {
+            throw new KvStorageException(ErrorCode.KVStorageSnapshotSaveError, e);
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    @Override
+    public void snapshotLoad(String path) throws KvStorageException {
+        writeLock.lock();
+        try {
+            // If snapshot path is non-exist, means snapshot is empty
+            if (!Paths.get(path).toFile().exists()) {
+                return;
+            }
+            Path snapshotLog = Paths.get(path, LOG_FILE_NAME);
+            channel.close();
+            if (snapshotLog.toFile().exists()) {
+                Files.copy(snapshotLog, logPath(), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(logPath());
+            }
+            open();
+        } catch (IOException e) {
+            throw new KvStorageException(ErrorCode.KVStorageSnapshotLoadError, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    @Override
+    public List<byte[]> allKeys() throws KvStorageException {
+        List<byte[]> result = new ArrayList<>(index.size());
+        for (ByteArrayKey each : index.keySet()) {
+            result.add(each.getOrigin());
+        }
+        return result;
+    }
+    
+    @Override
+    public void shutdown() {
+        writeLock.lock();
+        try {
+            index.clear();
+            channel.close();
+        } catch (IOException e) {
+            Loggers.CORE.warn("[LogKvStorage] close {} failed", logPath(), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private static class ValuePosition {
+        
+        private final long offset;
+        
+        private final int length;
+        
+        private final int recordSize;
+        
+        private ValuePosition(long offset, int length, int recordSize) {
+            this.offset = offset;
+            this.length = length;
+            this.recordSize = recordSize;
+        }
+    }
+}
@@ -18,10 +18,9 @@ package com.alibaba.nacos.core.storage.kv;
 
 import com.alibaba.nacos.core.exception.ErrorCode;
 import com.alibaba.nacos.core.exception.KvStorageException;
-import com.alipay.sofa.jraft.util.BytesUtil;
 
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -34,18 +33,18 @@ import java.util.concurrent.ConcurrentSkipListMap;
  */
 public class MemoryKvStorage implements KvStorage {
     
-    private final Map<Key, byte[]> storage = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<ByteArrayKey, byte[]> storage = new ConcurrentSkipListMap<>();
     
     @Override
     public byte[] get(byte[] key) throws KvStorageException {
-        return storage.get(new Key(key));
+        return storage.get(new ByteArrayKey(key));
     }
     
     @Override
     public Map<byte[], byte[]> batchGet(List<byte[]> keys) throws KvStorageException {
         Map<byte[], byte[]> result = new HashMap<>(keys.size());
         for (byte[] key : keys) {
-            byte[] val = storage.get(new Key(key));
+            byte[] val = storage.get(new ByteArrayKey(key));
             if (val != null) {
                 result.put(key, val);
             }
@@ -55,7 +54,7 @@ public class MemoryKvStorage implements KvStorage {
     
     @Override
     public void put(byte[] key, byte[] value) throws KvStorageException {
-        storage.put(new Key(key), value);
+        storage.put(new ByteArrayKey(key), value);
     }
     
     @Override
@@ -66,19 +65,19 @@ public class MemoryKvStorage implements KvStorage {
         }
         int size = keys.size();
         for (int i = 0; i < size; i++) {
-            storage.put(new Key(keys.get(i)), values.get(i));
+            storage.put(new ByteArrayKey(keys.get(i)), values.get(i));
         }
     }
     
     @Override
     public void delete(byte[] key) throws KvStorageException {
-        storage.remove(new Key(key));
+        storage.remove(new ByteArrayKey(key));
     }
     
     @Override
     public void batchDelete(List<byte[]> keys) throws KvStorageException {
         for (byte[] key : keys) {
-            storage.remove(new Key(key));
+            storage.remove(new ByteArrayKey(key));
         }
     }
     
@@ -95,46 +94,27 @@ public class MemoryKvStorage implements KvStorage {
     @Override
     public List<byte[]> allKeys() throws KvStorageException {
         List<byte[]> result = new LinkedList<>();
-        for (Key each : storage.keySet()) {
-            result.add(each.origin);
+        for (ByteArrayKey each : storage.keySet()) {
+            result.add(each.getOrigin());
         }
         return result;
     }
     
     @Override
-    public void shutdown() {
-        storage.clear();
-    }
-    
-    private static class Key implements Comparable<Key> {
-        
-        private final byte[] origin;
-        
-        private Key(byte[] origin) {
-            this.origin = origin;
-        }
-        
-        @Override
-        public int compareTo(Key o) {
-            return BytesUtil.compare(origin, o.origin);
-        }
-        
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+    public Map<byte[], byte[]> prefixScan(byte[] prefix) throws KvStorageException {
+        Map<byte[], byte[]> result = new LinkedHashMap<>();
+        for (Map.Entry<ByteArrayKey, byte[]> entry : storage.tailMap(new ByteArrayKey(prefix)).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
             }
-            Key key = (Key) o;
-            return Arrays.equals(origin, key.origin);
-        }
-        
-        @Override
-        public int hashCode() {
-            return Arrays.hashCode(origin);
+            result.put(entry.getKey().getOrigin(), entry.getValue());
         }
+        return result;
+    }
+    
+    @Override
+    public void shutdown() {
+        storage.clear();
     }
     
 }
@@ -27,6 +27,7 @@ import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
+import com.alibaba.nacos.core.cluster.remote.request.MemberReportRequest;
 import com.alibaba.nacos.core.cluster.remote.response.MemberReportResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
@@ -34,6 +35,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -52,12 +54,15 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -95,6 +100,8 @@ class ServerMemberManagerTest {
     void setUp() throws Exception {
         when(environment.getProperty("server.port", Integer.class, 8848)).thenReturn(8848);
         when(environment.getProperty("nacos.member-change-event.queue.size", Integer.class, 128)).thenReturn(128);
+        when(environment.getProperty("nacos.core.member.report.fanout", Integer.class, 1)).thenReturn(1);
+        when(environment.getProperty("nacos.core.member.report.interval", Long.class, 2000L)).thenReturn(2000L);
         when(context.getBean(AuthConfigs.class)).thenReturn(authConfigs);
         ApplicationUtils.injectContext(context);
         EnvUtil.setEnvironment(environment);
@@ -274,4 +281,97 @@ class ServerMemberManagerTest {
         assertEquals("new", serverMemberManager.find("1.1.1.1:8848").getExtendVal(MemberMetaDataConstants.VERSION));
         assertEquals(NodeState.UP, serverMemberManager.find("1.1.1.1:8848").getState());
     }
+    
+    @Test
+    void testGrpcReportTaskOnlyVersionAfterAcked() throws NacosException {
+        Member testMember = Member.builder().ip("1.1.1.1").port(8848).state(NodeState.DOWN).build();
+        testMember.getAbilities().getRemoteAbility().setGrpcReportEnabled(true);
+        serverMemberManager.updateMember(testMember);
+        ServerMemberManager.MemberInfoReportTask infoReportTask = serverMemberManager.getInfoReportTask();
+        ReflectionTestUtils.setField(infoReportTask, "clusterRpcClientProxy", clusterRpcClientProxy);
+        when(clusterRpcClientProxy.isRunning(any())).thenReturn(true);
+        Member peer = Member.builder().ip("1.1.1.1").port(8848).state(NodeState.UP).build();
+        MemberReportResponse fullResponse = new MemberReportResponse(peer);
+        fullResponse.setVersion(100L);
+        MemberReportResponse versionResponse = new MemberReportResponse();
+        versionResponse.setVersion(100L);
+        when(clusterRpcClientProxy.sendRequest(any(), any())).thenReturn(fullResponse, versionResponse);
+        infoReportTask.run();
+        testMember.setState(NodeState.DOWN);
+        infoReportTask.run();
+        ArgumentCaptor<MemberReportRequest> captor = ArgumentCaptor.forClass(MemberReportRequest.class);
+        verify(clusterRpcClientProxy, times(2)).sendRequest(any(), captor.capture());
+        MemberReportRequest first = captor.getAllValues().get(0);
+        assertNotNull(first.getNode());
+        assertEquals(MemberStateVersions.UNKNOWN_VERSION, first.getPeerVersion());
+        MemberReportRequest second = captor.getAllValues().get(1);
+        assertNull(second.getNode());
+        assertEquals(serverMemberManager.getSelf().getAddress(), second.getAddress());
+        assertEquals(first.getVersion(), second.getVersion());
+        assertEquals(100L, second.getPeerVersion());
+        assertEquals(NodeState.UP, serverMemberManager.find("1.1.1.1:8848").getState());
+    }
+    
+    @Test
+    void testGrpcReportTaskWithFullReportRequired() throws NacosException {
+        Member testMember = Member.builder().ip("1.1.1.1").port(8848).state(NodeState.UP).build();
+        testMember.getAbilities().getRemoteAbility().setGrpcReportEnabled(true);
+        serverMemberManager.updateMember(testMember);
+        long selfVersion = serverMemberManager.getStateVersions().refreshSelfVersion(serverMemberManager.getSelf());
+        serverMemberManager.getStateVersions().ack("1.1.1.1:8848", selfVersion);
+        ServerMemberManager.MemberInfoReportTask infoReportTask = serverMemberManager.getInfoReportTask();
+        ReflectionTestUtils.setField(infoReportTask, "clusterRpcClientProxy", clusterRpcClientProxy);
+        when(clusterRpcClientProxy.isRunning(any())).thenReturn(true);
+        MemberReportResponse requiredResponse = new MemberReportResponse();
+        requiredResponse.setVersion(100L);
+        requiredResponse.setFullReportRequired(true);
+        MemberReportResponse fullResponse = new MemberReportResponse(testMember);
+        fullResponse.setVersion(100L);
+        when(clusterRpcClientProxy.sendRequest(any(), any())).thenReturn(requiredResponse, fullResponse);
+        infoReportTask.run();
+        ArgumentCaptor<MemberReportRequest> captor = ArgumentCaptor.forClass(MemberReportRequest.class);
+        verify(clusterRpcClientProxy, times(2)).sendRequest(any(), captor.capture());
+        assertNull(captor.getAllValues().get(0).getNode());
+        assertNotNull(captor.getAllValues().get(1).getNode());
+        assertTrue(serverMemberManager.getStateVersions().isAcked("1.1.1.1:8848", selfVersion));
+        assertEquals(100L, serverMemberManager.getStateVersions().getPeerVersion("1.1.1.1:8848"));
+    }
+    
+    @Test
+    void testGrpcReportTaskResetAckWhenFailed() throws NacosException {
+        Member testMember = Member.builder().ip("1.1.1.1").port(8848).state(NodeState.UP).build();
+        testMember.getAbilities().getRemoteAbility().setGrpcReportEnabled(true);
+        serverMemberManager.updateMember(testMember);
+        long selfVersion = serverMemberManager.getStateVersions().refreshSelfVersion(serverMemberManager.getSelf());
+        serverMemberManager.getStateVersions().ack("1.1.1.1:8848", selfVersion);
+        ServerMemberManager.MemberInfoReportTask infoReportTask = serverMemberManager.getInfoReportTask();
+        ReflectionTestUtils.setField(infoReportTask, "clusterRpcClientProxy", clusterRpcClientProxy);
+        when(clusterRpcClientProxy.isRunning(any())).thenReturn(true);
+        MemberReportResponse failedResponse = new MemberReportResponse();
+        failedResponse.setErrorInfo(NacosException.SERVER_ERROR, "test");
+        when(clusterRpcClientProxy.sendRequest(any(), any())).thenReturn(failedResponse)
+                .thenThrow(new NacosException(NacosException.SERVER_ERROR, "test"));
+        infoReportTask.run();
+        assertFalse(serverMemberManager.getStateVersions().isAcked("1.1.1.1:8848", selfVersion));
+        
+        serverMemberManager.getStateVersions().ack("1.1.1.1:8848", selfVersion);
+        infoReportTask.run();
+        assertFalse(serverMemberManager.getStateVersions().isAcked("1.1.1.1:8848", selfVersion));
+    }
+    
+    @Test
+    void testGrpcReportTaskWithFanout() throws NacosException {
+        when(environment.getProperty("nacos.core.member.report.fanout", Integer.class, 1)).thenReturn(2);
+        serverMemberManager.updateMember(Member.builder().ip("1.1.1.2").port(8848).state(NodeState.UP).build());
+        serverMemberManager.allMembersWithoutSelf()
+                .forEach(each -> each.getAbilities().getRemoteAbility().setGrpcReportEnabled(true));
+        ServerMemberManager.MemberInfoReportTask infoReportTask = serverMemberManager.getInfoReportTask();
+        ReflectionTestUtils.setField(infoReportTask, "clusterRpcClientProxy", clusterRpcClientProxy);
+        when(clusterRpcClientProxy.isRunning(any())).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(any(), any())).thenReturn(new MemberReportResponse());
+        infoReportTask.run();
+        ArgumentCaptor<Member> captor = ArgumentCaptor.forClass(Member.class);
+        verify(clusterRpcClientProxy, times(2)).sendRequest(captor.capture(), any());
+        assertEquals(2, captor.getAllValues().stream().map(Member::getAddress).distinct().count());
+    }
 }
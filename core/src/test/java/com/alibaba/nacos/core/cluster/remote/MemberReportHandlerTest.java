@@ -0,0 +1,110 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.cluster.remote;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberStateVersions;
+import com.alibaba.nacos.core.cluster.NodeState;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.cluster.remote.request.MemberReportRequest;
+import com.alibaba.nacos.core.cluster.remote.response.MemberReportResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberReportHandlerTest {
+    
+    private static final String PEER = "1.1.1.1:8848";
+    
+    @Mock
+    private ServerMemberManager memberManager;
+    
+    private final MemberStateVersions stateVersions = new MemberStateVersions();
+    
+    private final Member self = Member.builder().ip("2.2.2.2").port(8848).build();
+    
+    private MemberReportHandler handler;
+    
+    @BeforeEach
+    void setUp() {
+        when(memberManager.getStateVersions()).thenReturn(stateVersions);
+        handler = new MemberReportHandler(memberManager);
+    }
+    
+    @Test
+    void testHandleFullReport() throws NacosException {
+        when(memberManager.update(any())).thenReturn(true);
+        when(memberManager.getSelf()).thenReturn(self);
+        MemberReportRequest request = new MemberReportRequest(
+                Member.builder().ip("1.1.1.1").port(8848).state(NodeState.DOWN).build());
+        request.setVersion(10L);
+        MemberReportResponse response = handler.handle(request, new RequestMeta());
+        assertEquals(self, response.getNode());
+        assertEquals(stateVersions.getSelfVersion(), response.getVersion());
+        assertEquals(10L, stateVersions.getPeerVersion(PEER));
+    }
+    
+    @Test
+    void testHandleVersionReport() throws NacosException {
+        stateVersions.updatePeerVersion(PEER, 10L);
+        when(memberManager.refresh(PEER)).thenReturn(true);
+        MemberReportRequest request = new MemberReportRequest();
+        request.setAddress(PEER);
+        request.setVersion(10L);
+        request.setPeerVersion(stateVersions.getSelfVersion());
+        MemberReportResponse response = handler.handle(request, new RequestMeta());
+        assertNull(response.getNode());
+        assertFalse(response.isFullReportRequired());
+        assertEquals(stateVersions.getSelfVersion(), response.getVersion());
+    }
+    
+    @Test
+    void testHandleUnknownVersionReport() throws NacosException {
+        stateVersions.updatePeerVersion(PEER, 9L);
+        MemberReportRequest request = new MemberReportRequest();
+        request.setAddress(PEER);
+        request.setVersion(10L);
+        MemberReportResponse response = handler.handle(request, new RequestMeta());
+        assertTrue(response.isFullReportRequired());
+        verify(memberManager, never()).refresh(PEER);
+    }
+    
+    @Test
+    void testHandleReportFromOldVersion() throws NacosException {
+        when(memberManager.update(any())).thenReturn(true);
+        when(memberManager.getSelf()).thenReturn(self);
+        MemberReportRequest request = new MemberReportRequest(Member.builder().ip("1.1.1.1").port(8848).build());
+        MemberReportResponse response = handler.handle(request, new RequestMeta());
+        assertNotNull(response.getNode());
+        assertEquals(MemberStateVersions.UNKNOWN_VERSION, stateVersions.getPeerVersion(PEER));
+    }
+}
@@ -20,9 +20,12 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.env.StandardEnvironment;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SnowFlowerInstanceIdGeneratorTest {
     
@@ -37,4 +40,45 @@ class SnowFlowerInstanceIdGeneratorTest {
         
         assertEquals(10, count);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void nextIds() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        SnowFlowerIdGenerator generator = new SnowFlowerIdGenerator();
+        generator.initialize(1);
+        long first = generator.nextId();
+        long[] ids = generator.nextIds(10000);
+        assertEquals(10000, ids.length);
+        assertTrue(ids[0] > first);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+            assertEquals(1, ids[i] >> 12 & 1023);
+        }
+        assertEquals(ids[ids.length - 1], generator.currentId());
+        assertTrue(generator.nextId() > ids[ids.length - 1]);
+    }
+    
+    @Test
+    void nextIdConcurrently() throws InterruptedException {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        SnowFlowerIdGenerator generator = new SnowFlowerIdGenerator();
+        generator.initialize(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 5000; j++) {
+                    ids.add(generator.nextId());
+                }
+                for (long each : generator.nextIds(5000)) {
+                    ids.add(each);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread each : threads) {
+            each.join();
+        }
+        assertEquals(40000, ids.size());
+    }
+}
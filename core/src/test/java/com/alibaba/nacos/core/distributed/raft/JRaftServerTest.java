@@ -32,16 +32,19 @@ import com.alipay.sofa.jraft.Node;
 import com.alipay.sofa.jraft.RaftGroupService;
 import com.alipay.sofa.jraft.RouteTable;
 import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
 import com.alipay.sofa.jraft.conf.Configuration;
 import com.alipay.sofa.jraft.core.NodeImpl;
 import com.alipay.sofa.jraft.core.State;
 import com.alipay.sofa.jraft.entity.PeerId;
+import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.error.RemotingException;
 import com.alipay.sofa.jraft.rpc.CliRequests;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcClient;
 import com.alipay.sofa.jraft.rpc.impl.FutureImpl;
 import com.alipay.sofa.jraft.rpc.impl.cli.CliClientServiceImpl;
+import com.alipay.sofa.jraft.util.BytesUtil;
 import com.alipay.sofa.jraft.util.Endpoint;
 import com.google.protobuf.Message;
 import org.junit.jupiter.api.AfterEach;
@@ -74,6 +77,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -272,6 +276,24 @@ class JRaftServerTest {
         verify(cliClientServiceMock).getRpcClient();
     }
     
+    @Test
+    void testReadBarrier() throws Exception {
+        doAnswer(invocation -> {
+            ((ReadIndexClosure) invocation.getArgument(1)).run(Status.OK(), 1L, BytesUtil.EMPTY_BYTES);
+            return null;
+        }).when(node).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+        assertTrue(server.readBarrier("test_nacos").get());
+        
+        doAnswer(invocation -> {
+            ((ReadIndexClosure) invocation.getArgument(1))
+                    .run(new Status(RaftError.EPERM, "not leader"), -1L, BytesUtil.EMPTY_BYTES);
+            return null;
+        }).when(node).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+        assertFalse(server.readBarrier("test_nacos").get());
+        
+        assertTrue(server.readBarrier("unknown_group").isCompletedExceptionally());
+    }
+    
     @Test
     void testRegisterSelfToCluster() {
         PeerId selfPeerId = new PeerId("4.4.4.4", 8080);
@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft.utils;
+
+import com.alibaba.nacos.core.distributed.raft.RaftConfig;
+import com.alibaba.nacos.core.distributed.raft.RaftSysConstants;
+import com.alipay.sofa.jraft.option.RaftOptions;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class RaftOptionsBuilderTest {
+    
+    private RaftConfig config;
+    
+    @BeforeEach
+    void setUp() {
+        config = new RaftConfig();
+    }
+    
+    @Test
+    void testDefaultProfile() {
+        RaftOptions options = RaftOptionsBuilder.initRaftOptions(config);
+        assertEquals(RaftSysConstants.DEFAULT_APPLY_BATCH, options.getApplyBatch());
+        assertEquals(RaftSysConstants.DEFAULT_DISRUPTOR_BUFFER_SIZE, options.getDisruptorBufferSize());
+        assertEquals(RaftSysConstants.DEFAULT_MAX_REPLICATOR_INFLIGHT_MSGS, options.getMaxReplicatorInflightMsgs());
+        assertEquals(ReadOnlyOption.ReadOnlySafe, options.getReadOnlyOptions());
+    }
+    
+    @Test
+    void testThroughputProfile() {
+        config.setVal(RaftSysConstants.RAFT_PROFILE, RaftSysConstants.PROFILE_THROUGHPUT);
+        config.setVal(RaftSysConstants.MAX_BODY_SIZE, "1024");
+        RaftOptions options = RaftOptionsBuilder.initRaftOptions(config, "test");
+        assertEquals(RaftSysConstants.THROUGHPUT_APPLY_BATCH, options.getApplyBatch());
+        assertEquals(RaftSysConstants.THROUGHPUT_DISRUPTOR_BUFFER_SIZE, options.getDisruptorBufferSize());
+        assertEquals(RaftSysConstants.THROUGHPUT_MAX_REPLICATOR_INFLIGHT_MSGS, options.getMaxReplicatorInflightMsgs());
+        assertEquals(RaftSysConstants.THROUGHPUT_MAX_ENTRIES_SIZE, options.getMaxEntriesSize());
+        // options configured explicitly are still respected
+        assertEquals(1024, options.getMaxBodySize());
+    }
+    
+    @Test
+    void testGroupOptions() {
+        config.setVal(RaftSysConstants.APPLY_BATCH, "64");
+        config.setVal("test." + RaftSysConstants.APPLY_BATCH, "256");
+        config.setVal("test." + RaftSysConstants.DISRUPTOR_BUFFER_SIZE, "10000");
+        config.setVal("test." + RaftSysConstants.REPLICATOR_PIPELINE, "false");
+        config.setVal("other." + RaftSysConstants.RAFT_PROFILE, RaftSysConstants.PROFILE_THROUGHPUT);
+        RaftOptions options = RaftOptionsBuilder.initRaftOptions(config, "test");
+        assertEquals(256, options.getApplyBatch());
+        // round up to power of 2
+        assertEquals(16384, options.getDisruptorBufferSize());
+        assertFalse(options.isReplicatorPipeline());
+        assertEquals(RaftSysConstants.DEFAULT_MAX_REPLICATOR_INFLIGHT_MSGS, options.getMaxReplicatorInflightMsgs());
+        
+        RaftOptions other = RaftOptionsBuilder.initRaftOptions(config, "other");
+        assertEquals(64, other.getApplyBatch());
+        assertEquals(RaftSysConstants.THROUGHPUT_DISRUPTOR_BUFFER_SIZE, other.getDisruptorBufferSize());
+        assertEquals(64, RaftOptionsBuilder.initRaftOptions(config).getApplyBatch());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.sys.utils.DiskUtils;
+import com.alipay.sofa.jraft.util.CRC64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DerbyDeltaJournalTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private DerbyDeltaJournal journal;
+    
+    @BeforeEach
+    void setUp() {
+        journal = new DerbyDeltaJournal(tempDir.resolve("journal").toString(), 2, 1024L);
+    }
+    
+    @Test
+    void testWriteAndReadDelta() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            journal.append(("entry" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(5, journal.getCount());
+        String archive = tempDir.resolve("delta.zip").toString();
+        assertEquals(5, journal.writeTo(archive, new CRC64()));
+        
+        String outputDir = tempDir.resolve("output").toString();
+        DiskUtils.decompress(archive, outputDir, new CRC64());
+        List<byte[]> entries = new ArrayList<>();
+        File journalFile = new File(outputDir, DerbyDeltaJournal.getJournalFileName());
+        assertEquals(5, DerbyDeltaJournal.read(journalFile, 3, entries::add));
+        assertEquals(2, entries.size());
+        assertArrayEquals("entry3".getBytes(StandardCharsets.UTF_8), entries.get(0));
+        assertArrayEquals("entry4".getBytes(StandardCharsets.UTF_8), entries.get(1));
+    }
+    
+    @Test
+    void testBaseRequired() throws IOException {
+        assertTrue(journal.isBaseRequired());
+        File base = tempDir.resolve("base.zip").toFile();
+        Files.write(base.toPath(), "base".getBytes(StandardCharsets.UTF_8));
+        journal.append("before".getBytes(StandardCharsets.UTF_8));
+        journal.resetWithBase(base, "base-id");
+        assertEquals("base-id", journal.getBaseId());
+        assertEquals(0, journal.getCount());
+        assertFalse(journal.isBaseRequired());
+        
+        // required after base interval snapshots
+        journal.writeTo(tempDir.resolve("delta1.zip").toString(), new CRC64());
+        assertFalse(journal.isBaseRequired());
+        journal.writeTo(tempDir.resolve("delta2.zip").toString(), new CRC64());
+        assertTrue(journal.isBaseRequired());
+        
+        // required when delta too large
+        journal.resetWithBase(base, "base-id");
+        journal.append(new byte[1024]);
+        assertTrue(journal.isBaseRequired());
+        
+        journal.reset(null);
+        assertTrue(journal.isBaseRequired());
+    }
+    
+    @Test
+    void testLinkBaseArchive() throws IOException {
+        File base = tempDir.resolve("base.zip").toFile();
+        Files.write(base.toPath(), "base".getBytes(StandardCharsets.UTF_8));
+        journal.resetWithBase(base, "base-id");
+        File target = tempDir.resolve("snapshot").resolve("derby_base.zip").toFile();
+        target.getParentFile().mkdirs();
+        journal.linkBaseArchive(target);
+        assertArrayEquals("base".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(target.toPath()));
+        // link again should replace the old one
+        journal.linkBaseArchive(target);
+        assertArrayEquals("base".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(target.toPath()));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.consistency.snapshot.LocalFileMeta;
+import com.alibaba.nacos.consistency.snapshot.Reader;
+import com.alipay.sofa.jraft.util.CRC64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class DerbySnapshotOperationTest {
+    
+    private static final String BASE_ID = "base-id";
+    
+    @TempDir
+    Path tempDir;
+    
+    private DerbyDeltaJournal localJournal;
+    
+    private List<byte[]> applied;
+    
+    private DerbySnapshotOperation operation;
+    
+    private Reader reader;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        DerbyDeltaJournal leaderJournal = new DerbyDeltaJournal(tempDir.resolve("leader").toString(), 2, 1024L);
+        leaderJournal.reset(BASE_ID);
+        for (int i = 0; i < 3; i++) {
+            leaderJournal.append(("entry" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        final Path snapshotPath = Files.createDirectories(tempDir.resolve("snapshot"));
+        long count = leaderJournal.writeTo(snapshotPath.resolve("derby_delta.zip").toString(), new CRC64());
+        Map<String, LocalFileMeta> files = new HashMap<>();
+        files.put("derby_base.zip", new LocalFileMeta().append("baseId", BASE_ID));
+        files.put("derby_delta.zip",
+                new LocalFileMeta().append("baseId", BASE_ID).append("count", String.valueOf(count)));
+        reader = new Reader(snapshotPath.toString(), files);
+        
+        localJournal = new DerbyDeltaJournal(tempDir.resolve("local").toString(), 2, 1024L);
+        localJournal.reset(BASE_ID);
+        localJournal.append("entry0".getBytes(StandardCharsets.UTF_8));
+        applied = new ArrayList<>();
+        operation = spy(new DerbySnapshotOperation(new ReentrantReadWriteLock().writeLock(), localJournal,
+                applied::add));
+        doNothing().when(operation).restoreBase(any(), any(), any());
+    }
+    
+    @Test
+    void testLoadDeltaTail() throws Exception {
+        assertTrue(operation.onSnapshotLoad(reader));
+        verify(operation, never()).restoreBase(any(), any(), any());
+        assertEquals(2, applied.size());
+        assertArrayEquals("entry1".getBytes(StandardCharsets.UTF_8), applied.get(0));
+        assertEquals(3, localJournal.getCount());
+    }
+    
+    @Test
+    void testRestoreBaseWhenJournalBroken() throws Exception {
+        ReflectionTestUtils.setField(localJournal, "broken", true);
+        assertTrue(operation.onSnapshotLoad(reader));
+        verify(operation).restoreBase(eq(reader), any(), eq(BASE_ID));
+        assertEquals(3, applied.size());
+        assertArrayEquals("entry0".getBytes(StandardCharsets.UTF_8), applied.get(0));
+    }
+}
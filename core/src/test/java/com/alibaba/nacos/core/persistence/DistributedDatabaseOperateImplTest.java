@@ -0,0 +1,233 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.consistency.cp.CPProtocol;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.distributed.ProtocolManager;
+import com.alibaba.nacos.core.distributed.raft.utils.JRaftUtils;
+import com.alibaba.nacos.persistence.constants.PersistenceConstant;
+import com.alibaba.nacos.persistence.datasource.DynamicDataSource;
+import com.alibaba.nacos.persistence.datasource.LocalDataSourceServiceImpl;
+import com.alibaba.nacos.persistence.repository.embedded.EmbeddedStorageContextHolder;
+import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedDatabaseOperateImplTest {
+    
+    @Mock
+    private ServerMemberManager memberManager;
+    
+    @Mock
+    private ProtocolManager protocolManager;
+    
+    @Mock
+    private CPProtocol protocol;
+    
+    @Mock
+    private LocalDataSourceServiceImpl dataSourceService;
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    private MockEnvironment environment;
+    
+    private DistributedDatabaseOperateImpl operate;
+    
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        EnvUtil.setEnvironment(environment);
+        ReflectionTestUtils.setField(DynamicDataSource.getInstance(), "localDataSourceService", dataSourceService);
+        ReflectionTestUtils.setField(DynamicDataSource.getInstance(), "basicDataSourceService", dataSourceService);
+        when(protocolManager.getCpProtocol()).thenReturn(protocol);
+        when(dataSourceService.getJdbcTemplate()).thenReturn(jdbcTemplate);
+        when(dataSourceService.getTransactionTemplate()).thenReturn(transactionTemplate);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (null != operate) {
+            operate.destroy();
+        }
+        ReflectionTestUtils.setField(DynamicDataSource.getInstance(), "localDataSourceService", null);
+        ReflectionTestUtils.setField(DynamicDataSource.getInstance(), "basicDataSourceService", null);
+    }
+    
+    @Test
+    void testGroupCommitWithMixedResult() throws Exception {
+        enableGroupCommit();
+        when(memberManager.getSelf()).thenReturn(Member.builder().ip("127.0.0.1").port(8848).build());
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().doThrow(new BadSqlGrammarException("test", "bad sql", new SQLException("bad"))).when(jdbcTemplate)
+                .update(eq("bad sql"), (Object[]) any());
+        // apply the log directly like the state machine does
+        when(protocol.writeAsync(any())).thenAnswer(
+                invocation -> CompletableFuture.completedFuture(operate.onApply(invocation.getArgument(0))));
+        
+        CompletableFuture<Boolean> okResult = new CompletableFuture<>();
+        CompletableFuture<Boolean> badResult = new CompletableFuture<>();
+        operate.update(Collections.singletonList(buildRequest("ok sql")), (success, ex) -> okResult.complete(success));
+        operate.update(Collections.singletonList(buildRequest("bad sql")), (success, ex) -> badResult.complete(success));
+        assertTrue(okResult.get(5, TimeUnit.SECONDS));
+        assertFalse(badResult.get(5, TimeUnit.SECONDS));
+        
+        ArgumentCaptor<WriteRequest> captor = ArgumentCaptor.forClass(WriteRequest.class);
+        verify(protocol, times(1)).writeAsync(captor.capture());
+        assertTrue(captor.getValue().getKey().endsWith("-batch-2"));
+        // the batch log is applied as a whole, each request in its own transaction
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+    
+    @Test
+    void testGroupCommitWholeLogFailed() throws Exception {
+        enableGroupCommit();
+        when(memberManager.getSelf()).thenReturn(Member.builder().ip("127.0.0.1").port(8848).build());
+        when(protocol.writeAsync(any())).thenReturn(CompletableFuture.completedFuture(
+                Response.newBuilder().setSuccess(false).setErrMsg("no leader").build()));
+        
+        CompletableFuture<Throwable> first = new CompletableFuture<>();
+        CompletableFuture<Throwable> second = new CompletableFuture<>();
+        operate.update(Collections.singletonList(buildRequest("sql1")), (success, ex) -> {
+            assertFalse(success);
+            first.complete(ex);
+        });
+        operate.update(Collections.singletonList(buildRequest("sql2")), (success, ex) -> {
+            assertFalse(success);
+            second.complete(ex);
+        });
+        assertEquals("no leader", first.get(5, TimeUnit.SECONDS).getMessage());
+        assertEquals("no leader", second.get(5, TimeUnit.SECONDS).getMessage());
+        verify(protocol, times(1)).writeAsync(any());
+    }
+    
+    @Test
+    void testDestroyShutdownGroupCommitter() throws Exception {
+        enableGroupCommit();
+        operate.destroy();
+        CompletableFuture<Throwable> result = new CompletableFuture<>();
+        operate.update(Collections.singletonList(buildRequest("sql")), (success, ex) -> {
+            assertFalse(success);
+            result.complete(ex);
+        });
+        assertEquals("group commit stage is shutdown", result.get(5, TimeUnit.SECONDS).getMessage());
+    }
+    
+    @Test
+    void testLocalReadWhenReadIndexPassed() throws Exception {
+        enableLocalRead();
+        when(protocol.readBarrier(any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(jdbcTemplate.queryForObject("select 1", String.class)).thenReturn("local");
+        assertEquals("local", operate.queryOne("select 1", String.class));
+        verify(protocol, never()).getData(any());
+    }
+    
+    @Test
+    void testBlockLocalReadWhenReadIndexPassed() throws Exception {
+        enableLocalRead();
+        when(protocol.readBarrier(any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(jdbcTemplate.queryForObject("select 1", String.class)).thenReturn("local");
+        EmbeddedStorageContextHolder.putExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA, "true");
+        try {
+            assertEquals("local", operate.queryOne("select 1", String.class));
+        } finally {
+            EmbeddedStorageContextHolder.cleanAllContext();
+        }
+        verify(protocol, never()).aGetData(any());
+    }
+    
+    @Test
+    void testRaftReadWhenReadIndexTimeout() throws Exception {
+        environment.setProperty("nacos.core.embedded.storage.read.barrier.timeout.ms", "50");
+        enableLocalRead();
+        when(protocol.readBarrier(any())).thenReturn(new CompletableFuture<>());
+        mockRaftRead("raft");
+        assertEquals("raft", operate.queryOne("select 1", String.class));
+        verify(jdbcTemplate, never()).queryForObject("select 1", String.class);
+    }
+    
+    @Test
+    void testRaftReadWhenReadIndexNotPassed() throws Exception {
+        enableLocalRead();
+        when(protocol.readBarrier(any())).thenReturn(CompletableFuture.completedFuture(false));
+        mockRaftRead("raft");
+        assertEquals("raft", operate.queryOne("select 1", String.class));
+        verify(jdbcTemplate, never()).queryForObject("select 1", String.class);
+    }
+    
+    private void enableLocalRead() throws Exception {
+        environment.setProperty("nacos.core.embedded.storage.read.mode", "local");
+        operate = new DistributedDatabaseOperateImpl(memberManager, protocolManager);
+    }
+    
+    private void mockRaftRead(String result) throws Exception {
+        byte[] data = JRaftUtils.getGroupSerializer(PersistenceConstant.CONFIG_MODEL_RAFT_GROUP).serialize(result);
+        when(protocol.getData(any())).thenReturn(
+                Response.newBuilder().setSuccess(true).setData(ByteString.copyFrom(data)).build());
+    }
+    
+    private void enableGroupCommit() throws Exception {
+        environment.setProperty("nacos.core.embedded.storage.group.commit.enabled", "true");
+        environment.setProperty("nacos.core.embedded.storage.group.commit.window.ms", "200");
+        environment.setProperty("nacos.core.embedded.storage.group.commit.max.size", "2");
+        operate = new DistributedDatabaseOperateImpl(memberManager, protocolManager);
+    }
+    
+    private ModifyRequest buildRequest(String sql) {
+        ModifyRequest request = new ModifyRequest(sql);
+        request.setArgs(new Object[] {"arg"});
+        return request;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RaftWriteGroupCommitterTest {
+    
+    private final List<Integer> committedBatchSizes = new CopyOnWriteArrayList<>();
+    
+    private RaftWriteGroupCommitter groupCommitter;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != groupCommitter) {
+            groupCommitter.shutdown();
+        }
+    }
+    
+    @Test
+    void testCoalesceWritesInWindow() throws Exception {
+        groupCommitter = new RaftWriteGroupCommitter(200L, 3, requests -> {
+            committedBatchSizes.add(requests.size());
+            List<Response> responses = new ArrayList<>();
+            for (BatchModifyRequest each : requests) {
+                boolean success = !"fail".equals(each.getSqlContext().get(0).getSql());
+                responses.add(Response.newBuilder().setSuccess(success).build());
+            }
+            return CompletableFuture.completedFuture(responses);
+        });
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        futures.add(groupCommitter.submit(buildRequest("ok")));
+        futures.add(groupCommitter.submit(buildRequest("fail")));
+        futures.add(groupCommitter.submit(buildRequest("ok")));
+        futures.add(groupCommitter.submit(buildRequest("ok")));
+        assertTrue(futures.get(0).get(5, TimeUnit.SECONDS).getSuccess());
+        assertFalse(futures.get(1).get(5, TimeUnit.SECONDS).getSuccess());
+        assertTrue(futures.get(2).get(5, TimeUnit.SECONDS).getSuccess());
+        assertTrue(futures.get(3).get(5, TimeUnit.SECONDS).getSuccess());
+        assertEquals(3, committedBatchSizes.get(0));
+        assertEquals(1, committedBatchSizes.get(1));
+    }
+    
+    @Test
+    void testWriteFailed() {
+        groupCommitter = new RaftWriteGroupCommitter(0L, 8, requests -> {
+            CompletableFuture<List<Response>> result = new CompletableFuture<>();
+            result.completeExceptionally(new IllegalStateException("no leader"));
+            return result;
+        });
+        CompletableFuture<Response> future = groupCommitter.submit(buildRequest("ok"));
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testResponseSizeMismatch() {
+        groupCommitter = new RaftWriteGroupCommitter(0L, 8,
+                requests -> CompletableFuture.completedFuture(Collections.emptyList()));
+        CompletableFuture<Response> future = groupCommitter.submit(buildRequest("ok"));
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    }
+    
+    private BatchModifyRequest buildRequest(String sql) {
+        return new BatchModifyRequest(Collections.singletonList(new ModifyRequest(sql)), Collections.emptyMap());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionActivityIndexTest {
+    
+    private ConnectionActivityIndex activityIndex;
+    
+    @BeforeEach
+    void setUp() {
+        activityIndex = new ConnectionActivityIndex(1000L);
+    }
+    
+    @Test
+    void testIllegalBucket() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionActivityIndex(0L));
+    }
+    
+    @Test
+    void testPollExpiredOnlyOldBuckets() {
+        activityIndex.touch("a", 1000L);
+        activityIndex.touch("b", 2500L);
+        activityIndex.touch("c", 10000L);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), new HashSet<>(activityIndex.pollExpired(5000L)));
+        assertEquals(1, activityIndex.size());
+        assertEquals(1, activityIndex.bucketCount());
+        assertTrue(activityIndex.pollExpired(5000L).isEmpty());
+    }
+    
+    @Test
+    void testTouchMoveToNewBucket() {
+        activityIndex.touch("a", 1000L);
+        activityIndex.touch("a", 1500L);
+        assertEquals(1, activityIndex.bucketCount());
+        activityIndex.touch("a", 9000L);
+        assertEquals(2, activityIndex.bucketCount());
+        assertTrue(activityIndex.pollExpired(5000L).isEmpty());
+        assertEquals(1, activityIndex.bucketCount());
+        assertEquals(Collections.singletonList("a"), activityIndex.pollExpired(10000L));
+        assertEquals(0, activityIndex.size());
+    }
+    
+    @Test
+    void testRemove() {
+        activityIndex.touch("a", 1000L);
+        activityIndex.remove("a");
+        assertEquals(0, activityIndex.size());
+        assertTrue(activityIndex.pollExpired(5000L).isEmpty());
+    }
+}
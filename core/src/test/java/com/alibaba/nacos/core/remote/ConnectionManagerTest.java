@@ -154,6 +154,15 @@ class ConnectionManagerTest {
         }
     }
     
+    @Test
+    void testPollExpiredConnections() {
+        assertTrue(connectionManager.pollExpiredConnections(System.currentTimeMillis() - 20000L).isEmpty());
+        assertEquals(1, connectionManager.pollExpiredConnections(System.currentTimeMillis() + 2000L).size());
+        assertTrue(connectionManager.pollExpiredConnections(System.currentTimeMillis() + 2000L).isEmpty());
+        connectionManager.refreshActiveTime(connectId);
+        assertEquals(1, connectionManager.activityIndex.size());
+    }
+    
     @Test
     void testLoadSingle() throws NacosException {
         Mockito.when(connectionMeta.isSdkSource()).thenReturn(true);
@@ -117,4 +117,13 @@ class MemoryKvStorageTest {
             assertTrue(e instanceof UnsupportedOperationException);
         }
     }
+    
+    @Test
+    void testPrefixScan() throws Exception {
+        kvStorage.batchPut(Arrays.asList("b2".getBytes(), "a1".getBytes(), "b1".getBytes()),
+                Arrays.asList("v1".getBytes(), "v2".getBytes(), "v3".getBytes()));
+        Map<byte[], byte[]> result = kvStorage.prefixScan("b".getBytes());
+        assertEquals(2, result.size());
+        assertArrayEquals("b1".getBytes(), result.keySet().iterator().next());
+    }
 }
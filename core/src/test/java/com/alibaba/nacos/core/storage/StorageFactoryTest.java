@@ -18,9 +18,13 @@ package com.alibaba.nacos.core.storage;
 
 import com.alibaba.nacos.core.storage.kv.FileKvStorage;
 import com.alibaba.nacos.core.storage.kv.KvStorage;
+import com.alibaba.nacos.core.storage.kv.LogKvStorage;
 import com.alibaba.nacos.core.storage.kv.MemoryKvStorage;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -50,6 +54,17 @@ class StorageFactoryTest {
             fail();
         }
         
+        try {
+            String dir = System.getProperty("java.io.tmpdir") + File.separator + "nacos_log_kv_storage_factory_test";
+            KvStorage kvStorage = StorageFactory.createKvStorage(KvStorage.KvType.Log, "", dir);
+            assertTrue(kvStorage instanceof LogKvStorage);
+            kvStorage.shutdown();
+            FileUtils.deleteDirectory(new File(dir));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail();
+        }
+        
         try {
             StorageFactory.createKvStorage(KvStorage.KvType.RocksDB, "", "/");
         } catch (Exception e) {
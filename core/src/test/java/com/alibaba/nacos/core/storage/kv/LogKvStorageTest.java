@@ -0,0 +1,136 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.storage.kv;
+
+import com.alibaba.nacos.common.utils.ByteUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogKvStorageTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private String baseDir;
+    
+    private LogKvStorage kvStorage;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        baseDir = tempDir.resolve("data").toString();
+        kvStorage = new LogKvStorage(baseDir);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        kvStorage.shutdown();
+    }
+    
+    @Test
+    void testPutAndGetAndDeleteAfterReopen() throws Exception {
+        kvStorage.put(bytes("key1"), bytes("value1"));
+        kvStorage.put(bytes("key2"), bytes("value2"));
+        kvStorage.put(bytes("key1"), bytes("value1-new"));
+        kvStorage.delete(bytes("key2"));
+        kvStorage.delete(bytes("absent"));
+        assertArrayEquals(bytes("value1-new"), kvStorage.get(bytes("key1")));
+        assertNull(kvStorage.get(bytes("key2")));
+        kvStorage.shutdown();
+        kvStorage = new LogKvStorage(baseDir);
+        assertArrayEquals(bytes("value1-new"), kvStorage.get(bytes("key1")));
+        assertNull(kvStorage.get(bytes("key2")));
+        assertEquals(1, kvStorage.allKeys().size());
+    }
+    
+    @Test
+    void testBatchPutAndPrefixScan() throws Exception {
+        List<byte[]> keys = Arrays.asList(bytes("b/2"), bytes("a/1"), bytes("b/1"), bytes("c/1"));
+        List<byte[]> values = Arrays.asList(bytes("v1"), bytes("v2"), bytes("v3"), bytes("v4"));
+        kvStorage.batchPut(keys, values);
+        Map<byte[], byte[]> result = kvStorage.batchGet(Arrays.asList(bytes("a/1"), bytes("absent")));
+        assertEquals(1, result.size());
+        List<String> scanned = new ArrayList<>();
+        kvStorage.prefixScan(bytes("b/")).forEach((key, value) -> scanned.add(ByteUtils.toString(key) + "=" + ByteUtils
+                .toString(value)));
+        assertEquals(Arrays.asList("b/1=v3", "b/2=v1"), scanned);
+        kvStorage.batchDelete(Arrays.asList(bytes("b/1"), bytes("b/2")));
+        assertTrue(kvStorage.prefixScan(bytes("b/")).isEmpty());
+        assertEquals(2, kvStorage.allKeys().size());
+    }
+    
+    @Test
+    void testTruncateBrokenTail() throws Exception {
+        kvStorage.put(bytes("key1"), bytes("value1"));
+        kvStorage.shutdown();
+        Path log = new File(baseDir, LogKvStorage.LOG_FILE_NAME).toPath();
+        long size = Files.size(log);
+        Files.write(log, new byte[] {1, 0, 0, 0, 4, 0}, StandardOpenOption.APPEND);
+        kvStorage = new LogKvStorage(baseDir);
+        assertEquals(size, Files.size(log));
+        assertArrayEquals(bytes("value1"), kvStorage.get(bytes("key1")));
+        kvStorage.put(bytes("key2"), bytes("value2"));
+        kvStorage.shutdown();
+        kvStorage = new LogKvStorage(baseDir);
+        assertArrayEquals(bytes("value2"), kvStorage.get(bytes("key2")));
+    }
+    
+    @Test
+    void testCompact() throws Exception {
+        kvStorage.shutdown();
+        kvStorage = new LogKvStorage(baseDir, 1024);
+        for (int i = 0; i < 100; i++) {
+            kvStorage.put(bytes("key"), bytes("value" + i));
+        }
+        kvStorage.put(bytes("other"), bytes("other"));
+        Path log = new File(baseDir, LogKvStorage.LOG_FILE_NAME).toPath();
+        assertTrue(Files.size(log) < 1024 * 3);
+        assertArrayEquals(bytes("value99"), kvStorage.get(bytes("key")));
+        assertArrayEquals(bytes("other"), kvStorage.get(bytes("other")));
+    }
+    
+    @Test
+    void testSnapshot() throws Exception {
+        String backupDir = tempDir.resolve("backup").toString();
+        kvStorage.put(bytes("key1"), bytes("value1"));
+        kvStorage.put(bytes("key1"), bytes("value2"));
+        kvStorage.doSnapshot(backupDir);
+        kvStorage.put(bytes("key2"), bytes("value2"));
+        kvStorage.snapshotLoad(backupDir);
+        assertArrayEquals(bytes("value2"), kvStorage.get(bytes("key1")));
+        assertNull(kvStorage.get(bytes("key2")));
+    }
+    
+    private byte[] bytes(String value) {
+        return ByteUtils.toBytes(value);
+    }
+}
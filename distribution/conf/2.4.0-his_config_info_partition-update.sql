@@ -0,0 +1,43 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* Index for querying deleted configs by the cursor of gmt_modified and nid. */
+ALTER TABLE `his_config_info` ADD INDEX `idx_op_type_gmt_modified` (`op_type`, `gmt_modified`, `nid`);
+
+/*
+ * Optional: partition his_config_info by day, so the expired history is dropped by partitions instead of rows.
+ * After the statements below, nacos creates the partitions of coming days (named pyyyyMMdd) before `pmax` and drops the
+ * expired ones when clearing config history. The partition key must be part of the primary key, so the primary key
+ * is changed to (`nid`, `gmt_modified`). Converting rebuilds the table, please run it in a low traffic period.
+ *
+ * The day partitions of today and the next two days are created in the conversion, all existing history goes to the
+ * partition of today, and `pmax` is left empty. Nacos adds new day partitions by reorganizing `pmax`, which copies every
+ * row in `pmax`, so do not convert with `pmax` only: the first roll would then copy the whole table again.
+ *
+ * SET @day0 = CURDATE();
+ * SET @sql = CONCAT('ALTER TABLE `his_config_info` DROP PRIMARY KEY, ADD PRIMARY KEY (`nid`, `gmt_modified`) ',
+ *     'PARTITION BY RANGE COLUMNS(`gmt_modified`) (',
+ *     'PARTITION `p', DATE_FORMAT(@day0, '%Y%m%d'), '` VALUES LESS THAN (''',
+ *     DATE_FORMAT(@day0 + INTERVAL 1 DAY, '%Y-%m-%d 00:00:00'), '''), ',
+ *     'PARTITION `p', DATE_FORMAT(@day0 + INTERVAL 1 DAY, '%Y%m%d'), '` VALUES LESS THAN (''',
+ *     DATE_FORMAT(@day0 + INTERVAL 2 DAY, '%Y-%m-%d 00:00:00'), '''), ',
+ *     'PARTITION `p', DATE_FORMAT(@day0 + INTERVAL 2 DAY, '%Y%m%d'), '` VALUES LESS THAN (''',
+ *     DATE_FORMAT(@day0 + INTERVAL 3 DAY, '%Y-%m-%d 00:00:00'), '''), ',
+ *     'PARTITION `pmax` VALUES LESS THAN (MAXVALUE))');
+ * PREPARE convert_stmt FROM @sql;
+ * EXECUTE convert_stmt;
+ * DEALLOCATE PREPARE convert_stmt;
+ */
@@ -152,7 +152,8 @@ CREATE TABLE `his_config_info` (
   PRIMARY KEY (`nid`),
   KEY `idx_gmt_create` (`gmt_create`),
   KEY `idx_gmt_modified` (`gmt_modified`),
-  KEY `idx_did` (`data_id`)
+  KEY `idx_did` (`data_id`),
+  KEY `idx_op_type_gmt_modified` (`op_type`, `gmt_modified`, `nid`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE=utf8_bin COMMENT='多租户改造';
 
 
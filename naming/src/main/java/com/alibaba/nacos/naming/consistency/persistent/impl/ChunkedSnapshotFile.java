@@ -0,0 +1,166 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.persistent.impl;
+
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Chunked snapshot file for naming raft snapshots.
+ *
+ * <p>The snapshot map is serialized chunk by chunk into a deflate stream, so neither saving nor loading needs the
+ * whole serialized map in memory. File layout after decompress: {@code magic, (length, chunk)*, 0}, each chunk is a
+ * map serialized by {@link Serializer}.
+ *
+ * @author agent
+ */
+public final class ChunkedSnapshotFile {
+    
+    /**
+     * Whether to write naming snapshots in chunked format, loading can recognize both formats. Only enable it after all
+     * members of cluster can load the chunked format.
+     */
+    public static final String CHUNKED_ENABLED = "nacos.naming.snapshot.chunked.enabled";
+    
+    public static final String CHUNK_SIZE = "nacos.naming.snapshot.chunk.size";
+    
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    
+    private static final int MAGIC = 0x4E534331;
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private ChunkedSnapshotFile() {
+    }
+    
+    public static boolean isEnabled() {
+        return EnvUtil.getProperty(CHUNKED_ENABLED, Boolean.class, false);
+    }
+    
+    public static int getChunkSize() {
+        return Math.max(1, EnvUtil.getProperty(CHUNK_SIZE, Integer.class, DEFAULT_CHUNK_SIZE));
+    }
+    
+    /**
+     * Write map into chunked snapshot file.
+     *
+     * @param outputFile output file
+     * @param data       data of snapshot
+     * @param chunkSize  max entries of each chunk
+     * @param serializer serializer of chunk
+     * @param checksum   checksum of output file
+     * @throws IOException io exception during writing
+     */
+    public static <K, V> void write(String outputFile, Map<K, V> data, int chunkSize, Serializer serializer,
+            Checksum checksum) throws IOException {
+        write(outputFile, data.entrySet().iterator(), chunkSize, serializer, checksum);
+    }
+    
+    /**
+     * Write entries into chunked snapshot file, entries are consumed lazily chunk by chunk.
+     *
+     * @param outputFile output file
+     * @param iterator   iterator of snapshot entries
+     * @param chunkSize  max entries of each chunk
+     * @param serializer serializer of chunk
+     * @param checksum   checksum of output file
+     * @throws IOException io exception during writing
+     */
+    public static <K, V> void write(String outputFile, Iterator<Map.Entry<K, V>> iterator, int chunkSize,
+            Serializer serializer, Checksum checksum) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(
+                new CheckedOutputStream(new BufferedOutputStream(new FileOutputStream(outputFile), BUFFER_SIZE),
+                        checksum), deflater, BUFFER_SIZE))) {
+            output.writeInt(MAGIC);
+            while (iterator.hasNext()) {
+                HashMap<K, V> chunk = new HashMap<>(16);
+                while (chunk.size() < chunkSize && iterator.hasNext()) {
+                    Map.Entry<K, V> entry = iterator.next();
+                    chunk.put(entry.getKey(), entry.getValue());
+                }
+                byte[] bytes = serializer.serialize(chunk);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+            output.writeInt(0);
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    /**
+     * Read chunked snapshot file, each chunk will be passed to consumer once deserialized.
+     *
+     * @param sourceFile    source file
+     * @param serializer    serializer of chunk
+     * @param checksum      checksum of source file
+     * @param chunkConsumer consumer of chunk
+     * @throws IOException io exception during reading or the file is not a chunked snapshot file
+     */
+    public static <K, V> void read(String sourceFile, Serializer serializer, Checksum checksum,
+            Consumer<Map<K, V>> chunkConsumer) throws IOException {
+        Inflater inflater = new Inflater();
+        try (CheckedInputStream checkedInput = new CheckedInputStream(
+                new BufferedInputStream(new FileInputStream(sourceFile), BUFFER_SIZE), checksum);
+                DataInputStream input = new DataInputStream(
+                        new InflaterInputStream(checkedInput, inflater, BUFFER_SIZE))) {
+            if (MAGIC != input.readInt()) {
+                throw new IOException("Not a chunked snapshot file: " + sourceFile);
+            }
+            int length;
+            while ((length = input.readInt()) > 0) {
+                byte[] bytes = new byte[length];
+                input.readFully(bytes);
+                Map<K, V> chunk = serializer.deserialize(bytes);
+                chunkConsumer.accept(chunk);
+            }
+            // make checksum cover the whole file.
+            drain(checkedInput);
+        } finally {
+            inflater.end();
+        }
+    }
+    
+    private static void drain(InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        do {
+            read = inputStream.read(buffer);
+        } while (read >= 0);
+    }
+}
@@ -30,6 +30,7 @@ import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.core.v2.pojo.ServiceInstanceCounter;
 import com.alibaba.nacos.naming.pojo.ClusterInfo;
 import com.alibaba.nacos.naming.pojo.IpAddressInfo;
 import com.alibaba.nacos.naming.pojo.ServiceDetailInfo;
@@ -45,8 +46,10 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -147,19 +150,20 @@ public class CatalogServiceV2Impl implements CatalogService {
         List<ServiceView> serviceViews = new LinkedList<>();
         Collection<Service> services = patternServices(namespaceId, groupName, serviceName);
         if (ignoreEmptyService) {
-            services = services.stream().filter(each -> 0 != serviceStorage.getData(each).ipCount())
+            services = services.stream().filter(each -> 0 != serviceStorage.getInstanceCounter(each).getIpCount())
                     .collect(Collectors.toList());
         }
         result.put(FieldsConstants.COUNT, services.size());
         services = doPage(services, pageNo - 1, pageSize);
         for (Service each : services) {
             ServiceMetadata serviceMetadata = metadataManager.getServiceMetadata(each).orElseGet(ServiceMetadata::new);
+            ServiceInstanceCounter counter = serviceStorage.getInstanceCounter(each);
             ServiceView serviceView = new ServiceView();
             serviceView.setName(each.getName());
             serviceView.setGroupName(each.getGroup());
             serviceView.setClusterCount(serviceStorage.getClusters(each).size());
-            serviceView.setIpCount(serviceStorage.getData(each).ipCount());
-            serviceView.setHealthyInstanceCount(countHealthyInstance(serviceStorage.getData(each)));
+            serviceView.setIpCount(counter.getIpCount());
+            serviceView.setHealthyInstanceCount(counter.getHealthyCount());
             serviceView.setTriggerFlag(isProtectThreshold(serviceView, serviceMetadata) ? "true" : "false");
             serviceViews.add(serviceView);
         }
@@ -167,16 +171,6 @@ public class CatalogServiceV2Impl implements CatalogService {
         return result;
     }
     
-    private int countHealthyInstance(ServiceInfo data) {
-        int result = 0;
-        for (Instance each : data.getHosts()) {
-            if (each.isHealthy()) {
-                result++;
-            }
-        }
-        return result;
-    }
-    
     private boolean isProtectThreshold(ServiceView serviceView, ServiceMetadata metadata) {
         return (serviceView.getHealthyInstanceCount() * 1.0 / serviceView.getIpCount()) <= metadata
                 .getProtectThreshold();
@@ -225,19 +219,25 @@ public class CatalogServiceV2Impl implements CatalogService {
         return result;
     }
     
+    /**
+     * Find services matched the group and service name pattern, the result is sorted by grouped service name.
+     *
+     * <p>Only the names in the sorted index of namespace are matched, the data of services is not touched.
+     */
     private Collection<Service> patternServices(String namespaceId, String group, String serviceName) {
+        NavigableMap<String, Service> sortedServices = ServiceManager.getInstance().getSortedSingletons(namespaceId);
         boolean noFilter = StringUtils.isBlank(serviceName) && StringUtils.isBlank(group);
         if (noFilter) {
-            return ServiceManager.getInstance().getSingletons(namespaceId);
+            return new ArrayList<>(sortedServices.values());
         }
-        Collection<Service> result = new LinkedList<>();
+        Collection<Service> result = new ArrayList<>();
         StringJoiner regex = new StringJoiner(Constants.SERVICE_INFO_SPLITER);
         regex.add(getRegexString(group));
         regex.add(getRegexString(serviceName));
-        String regexString = regex.toString();
-        for (Service each : ServiceManager.getInstance().getSingletons(namespaceId)) {
-            if (each.getGroupedServiceName().matches(regexString)) {
-                result.add(each);
+        Pattern pattern = Pattern.compile(regex.toString());
+        for (Map.Entry<String, Service> each : sortedServices.entrySet()) {
+            if (pattern.matcher(each.getKey()).matches()) {
+                result.add(each.getValue());
             }
         }
         return result;
@@ -21,10 +21,13 @@ import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Nacos service manager for v2.
@@ -39,9 +42,15 @@ public class ServiceManager {
     
     private final ConcurrentHashMap<String, Set<Service>> namespaceSingletonMaps;
     
+    /**
+     * Services of each namespace sorted by grouped service name, used for paging and searching services by name.
+     */
+    private final ConcurrentHashMap<String, ConcurrentSkipListMap<String, Service>> namespaceSortedSingletonMaps;
+    
     private ServiceManager() {
         singletonRepository = new ConcurrentHashMap<>(1 << 10);
         namespaceSingletonMaps = new ConcurrentHashMap<>(1 << 2);
+        namespaceSortedSingletonMaps = new ConcurrentHashMap<>(1 << 2);
     }
     
     public static ServiceManager getInstance() {
@@ -52,6 +61,17 @@ public class ServiceManager {
         return namespaceSingletonMaps.getOrDefault(namespace, new HashSet<>(1));
     }
     
+    /**
+     * Get services of namespace sorted by grouped service name.
+     *
+     * @param namespace namespace of services
+     * @return unmodifiable sorted view of services, key is grouped service name
+     */
+    public NavigableMap<String, Service> getSortedSingletons(String namespace) {
+        NavigableMap<String, Service> result = namespaceSortedSingletonMaps.get(namespace);
+        return null == result ? Collections.emptyNavigableMap() : Collections.unmodifiableNavigableMap(result);
+    }
+    
     /**
      * Get singleton service. Put to manager if no singleton.
      *
@@ -64,9 +84,20 @@ public class ServiceManager {
             return service;
         });
         namespaceSingletonMaps.computeIfAbsent(result.getNamespace(), namespace -> new ConcurrentHashSet<>()).add(result);
+        addSortedSingleton(result);
         return result;
     }
     
+    private void addSortedSingleton(Service service) {
+        String groupedServiceName = service.getGroupedServiceName();
+        // skip list map does not accept null key, service without name can't be searched by name either.
+        if (null == groupedServiceName) {
+            return;
+        }
+        namespaceSortedSingletonMaps.computeIfAbsent(service.getNamespace(), namespace -> new ConcurrentSkipListMap<>())
+                .putIfAbsent(groupedServiceName, service);
+    }
+    
     /**
      * Get singleton service if Exist.
      *
@@ -103,6 +134,10 @@ public class ServiceManager {
         if (namespaceSingletonMaps.containsKey(service.getNamespace())) {
             namespaceSingletonMaps.get(service.getNamespace()).remove(service);
         }
+        String groupedServiceName = service.getGroupedServiceName();
+        if (null != groupedServiceName && namespaceSortedSingletonMaps.containsKey(service.getNamespace())) {
+            namespaceSortedSingletonMaps.get(service.getNamespace()).remove(groupedServiceName, service);
+        }
         return singletonRepository.remove(service);
     }
     
@@ -20,6 +20,8 @@ import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
+import java.util.Collection;
+
 /**
  * Operation client event.
  *
@@ -94,6 +96,44 @@ public class ClientOperationEvent extends Event {
         }
     }
     
+    /**
+     * Client subscribe multiple services event.
+     */
+    public static class ClientBatchSubscribeServiceEvent extends ClientOperationEvent {
+        
+        private static final long serialVersionUID = 2379146452925478713L;
+        
+        private final Collection<Service> services;
+        
+        public ClientBatchSubscribeServiceEvent(Collection<Service> services, String clientId) {
+            super(clientId, null);
+            this.services = services;
+        }
+        
+        public Collection<Service> getServices() {
+            return services;
+        }
+    }
+    
+    /**
+     * Client unsubscribe multiple services event.
+     */
+    public static class ClientBatchUnsubscribeServiceEvent extends ClientOperationEvent {
+        
+        private static final long serialVersionUID = -6062547126391683462L;
+        
+        private final Collection<Service> services;
+        
+        public ClientBatchUnsubscribeServiceEvent(Collection<Service> services, String clientId) {
+            super(clientId, null);
+            this.services = services;
+        }
+        
+        public Collection<Service> getServices() {
+            return services;
+        }
+    }
+    
     public static class ClientReleaseEvent extends ClientOperationEvent {
     
         private static final long serialVersionUID = -281486927726245701L;
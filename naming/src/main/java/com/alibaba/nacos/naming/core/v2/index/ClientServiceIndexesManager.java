@@ -83,6 +83,8 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
         result.add(ClientOperationEvent.ClientDeregisterServiceEvent.class);
         result.add(ClientOperationEvent.ClientSubscribeServiceEvent.class);
         result.add(ClientOperationEvent.ClientUnsubscribeServiceEvent.class);
+        result.add(ClientOperationEvent.ClientBatchSubscribeServiceEvent.class);
+        result.add(ClientOperationEvent.ClientBatchUnsubscribeServiceEvent.class);
         result.add(ClientOperationEvent.ClientReleaseEvent.class);
         return result;
     }
@@ -91,6 +93,10 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     public void onEvent(Event event) {
         if (event instanceof ClientOperationEvent.ClientReleaseEvent) {
             handleClientDisconnect((ClientOperationEvent.ClientReleaseEvent) event);
+        } else if (event instanceof ClientOperationEvent.ClientBatchSubscribeServiceEvent) {
+            handleClientBatchSubscribe((ClientOperationEvent.ClientBatchSubscribeServiceEvent) event);
+        } else if (event instanceof ClientOperationEvent.ClientBatchUnsubscribeServiceEvent) {
+            handleClientBatchUnsubscribe((ClientOperationEvent.ClientBatchUnsubscribeServiceEvent) event);
         } else if (event instanceof ClientOperationEvent) {
             handleClientOperation((ClientOperationEvent) event);
         }
@@ -113,6 +119,20 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
         }
     }
     
+    private void handleClientBatchSubscribe(ClientOperationEvent.ClientBatchSubscribeServiceEvent event) {
+        // The data of services has been returned by batch subscribe response, so not push them to the client again.
+        String clientId = event.getClientId();
+        for (Service each : event.getServices()) {
+            subscriberIndexes.computeIfAbsent(each, key -> new ConcurrentHashSet<>()).add(clientId);
+        }
+    }
+    
+    private void handleClientBatchUnsubscribe(ClientOperationEvent.ClientBatchUnsubscribeServiceEvent event) {
+        for (Service each : event.getServices()) {
+            removeSubscriberIndexes(each, event.getClientId());
+        }
+    }
+    
     private void handleClientOperation(ClientOperationEvent event) {
         Service service = event.getService();
         String clientId = event.getClientId();
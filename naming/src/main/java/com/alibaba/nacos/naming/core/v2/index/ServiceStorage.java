@@ -27,6 +27,7 @@ import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.core.v2.pojo.ServiceInstanceCounter;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
@@ -60,6 +61,8 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceInstanceCounter> serviceCounterIndex;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +71,7 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceCounterIndex = new ConcurrentHashMap<>();
     }
     
     public Set<String> getClusters(Service service) {
@@ -78,6 +82,27 @@ public class ServiceStorage {
         return serviceDataIndexes.containsKey(service) ? serviceDataIndexes.get(service) : getPushData(service);
     }
     
+    /**
+     * Get the cached instance counters of service.
+     *
+     * <p>The counters are rebuilt with the service data by {@link #getPushData(Service)}, which is triggered by every
+     * {@link com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent.ServiceChangedEvent}, so reading them won't
+     * traverse the instances of the service.
+     *
+     * @param service service
+     * @return instance counters of service
+     */
+    public ServiceInstanceCounter getInstanceCounter(Service service) {
+        ServiceInstanceCounter result = serviceCounterIndex.get(service);
+        return null != result ? result : ServiceInstanceCounter.of(getPushData(service).getHosts());
+    }
+    
+    /**
+     * Rebuild the data of service from client indexes and cache it together with the clusters and counters.
+     *
+     * @param service service
+     * @return latest data of service
+     */
     public ServiceInfo getPushData(Service service) {
         ServiceInfo result = emptyServiceInfo(service);
         if (!ServiceManager.getInstance().containSingleton(service)) {
@@ -85,13 +110,20 @@ public class ServiceStorage {
         }
         Service singleton = ServiceManager.getInstance().getSingleton(service);
         result.setHosts(getAllInstancesFromIndex(singleton));
+        serviceCounterIndex.put(singleton, ServiceInstanceCounter.of(result.getHosts()));
         serviceDataIndexes.put(singleton, result);
         return result;
     }
     
+    /**
+     * Remove the cached data, clusters and counters of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceCounterIndex.remove(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
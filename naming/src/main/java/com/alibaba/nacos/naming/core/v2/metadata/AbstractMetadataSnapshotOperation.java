@@ -16,35 +16,52 @@
 
 package com.alibaba.nacos.naming.core.v2.metadata;
 
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.snapshot.LocalFileMeta;
 import com.alibaba.nacos.consistency.snapshot.Reader;
 import com.alibaba.nacos.consistency.snapshot.Writer;
 import com.alibaba.nacos.naming.consistency.persistent.impl.AbstractSnapshotOperation;
+import com.alibaba.nacos.naming.consistency.persistent.impl.ChunkedSnapshotFile;
 import com.alibaba.nacos.sys.utils.DiskUtils;
 import com.alipay.sofa.jraft.util.CRC64;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.zip.Checksum;
 
 /**
  * Nacos naming snapshot operation for metadata.
  *
+ * <p>Snapshot is written as a single serialized zip entry by default, or streamed by {@link ChunkedSnapshotFile} if
+ * chunked snapshot enabled. Both formats can be loaded.
+ *
+ * @param <K> key type of metadata snapshot
+ * @param <V> value type of metadata snapshot
  * @author xiweng.yy
  */
-public abstract class AbstractMetadataSnapshotOperation extends AbstractSnapshotOperation {
+public abstract class AbstractMetadataSnapshotOperation<K, V> extends AbstractSnapshotOperation {
     
     private static final String METADATA_CHILD_NAME = "metadata";
     
+    protected final Serializer serializer;
+    
     public AbstractMetadataSnapshotOperation(ReentrantReadWriteLock lock) {
         super(lock);
+        this.serializer = SerializeFactory.getDefault();
     }
     
     @Override
     protected boolean writeSnapshot(Writer writer) throws IOException {
+        if (ChunkedSnapshotFile.isEnabled()) {
+            return writeChunkedSnapshot(writer);
+        }
         final String writePath = writer.getPath();
         final String outputFile = Paths.get(writePath, getSnapshotArchive()).toString();
         final Checksum checksum = new CRC64();
@@ -56,8 +73,22 @@ public abstract class AbstractMetadataSnapshotOperation extends AbstractSnapshot
         return writer.addFile(getSnapshotArchive(), meta);
     }
     
+    private boolean writeChunkedSnapshot(Writer writer) throws IOException {
+        final String outputFile = Paths.get(writer.getPath(), getChunkedSnapshotArchive()).toString();
+        final Checksum checksum = new CRC64();
+        ChunkedSnapshotFile.write(outputFile, getSnapshotData(), ChunkedSnapshotFile.getChunkSize(), serializer,
+                checksum);
+        final LocalFileMeta meta = new LocalFileMeta();
+        meta.append(CHECK_SUM_KEY, Long.toHexString(checksum.getValue()));
+        return writer.addFile(getChunkedSnapshotArchive(), meta);
+    }
+    
     @Override
     protected boolean readSnapshot(Reader reader) throws Exception {
+        LocalFileMeta chunkedFileMeta = reader.getFileMeta(getChunkedSnapshotArchive());
+        if (null != chunkedFileMeta) {
+            return readChunkedSnapshot(reader, chunkedFileMeta);
+        }
         final String readerPath = reader.getPath();
         final String sourceFile = Paths.get(readerPath, getSnapshotArchive()).toString();
         final Checksum checksum = new CRC64();
@@ -72,6 +103,20 @@ public abstract class AbstractMetadataSnapshotOperation extends AbstractSnapshot
         return true;
     }
     
+    private boolean readChunkedSnapshot(Reader reader, LocalFileMeta fileMeta) throws IOException {
+        final String sourceFile = Paths.get(reader.getPath(), getChunkedSnapshotArchive()).toString();
+        final Checksum checksum = new CRC64();
+        final ConcurrentMap<K, V> snapshotData = new ConcurrentHashMap<>(16);
+        ChunkedSnapshotFile.<K, V>read(sourceFile, serializer, checksum, snapshotData::putAll);
+        if (fileMeta.getFileMeta().containsKey(CHECK_SUM_KEY)) {
+            if (!Objects.equals(Long.toHexString(checksum.getValue()), fileMeta.get(CHECK_SUM_KEY))) {
+                throw new IllegalArgumentException("Snapshot checksum failed");
+            }
+        }
+        loadSnapshotData(snapshotData);
+        return true;
+    }
+    
     /**
      * Get snapshot archive file name.
      *
@@ -79,6 +124,27 @@ public abstract class AbstractMetadataSnapshotOperation extends AbstractSnapshot
      */
     protected abstract String getSnapshotArchive();
     
+    /**
+     * Get chunked snapshot archive file name.
+     *
+     * @return chunked snapshot archive
+     */
+    protected abstract String getChunkedSnapshotArchive();
+    
+    /**
+     * Get snapshot data.
+     *
+     * @return snapshot data
+     */
+    protected abstract Map<K, V> getSnapshotData();
+    
+    /**
+     * Load snapshot data.
+     *
+     * @param snapshotData snapshot data
+     */
+    protected abstract void loadSnapshotData(ConcurrentMap<K, V> snapshotData);
+    
     /**
      * Dump snapshot as input stream.
      *
@@ -16,8 +16,6 @@
 
 package com.alibaba.nacos.naming.core.v2.metadata;
 
-import com.alibaba.nacos.consistency.SerializeFactory;
-import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 import java.io.ByteArrayInputStream;
@@ -31,7 +29,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *
  * @author xiweng.yy
  */
-public class InstanceMetadataSnapshotOperation extends AbstractMetadataSnapshotOperation {
+public class InstanceMetadataSnapshotOperation extends AbstractMetadataSnapshotOperation<Service, ConcurrentMap<String, InstanceMetadata>> {
     
     private static final String SNAPSHOT_SAVE = InstanceMetadataSnapshotOperation.class.getSimpleName() + ".SAVE";
     
@@ -39,14 +37,13 @@ public class InstanceMetadataSnapshotOperation extends AbstractMetadataSnapshotO
     
     private static final String SNAPSHOT_ARCHIVE = "instance_metadata.zip";
     
-    private final NamingMetadataManager metadataManager;
+    private static final String CHUNKED_SNAPSHOT_ARCHIVE = "instance_metadata.chunk";
     
-    private final Serializer serializer;
+    private final NamingMetadataManager metadataManager;
     
     public InstanceMetadataSnapshotOperation(NamingMetadataManager metadataManager, ReentrantReadWriteLock lock) {
         super(lock);
         this.metadataManager = metadataManager;
-        this.serializer = SerializeFactory.getDefault();
     }
     
     @Override
@@ -65,6 +62,21 @@ public class InstanceMetadataSnapshotOperation extends AbstractMetadataSnapshotO
         return SNAPSHOT_ARCHIVE;
     }
     
+    @Override
+    protected String getChunkedSnapshotArchive() {
+        return CHUNKED_SNAPSHOT_ARCHIVE;
+    }
+    
+    @Override
+    protected Map<Service, ConcurrentMap<String, InstanceMetadata>> getSnapshotData() {
+        return metadataManager.getInstanceMetadataSnapshot();
+    }
+    
+    @Override
+    protected void loadSnapshotData(ConcurrentMap<Service, ConcurrentMap<String, InstanceMetadata>> snapshotData) {
+        metadataManager.loadInstanceMetadataSnapshot(snapshotData);
+    }
+    
     @Override
     protected String getSnapshotSaveTag() {
         return SNAPSHOT_SAVE;
@@ -16,13 +16,12 @@
 
 package com.alibaba.nacos.naming.core.v2.metadata;
 
-import com.alibaba.nacos.consistency.SerializeFactory;
-import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -30,7 +29,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *
  * @author xiweng.yy
  */
-public class ServiceMetadataSnapshotOperation extends AbstractMetadataSnapshotOperation {
+public class ServiceMetadataSnapshotOperation extends AbstractMetadataSnapshotOperation<Service, ServiceMetadata> {
     
     private static final String SNAPSHOT_SAVE = ServiceMetadataSnapshotOperation.class.getSimpleName() + ".SAVE";
     
@@ -38,14 +37,13 @@ public class ServiceMetadataSnapshotOperation extends AbstractMetadataSnapshotOp
     
     private static final String SNAPSHOT_ARCHIVE = "service_metadata.zip";
     
-    private final NamingMetadataManager metadataManager;
+    private static final String CHUNKED_SNAPSHOT_ARCHIVE = "service_metadata.chunk";
     
-    private final Serializer serializer;
+    private final NamingMetadataManager metadataManager;
     
     public ServiceMetadataSnapshotOperation(NamingMetadataManager metadataManager, ReentrantReadWriteLock lock) {
         super(lock);
         this.metadataManager = metadataManager;
-        this.serializer = SerializeFactory.getDefault();
     }
     
     @Override
@@ -64,6 +62,21 @@ public class ServiceMetadataSnapshotOperation extends AbstractMetadataSnapshotOp
         return SNAPSHOT_ARCHIVE;
     }
     
+    @Override
+    protected String getChunkedSnapshotArchive() {
+        return CHUNKED_SNAPSHOT_ARCHIVE;
+    }
+    
+    @Override
+    protected Map<Service, ServiceMetadata> getSnapshotData() {
+        return metadataManager.getServiceMetadataSnapshot();
+    }
+    
+    @Override
+    protected void loadSnapshotData(ConcurrentMap<Service, ServiceMetadata> snapshotData) {
+        metadataManager.loadServiceMetadataSnapshot(snapshotData);
+    }
+    
     @Override
     protected String getSnapshotSaveTag() {
         return SNAPSHOT_SAVE;
@@ -0,0 +1,58 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.pojo;
+
+import com.alibaba.nacos.consistency.serialize.CompactCodec;
+import com.alibaba.nacos.consistency.serialize.CompactInput;
+import com.alibaba.nacos.consistency.serialize.CompactOutput;
+
+import java.util.List;
+
+/**
+ * Compact codec of {@link BatchInstancePublishInfo}.
+ *
+ * @author agent
+ */
+public class BatchInstancePublishInfoCodec implements CompactCodec<BatchInstancePublishInfo> {
+    
+    public static final int ID = 17;
+    
+    @Override
+    public int id() {
+        return ID;
+    }
+    
+    @Override
+    public Class<BatchInstancePublishInfo> type() {
+        return BatchInstancePublishInfo.class;
+    }
+    
+    @Override
+    public void encode(BatchInstancePublishInfo value, CompactOutput output) {
+        InstancePublishInfoCodec.encodeFields(value, output);
+        output.writeValue(value.getInstancePublishInfos());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public BatchInstancePublishInfo decode(CompactInput input) {
+        BatchInstancePublishInfo result = new BatchInstancePublishInfo();
+        InstancePublishInfoCodec.decodeFields(result, input);
+        result.setInstancePublishInfos((List<InstancePublishInfo>) input.readValue());
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.pojo;
+
+import com.alibaba.nacos.consistency.serialize.CompactCodec;
+import com.alibaba.nacos.consistency.serialize.CompactInput;
+import com.alibaba.nacos.consistency.serialize.CompactOutput;
+
+import java.util.Map;
+
+/**
+ * Compact codec of {@link InstancePublishInfo}.
+ *
+ * @author agent
+ */
+public class InstancePublishInfoCodec implements CompactCodec<InstancePublishInfo> {
+    
+    public static final int ID = 16;
+    
+    @Override
+    public int id() {
+        return ID;
+    }
+    
+    @Override
+    public Class<InstancePublishInfo> type() {
+        return InstancePublishInfo.class;
+    }
+    
+    @Override
+    public void encode(InstancePublishInfo value, CompactOutput output) {
+        encodeFields(value, output);
+    }
+    
+    @Override
+    public InstancePublishInfo decode(CompactInput input) {
+        InstancePublishInfo result = new InstancePublishInfo();
+        decodeFields(result, input);
+        return result;
+    }
+    
+    static void encodeFields(InstancePublishInfo value, CompactOutput output) {
+        output.writeString(value.getIp());
+        output.writeInt(value.getPort());
+        output.writeBoolean(value.isHealthy());
+        output.writeString(value.getCluster());
+        output.writeValue(value.getExtendDatum());
+    }
+    
+    @SuppressWarnings("unchecked")
+    static void decodeFields(InstancePublishInfo result, CompactInput input) {
+        result.setIp(input.readString());
+        result.setPort(input.readInt());
+        result.setHealthy(input.readBoolean());
+        result.setCluster(input.readString());
+        result.setExtendDatum((Map<String, Object>) input.readValue());
+    }
+}
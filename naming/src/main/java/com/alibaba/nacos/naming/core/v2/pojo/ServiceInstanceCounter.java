@@ -0,0 +1,68 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.pojo;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+import java.util.Collection;
+
+/**
+ * Cached instance counters of one service, rebuilt together with the service data in
+ * {@link com.alibaba.nacos.naming.core.v2.index.ServiceStorage}.
+ *
+ * @author agent
+ */
+public final class ServiceInstanceCounter {
+    
+    public static final ServiceInstanceCounter EMPTY = new ServiceInstanceCounter(0, 0);
+    
+    private final int ipCount;
+    
+    private final int healthyCount;
+    
+    private ServiceInstanceCounter(int ipCount, int healthyCount) {
+        this.ipCount = ipCount;
+        this.healthyCount = healthyCount;
+    }
+    
+    /**
+     * Count the instances and healthy instances of the hosts.
+     *
+     * @param hosts hosts of service
+     * @return counter of hosts
+     */
+    public static ServiceInstanceCounter of(Collection<Instance> hosts) {
+        if (null == hosts || hosts.isEmpty()) {
+            return EMPTY;
+        }
+        int healthyCount = 0;
+        for (Instance each : hosts) {
+            if (each.isHealthy()) {
+                healthyCount++;
+            }
+        }
+        return new ServiceInstanceCounter(hosts.size(), healthyCount);
+    }
+    
+    public int getIpCount() {
+        return ipCount;
+    }
+    
+    public int getHealthyCount() {
+        return healthyCount;
+    }
+}
@@ -36,7 +36,9 @@ import com.alibaba.nacos.naming.pojo.Subscriber;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Operation service for ephemeral clients and services.
@@ -137,6 +139,45 @@ public class EphemeralClientOperationServiceImpl implements ClientOperationServi
         NotifyCenter.publishEvent(new ClientOperationEvent.ClientUnsubscribeServiceEvent(singleton, clientId));
     }
 
+    /**
+     * Subscribe multiple services by one client with a single index update.
+     *
+     * @param subscribers subscribers of each service
+     * @param clientId    id of client
+     */
+    public void batchSubscribeService(Map<Service, Subscriber> subscribers, String clientId) {
+        Client client = clientManager.getClient(clientId);
+        checkClientIsLegal(client, clientId);
+        List<Service> singletons = new ArrayList<>(subscribers.size());
+        for (Map.Entry<Service, Subscriber> entry : subscribers.entrySet()) {
+            Service singleton = ServiceManager.getInstance().getSingletonIfExist(entry.getKey())
+                    .orElse(entry.getKey());
+            client.addServiceSubscriber(singleton, entry.getValue());
+            singletons.add(singleton);
+        }
+        client.setLastUpdatedTime();
+        NotifyCenter.publishEvent(new ClientOperationEvent.ClientBatchSubscribeServiceEvent(singletons, clientId));
+    }
+    
+    /**
+     * Unsubscribe multiple services by one client with a single index update.
+     *
+     * @param services services to unsubscribe
+     * @param clientId id of client
+     */
+    public void batchUnsubscribeService(Collection<Service> services, String clientId) {
+        Client client = clientManager.getClient(clientId);
+        checkClientIsLegal(client, clientId);
+        List<Service> singletons = new ArrayList<>(services.size());
+        for (Service each : services) {
+            Service singleton = ServiceManager.getInstance().getSingletonIfExist(each).orElse(each);
+            client.removeServiceSubscriber(singleton);
+            singletons.add(singleton);
+        }
+        client.setLastUpdatedTime();
+        NotifyCenter.publishEvent(new ClientOperationEvent.ClientBatchUnsubscribeServiceEvent(singletons, clientId));
+    }
+    
     private void checkClientIsLegal(Client client, String clientId) {
         if (client == null) {
             Loggers.SRV_LOG.warn("Client connection {} already disconnect", clientId);
@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.service.impl;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.consistency.serialize.CompactCodec;
+import com.alibaba.nacos.consistency.serialize.CompactInput;
+import com.alibaba.nacos.consistency.serialize.CompactOutput;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl.InstanceStoreRequest;
+
+import java.util.Map;
+
+/**
+ * Compact codec of the raft log of persistent instances.
+ *
+ * <p>Only the identity of service is written, the state machine always applies the log to the singleton service.
+ *
+ * @author agent
+ */
+public class InstanceStoreRequestCodec implements CompactCodec<InstanceStoreRequest> {
+    
+    public static final int ID = 18;
+    
+    @Override
+    public int id() {
+        return ID;
+    }
+    
+    @Override
+    public Class<InstanceStoreRequest> type() {
+        return InstanceStoreRequest.class;
+    }
+    
+    @Override
+    public void encode(InstanceStoreRequest value, CompactOutput output) {
+        Service service = value.getService();
+        output.writeBoolean(null != service);
+        if (null != service) {
+            output.writeString(service.getNamespace());
+            output.writeString(service.getGroup());
+            output.writeString(service.getName());
+            output.writeBoolean(service.isEphemeral());
+        }
+        Instance instance = value.getInstance();
+        output.writeBoolean(null != instance);
+        if (null != instance) {
+            output.writeString(instance.getInstanceId());
+            output.writeString(instance.getIp());
+            output.writeInt(instance.getPort());
+            output.writeValue(instance.getWeight());
+            output.writeBoolean(instance.isHealthy());
+            output.writeBoolean(instance.isEnabled());
+            output.writeBoolean(instance.isEphemeral());
+            output.writeString(instance.getClusterName());
+            output.writeString(instance.getServiceName());
+            output.writeValue(instance.getMetadata());
+        }
+        output.writeString(value.getClientId());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public InstanceStoreRequest decode(CompactInput input) {
+        InstanceStoreRequest result = new InstanceStoreRequest();
+        if (input.readBoolean()) {
+            String namespace = input.readString();
+            String group = input.readString();
+            String name = input.readString();
+            result.setService(Service.newService(namespace, group, name, input.readBoolean()));
+        }
+        if (input.readBoolean()) {
+            Instance instance = new Instance();
+            instance.setInstanceId(input.readString());
+            instance.setIp(input.readString());
+            instance.setPort(input.readInt());
+            instance.setWeight((Double) input.readValue());
+            instance.setHealthy(input.readBoolean());
+            instance.setEnabled(input.readBoolean());
+            instance.setEphemeral(input.readBoolean());
+            instance.setClusterName(input.readString());
+            instance.setServiceName(input.readString());
+            instance.setMetadata((Map<String, String>) input.readValue());
+            result.setInstance(instance);
+        }
+        result.setClientId(input.readString());
+        return result;
+    }
+}
@@ -23,7 +23,6 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.utils.ClassUtils;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.consistency.DataOperation;
-import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
@@ -35,8 +34,10 @@ import com.alibaba.nacos.consistency.snapshot.Reader;
 import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
 import com.alibaba.nacos.consistency.snapshot.Writer;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
+import com.alibaba.nacos.core.distributed.raft.utils.JRaftUtils;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.naming.consistency.persistent.impl.AbstractSnapshotOperation;
+import com.alibaba.nacos.naming.consistency.persistent.impl.ChunkedSnapshotFile;
 import com.alibaba.nacos.naming.constants.Constants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
@@ -60,10 +61,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.nio.file.Paths;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -85,7 +88,7 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
     
     private final PersistentIpPortClientManager clientManager;
     
-    private final Serializer serializer = SerializeFactory.getDefault();
+    private final Serializer serializer = JRaftUtils.getGroupSerializer(Constants.NAMING_PERSISTENT_SERVICE_GROUP_V2);
     
     private final CPProtocol protocol;
     
@@ -308,12 +311,17 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         
         private static final String SNAPSHOT_ARCHIVE = "persistent_instance.zip";
         
+        private static final String CHUNKED_SNAPSHOT_ARCHIVE = "persistent_instance.chunk";
+        
         public PersistentInstanceSnapshotOperation(ReentrantReadWriteLock lock) {
             super(lock);
         }
         
         @Override
         protected boolean writeSnapshot(Writer writer) throws IOException {
+            if (ChunkedSnapshotFile.isEnabled()) {
+                return writeChunkedSnapshot(writer);
+            }
             final String writePath = writer.getPath();
             final String outputFile = Paths.get(writePath, SNAPSHOT_ARCHIVE).toString();
             final Checksum checksum = new CRC64();
@@ -325,10 +333,37 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
             return writer.addFile(SNAPSHOT_ARCHIVE, meta);
         }
         
+        private boolean writeChunkedSnapshot(Writer writer) throws IOException {
+            final String outputFile = Paths.get(writer.getPath(), CHUNKED_SNAPSHOT_ARCHIVE).toString();
+            final Checksum checksum = new CRC64();
+            Iterator<Map.Entry<String, IpPortBasedClient>> clients = clientManager.showClients().entrySet().iterator();
+            Iterator<Map.Entry<String, ClientSyncData>> syncData = new Iterator<Map.Entry<String, ClientSyncData>>() {
+                
+                @Override
+                public boolean hasNext() {
+                    return clients.hasNext();
+                }
+                
+                @Override
+                public Map.Entry<String, ClientSyncData> next() {
+                    Map.Entry<String, IpPortBasedClient> next = clients.next();
+                    return new AbstractMap.SimpleImmutableEntry<>(next.getKey(), next.getValue().generateSyncData());
+                }
+            };
+            ChunkedSnapshotFile.write(outputFile, syncData, ChunkedSnapshotFile.getChunkSize(), serializer, checksum);
+            final LocalFileMeta meta = new LocalFileMeta();
+            meta.append(CHECK_SUM_KEY, Long.toHexString(checksum.getValue()));
+            return writer.addFile(CHUNKED_SNAPSHOT_ARCHIVE, meta);
+        }
+        
         @Override
         protected boolean readSnapshot(Reader reader) throws Exception {
             final String readerPath = reader.getPath();
             Loggers.RAFT.info("snapshot start to load from : {}", readerPath);
+            LocalFileMeta chunkedFileMeta = reader.getFileMeta(CHUNKED_SNAPSHOT_ARCHIVE);
+            if (null != chunkedFileMeta) {
+                return readChunkedSnapshot(readerPath, chunkedFileMeta);
+            }
             final String sourceFile = Paths.get(readerPath, SNAPSHOT_ARCHIVE).toString();
             final Checksum checksum = new CRC64();
             byte[] snapshotBytes = DiskUtils.decompress(sourceFile, checksum);
@@ -342,6 +377,20 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
             return true;
         }
         
+        private boolean readChunkedSnapshot(String readerPath, LocalFileMeta fileMeta) throws IOException {
+            final String sourceFile = Paths.get(readerPath, CHUNKED_SNAPSHOT_ARCHIVE).toString();
+            final Checksum checksum = new CRC64();
+            ConcurrentHashMap<String, ClientSyncData> newData = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+            ChunkedSnapshotFile.<String, ClientSyncData>read(sourceFile, serializer, checksum, newData::putAll);
+            if (fileMeta.getFileMeta().containsKey(CHECK_SUM_KEY) && !Objects
+                    .equals(Long.toHexString(checksum.getValue()), fileMeta.get(CHECK_SUM_KEY))) {
+                throw new IllegalArgumentException("Snapshot checksum failed");
+            }
+            loadSnapshotData(newData);
+            Loggers.RAFT.info("snapshot success to load from : {}", readerPath);
+            return true;
+        }
+        
         protected InputStream dumpSnapshot() {
             Map<String, IpPortBasedClient> clientMap = clientManager.showClients();
             ConcurrentHashMap<String, ClientSyncData> clone = new ConcurrentHashMap<>(INITIAL_CAPACITY);
@@ -350,7 +399,10 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         }
         
         protected void loadSnapshot(byte[] snapshotBytes) {
-            ConcurrentHashMap<String, ClientSyncData> newData = serializer.deserialize(snapshotBytes);
+            loadSnapshotData(serializer.deserialize(snapshotBytes));
+        }
+        
+        private void loadSnapshotData(ConcurrentHashMap<String, ClientSyncData> newData) {
             Collection<String> oldClientIds = clientManager.allClientId();
             // add or update
             for (Map.Entry<String, ClientSyncData> entry : newData.entrySet()) {
@@ -20,7 +20,6 @@ import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
 import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
-import com.alibaba.nacos.naming.misc.Loggers;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,7 +34,21 @@ import java.util.concurrent.TimeUnit;
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
-    private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
+    private static final long BEAT_CHECK_PERIOD = 5000L;
+    
+    /**
+     * Timing wheel for per-client checks, one bucket every tick, 512 buckets cover 51.2s by default.
+     */
+    private static final HealthCheckTimingWheel TIMING_WHEEL = new HealthCheckTimingWheel(
+            Long.getLong("com.alibaba.nacos.naming.health.wheel.tick", 100L),
+            Integer.getInteger("com.alibaba.nacos.naming.health.wheel.size", 512),
+            Integer.getInteger("com.alibaba.nacos.naming.health.wheel.batch", 256), GlobalExecutor::executeNamingHealth);
+    
+    private static Map<String, HealthCheckTimingWheel.CheckTimeout> futureMap = new ConcurrentHashMap<>();
+    
+    static {
+        GlobalExecutor.scheduleHealthCheckWheel(TIMING_WHEEL::tick, TIMING_WHEEL.getTickMillis());
+    }
     
     /**
      * Schedule health check task for v2.
@@ -45,7 +58,7 @@ public class HealthCheckReactor {
     public static void scheduleCheck(HealthCheckTaskV2 task) {
         task.setStartTime(System.currentTimeMillis());
         Runnable wrapperTask = new HealthCheckTaskInterceptWrapper(task);
-        GlobalExecutor.scheduleNamingHealth(wrapperTask, task.getCheckRtNormalized(), TimeUnit.MILLISECONDS);
+        TIMING_WHEEL.newTimeout(wrapperTask, task.getCheckRtNormalized(), 0L);
     }
     
     /**
@@ -58,7 +71,7 @@ public class HealthCheckReactor {
                 task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
                         : task;
         futureMap.computeIfAbsent(task.taskKey(),
-                k -> GlobalExecutor.scheduleNamingHealth(wrapperTask, 5000, 5000, TimeUnit.MILLISECONDS));
+                k -> TIMING_WHEEL.newTimeout(wrapperTask, BEAT_CHECK_PERIOD, BEAT_CHECK_PERIOD));
     }
     
     /**
@@ -67,16 +80,11 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
-        ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
-        if (scheduledFuture == null) {
+        HealthCheckTimingWheel.CheckTimeout timeout = futureMap.remove(task.taskKey());
+        if (timeout == null) {
             return;
         }
-        try {
-            scheduledFuture.cancel(true);
-            futureMap.remove(task.taskKey());
-        } catch (Exception e) {
-            Loggers.EVT_LOG.error("[CANCEL-CHECK] cancel failed!", e);
-        }
+        timeout.cancel();
     }
     
     /**
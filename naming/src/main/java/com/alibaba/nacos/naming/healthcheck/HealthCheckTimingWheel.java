@@ -0,0 +1,214 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Hashed timing wheel for per-client heartbeat and health check tasks.
+ *
+ * <p>New tasks are put into a lock-free pending queue and moved into the buckets by the single tick thread, so
+ * scheduling and cancelling are O(1) without a shared heap. Tasks expired in one tick are handed to the worker executor
+ * in batches, the lag between deadline and dispatch time is reported to {@link MetricsMonitor}.
+ *
+ * @author agent
+ */
+public class HealthCheckTimingWheel {
+    
+    private final long tickMillis;
+    
+    private final int mask;
+    
+    private final int batchSize;
+    
+    private final Executor workerExecutor;
+    
+    private final Queue<CheckTimeout>[] buckets;
+    
+    private final Queue<CheckTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final long startTime;
+    
+    private long currentTick;
+    
+    @SuppressWarnings("unchecked")
+    public HealthCheckTimingWheel(long tickMillis, int wheelSize, int batchSize, Executor workerExecutor) {
+        if (tickMillis <= 0 || wheelSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("tickMillis, wheelSize and batchSize should be positive");
+        }
+        int normalizedSize = Integer.highestOneBit(wheelSize);
+        if (normalizedSize < wheelSize) {
+            normalizedSize <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.mask = normalizedSize - 1;
+        this.batchSize = batchSize;
+        this.workerExecutor = workerExecutor;
+        this.buckets = new Queue[normalizedSize];
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.startTime = System.currentTimeMillis();
+    }
+    
+    public long getTickMillis() {
+        return tickMillis;
+    }
+    
+    /**
+     * Schedule task with delay.
+     *
+     * @param task   task
+     * @param delay  delay milliseconds of first execution
+     * @param period delay milliseconds between the end of one execution and the start of next one, {@code <= 0} means
+     *               only execute once
+     * @return timeout handle which can cancel the task
+     */
+    public CheckTimeout newTimeout(Runnable task, long delay, long period) {
+        CheckTimeout result = new CheckTimeout(task, period);
+        schedule(result, delay);
+        return result;
+    }
+    
+    private void schedule(CheckTimeout timeout, long delay) {
+        timeout.deadline = System.currentTimeMillis() + Math.max(delay, 0L);
+        pendingTimeouts.offer(timeout);
+        MetricsMonitor.getHealthCheckWheelTaskCount().incrementAndGet();
+    }
+    
+    /**
+     * Advance the wheel to current time, should be called by only one thread every tick.
+     */
+    public void tick() {
+        tick(System.currentTimeMillis());
+    }
+    
+    void tick(long now) {
+        try {
+            long targetTick = (now - startTime) / tickMillis;
+            transferPendingTimeouts();
+            List<CheckTimeout> batch = new ArrayList<>(batchSize);
+            int expiredCount = 0;
+            long maxLag = 0L;
+            while (currentTick <= targetTick) {
+                Iterator<CheckTimeout> iterator = buckets[(int) (currentTick & mask)].iterator();
+                while (iterator.hasNext()) {
+                    CheckTimeout each = iterator.next();
+                    if (each.cancelled) {
+                        iterator.remove();
+                        MetricsMonitor.getHealthCheckWheelTaskCount().decrementAndGet();
+                    } else if (each.remainingRounds <= 0) {
+                        iterator.remove();
+                        MetricsMonitor.getHealthCheckWheelTaskCount().decrementAndGet();
+                        expiredCount++;
+                        maxLag = Math.max(maxLag, now - each.deadline);
+                        batch.add(each);
+                        if (batch.size() >= batchSize) {
+                            dispatch(batch);
+                            batch = new ArrayList<>(batchSize);
+                        }
+                    } else {
+                        each.remainingRounds--;
+                    }
+                }
+                currentTick++;
+            }
+            if (!batch.isEmpty()) {
+                dispatch(batch);
+            }
+            if (expiredCount > 0) {
+                MetricsMonitor.recordHealthCheckLag(maxLag);
+            }
+        } catch (Throwable e) {
+            Loggers.SRV_LOG.error("[HEALTH-CHECK] timing wheel tick failed", e);
+        }
+    }
+    
+    private void transferPendingTimeouts() {
+        CheckTimeout each;
+        while (null != (each = pendingTimeouts.poll())) {
+            if (each.cancelled) {
+                MetricsMonitor.getHealthCheckWheelTaskCount().decrementAndGet();
+                continue;
+            }
+            long deadlineTick = Math.max((each.deadline - startTime) / tickMillis, currentTick);
+            each.remainingRounds = (deadlineTick - currentTick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].offer(each);
+        }
+    }
+    
+    private void dispatch(List<CheckTimeout> batch) {
+        workerExecutor.execute(() -> {
+            for (CheckTimeout each : batch) {
+                each.run();
+            }
+        });
+    }
+    
+    /**
+     * Handle of task scheduled in timing wheel.
+     */
+    public class CheckTimeout {
+        
+        private final Runnable task;
+        
+        private final long period;
+        
+        private volatile boolean cancelled;
+        
+        private long deadline;
+        
+        private long remainingRounds;
+        
+        private CheckTimeout(Runnable task, long period) {
+            this.task = task;
+            this.period = period;
+        }
+        
+        public void cancel() {
+            cancelled = true;
+        }
+        
+        public boolean isCancelled() {
+            return cancelled;
+        }
+        
+        private void run() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[HEALTH-CHECK] execute task failed", e);
+            } finally {
+                if (period > 0 && !cancelled) {
+                    schedule(this, period);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.naming.misc.Loggers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded connection pool and concurrency limiter for mysql health check.
+ *
+ * <p>Connections are pooled by target (ip:port) and user, so all services and clusters checking the same mysql server
+ * share the idle connections. The total idle connections, the in-flight checks of all targets and the in-flight checks
+ * of each target are all bounded.
+ *
+ * @author agent
+ */
+public class MysqlCheckConnectionPool {
+    
+    private static final String URL_TEMPLATE = "jdbc:mysql://%s?connectTimeout=%d&socketTimeout=%d&loginTimeout=1";
+    
+    private static final int VALIDATE_TIMEOUT_SECONDS = 1;
+    
+    private final int connectTimeoutMs;
+    
+    private final int maxIdleConnections;
+    
+    private final int maxInFlightPerTarget;
+    
+    private final long idleTimeoutMs;
+    
+    private final long validateIntervalMs;
+    
+    private final Semaphore inFlightChecks;
+    
+    private final Map<String, Semaphore> targetInFlightChecks = new ConcurrentHashMap<>();
+    
+    private final Map<String, Deque<PooledConnection>> idleConnections = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger idleCount = new AtomicInteger();
+    
+    public MysqlCheckConnectionPool(int connectTimeoutMs, int maxIdleConnections, int maxInFlightChecks,
+            int maxInFlightPerTarget, long idleTimeoutMs, long validateIntervalMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.maxIdleConnections = maxIdleConnections;
+        this.maxInFlightPerTarget = maxInFlightPerTarget;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.validateIntervalMs = validateIntervalMs;
+        this.inFlightChecks = new Semaphore(maxInFlightChecks);
+    }
+    
+    /**
+     * Default connection pool for mysql health check, can be tuned by system properties.
+     *
+     * @param connectTimeoutMs connect and socket timeout for mysql
+     * @param maxInFlightChecks default max in-flight checks
+     * @return default connection pool
+     */
+    public static MysqlCheckConnectionPool createDefault(int connectTimeoutMs, int maxInFlightChecks) {
+        return new MysqlCheckConnectionPool(connectTimeoutMs,
+                Integer.getInteger("com.alibaba.nacos.naming.health.mysql.idle.max", 64),
+                Integer.getInteger("com.alibaba.nacos.naming.health.mysql.inflight.max", maxInFlightChecks),
+                Integer.getInteger("com.alibaba.nacos.naming.health.mysql.inflight.target.max", 1),
+                Long.getLong("com.alibaba.nacos.naming.health.mysql.idle.timeout", TimeUnit.MINUTES.toMillis(1)),
+                Long.getLong("com.alibaba.nacos.naming.health.mysql.validate.interval", TimeUnit.SECONDS.toMillis(30)));
+    }
+    
+    /**
+     * Try to start a check for target without blocking.
+     *
+     * @param target ip:port of mysql server
+     * @return {@code true} if the check can start, otherwise too many checks are in flight
+     */
+    public boolean tryAcquire(String target) {
+        if (!inFlightChecks.tryAcquire()) {
+            return false;
+        }
+        Semaphore targetSemaphore = targetInFlightChecks
+                .computeIfAbsent(target, key -> new Semaphore(maxInFlightPerTarget));
+        if (!targetSemaphore.tryAcquire()) {
+            inFlightChecks.release();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Finish a check started by {@link #tryAcquire(String)}.
+     *
+     * @param target ip:port of mysql server
+     */
+    public void release(String target) {
+        Semaphore targetSemaphore = targetInFlightChecks.get(target);
+        if (null != targetSemaphore) {
+            targetSemaphore.release();
+        }
+        inFlightChecks.release();
+    }
+    
+    /**
+     * Borrow a validated connection for target, create a new one if no idle connection.
+     *
+     * @param target   ip:port of mysql server
+     * @param user     user of mysql
+     * @param password password of mysql
+     * @return connection
+     * @throws SQLException if create connection failed
+     */
+    public Connection borrow(String target, String user, String password) throws SQLException {
+        Deque<PooledConnection> idle = idleConnections.get(buildKey(target, user));
+        PooledConnection pooled;
+        while (null != idle && null != (pooled = idle.pollFirst())) {
+            idleCount.decrementAndGet();
+            if (isReusable(pooled)) {
+                return pooled.connection;
+            }
+            closeQuietly(pooled.connection);
+        }
+        return DriverManager.getConnection(String.format(URL_TEMPLATE, target, connectTimeoutMs, connectTimeoutMs),
+                user, password);
+    }
+    
+    /**
+     * Give back the connection after check.
+     *
+     * @param target     ip:port of mysql server
+     * @param user       user of mysql
+     * @param connection connection borrowed by {@link #borrow(String, String, String)}
+     * @param reusable   whether the connection can be reused, connection failed or timeout should not be reused
+     */
+    public void giveBack(String target, String user, Connection connection, boolean reusable) {
+        if (null == connection) {
+            return;
+        }
+        if (!reusable || idleCount.incrementAndGet() > maxIdleConnections) {
+            if (reusable) {
+                idleCount.decrementAndGet();
+            }
+            closeQuietly(connection);
+            return;
+        }
+        idleConnections.compute(buildKey(target, user), (key, idle) -> {
+            Deque<PooledConnection> result = null == idle ? new ConcurrentLinkedDeque<>() : idle;
+            result.offerFirst(new PooledConnection(connection));
+            return result;
+        });
+    }
+    
+    /**
+     * Close the connections idle longer than idle timeout.
+     */
+    public void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Deque<PooledConnection>> entry : idleConnections.entrySet()) {
+            Iterator<PooledConnection> iterator = entry.getValue().descendingIterator();
+            while (iterator.hasNext()) {
+                PooledConnection each = iterator.next();
+                if (now - each.lastUsedTime >= idleTimeoutMs && entry.getValue().removeFirstOccurrence(each)) {
+                    idleCount.decrementAndGet();
+                    closeQuietly(each.connection);
+                }
+            }
+            idleConnections.computeIfPresent(entry.getKey(), (key, idle) -> idle.isEmpty() ? null : idle);
+        }
+    }
+    
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+    
+    public int getAvailableChecks() {
+        return inFlightChecks.availablePermits();
+    }
+    
+    private boolean isReusable(PooledConnection pooled) {
+        try {
+            if (pooled.connection.isClosed()) {
+                return false;
+            }
+            if (System.currentTimeMillis() - pooled.lastUsedTime < validateIntervalMs) {
+                return true;
+            }
+            return pooled.connection.isValid(VALIDATE_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+    
+    private String buildKey(String target, String user) {
+        return target + "@" + user;
+    }
+    
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            Loggers.SRV_LOG.warn("[MYSQL-CHECK] failed to close connection: {}", e.getMessage());
+        }
+    }
+    
+    private static class PooledConnection {
+        
+        private final Connection connection;
+        
+        private final long lastUsedTime;
+        
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.lastUsedTime = System.currentTimeMillis();
+        }
+    }
+}
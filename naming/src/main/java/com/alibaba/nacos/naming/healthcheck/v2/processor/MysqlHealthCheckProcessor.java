@@ -31,12 +31,11 @@ import org.springframework.stereotype.Component;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
@@ -64,11 +63,23 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
     
     private static final String MYSQL_SLAVE_READONLY = "ON";
     
-    private static final ConcurrentMap<String, Connection> CONNECTION_POOL = new ConcurrentHashMap<String, Connection>();
+    /**
+     * Hard deadline of one check, the connection will be aborted if the check is still blocked after it, so that the
+     * check thread won't be pinned by unresponsive mysql server.
+     */
+    private static final long CHECK_TIMEOUT_MS = Long.getLong("com.alibaba.nacos.naming.health.mysql.check.timeout",
+            3000L);
+    
+    private static final long EVICT_IDLE_INTERVAL_MS = TimeUnit.SECONDS.toMillis(30);
+    
+    private final MysqlCheckConnectionPool connectionPool = MysqlCheckConnectionPool
+            .createDefault(CONNECT_TIMEOUT_MS, GlobalExecutor.DEFAULT_THREAD_COUNT * 4);
     
     public MysqlHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain) {
         this.healthCheckCommon = healthCheckCommon;
         this.switchDomain = switchDomain;
+        GlobalExecutor.scheduleNamingHealth(connectionPool::evictIdleConnections, EVICT_IDLE_INTERVAL_MS,
+                EVICT_IDLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
     }
     
     @Override
@@ -93,7 +104,21 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                         .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getMysqlHealthParams());
                 return;
             }
-            GlobalExecutor.executeMysqlCheckTask(new MysqlCheckTask(task, service, instance, metadata));
+            String target = instance.getIp() + ":" + instance.getPort();
+            if (!connectionPool.tryAcquire(target)) {
+                SRV_LOG.warn("mysql check skipped because too many checks in flight, service: {} : {} : {}",
+                        service.getGroupedServiceName(), instance.getCluster(), target);
+                instance.finishCheck();
+                healthCheckCommon
+                        .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getMysqlHealthParams());
+                return;
+            }
+            try {
+                GlobalExecutor.executeMysqlCheckTask(new MysqlCheckTask(task, service, instance, metadata, target));
+            } catch (Exception e) {
+                connectionPool.release(target);
+                throw e;
+            }
             MetricsMonitor.getMysqlHealthCheckMonitor().incrementAndGet();
         } catch (Exception e) {
             instance.setCheckRt(switchDomain.getMysqlHealthParams().getMax());
@@ -113,14 +138,17 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         private final ClusterMetadata metadata;
         
+        private final String target;
+        
         private long startTime = System.currentTimeMillis();
         
         public MysqlCheckTask(HealthCheckTaskV2 task, Service service, HealthCheckInstancePublishInfo instance,
-                ClusterMetadata metadata) {
+                ClusterMetadata metadata, String target) {
             this.task = task;
             this.service = service;
             this.instance = instance;
             this.metadata = metadata;
+            this.target = target;
         }
         
         @Override
@@ -128,21 +156,16 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
             
             Statement statement = null;
             ResultSet resultSet = null;
+            Connection connection = null;
+            ScheduledFuture<?> abortFuture = null;
+            boolean reusable = false;
+            String user = null;
             
             try {
-                String clusterName = instance.getCluster();
-                String key =
-                        service.getGroupedServiceName() + ":" + clusterName + ":" + instance.getIp() + ":" + instance
-                                .getPort();
-                Connection connection = CONNECTION_POOL.get(key);
                 Mysql config = (Mysql) metadata.getHealthChecker();
-                
-                if (connection == null || connection.isClosed()) {
-                    String url = "jdbc:mysql://" + instance.getIp() + ":" + instance.getPort() + "?connectTimeout="
-                            + CONNECT_TIMEOUT_MS + "&socketTimeout=" + CONNECT_TIMEOUT_MS + "&loginTimeout=" + 1;
-                    connection = DriverManager.getConnection(url, config.getUser(), config.getPwd());
-                    CONNECTION_POOL.put(key, connection);
-                }
+                user = config.getUser();
+                connection = connectionPool.borrow(target, config.getUser(), config.getPwd());
+                abortFuture = scheduleAbort(connection);
                 
                 statement = connection.createStatement();
                 statement.setQueryTimeout(1);
@@ -156,6 +179,7 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                         throw new IllegalStateException("current node is slave!");
                     }
                 }
+                reusable = true;
                 
                 healthCheckCommon.checkOk(task, service, "mysql:+ok");
                 healthCheckCommon.reEvaluateCheckRT(System.currentTimeMillis() - startTime, task,
@@ -186,7 +210,13 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                 healthCheckCommon.reEvaluateCheckRT(switchDomain.getMysqlHealthParams().getMax(), task,
                         switchDomain.getMysqlHealthParams());
             } finally {
-                instance.setCheckRt(System.currentTimeMillis() - startTime);
+                long checkRt = System.currentTimeMillis() - startTime;
+                instance.setCheckRt(checkRt);
+                MetricsMonitor.recordMysqlHealthCheckRt(instance.getCluster(), checkRt);
+                if (abortFuture != null) {
+                    // the connection has been aborted if the future is done.
+                    reusable = abortFuture.cancel(false) && reusable;
+                }
                 if (statement != null) {
                     try {
                         statement.close();
@@ -201,7 +231,22 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                         Loggers.SRV_LOG.error("[MYSQL-CHECK] failed to close resultSet:" + resultSet, e);
                     }
                 }
+                connectionPool.giveBack(target, user, connection, reusable);
+                connectionPool.release(target);
             }
         }
+        
+        private ScheduledFuture<?> scheduleAbort(Connection connection) {
+            long remainMs = CHECK_TIMEOUT_MS - (System.currentTimeMillis() - startTime);
+            return GlobalExecutor.scheduleNamingHealth(() -> {
+                try {
+                    Loggers.SRV_LOG.warn("[MYSQL-CHECK] check timeout after {}ms, abort connection of {}",
+                            CHECK_TIMEOUT_MS, target);
+                    connection.abort(Runnable::run);
+                } catch (SQLException e) {
+                    Loggers.SRV_LOG.error("[MYSQL-CHECK] failed to abort connection of " + target, e);
+                }
+            }, Math.max(remainMs, 0L), TimeUnit.MILLISECONDS);
+        }
     }
 }
@@ -64,6 +64,10 @@ public class GlobalExecutor {
                     Integer.max(Integer.getInteger("com.alibaba.nacos.naming.health.thread.num", DEFAULT_THREAD_COUNT),
                             1), new NameThreadFactory("com.alibaba.nacos.naming.health"));
     
+    private static final ScheduledExecutorService HEALTH_CHECK_WHEEL_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
+                    new NameThreadFactory("com.alibaba.nacos.naming.health.wheel"));
+    
     private static final ScheduledExecutorService RETRANSMITTER_EXECUTOR = ExecutorFactory.Managed
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     new NameThreadFactory("com.alibaba.nacos.naming.push.retransmitter"));
@@ -121,6 +125,14 @@ public class GlobalExecutor {
         return NAMING_HEALTH_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
     
+    public static void executeNamingHealth(Runnable command) {
+        NAMING_HEALTH_EXECUTOR.execute(command);
+    }
+    
+    public static void scheduleHealthCheckWheel(Runnable tick, long tickMillis) {
+        HEALTH_CHECK_WHEEL_EXECUTOR.scheduleAtFixedRate(tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+    
     public static void scheduleRetransmitter(Runnable runnable, long delay, TimeUnit unit) {
         RETRANSMITTER_EXECUTOR.schedule(runnable, delay, unit);
     }
@@ -24,11 +24,13 @@ import com.alibaba.nacos.naming.misc.Loggers;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -77,6 +79,10 @@ public class MetricsMonitor {
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicInteger healthCheckWheelTaskCount = new AtomicInteger();
+    
+    private final AtomicLong maxHealthCheckLag = new AtomicLong();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -92,6 +98,13 @@ public class MetricsMonitor {
      */
     private final ServiceTopNCounter serviceChangeCount = new ServiceTopNCounter();
     
+    /**
+     * cluster name -> mysql health check rt timer.
+     */
+    private final ConcurrentHashMap<String, Timer> mysqlHealthCheckRt = new ConcurrentHashMap<>();
+    
+    private final Timer healthCheckLag;
+    
     private MetricsMonitor() {
         for (Field each : MetricsMonitor.class.getDeclaredFields()) {
             if (Number.class.isAssignableFrom(each.getType())) {
@@ -125,6 +138,10 @@ public class MetricsMonitor {
         tags = new ArrayList<>();
         tags.add(new ImmutableTag("version", "v2"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_publisher", tags, namingPublisher.get("v2"));
+        
+        tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "naming"));
+        healthCheckLag = NacosMeterRegistryCenter.histogramTimer(METER_REGISTRY, "nacos_naming_health_check_lag", tags);
     }
     
     private <T extends Number> void registerToMetrics(String name, T number) {
@@ -255,6 +272,45 @@ public class MetricsMonitor {
         INSTANCE.serviceChangeCount.increment(service);
     }
     
+    public static AtomicInteger getHealthCheckWheelTaskCount() {
+        return INSTANCE.healthCheckWheelTaskCount;
+    }
+    
+    public static AtomicLong getMaxHealthCheckLag() {
+        return INSTANCE.maxHealthCheckLag;
+    }
+    
+    /**
+     * Record the max lag between deadline and dispatch time of health check tasks expired in one tick.
+     *
+     * @param lag lag in milliseconds
+     */
+    public static void recordHealthCheckLag(long lag) {
+        INSTANCE.maxHealthCheckLag.set(lag);
+        if (null != INSTANCE.healthCheckLag) {
+            INSTANCE.healthCheckLag.record(lag, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Record the rt of one mysql health check into the histogram of cluster.
+     *
+     * @param cluster cluster name of checked instance
+     * @param rt      rt of health check in milliseconds
+     */
+    public static void recordMysqlHealthCheckRt(String cluster, long rt) {
+        Timer timer = INSTANCE.mysqlHealthCheckRt.computeIfAbsent(cluster, key -> {
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new ImmutableTag("module", "naming"));
+            tags.add(new ImmutableTag("type", "mysql"));
+            tags.add(new ImmutableTag("cluster", key));
+            return NacosMeterRegistryCenter.histogramTimer(METER_REGISTRY, "nacos_naming_health_check_rt", tags);
+        });
+        if (null != timer) {
+            timer.record(rt, TimeUnit.MILLISECONDS);
+        }
+    }
+    
     public static Counter getDiskException() {
         return NacosMeterRegistryCenter.counter(METER_REGISTRY, "nacos_exception", "module", "naming", "name", "disk");
     }
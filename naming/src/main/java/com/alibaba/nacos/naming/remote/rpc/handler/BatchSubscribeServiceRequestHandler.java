@@ -0,0 +1,117 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchSubscribeServiceResponse;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.trace.event.naming.SubscribeServiceTraceEvent;
+import com.alibaba.nacos.common.trace.event.naming.UnsubscribeServiceTraceEvent;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.BatchSubscribeServiceRequestParamExtractor;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.core.v2.service.impl.EphemeralClientOperationServiceImpl;
+import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.utils.ServiceUtil;
+import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Handler to handle subscribe or unsubscribe multiple services in one request.
+ *
+ * @author agent
+ */
+@Component
+public class BatchSubscribeServiceRequestHandler
+        extends RequestHandler<BatchSubscribeServiceRequest, BatchSubscribeServiceResponse> {
+    
+    private final ServiceStorage serviceStorage;
+    
+    private final NamingMetadataManager metadataManager;
+    
+    private final EphemeralClientOperationServiceImpl clientOperationService;
+    
+    public BatchSubscribeServiceRequestHandler(ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
+            EphemeralClientOperationServiceImpl clientOperationService) {
+        this.serviceStorage = serviceStorage;
+        this.metadataManager = metadataManager;
+        this.clientOperationService = clientOperationService;
+    }
+    
+    @Override
+    @TpsControl(pointName = "RemoteNamingServiceBatchSubscribeUnSubscribe",
+            name = "RemoteNamingServiceBatchSubscribeUnsubscribe")
+    @Secured(action = ActionTypes.READ)
+    @ExtractorManager.Extractor(rpcExtractor = BatchSubscribeServiceRequestParamExtractor.class)
+    public BatchSubscribeServiceResponse handle(BatchSubscribeServiceRequest request, RequestMeta meta)
+            throws NacosException {
+        if (CollectionUtils.isEmpty(request.getServiceNames())) {
+            return new BatchSubscribeServiceResponse(ResponseCode.SUCCESS.getCode(), "success",
+                    Collections.emptyList());
+        }
+        String namespaceId = request.getNamespace();
+        String groupName = request.getGroupName();
+        String app = request.getHeader("app", "unknown");
+        Map<Service, Subscriber> subscribers = new LinkedHashMap<>(request.getServiceNames().size());
+        List<ServiceInfo> serviceInfos = new ArrayList<>(request.getServiceNames().size());
+        for (String each : request.getServiceNames()) {
+            String groupedServiceName = NamingUtils.getGroupedName(each, groupName);
+            Service service = Service.newService(namespaceId, groupName, each, true);
+            Subscriber subscriber = new Subscriber(meta.getClientIp(), meta.getClientVersion(), app,
+                    meta.getClientIp(), namespaceId, groupedServiceName, 0, request.getClusters());
+            subscribers.put(service, subscriber);
+            if (!request.isSubscribe()) {
+                continue;
+            }
+            serviceInfos.add(ServiceUtil.selectInstancesWithHealthyProtection(serviceStorage.getData(service),
+                    metadataManager.getServiceMetadata(service).orElse(null), subscriber.getCluster(), false, true,
+                    subscriber.getIp()));
+        }
+        long now = System.currentTimeMillis();
+        if (request.isSubscribe()) {
+            clientOperationService.batchSubscribeService(subscribers, meta.getConnectionId());
+            for (Service each : subscribers.keySet()) {
+                NotifyCenter.publishEvent(new SubscribeServiceTraceEvent(now, meta.getClientIp(),
+                        each.getNamespace(), each.getGroup(), each.getName()));
+            }
+        } else {
+            clientOperationService.batchUnsubscribeService(subscribers.keySet(), meta.getConnectionId());
+            for (Service each : subscribers.keySet()) {
+                NotifyCenter.publishEvent(new UnsubscribeServiceTraceEvent(now, meta.getClientIp(),
+                        each.getNamespace(), each.getGroup(), each.getName()));
+            }
+        }
+        return new BatchSubscribeServiceResponse(ResponseCode.SUCCESS.getCode(), "success", serviceInfos);
+    }
+}
@@ -24,9 +24,12 @@ import com.alibaba.nacos.api.selector.AbstractCmdbSelector;
 import com.alibaba.nacos.api.selector.context.CmdbContext;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.naming.selector.context.CmdbSelectorContext;
 import com.alibaba.nacos.naming.selector.interpreter.ExpressionInterpreter;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -38,6 +41,10 @@ import java.util.stream.Collectors;
  * The {@link LabelSelector} will return the instances labels in {@link #labels} and providers' label value is same with consumer.
  * If none matched, then will return all providers instead of.
  *
+ * <p>For {@link CmdbSelectorContext}, the providers are partitioned by their label values into {@link ProviderIndex},
+ * and the index is kept until the providers or the revision of CMDB data changed. So selecting for each consumer is a
+ * hash lookup of consumer's label values.
+ *
  * @author chenglu
  * @date 2021-07-16 16:26
  */
@@ -50,12 +57,15 @@ public class LabelSelector<T extends Instance> extends AbstractCmdbSelector<T> {
      */
     private Set<String> labels;
     
+    private transient volatile ProviderIndex<T> index;
+    
     public Set<String> getLabels() {
         return labels;
     }
     
     public void setLabels(Set<String> labels) {
         this.labels = labels;
+        this.index = null;
     }
     
     @Override
@@ -71,8 +81,43 @@ public class LabelSelector<T extends Instance> extends AbstractCmdbSelector<T> {
                 .map(Entity::getLabels)
                 .orElse(Collections.emptyMap());
         
+        List<T> result;
+        if (context instanceof CmdbSelectorContext) {
+            result = selectByIndex((CmdbSelectorContext<T>) context, consumerLabels);
+        } else {
+            result = selectByScan(context, consumerLabels);
+        }
+        
+        // if none match, then return all providers.
+        if (CollectionUtils.isEmpty(result)) {
+            return context.getProviders()
+                    .stream()
+                    .map(CmdbContext.CmdbInstance::getInstance)
+                    .collect(Collectors.toList());
+        }
+        return result;
+    }
+    
+    private List<T> selectByIndex(CmdbSelectorContext<T> context, Map<String, String> consumerLabels) {
+        List<String> consumerLabelValues = new ArrayList<>(labels.size());
+        for (String label : labels) {
+            String consumerLabelValue = consumerLabels.get(label);
+            if (StringUtils.isBlank(consumerLabelValue)) {
+                return Collections.emptyList();
+            }
+            consumerLabelValues.add(consumerLabelValue);
+        }
+        ProviderIndex<T> currentIndex = index;
+        if (null == currentIndex || !currentIndex.isValid(context)) {
+            currentIndex = new ProviderIndex<>(context, labels);
+            index = currentIndex;
+        }
+        return new ArrayList<>(currentIndex.partitions.getOrDefault(consumerLabelValues, Collections.emptyList()));
+    }
+    
+    private List<T> selectByScan(CmdbContext<T> context, Map<String, String> consumerLabels) {
         // filter the instance if consumer and providers' label values equals.
-        List<T> result = context.getProviders()
+        return context.getProviders()
                 .stream()
                 .filter(ci -> {
                     Entity providerEntity = ci.getEntity();
@@ -92,24 +137,71 @@ public class LabelSelector<T extends Instance> extends AbstractCmdbSelector<T> {
                 })
                 .map(CmdbContext.CmdbInstance::getInstance)
                 .collect(Collectors.toList());
-        
-        // if none match, then return all providers.
-        if (CollectionUtils.isEmpty(result)) {
-            return context.getProviders()
-                    .stream()
-                    .map(CmdbContext.CmdbInstance::getInstance)
-                    .collect(Collectors.toList());
-        }
-        return result;
     }
     
     @Override
     protected void doParse(String expression) throws NacosException {
         this.labels = ExpressionInterpreter.parseExpression(expression);
+        this.index = null;
     }
     
     @Override
     public String getType() {
         return TYPE;
     }
+    
+    /**
+     * Providers partitioned by values of selector labels, the key is label values in the order of selector labels.
+     */
+    private static class ProviderIndex<T extends Instance> {
+        
+        private final long revision;
+        
+        private final List<T> providers;
+        
+        private final Map<List<String>, List<T>> partitions = new HashMap<>();
+        
+        ProviderIndex(CmdbSelectorContext<T> context, Set<String> labels) {
+            this.revision = context.getRevision();
+            this.providers = new ArrayList<>(context.getProviders().size());
+            for (CmdbContext.CmdbInstance<T> each : context.getProviders()) {
+                providers.add(each.getInstance());
+                List<String> labelValues = getLabelValues(each.getEntity(), labels);
+                if (null != labelValues) {
+                    partitions.computeIfAbsent(labelValues, k -> new ArrayList<>()).add(each.getInstance());
+                }
+            }
+        }
+        
+        private List<String> getLabelValues(Entity entity, Set<String> labels) {
+            if (null == entity || null == entity.getLabels()) {
+                return null;
+            }
+            List<String> result = new ArrayList<>(labels.size());
+            for (String label : labels) {
+                String value = entity.getLabels().get(label);
+                if (null == value) {
+                    return null;
+                }
+                result.add(value);
+            }
+            return result;
+        }
+        
+        /**
+         * The index is valid if CMDB data is not changed and the providers are the same instances in same order.
+         */
+        private boolean isValid(CmdbSelectorContext<T> context) {
+            if (revision != context.getRevision() || providers.size() != context.getProviders().size()) {
+                return false;
+            }
+            int i = 0;
+            for (CmdbContext.CmdbInstance<T> each : context.getProviders()) {
+                if (providers.get(i++) != each.getInstance()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.selector.context;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.selector.context.CmdbContext;
+
+/**
+ * {@link CmdbContext} built by {@link CmdbSelectorContextBuilder}, with the revision of CMDB data which the entities
+ * are read from.
+ *
+ * <p>Selectors can keep the results computed from providers' entities until the revision is changed. The entities of
+ * providers are queried lazily, so they are not queried at all if selector uses the kept results.
+ *
+ * @author agent
+ */
+public class CmdbSelectorContext<T extends Instance> extends CmdbContext<T> {
+    
+    private long revision;
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+}
@@ -51,27 +51,25 @@ public class CmdbSelectorContextBuilder<T extends Instance> implements SelectorC
     
     @Override
     public CmdbContext<Instance> build(String consumer, List<T> provider) {
+        CmdbReader cmdbReader = getCmdbReader();
+        CmdbSelectorContext<Instance> cmdbContext = new CmdbSelectorContext<>();
+        // read revision before entities, so the entities are not older than the revision.
+        cmdbContext.setRevision(cmdbReader.getRevision());
+        
         // build consumer context
-        Entity consumerEntity = getCmdbReader().queryEntity(consumer, PreservedEntityTypes.ip.name());
+        Entity consumerEntity = cmdbReader.queryEntity(consumer, PreservedEntityTypes.ip.name());
         Instance consumerInstance = new Instance();
         consumerInstance.setIp(consumer);
         CmdbContext.CmdbInstance<Instance> consumerCmdbInstance = new CmdbContext.CmdbInstance<>();
         consumerCmdbInstance.setEntity(consumerEntity);
         consumerCmdbInstance.setInstance(consumerInstance);
-        CmdbContext<Instance> cmdbContext = new CmdbContext<>();
         cmdbContext.setConsumer(consumerCmdbInstance);
-
+        
         // build providers context
         List<CmdbContext.CmdbInstance<Instance>> providerCmdbInstances = Optional.ofNullable(provider)
                 .orElse(Collections.emptyList())
                 .stream()
-                .map(is -> {
-                    CmdbContext.CmdbInstance<Instance> providerCmdbInstance = new CmdbContext.CmdbInstance<>();
-                    providerCmdbInstance.setInstance(is);
-                    Entity providerEntity = getCmdbReader().queryEntity(is.getIp(), PreservedEntityTypes.ip.name());
-                    providerCmdbInstance.setEntity(providerEntity);
-                    return providerCmdbInstance;
-                })
+                .map(is -> new LazyCmdbInstance(cmdbReader, is))
                 .collect(Collectors.toList());
         cmdbContext.setProviders(providerCmdbInstances);
         
@@ -82,4 +80,33 @@ public class CmdbSelectorContextBuilder<T extends Instance> implements SelectorC
     public String getContextType() {
         return CONTEXT_TYPE;
     }
+    
+    /**
+     * Provider {@link CmdbContext.CmdbInstance} which queries entity from CMDB at first use.
+     */
+    private static class LazyCmdbInstance extends CmdbContext.CmdbInstance<Instance> {
+        
+        private final CmdbReader cmdbReader;
+        
+        private boolean entityQueried;
+        
+        LazyCmdbInstance(CmdbReader cmdbReader, Instance instance) {
+            this.cmdbReader = cmdbReader;
+            setInstance(instance);
+        }
+        
+        @Override
+        public Entity getEntity() {
+            if (!entityQueried) {
+                setEntity(cmdbReader.queryEntity(getInstance().getIp(), PreservedEntityTypes.ip.name()));
+            }
+            return super.getEntity();
+        }
+        
+        @Override
+        public void setEntity(Entity entity) {
+            super.setEntity(entity);
+            entityQueried = true;
+        }
+    }
 }
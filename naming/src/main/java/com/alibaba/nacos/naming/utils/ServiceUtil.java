@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 
@@ -32,7 +33,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +46,14 @@ import java.util.stream.Collectors;
  */
 public final class ServiceUtil {
     
+    /**
+     * Memo of instances selected with healthy protection for each version of service info. The service info is rebuilt
+     * by {@link com.alibaba.nacos.naming.core.v2.index.ServiceStorage} once service changed, so the memo of old version
+     * is released together with the old service info.
+     */
+    private static final Map<ServiceInfo, Map<String, SelectedInstances>> SELECTED_INSTANCES_MEMO = Collections
+            .synchronizedMap(new WeakHashMap<>());
+    
     /**
      * Page service name.
      *
@@ -184,6 +196,40 @@ public final class ServiceUtil {
      */
     public static ServiceInfo selectInstancesWithHealthyProtection(ServiceInfo serviceInfo, ServiceMetadata serviceMetadata, String cluster,
             boolean healthyOnly, boolean enableOnly, String subscriberIp) {
+        if (!isSubscriberIndependent(serviceMetadata)) {
+            return doSelectInstancesWithHealthyProtection(serviceInfo, serviceMetadata, cluster, healthyOnly, enableOnly,
+                    subscriberIp);
+        }
+        Map<String, SelectedInstances> memo = SELECTED_INSTANCES_MEMO
+                .computeIfAbsent(serviceInfo, key -> new ConcurrentHashMap<>(4));
+        String memoKey = buildSelectedInstancesKey(cluster, healthyOnly, enableOnly);
+        SelectedInstances selected = memo.get(memoKey);
+        if (null == selected || !selected.isSelectedBy(serviceMetadata)) {
+            selected = new SelectedInstances(serviceMetadata,
+                    doSelectInstancesWithHealthyProtection(serviceInfo, serviceMetadata, cluster, healthyOnly,
+                            enableOnly, subscriberIp));
+            memo.put(memoKey, selected);
+        }
+        return selected.toServiceInfo(serviceInfo, cluster);
+    }
+    
+    /**
+     * Whether the selected result is same for all subscribers, only the selector of service can make difference by the
+     * ip of subscriber.
+     */
+    private static boolean isSubscriberIndependent(ServiceMetadata serviceMetadata) {
+        return null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector;
+    }
+    
+    private static String buildSelectedInstancesKey(String cluster, boolean healthyOnly, boolean enableOnly) {
+        return (null == cluster ? StringUtils.EMPTY : cluster) + Constants.SERVICE_INFO_SPLITER + healthyOnly
+                + Constants.SERVICE_INFO_SPLITER + enableOnly;
+    }
+    
+    private static ServiceInfo doSelectInstancesWithHealthyProtection(ServiceInfo serviceInfo,
+            ServiceMetadata serviceMetadata, String cluster, boolean healthyOnly, boolean enableOnly,
+            String subscriberIp) {
         InstancesFilter filter = (filteredResult, allInstances, healthyCount) -> {
             if (serviceMetadata == null) {
                 return;
@@ -285,6 +331,46 @@ public final class ServiceUtil {
         return !enableOnly || instance.isEnabled();
     }
 
+    /**
+     * Immutable instances selected from one version of service info, shared by all subscribers with same view.
+     */
+    private static class SelectedInstances {
+        
+        private final ServiceMetadata serviceMetadata;
+        
+        private final float protectThreshold;
+        
+        private final boolean reachProtectionThreshold;
+        
+        private final List<com.alibaba.nacos.api.naming.pojo.Instance> hosts;
+        
+        private SelectedInstances(ServiceMetadata serviceMetadata, ServiceInfo selectedResult) {
+            this.serviceMetadata = serviceMetadata;
+            this.protectThreshold = null == serviceMetadata ? 0F : serviceMetadata.getProtectThreshold();
+            this.reachProtectionThreshold = selectedResult.isReachProtectionThreshold();
+            this.hosts = Collections.unmodifiableList(new ArrayList<>(selectedResult.getHosts()));
+        }
+        
+        private boolean isSelectedBy(ServiceMetadata serviceMetadata) {
+            if (this.serviceMetadata != serviceMetadata) {
+                return false;
+            }
+            return null == serviceMetadata || protectThreshold == serviceMetadata.getProtectThreshold();
+        }
+        
+        private ServiceInfo toServiceInfo(ServiceInfo serviceInfo, String cluster) {
+            ServiceInfo result = new ServiceInfo();
+            result.setName(serviceInfo.getName());
+            result.setGroupName(serviceInfo.getGroupName());
+            result.setCacheMillis(serviceInfo.getCacheMillis());
+            result.setLastRefTime(System.currentTimeMillis());
+            result.setClusters(cluster);
+            result.setReachProtectionThreshold(reachProtectionThreshold);
+            result.setHosts(hosts);
+            return result;
+        }
+    }
+    
     private interface InstancesFilter {
 
         /**
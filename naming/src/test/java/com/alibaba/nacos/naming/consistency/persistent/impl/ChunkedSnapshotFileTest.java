@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.persistent.impl;
+
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alipay.sofa.jraft.util.CRC64;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Checksum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkedSnapshotFileTest {
+    
+    private final Serializer serializer = SerializeFactory.getDefault();
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testWriteAndRead() throws IOException {
+        Map<String, String> data = new HashMap<>();
+        for (int i = 0; i < 25; i++) {
+            data.put("key" + i, "value" + i);
+        }
+        String file = tempDir.resolve("test.chunk").toString();
+        Checksum writeChecksum = new CRC64();
+        ChunkedSnapshotFile.write(file, data, 10, serializer, writeChecksum);
+        
+        Checksum readChecksum = new CRC64();
+        List<Map<String, String>> chunks = new ArrayList<>();
+        ChunkedSnapshotFile.<String, String>read(file, serializer, readChecksum, chunks::add);
+        assertEquals(3, chunks.size());
+        Map<String, String> actual = new HashMap<>();
+        chunks.forEach(actual::putAll);
+        assertEquals(data, actual);
+        assertEquals(writeChecksum.getValue(), readChecksum.getValue());
+    }
+    
+    @Test
+    void testWriteAndReadEmpty() throws IOException {
+        String file = tempDir.resolve("empty.chunk").toString();
+        ChunkedSnapshotFile.write(file, new HashMap<>(), 10, serializer, new CRC64());
+        List<Map<String, String>> chunks = new ArrayList<>();
+        ChunkedSnapshotFile.<String, String>read(file, serializer, new CRC64(), chunks::add);
+        assertTrue(chunks.isEmpty());
+    }
+    
+    @Test
+    void testReadIllegalFile() throws IOException {
+        Path file = tempDir.resolve("illegal.chunk");
+        Files.write(file, "illegal".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class,
+                () -> ChunkedSnapshotFile.read(file.toString(), serializer, new CRC64(), chunk -> {
+                }));
+    }
+}
@@ -26,6 +26,7 @@ import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.core.v2.pojo.ServiceInstanceCounter;
 import com.alibaba.nacos.naming.pojo.ServiceDetailInfo;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.AfterEach;
@@ -132,9 +133,8 @@ class CatalogServiceV2ImplTest {
     
     @Test
     void testPageListService() throws NacosException {
-        ServiceInfo serviceInfo = new ServiceInfo();
-        serviceInfo.setHosts(Collections.singletonList(new Instance()));
-        Mockito.when(serviceStorage.getData(Mockito.any())).thenReturn(serviceInfo);
+        Mockito.when(serviceStorage.getInstanceCounter(Mockito.any()))
+                .thenReturn(ServiceInstanceCounter.of(Collections.singletonList(new Instance())));
         ServiceMetadata metadata = new ServiceMetadata();
         metadata.setProtectThreshold(0.75F);
         Mockito.when(metadataManager.getServiceMetadata(Mockito.any())).thenReturn(Optional.of(metadata));
@@ -145,9 +145,8 @@ class CatalogServiceV2ImplTest {
     
     @Test
     void testPageListServiceNotSpecifiedName() throws NacosException {
-        ServiceInfo serviceInfo = new ServiceInfo();
-        serviceInfo.setHosts(Collections.singletonList(new Instance()));
-        Mockito.when(serviceStorage.getData(Mockito.any())).thenReturn(serviceInfo);
+        Mockito.when(serviceStorage.getInstanceCounter(Mockito.any()))
+                .thenReturn(ServiceInstanceCounter.of(Collections.singletonList(new Instance())));
         ServiceMetadata metadata = new ServiceMetadata();
         metadata.setProtectThreshold(0.75F);
         Mockito.when(metadataManager.getServiceMetadata(Mockito.any())).thenReturn(Optional.of(metadata));
@@ -158,8 +157,7 @@ class CatalogServiceV2ImplTest {
     
     @Test
     void testPageListServiceForIgnoreEmptyService() throws NacosException {
-        ServiceInfo serviceInfo = new ServiceInfo();
-        Mockito.when(serviceStorage.getData(Mockito.any())).thenReturn(serviceInfo);
+        Mockito.when(serviceStorage.getInstanceCounter(Mockito.any())).thenReturn(ServiceInstanceCounter.EMPTY);
         
         ObjectNode obj = (ObjectNode) catalogServiceV2Impl.pageListService("A", "B", "C", 1, 10, null, true);
         assertEquals(0, obj.get(FieldsConstants.COUNT).asInt());
@@ -167,17 +165,31 @@ class CatalogServiceV2ImplTest {
     
     @Test
     void testPageListServiceForPage() throws NacosException {
-        ServiceInfo serviceInfo = new ServiceInfo();
-        Mockito.when(serviceStorage.getData(Mockito.any())).thenReturn(serviceInfo);
+        Mockito.when(serviceStorage.getInstanceCounter(Mockito.any())).thenReturn(ServiceInstanceCounter.EMPTY);
+        ServiceManager.getInstance().getSingleton(Service.newService("CatalogService", "CatalogService", "3"));
         ServiceManager.getInstance().getSingleton(Service.newService("CatalogService", "CatalogService", "1"));
         ServiceManager.getInstance().getSingleton(Service.newService("CatalogService", "CatalogService", "2"));
-        ServiceManager.getInstance().getSingleton(Service.newService("CatalogService", "CatalogService", "3"));
         
         ObjectNode obj = (ObjectNode) catalogServiceV2Impl.pageListService("CatalogService", "", "", 2, 1, null, false);
         assertEquals(3, obj.get(FieldsConstants.COUNT).asInt());
         assertEquals("2", obj.get(FieldsConstants.SERVICE_LIST).get(0).get("name").asText());
     }
     
+    @Test
+    void testPageListServiceForPattern() throws NacosException {
+        Mockito.when(serviceStorage.getInstanceCounter(Mockito.any())).thenReturn(ServiceInstanceCounter.EMPTY);
+        ServiceManager.getInstance().getSingleton(Service.newService("CatalogService", "CatalogService", "order-b"));
+        ServiceManager.getInstance().getSingleton(Service.newService("CatalogService", "CatalogService", "user"));
+        ServiceManager.getInstance().getSingleton(Service.newService("CatalogService", "CatalogService", "order-a"));
+        
+        ObjectNode obj = (ObjectNode) catalogServiceV2Impl.pageListService("CatalogService", "", "order", 1, 10, null,
+                false);
+        assertEquals(2, obj.get(FieldsConstants.COUNT).asInt());
+        assertEquals("order-a", obj.get(FieldsConstants.SERVICE_LIST).get(0).get("name").asText());
+        assertEquals("order-b", obj.get(FieldsConstants.SERVICE_LIST).get(1).get("name").asText());
+        Mockito.verify(serviceStorage, Mockito.never()).getData(Mockito.any());
+    }
+    
     @Test
     void testPageListServiceDetail() {
         try {
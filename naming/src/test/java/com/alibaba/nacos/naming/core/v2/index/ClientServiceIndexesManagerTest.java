@@ -17,19 +17,24 @@
 package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -38,7 +43,11 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class ClientServiceIndexesManagerTest {
@@ -120,7 +129,7 @@ class ClientServiceIndexesManagerTest {
         List<Class<? extends Event>> classes = clientServiceIndexesManager.subscribeTypes();
         
         assertNotNull(classes);
-        assertEquals(5, classes.size());
+        assertEquals(7, classes.size());
     }
     
     @Test
@@ -136,6 +145,38 @@ class ClientServiceIndexesManagerTest {
         Mockito.verify(clientOperationEvent).getClientId();
     }
     
+    @Test
+    void testOnBatchSubscribeEvent() {
+        Service another = Service.newService("namespace", "group", "another");
+        List<Service> services = Arrays.asList(service, another);
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientBatchSubscribeServiceEvent(services, "test"));
+        assertEquals(2, clientServiceIndexesManager.getAllClientsSubscribeService(service).size());
+        assertEquals(1, clientServiceIndexesManager.getAllClientsSubscribeService(another).size());
+        
+        clientServiceIndexesManager.onEvent(
+                new ClientOperationEvent.ClientBatchUnsubscribeServiceEvent(services, "test"));
+        assertEquals(1, clientServiceIndexesManager.getAllClientsSubscribeService(service).size());
+        assertTrue(clientServiceIndexesManager.getAllClientsSubscribeService(another).isEmpty());
+        assertFalse(clientServiceIndexesManager.getSubscribedService().contains(another));
+    }
+    
+    @Test
+    void testOnBatchSubscribeEventWithoutPush() {
+        List<Service> services = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            services.add(Service.newService("namespace", "group", "service" + i));
+        }
+        try (MockedStatic<NotifyCenter> notifyCenter = Mockito.mockStatic(NotifyCenter.class)) {
+            clientServiceIndexesManager.onEvent(
+                    new ClientOperationEvent.ClientBatchSubscribeServiceEvent(services, "test"));
+            notifyCenter.verify(() -> NotifyCenter.publishEvent(any(ServiceEvent.ServiceSubscribedEvent.class)),
+                    never());
+        }
+        for (Service each : services) {
+            assertTrue(clientServiceIndexesManager.getAllClientsSubscribeService(each).contains("test"));
+        }
+    }
+    
     @Test
     void testAddPublisherIndexes() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         String clientId = "clientId";
@@ -18,10 +18,12 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.core.v2.pojo.ServiceInstanceCounter;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -113,6 +115,22 @@ class ServiceStorageTest {
         assertNotNull(pushData);
     }
     
+    @Test
+    void testGetInstanceCounter() {
+        Service service = Service.newService("namespaceId", "groupName", "counterService");
+        ServiceManager.getInstance().getSingleton(service);
+        try {
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.emptyList());
+            ServiceInstanceCounter counter = serviceStorage.getInstanceCounter(service);
+            assertEquals(0, counter.getIpCount());
+            assertEquals(counter, serviceStorage.getInstanceCounter(service));
+            Mockito.verify(clientServiceIndexesManager).getAllClientsRegisteredService(service);
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
     @Test
     void testRemoveData() throws NoSuchFieldException, IllegalAccessException {
         serviceStorage.removeData(SERVICE);
@@ -18,17 +18,25 @@ package com.alibaba.nacos.naming.core.v2.metadata;
 
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.snapshot.Reader;
+import com.alibaba.nacos.consistency.snapshot.Writer;
+import com.alibaba.nacos.naming.consistency.persistent.impl.ChunkedSnapshotFile;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,6 +45,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 // todo remove this
@@ -77,6 +86,27 @@ class ServiceMetadataSnapshotOperationTest {
         assertEquals(1, serviceMetadataSnapshot.size());
     }
     
+    @Test
+    void testWriteAndReadChunkedSnapshot(@TempDir Path tempDir) throws Exception {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(ChunkedSnapshotFile.CHUNKED_ENABLED, "true");
+        EnvUtil.setEnvironment(environment);
+        try {
+            Writer writer = new Writer(tempDir.toString());
+            assertTrue(serviceMetadataSnapshotOperation.writeSnapshot(writer));
+            assertTrue(writer.listFiles().containsKey("service_metadata.chunk"));
+            
+            Reader reader = new Reader(tempDir.toString(), writer.listFiles());
+            assertTrue(serviceMetadataSnapshotOperation.readSnapshot(reader));
+            ArgumentCaptor<ConcurrentMap<Service, ServiceMetadata>> captor = ArgumentCaptor.forClass(ConcurrentMap.class);
+            Mockito.verify(namingMetadataManager).loadServiceMetadataSnapshot(captor.capture());
+            assertEquals(1, captor.getValue().size());
+            assertTrue(captor.getValue().containsKey(Service.newService("namespace", "group", "name")));
+        } finally {
+            EnvUtil.setEnvironment(new MockEnvironment());
+        }
+    }
+    
     @Test
     void testGetSnapshotArchive() {
         String snapshotArchive = serviceMetadataSnapshotOperation.getSnapshotArchive();
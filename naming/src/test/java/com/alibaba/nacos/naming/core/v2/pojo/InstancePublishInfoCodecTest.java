@@ -0,0 +1,62 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.pojo;
+
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.serialize.CompactSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstancePublishInfoCodecTest {
+    
+    private final Serializer serializer = SerializeFactory.getSerializer(SerializeFactory.COMPACT_INDEX);
+    
+    @Test
+    void testSerializeInstancePublishInfo() {
+        InstancePublishInfo info = new InstancePublishInfo("1.1.1.1", 8848);
+        info.setCluster("DEFAULT");
+        info.setHealthy(true);
+        info.getExtendDatum().put("weight", 1.0D);
+        info.getExtendDatum().put("enabled", true);
+        byte[] data = serializer.serialize(info);
+        assertTrue(CompactSerializer.isCompact(data));
+        InstancePublishInfo actual = serializer.deserialize(data, InstancePublishInfo.class);
+        assertEquals(info, actual);
+        assertEquals("DEFAULT", actual.getCluster());
+    }
+    
+    @Test
+    void testSerializeBatchInstancePublishInfo() {
+        List<InstancePublishInfo> infos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            infos.add(new InstancePublishInfo("1.1.1." + i, 8848));
+        }
+        BatchInstancePublishInfo batch = new BatchInstancePublishInfo();
+        batch.setInstancePublishInfos(infos);
+        byte[] data = serializer.serialize(batch);
+        assertTrue(CompactSerializer.isCompact(data));
+        BatchInstancePublishInfo actual = SerializeFactory.getDefault()
+                .deserialize(data, BatchInstancePublishInfo.class);
+        assertEquals(batch, actual);
+    }
+}
@@ -19,28 +19,36 @@ package com.alibaba.nacos.naming.core.v2.service.impl;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -155,6 +163,42 @@ class EphemeralClientOperationServiceImplTest {
         assertFalse(ipPortBasedClient.getAllSubscribeService().contains(service));
     }
     
+    @Test
+    void testBatchSubscribeAndUnsubscribeService() throws Exception {
+        Service another = Service.newService("public", "G", "another");
+        Map<Service, Subscriber> subscribers = new HashMap<>();
+        subscribers.put(service, subscriber);
+        subscribers.put(another, subscriber);
+        ephemeralClientOperationServiceImpl.batchSubscribeService(subscribers, ipPortBasedClientId);
+        assertTrue(ipPortBasedClient.getAllSubscribeService().contains(service));
+        assertTrue(ipPortBasedClient.getAllSubscribeService().contains(another));
+        ephemeralClientOperationServiceImpl.batchUnsubscribeService(subscribers.keySet(), ipPortBasedClientId);
+        assertTrue(ipPortBasedClient.getAllSubscribeService().isEmpty());
+    }
+    
+    @Test
+    void testBatchSubscribeServiceInOneEvent() {
+        Map<Service, Subscriber> subscribers = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            subscribers.put(Service.newService("public", "G", "service" + i), subscriber);
+        }
+        try (MockedStatic<NotifyCenter> notifyCenter = Mockito.mockStatic(NotifyCenter.class)) {
+            ephemeralClientOperationServiceImpl.batchSubscribeService(subscribers, ipPortBasedClientId);
+            notifyCenter.verify(() -> NotifyCenter.publishEvent(any()));
+            notifyCenter.verify(
+                    () -> NotifyCenter.publishEvent(any(ClientOperationEvent.ClientBatchSubscribeServiceEvent.class)));
+        }
+        assertEquals(10, ipPortBasedClient.getAllSubscribeService().size());
+    }
+    
+    @Test
+    void testBatchSubscribeWhenClientNull() {
+        when(clientManager.getClient(anyString())).thenReturn(null);
+        assertThrows(NacosRuntimeException.class,
+                () -> ephemeralClientOperationServiceImpl.batchSubscribeService(
+                        Collections.singletonMap(service, subscriber), ipPortBasedClientId));
+    }
+    
     @Test
     void testRegisterWhenClientNull() throws NacosException {
         assertThrows(NacosRuntimeException.class, () -> {
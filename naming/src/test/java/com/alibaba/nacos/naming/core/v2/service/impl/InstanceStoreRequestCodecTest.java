@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.service.impl;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.serialize.CompactSerializer;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl.InstanceStoreRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstanceStoreRequestCodecTest {
+    
+    private final Serializer serializer = SerializeFactory.getSerializer(SerializeFactory.COMPACT_INDEX);
+    
+    @Test
+    void testSerializeInstanceStoreRequest() {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setWeight(2.0D);
+        instance.setEphemeral(false);
+        instance.setClusterName("DEFAULT");
+        instance.getMetadata().put("key", "value");
+        InstanceStoreRequest request = new InstanceStoreRequest();
+        request.setService(Service.newService("namespace", "group", "name", false));
+        request.setInstance(instance);
+        request.setClientId("1.1.1.1:8848#false");
+        byte[] data = serializer.serialize(request);
+        assertTrue(CompactSerializer.isCompact(data));
+        
+        InstanceStoreRequest actual = SerializeFactory.getDefault().deserialize(data);
+        assertEquals(request.getService(), actual.getService());
+        assertEquals(instance, actual.getInstance());
+        assertEquals(instance.getMetadata(), actual.getInstance().getMetadata());
+        assertEquals(request.getClientId(), actual.getClientId());
+    }
+    
+    @Test
+    void testSerializeDeleteRequest() {
+        InstanceStoreRequest request = new InstanceStoreRequest();
+        request.setService(Service.newService("namespace", "group", "name", false));
+        request.setClientId("1.1.1.1:8848#false");
+        InstanceStoreRequest actual = serializer.deserialize(serializer.serialize(request));
+        assertEquals(request.getService(), actual.getService());
+        assertNull(actual.getInstance());
+    }
+}
@@ -30,6 +30,7 @@ import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.manager.impl.PersistentIpPortClientManager;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +41,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
@@ -95,6 +97,7 @@ class PersistentClientOperationServiceImplTest {
         when(protocolManager.getCpProtocol()).thenReturn(cpProtocol);
         when(serializer.serialize(any(PersistentClientOperationServiceImpl.InstanceStoreRequest.class))).thenReturn(new byte[1]);
         ApplicationUtils.injectContext(applicationContext);
+        EnvUtil.setEnvironment(new MockEnvironment());
         Field serializerField = PersistentClientOperationServiceImpl.class.getDeclaredField("serializer");
         serializerField.setAccessible(true);
         persistentClientOperationServiceImpl = new PersistentClientOperationServiceImpl(clientManager);
@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HealthCheckTimingWheelTest {
+    
+    private List<Runnable> dispatchedBatches;
+    
+    private HealthCheckTimingWheel timingWheel;
+    
+    @BeforeEach
+    void setUp() {
+        dispatchedBatches = new ArrayList<>();
+        timingWheel = new HealthCheckTimingWheel(10L, 4, 2, command -> {
+            dispatchedBatches.add(command);
+            command.run();
+        });
+    }
+    
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HealthCheckTimingWheel(0L, 4, 2, Runnable::run));
+    }
+    
+    @Test
+    void testExecuteAfterMoreThanOneRound() {
+        AtomicInteger count = new AtomicInteger();
+        timingWheel.newTimeout(count::incrementAndGet, 50L, 0L);
+        long now = System.currentTimeMillis();
+        timingWheel.tick(now + 20L);
+        assertEquals(0, count.get());
+        timingWheel.tick(now + 200L);
+        assertEquals(1, count.get());
+        timingWheel.tick(now + 400L);
+        assertEquals(1, count.get());
+    }
+    
+    @Test
+    void testExecuteInBatches() {
+        AtomicInteger count = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            timingWheel.newTimeout(count::incrementAndGet, 0L, 0L);
+        }
+        timingWheel.tick(System.currentTimeMillis() + 10L);
+        assertEquals(5, count.get());
+        assertEquals(3, dispatchedBatches.size());
+    }
+    
+    @Test
+    void testPeriodicTask() {
+        AtomicInteger count = new AtomicInteger();
+        timingWheel.newTimeout(count::incrementAndGet, 0L, 20L);
+        long now = System.currentTimeMillis();
+        timingWheel.tick(now + 10L);
+        assertEquals(1, count.get());
+        timingWheel.tick(now + 200L);
+        assertEquals(2, count.get());
+    }
+    
+    @Test
+    void testCancel() {
+        AtomicInteger count = new AtomicInteger();
+        HealthCheckTimingWheel.CheckTimeout timeout = timingWheel.newTimeout(count::incrementAndGet, 0L, 20L);
+        long now = System.currentTimeMillis();
+        timingWheel.tick(now + 10L);
+        assertEquals(1, count.get());
+        timeout.cancel();
+        timingWheel.tick(now + 200L);
+        assertEquals(1, count.get());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MysqlCheckConnectionPoolTest {
+    
+    private static final String TARGET = "127.0.0.1:3306";
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private Connection otherConnection;
+    
+    private MysqlCheckConnectionPool connectionPool;
+    
+    @BeforeEach
+    void setUp() {
+        connectionPool = new MysqlCheckConnectionPool(500, 1, 2, 1, 0L, 60000L);
+    }
+    
+    @Test
+    void testTryAcquireWithTargetLimit() {
+        assertTrue(connectionPool.tryAcquire(TARGET));
+        assertFalse(connectionPool.tryAcquire(TARGET));
+        assertEquals(1, connectionPool.getAvailableChecks());
+        connectionPool.release(TARGET);
+        assertTrue(connectionPool.tryAcquire(TARGET));
+    }
+    
+    @Test
+    void testTryAcquireWithGlobalLimit() {
+        assertTrue(connectionPool.tryAcquire(TARGET));
+        assertTrue(connectionPool.tryAcquire("127.0.0.2:3306"));
+        assertFalse(connectionPool.tryAcquire("127.0.0.3:3306"));
+        connectionPool.release(TARGET);
+        assertTrue(connectionPool.tryAcquire("127.0.0.3:3306"));
+    }
+    
+    @Test
+    void testBorrowIdleConnection() throws SQLException {
+        connectionPool.giveBack(TARGET, "user", connection, true);
+        assertEquals(1, connectionPool.getIdleCount());
+        assertSame(connection, connectionPool.borrow(TARGET, "user", "pwd"));
+        assertEquals(0, connectionPool.getIdleCount());
+    }
+    
+    @Test
+    void testGiveBackOverMaxIdle() throws SQLException {
+        connectionPool.giveBack(TARGET, "user", connection, true);
+        connectionPool.giveBack(TARGET, "user", otherConnection, true);
+        assertEquals(1, connectionPool.getIdleCount());
+        verify(connection, never()).close();
+        verify(otherConnection).close();
+    }
+    
+    @Test
+    void testGiveBackNotReusable() throws SQLException {
+        connectionPool.giveBack(TARGET, "user", connection, false);
+        assertEquals(0, connectionPool.getIdleCount());
+        verify(connection).close();
+    }
+    
+    @Test
+    void testEvictIdleConnections() throws SQLException {
+        connectionPool.giveBack(TARGET, "user", connection, true);
+        connectionPool.evictIdleConnections();
+        assertEquals(0, connectionPool.getIdleCount());
+        verify(connection).close();
+    }
+}
@@ -17,11 +17,21 @@
 
 package com.alibaba.nacos.naming.selector;
 
+import com.alibaba.nacos.api.cmdb.pojo.Entity;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.selector.Selector;
+import com.alibaba.nacos.api.selector.context.CmdbContext;
+import com.alibaba.nacos.naming.selector.context.CmdbSelectorContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -51,4 +61,94 @@ class LabelSelectorTest {
         assertTrue(labelSelector.getLabels().contains("A"));
         assertTrue(labelSelector.getLabels().contains("B"));
     }
+    
+    @Test
+    void testSelectByIndex() throws NacosException {
+        List<Instance> providers = new ArrayList<>();
+        providers.add(createInstance("1.1.1.1"));
+        providers.add(createInstance("1.1.1.2"));
+        providers.add(createInstance("1.1.1.3"));
+        Map<String, Map<String, String>> providerLabels = new HashMap<>();
+        providerLabels.put("1.1.1.1", createLabels("a1", "b1"));
+        providerLabels.put("1.1.1.2", createLabels("a1", "b2"));
+        providerLabels.put("1.1.1.3", createLabels("a1", "b1"));
+        AtomicInteger entityQueryCount = new AtomicInteger();
+        LabelSelector<Instance> labelSelector = (LabelSelector<Instance>) selectorManager.parseSelector("label",
+                "CONSUMER.label.A=PROVIDER.label.A &CONSUMER.label.B=PROVIDER.label.B");
+        
+        List<Instance> result = labelSelector.select(
+                createContext(createLabels("a1", "b1"), providers, providerLabels, 1L, entityQueryCount));
+        assertEquals(2, result.size());
+        assertEquals(3, entityQueryCount.get());
+        
+        // index is reused for same providers and revision.
+        result = labelSelector.select(
+                createContext(createLabels("a1", "b2"), providers, providerLabels, 1L, entityQueryCount));
+        assertEquals(1, result.size());
+        assertEquals("1.1.1.2", result.get(0).getIp());
+        assertEquals(3, entityQueryCount.get());
+        
+        // none matched, return all providers.
+        result = labelSelector.select(
+                createContext(createLabels("a2", "b1"), providers, providerLabels, 1L, entityQueryCount));
+        assertEquals(3, result.size());
+        
+        // index is rebuilt after CMDB data changed.
+        providerLabels.put("1.1.1.3", createLabels("a1", "b2"));
+        result = labelSelector.select(
+                createContext(createLabels("a1", "b2"), providers, providerLabels, 2L, entityQueryCount));
+        assertEquals(2, result.size());
+        assertEquals(6, entityQueryCount.get());
+        
+        // index is rebuilt after providers changed.
+        providers.remove(0);
+        result = labelSelector.select(
+                createContext(createLabels("a1", "b2"), providers, providerLabels, 2L, entityQueryCount));
+        assertEquals(2, result.size());
+        assertEquals(8, entityQueryCount.get());
+    }
+    
+    private CmdbSelectorContext<Instance> createContext(Map<String, String> consumerLabels, List<Instance> providers,
+            Map<String, Map<String, String>> providerLabels, long revision, AtomicInteger entityQueryCount) {
+        CmdbSelectorContext<Instance> context = new CmdbSelectorContext<>();
+        context.setRevision(revision);
+        CmdbContext.CmdbInstance<Instance> consumer = new CmdbContext.CmdbInstance<>();
+        consumer.setInstance(createInstance("2.2.2.2"));
+        consumer.setEntity(createEntity(consumerLabels));
+        context.setConsumer(consumer);
+        List<CmdbContext.CmdbInstance<Instance>> providerInstances = new ArrayList<>();
+        for (Instance each : providers) {
+            CmdbContext.CmdbInstance<Instance> provider = new CmdbContext.CmdbInstance<Instance>() {
+                
+                @Override
+                public Entity getEntity() {
+                    entityQueryCount.incrementAndGet();
+                    return createEntity(providerLabels.get(each.getIp()));
+                }
+            };
+            provider.setInstance(each);
+            providerInstances.add(provider);
+        }
+        context.setProviders(providerInstances);
+        return context;
+    }
+    
+    private Instance createInstance(String ip) {
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        return instance;
+    }
+    
+    private Entity createEntity(Map<String, String> labels) {
+        Entity entity = new Entity();
+        entity.setLabels(labels);
+        return entity;
+    }
+    
+    private Map<String, String> createLabels(String valueA, String valueB) {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("A", valueA);
+        labels.put("B", valueB);
+        return labels;
+    }
 }
@@ -16,10 +16,19 @@
 
 package com.alibaba.nacos.naming.utils;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ServiceUtilTest {
     
@@ -33,4 +42,48 @@ class ServiceUtilTest {
         ServiceInfo cluster = ServiceUtil.selectInstances(serviceInfo, "cluster");
         assertNotNull(cluster);
     }
+    
+    @Test
+    void testSelectInstancesWithHealthyProtectionShareSameView() throws Exception {
+        ServiceInfo serviceInfo = buildServiceInfo();
+        ServiceInfo first = ServiceUtil.selectInstancesWithHealthyProtection(serviceInfo, null, "a", true, true, "1.1.1.1");
+        ServiceInfo second = ServiceUtil.selectInstancesWithHealthyProtection(serviceInfo, null, "a", true, true, "2.2.2.2");
+        assertNotSame(first, second);
+        Field hostsField = ServiceInfo.class.getDeclaredField("hosts");
+        hostsField.setAccessible(true);
+        List<Instance> sharedHosts = (List<Instance>) hostsField.get(first);
+        assertSame(sharedHosts, hostsField.get(second));
+        assertThrows(UnsupportedOperationException.class, () -> sharedHosts.add(new Instance()));
+        assertEquals(1, first.getHosts().size());
+        assertEquals("1.1.1.1", first.getHosts().get(0).getIp());
+        ServiceInfo otherView = ServiceUtil.selectInstancesWithHealthyProtection(serviceInfo, null, "", false, true, "1.1.1.1");
+        assertEquals(3, otherView.getHosts().size());
+    }
+    
+    @Test
+    void testSelectInstancesWithHealthyProtectionForNewVersion() {
+        ServiceInfo first = ServiceUtil.selectInstancesWithHealthyProtection(buildServiceInfo(), null, "", false, true, "1.1.1.1");
+        ServiceInfo newVersion = buildServiceInfo();
+        newVersion.getHosts().get(0).setEnabled(false);
+        ServiceInfo second = ServiceUtil.selectInstancesWithHealthyProtection(newVersion, null, "", false, true, "1.1.1.1");
+        assertEquals(3, first.getHosts().size());
+        assertEquals(2, second.getHosts().size());
+    }
+    
+    private ServiceInfo buildServiceInfo() {
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setGroupName("groupName");
+        serviceInfo.setName("serviceName");
+        serviceInfo.setHosts(Arrays.asList(buildInstance("1.1.1.1", "a", true), buildInstance("1.1.1.2", "a", false),
+                buildInstance("1.1.1.3", "b", true)));
+        return serviceInfo;
+    }
+    
+    private Instance buildInstance(String ip, String cluster, boolean healthy) {
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        instance.setClusterName(cluster);
+        instance.setHealthy(healthy);
+        return instance;
+    }
 }
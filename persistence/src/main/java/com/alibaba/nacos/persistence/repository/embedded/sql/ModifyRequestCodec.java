@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.persistence.repository.embedded.sql;
+
+import com.alibaba.nacos.consistency.serialize.CompactCodec;
+import com.alibaba.nacos.consistency.serialize.CompactInput;
+import com.alibaba.nacos.consistency.serialize.CompactOutput;
+
+/**
+ * Compact codec of {@link ModifyRequest}.
+ *
+ * @author agent
+ */
+public class ModifyRequestCodec implements CompactCodec<ModifyRequest> {
+    
+    public static final int ID = 1;
+    
+    @Override
+    public int id() {
+        return ID;
+    }
+    
+    @Override
+    public Class<ModifyRequest> type() {
+        return ModifyRequest.class;
+    }
+    
+    @Override
+    public void encode(ModifyRequest value, CompactOutput output) {
+        output.writeInt(value.getExecuteNo());
+        output.writeString(value.getSql());
+        output.writeBoolean(value.isRollBackOnUpdateFail());
+        Object[] args = value.getArgs();
+        if (null == args) {
+            output.writeVarInt(0);
+            return;
+        }
+        output.writeVarInt(args.length + 1);
+        for (Object each : args) {
+            output.writeValue(each);
+        }
+    }
+    
+    @Override
+    public ModifyRequest decode(CompactInput input) {
+        ModifyRequest result = new ModifyRequest();
+        result.setExecuteNo(input.readInt());
+        result.setSql(input.readString());
+        result.setRollBackOnUpdateFail(input.readBoolean());
+        int length = input.readVarInt() - 1;
+        if (length >= 0) {
+            Object[] args = new Object[length];
+            for (int i = 0; i < length; i++) {
+                args[i] = input.readValue();
+            }
+            result.setArgs(args);
+        }
+        return result;
+    }
+}
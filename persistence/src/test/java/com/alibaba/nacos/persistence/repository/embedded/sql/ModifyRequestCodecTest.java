@@ -0,0 +1,57 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.persistence.repository.embedded.sql;
+
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.serialize.CompactSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModifyRequestCodecTest {
+    
+    private final Serializer serializer = SerializeFactory.getSerializer(SerializeFactory.COMPACT_INDEX);
+    
+    @Test
+    void testSerializeModifyRequests() {
+        ModifyRequest first = new ModifyRequest("INSERT INTO config_info(data_id, gmt_create) VALUES(?, ?)");
+        first.setExecuteNo(1);
+        first.setRollBackOnUpdateFail(true);
+        first.setArgs(new Object[] {"dataId", new Timestamp(System.currentTimeMillis()), null, 1L});
+        ModifyRequest second = new ModifyRequest("DELETE FROM config_info");
+        second.setExecuteNo(2);
+        byte[] data = serializer.serialize(Arrays.asList(first, second));
+        assertTrue(CompactSerializer.isCompact(data));
+        
+        List<ModifyRequest> actual = SerializeFactory.getDefault().deserialize(data, List.class);
+        assertEquals(2, actual.size());
+        assertEquals(first.getExecuteNo(), actual.get(0).getExecuteNo());
+        assertEquals(first.getSql(), actual.get(0).getSql());
+        assertTrue(actual.get(0).isRollBackOnUpdateFail());
+        assertArrayEquals(first.getArgs(), actual.get(0).getArgs());
+        assertEquals(second.getSql(), actual.get(1).getSql());
+        assertNull(actual.get(1).getArgs());
+    }
+}
@@ -17,6 +17,8 @@
 package com.alibaba.nacos.plugin.auth.impl.roles;
 
 import com.alibaba.nacos.auth.config.AuthConfigs;
+import com.alibaba.nacos.common.cache.Cache;
+import com.alibaba.nacos.common.cache.builder.CacheBuilder;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -41,9 +43,11 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
 
@@ -58,6 +62,8 @@ public class NacosRoleServiceImpl {
     
     private static final int DEFAULT_PAGE_NO = 1;
     
+    private static final int DECISION_CACHE_SIZE = 10000;
+    
     @Autowired
     private AuthConfigs authConfigs;
     
@@ -76,6 +82,17 @@ public class NacosRoleServiceImpl {
     
     private volatile Map<String, List<PermissionInfo>> permissionInfoMap = new ConcurrentHashMap<>();
     
+    /**
+     * Compiled patterns of permission resources, rebuilt when reload.
+     */
+    private volatile Map<String, Pattern> permissionPatternMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Decisions of (user, resource, action) which are decided by permission patterns, replaced when roles or
+     * permissions changed. Only used when auth caching is enabled.
+     */
+    private volatile Cache<PermissionDecisionKey, Boolean> decisionCache = buildDecisionCache();
+    
     @Scheduled(initialDelay = 5000, fixedDelay = 15000)
     private void reload() {
         try {
@@ -95,15 +112,19 @@ public class NacosRoleServiceImpl {
             }
             
             Map<String, List<PermissionInfo>> tmpPermissionInfoMap = new ConcurrentHashMap<>(16);
+            Map<String, Pattern> tmpPermissionPatternMap = new ConcurrentHashMap<>(16);
             for (String role : tmpRoleSet) {
                 Page<PermissionInfo> permissionInfoPage = permissionPersistService.getPermissions(role, DEFAULT_PAGE_NO,
                         Integer.MAX_VALUE);
                 tmpPermissionInfoMap.put(role, permissionInfoPage.getPageItems());
+                compilePermissionPatterns(permissionInfoPage.getPageItems(), tmpPermissionPatternMap);
             }
             
             roleSet = tmpRoleSet;
             roleInfoMap = tmpRoleInfoMap;
             permissionInfoMap = tmpPermissionInfoMap;
+            permissionPatternMap = tmpPermissionPatternMap;
+            invalidateDecisionCache();
         } catch (Exception e) {
             Loggers.AUTH.warn("[LOAD-ROLES] load failed", e);
         }
@@ -144,16 +165,31 @@ public class NacosRoleServiceImpl {
         }
         
         // For other roles, use a pattern match to decide if pass or not.
+        String resource = joinResource(permission.getResource());
+        if (!authConfigs.isCachingEnabled()) {
+            return matchPermission(roleInfoList, resource, permission.getAction());
+        }
+        Cache<PermissionDecisionKey, Boolean> currentDecisionCache = decisionCache;
+        PermissionDecisionKey decisionKey = new PermissionDecisionKey(nacosUser.getUserName(), resource,
+                permission.getAction());
+        Boolean result = currentDecisionCache.get(decisionKey);
+        if (null == result) {
+            result = matchPermission(roleInfoList, resource, permission.getAction());
+            currentDecisionCache.put(decisionKey, result);
+        }
+        return result;
+    }
+    
+    private boolean matchPermission(List<RoleInfo> roleInfoList, String resource, String action) {
         for (RoleInfo roleInfo : roleInfoList) {
             List<PermissionInfo> permissionInfoList = getPermissions(roleInfo.getRole());
             if (CollectionUtils.isEmpty(permissionInfoList)) {
                 continue;
             }
             for (PermissionInfo permissionInfo : permissionInfoList) {
-                String permissionResource = permissionInfo.getResource().replaceAll("\\*", ".*");
                 String permissionAction = permissionInfo.getAction();
-                if (permissionAction.contains(permission.getAction()) && Pattern.matches(permissionResource,
-                        joinResource(permission.getResource()))) {
+                if (permissionAction.contains(action) && getPermissionPattern(permissionInfo.getResource())
+                        .matcher(resource).matches()) {
                     return true;
                 }
             }
@@ -161,6 +197,36 @@ public class NacosRoleServiceImpl {
         return false;
     }
     
+    private Pattern getPermissionPattern(String permissionResource) {
+        return permissionPatternMap.computeIfAbsent(permissionResource, NacosRoleServiceImpl::compilePermissionResource);
+    }
+    
+    private static Pattern compilePermissionResource(String permissionResource) {
+        return Pattern.compile(permissionResource.replaceAll("\\*", ".*"));
+    }
+    
+    private void compilePermissionPatterns(List<PermissionInfo> permissionInfoList, Map<String, Pattern> patternMap) {
+        if (CollectionUtils.isEmpty(permissionInfoList)) {
+            return;
+        }
+        for (PermissionInfo each : permissionInfoList) {
+            try {
+                patternMap.computeIfAbsent(each.getResource(), NacosRoleServiceImpl::compilePermissionResource);
+            } catch (PatternSyntaxException e) {
+                Loggers.AUTH.warn("[LOAD-ROLES] illegal permission resource {}", each.getResource());
+            }
+        }
+    }
+    
+    private static Cache<PermissionDecisionKey, Boolean> buildDecisionCache() {
+        return CacheBuilder.<PermissionDecisionKey, Boolean>builder().maximumSize(DECISION_CACHE_SIZE).lru(true)
+                .sync(true).build();
+    }
+    
+    private void invalidateDecisionCache() {
+        decisionCache = buildDecisionCache();
+    }
+    
     public List<RoleInfo> getRoles(String username) {
         List<RoleInfo> roleInfoList = roleInfoMap.get(username);
         if (!authConfigs.isCachingEnabled() || roleInfoList == null) {
@@ -229,6 +295,7 @@ public class NacosRoleServiceImpl {
         }
         rolePersistService.addRole(role, username);
         roleSet.add(role);
+        invalidateDecisionCache();
     }
     
     /**
@@ -257,6 +324,7 @@ public class NacosRoleServiceImpl {
      */
     public void deleteRole(String role, String userName) {
         rolePersistService.deleteRole(role, userName);
+        invalidateDecisionCache();
     }
     
     /**
@@ -267,6 +335,7 @@ public class NacosRoleServiceImpl {
     public void deleteRole(String role) {
         rolePersistService.deleteRole(role);
         roleSet.remove(role);
+        invalidateDecisionCache();
     }
     
     public Page<PermissionInfo> getPermissionsFromDatabase(String role, int pageNo, int pageSize) {
@@ -289,10 +358,19 @@ public class NacosRoleServiceImpl {
             throw new IllegalArgumentException("role " + role + " not found!");
         }
         permissionPersistService.addPermission(role, resource, action);
+        invalidateDecisionCache();
     }
     
+    /**
+     * Delete permission.
+     *
+     * @param role     role name
+     * @param resource resource
+     * @param action   action
+     */
     public void deletePermission(String role, String resource, String action) {
         permissionPersistService.deletePermission(role, resource, action);
+        invalidateDecisionCache();
     }
     
     public List<String> findRolesLikeRoleName(String role) {
@@ -363,4 +441,36 @@ public class NacosRoleServiceImpl {
         return hasGlobalAdminRole;
     }
     
+    private static class PermissionDecisionKey {
+        
+        private final String username;
+        
+        private final String resource;
+        
+        private final String action;
+        
+        private PermissionDecisionKey(String username, String resource, String action) {
+            this.username = username;
+            this.resource = resource;
+            this.action = action;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PermissionDecisionKey that = (PermissionDecisionKey) o;
+            return Objects.equals(username, that.username) && Objects.equals(resource, that.resource)
+                    && Objects.equals(action, that.action);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(username, resource, action);
+        }
+    }
 }
@@ -32,12 +32,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -119,6 +122,40 @@ class NacosRoleServiceImplTest {
         assertTrue(res2);
     }
     
+    @Test
+    void hasPermissionWithCachedDecision() throws Exception {
+        Mockito.when(authConfigs.isCachingEnabled()).thenReturn(true);
+        RoleInfo roleInfo = new RoleInfo();
+        roleInfo.setRole("role1");
+        roleInfo.setUsername("user1");
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setRole("role1");
+        permissionInfo.setResource(":*:config/*");
+        permissionInfo.setAction("rw");
+        Map<String, List<RoleInfo>> roleInfoMap = new ConcurrentHashMap<>();
+        roleInfoMap.put("user1", Collections.singletonList(roleInfo));
+        Map<String, List<PermissionInfo>> permissionInfoMap = new ConcurrentHashMap<>();
+        permissionInfoMap.put("role1", Collections.singletonList(permissionInfo));
+        Field roleInfoMapField = nacosRoleServiceClass.getDeclaredField("roleInfoMap");
+        roleInfoMapField.setAccessible(true);
+        roleInfoMapField.set(nacosRoleService, roleInfoMap);
+        Field permissionInfoMapField = nacosRoleServiceClass.getDeclaredField("permissionInfoMap");
+        permissionInfoMapField.setAccessible(true);
+        permissionInfoMapField.set(nacosRoleService, permissionInfoMap);
+        
+        NacosUser nacosUser = new NacosUser();
+        nacosUser.setUserName("user1");
+        Permission permission = new Permission(new Resource("", "group", "dataId", "config", null), "r");
+        assertTrue(nacosRoleService.hasPermission(nacosUser, permission));
+        assertFalse(nacosRoleService.hasPermission(nacosUser,
+                new Permission(new Resource("", "group", "service", "naming", null), "r")));
+        // decision is cached until permissions changed.
+        permissionInfoMap.clear();
+        assertTrue(nacosRoleService.hasPermission(nacosUser, permission));
+        nacosRoleService.deletePermission("role1", ":*:config/*", "rw");
+        assertFalse(nacosRoleService.hasPermission(nacosUser, permission));
+    }
+    
     @Test
     void getRoles() {
         List<RoleInfo> nacos = nacosRoleService.getRoles("role-admin");
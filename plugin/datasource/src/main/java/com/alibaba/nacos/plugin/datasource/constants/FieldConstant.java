@@ -93,4 +93,8 @@ public class FieldConstant {
     public static final String USAGE = "usage";
     
     public static final String LIMIT_SIZE = "limitSize";
+    
+    public static final String PARTITION_NAME = "partitionName";
+    
+    public static final String PARTITION_BOUND = "partitionBound";
 }
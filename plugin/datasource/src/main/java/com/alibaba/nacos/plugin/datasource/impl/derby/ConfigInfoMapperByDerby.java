@@ -100,6 +100,16 @@ public class ConfigInfoMapperByDerby extends AbstractMapper implements ConfigInf
                 CollectionUtils.list(context.getWhereParameter(FieldConstant.ID)));
     }
     
+    @Override
+    public MapperResult findAllConfigInfo4ExportFragment(MapperContext context) {
+        MapperResult mapperResult = findAllConfigInfo4Export(context);
+        List<Object> paramList = new ArrayList<>(mapperResult.getParamList());
+        paramList.add(context.getWhereParameter(FieldConstant.ID));
+        String sql = mapperResult.getSql() + " AND id > ? ORDER BY id ASC OFFSET " + context.getStartRow() + " ROWS FETCH NEXT "
+                + context.getPageSize() + " ROWS ONLY";
+        return new MapperResult(sql, paramList);
+    }
+    
     @Override
     public MapperResult findChangeConfigFetchRows(MapperContext context) {
         final String tenant = (String) context.getWhereParameter(FieldConstant.TENANT);
@@ -34,8 +34,8 @@ public class HistoryConfigInfoMapperByDerby extends AbstractMapper implements Hi
     
     @Override
     public MapperResult removeConfigHistory(MapperContext context) {
-        String sql = "DELETE FROM his_config_info WHERE id IN( "
-                + "SELECT id FROM his_config_info WHERE gmt_modified < ? OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY)";
+        String sql = "DELETE FROM his_config_info WHERE nid IN( "
+                + "SELECT nid FROM his_config_info WHERE gmt_modified < ? OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY)";
         return new MapperResult(sql, CollectionUtils.list(context.getWhereParameter(FieldConstant.START_TIME),
                 context.getWhereParameter(FieldConstant.LIMIT_SIZE)));
     }
@@ -64,4 +64,16 @@ public class HistoryConfigInfoMapperByDerby extends AbstractMapper implements Hi
                         context.getWhereParameter(FieldConstant.LAST_MAX_ID),
                         context.getWhereParameter(FieldConstant.PAGE_SIZE)));
     }
+    
+    @Override
+    public MapperResult findDeletedConfigByCursor(MapperContext context) {
+        return new MapperResult(
+                "SELECT data_id, group_id, tenant_id, gmt_modified, nid AS id FROM his_config_info WHERE op_type = 'D' "
+                        + "AND gmt_modified >= ? AND (gmt_modified > ? OR nid > ?) ORDER BY gmt_modified, nid "
+                        + "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY",
+                CollectionUtils.list(context.getWhereParameter(FieldConstant.START_TIME),
+                        context.getWhereParameter(FieldConstant.START_TIME),
+                        context.getWhereParameter(FieldConstant.LAST_MAX_ID),
+                        context.getWhereParameter(FieldConstant.PAGE_SIZE)));
+    }
 }
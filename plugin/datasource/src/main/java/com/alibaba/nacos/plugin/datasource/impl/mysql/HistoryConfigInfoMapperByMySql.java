@@ -24,6 +24,8 @@ import com.alibaba.nacos.plugin.datasource.mapper.HistoryConfigInfoMapper;
 import com.alibaba.nacos.plugin.datasource.model.MapperContext;
 import com.alibaba.nacos.plugin.datasource.model.MapperResult;
 
+import java.util.Collections;
+
 /**
  * The mysql implementation of HistoryConfigInfoMapper.
  *
@@ -32,6 +34,8 @@ import com.alibaba.nacos.plugin.datasource.model.MapperResult;
 
 public class HistoryConfigInfoMapperByMySql extends AbstractMapper implements HistoryConfigInfoMapper {
     
+    private static final String MAX_VALUE_PARTITION = "pmax";
+    
     @Override
     public MapperResult removeConfigHistory(MapperContext context) {
         String sql = "DELETE FROM his_config_info WHERE gmt_modified < ? LIMIT ?";
@@ -49,6 +53,29 @@ public class HistoryConfigInfoMapperByMySql extends AbstractMapper implements Hi
                 context.getWhereParameter(FieldConstant.GROUP_ID), context.getWhereParameter(FieldConstant.TENANT_ID)));
     }
     
+    @Override
+    public MapperResult findConfigHistoryPartitions(MapperContext context) {
+        String sql = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() "
+                + "AND TABLE_NAME = 'his_config_info' AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION";
+        return new MapperResult(sql, Collections.emptyList());
+    }
+    
+    @Override
+    public MapperResult addConfigHistoryPartition(MapperContext context) {
+        String sql = "ALTER TABLE his_config_info REORGANIZE PARTITION " + MAX_VALUE_PARTITION + " INTO (PARTITION "
+                + context.getWhereParameter(FieldConstant.PARTITION_NAME) + " VALUES LESS THAN ('"
+                + context.getWhereParameter(FieldConstant.PARTITION_BOUND) + "'), PARTITION " + MAX_VALUE_PARTITION
+                + " VALUES LESS THAN (MAXVALUE))";
+        return new MapperResult(sql, Collections.emptyList());
+    }
+    
+    @Override
+    public MapperResult dropConfigHistoryPartition(MapperContext context) {
+        String sql = "ALTER TABLE his_config_info DROP PARTITION " + context.getWhereParameter(
+                FieldConstant.PARTITION_NAME);
+        return new MapperResult(sql, Collections.emptyList());
+    }
+    
     @Override
     public String getDataSource() {
         return DataSourceConstant.MYSQL;
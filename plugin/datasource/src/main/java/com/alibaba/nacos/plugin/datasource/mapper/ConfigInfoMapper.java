@@ -156,6 +156,25 @@ public interface ConfigInfoMapper extends Mapper {
                 context.getWhereParameter(FieldConstant.PAGE_SIZE)));
     }
     
+    /**
+     * Query configuration information for export by page, the rows are ordered by id and start after the last max id.
+     * The default sql: SELECT id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_create,gmt_modified,
+     * src_user,src_ip,c_desc,c_use,effect,c_schema,encrypted_data_key FROM config_info WHERE ... AND id > ? ORDER BY id
+     * ASC LIMIT startRow,pageSize
+     *
+     * @param context The context of the conditions of {@link #findAllConfigInfo4Export(MapperContext)}, id,
+     *                startRow and pageSize
+     * @return The sql of querying configuration information for export by page.
+     */
+    default MapperResult findAllConfigInfo4ExportFragment(MapperContext context) {
+        MapperResult mapperResult = findAllConfigInfo4Export(context);
+        List<Object> paramList = new ArrayList<>(mapperResult.getParamList());
+        paramList.add(context.getWhereParameter(FieldConstant.ID));
+        String sql = mapperResult.getSql() + " AND id > ? ORDER BY id ASC LIMIT " + context.getStartRow() + ","
+                + context.getPageSize();
+        return new MapperResult(sql, paramList);
+    }
+    
     /**
      * Get the count of config information. The default sql: SELECT count(*) FROM config_info WHERE ...
      *
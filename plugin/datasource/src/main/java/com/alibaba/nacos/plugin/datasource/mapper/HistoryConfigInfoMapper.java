@@ -68,6 +68,25 @@ public interface HistoryConfigInfoMapper extends Mapper {
                         context.getWhereParameter(FieldConstant.PAGE_SIZE)));
     }
     
+    /**
+     * Query deleted config after the cursor of modified time and nid. The result is ordered by the index of op_type,
+     * gmt_modified and nid, and the id of result is the nid of history. The default sql: SELECT data_id, group_id,
+     * tenant_id, gmt_modified, nid AS id FROM his_config_info WHERE op_type = 'D' AND gmt_modified >= ? AND
+     * (gmt_modified > ? OR nid > ?) ORDER BY gmt_modified, nid LIMIT ?
+     *
+     * @param context sql paramMap
+     * @return The sql of querying deleted config after the cursor.
+     */
+    default MapperResult findDeletedConfigByCursor(MapperContext context) {
+        return new MapperResult(
+                "SELECT data_id, group_id, tenant_id, gmt_modified, nid AS id FROM his_config_info WHERE op_type = 'D' "
+                        + "AND gmt_modified >= ? AND (gmt_modified > ? OR nid > ?) ORDER BY gmt_modified, nid LIMIT ?",
+                CollectionUtils.list(context.getWhereParameter(FieldConstant.START_TIME),
+                        context.getWhereParameter(FieldConstant.START_TIME),
+                        context.getWhereParameter(FieldConstant.LAST_MAX_ID),
+                        context.getWhereParameter(FieldConstant.PAGE_SIZE)));
+    }
+    
     /**
      * List configuration history change record. The default sql: SELECT
      * nid,data_id,group_id,tenant_id,app_name,src_ip,src_user,op_type,gmt_create,gmt_modified FROM his_config_info
@@ -110,6 +129,37 @@ public interface HistoryConfigInfoMapper extends Mapper {
                 Collections.singletonList(context.getWhereParameter(FieldConstant.ID)));
     }
     
+    /**
+     * Query the names of partitions of his_config_info. The default sql is {@code null}, which means the database does
+     * not support dropping expired history by partitions.
+     *
+     * @param context sql paramMap
+     * @return The sql of querying the names of partitions, or {@code null} if not supported.
+     */
+    default MapperResult findConfigHistoryPartitions(MapperContext context) {
+        return null;
+    }
+    
+    /**
+     * Add a partition of his_config_info before the max value partition. The default sql is {@code null}.
+     *
+     * @param context sql paramMap, with the partition name and the upper bound of gmt_modified
+     * @return The sql of adding partition, or {@code null} if not supported.
+     */
+    default MapperResult addConfigHistoryPartition(MapperContext context) {
+        return null;
+    }
+    
+    /**
+     * Drop a partition of his_config_info. The default sql is {@code null}.
+     *
+     * @param context sql paramMap, with the partition name
+     * @return The sql of dropping partition, or {@code null} if not supported.
+     */
+    default MapperResult dropConfigHistoryPartition(MapperContext context) {
+        return null;
+    }
+    
     /**
      * 获取返回表名.
      *
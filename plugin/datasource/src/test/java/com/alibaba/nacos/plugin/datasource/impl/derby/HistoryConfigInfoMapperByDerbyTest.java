@@ -28,6 +28,7 @@ import java.sql.Timestamp;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class HistoryConfigInfoMapperByDerbyTest {
     
@@ -63,7 +64,7 @@ class HistoryConfigInfoMapperByDerbyTest {
     void testRemoveConfigHistory() {
         MapperResult mapperResult = historyConfigInfoMapperByDerby.removeConfigHistory(context);
         assertEquals(mapperResult.getSql(),
-                "DELETE FROM his_config_info WHERE id IN( SELECT id FROM his_config_info WHERE gmt_modified < ? "
+                "DELETE FROM his_config_info WHERE nid IN( SELECT nid FROM his_config_info WHERE gmt_modified < ? "
                         + "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY)");
         assertArrayEquals(new Object[] {startTime, limitSize}, mapperResult.getParamList().toArray());
     }
@@ -84,6 +85,22 @@ class HistoryConfigInfoMapperByDerbyTest {
         assertArrayEquals(new Object[] {startTime, lastMaxId, pageSize}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindDeletedConfigByCursor() {
+        MapperResult mapperResult = historyConfigInfoMapperByDerby.findDeletedConfigByCursor(context);
+        assertEquals("SELECT data_id, group_id, tenant_id, gmt_modified, nid AS id FROM his_config_info WHERE op_type = 'D' "
+                + "AND gmt_modified >= ? AND (gmt_modified > ? OR nid > ?) ORDER BY gmt_modified, nid "
+                + "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY", mapperResult.getSql());
+        assertArrayEquals(new Object[] {startTime, startTime, lastMaxId, pageSize}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testConfigHistoryPartitionsNotSupported() {
+        assertNull(historyConfigInfoMapperByDerby.findConfigHistoryPartitions(context));
+        assertNull(historyConfigInfoMapperByDerby.addConfigHistoryPartition(context));
+        assertNull(historyConfigInfoMapperByDerby.dropConfigHistoryPartition(context));
+    }
+    
     @Test
     void testFindConfigHistoryFetchRows() {
         Object dataId = "dataId";
@@ -218,6 +218,22 @@ class ConfigInfoMapperByMySqlTest {
         assertArrayEquals(new Object[] {tenantId, appName}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindAllConfigInfo4ExportFragment() {
+        MapperResult mapperResult = configInfoMapperByMySql.findAllConfigInfo4ExportFragment(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_create,gmt_modified,src_user,"
+                + "src_ip,c_desc,c_use,effect,c_schema,encrypted_data_key FROM config_info WHERE  id IN (?, ?, ?, ?, ?) "
+                + " AND id > ? ORDER BY id ASC LIMIT " + startRow + "," + pageSize, mapperResult.getSql());
+        assertArrayEquals(new Object[] {1L, 2L, 3L, 5L, 144L, id}, mapperResult.getParamList().toArray());
+        
+        context.putWhereParameter(FieldConstant.IDS, null);
+        mapperResult = configInfoMapperByMySql.findAllConfigInfo4ExportFragment(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_create,gmt_modified,src_user,"
+                + "src_ip,c_desc,c_use,effect,c_schema,encrypted_data_key FROM config_info WHERE  tenant_id = ?  AND app_name= ? "
+                + " AND id > ? ORDER BY id ASC LIMIT " + startRow + "," + pageSize, mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId, appName, id}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testFindConfigInfoBaseLikeCountRows() {
         MapperResult mapperResult = configInfoMapperByMySql.findConfigInfoBaseLikeCountRows(context);
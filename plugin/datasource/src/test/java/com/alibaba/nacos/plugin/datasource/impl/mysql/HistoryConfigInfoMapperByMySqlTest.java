@@ -81,6 +81,30 @@ class HistoryConfigInfoMapperByMySqlTest {
         assertArrayEquals(new Object[] {startTime, lastMaxId, pageSize}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindDeletedConfigByCursor() {
+        MapperResult mapperResult = historyConfigInfoMapperByMySql.findDeletedConfigByCursor(context);
+        assertEquals("SELECT data_id, group_id, tenant_id, gmt_modified, nid AS id FROM his_config_info WHERE op_type = 'D' "
+                + "AND gmt_modified >= ? AND (gmt_modified > ? OR nid > ?) ORDER BY gmt_modified, nid LIMIT ?", mapperResult.getSql());
+        assertArrayEquals(new Object[] {startTime, startTime, lastMaxId, pageSize}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testConfigHistoryPartitions() {
+        context.putWhereParameter(FieldConstant.PARTITION_NAME, "p20240102");
+        context.putWhereParameter(FieldConstant.PARTITION_BOUND, "2024-01-03 00:00:00");
+        MapperResult mapperResult = historyConfigInfoMapperByMySql.findConfigHistoryPartitions(context);
+        assertEquals("SELECT PARTITION_NAME FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() "
+                + "AND TABLE_NAME = 'his_config_info' AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION",
+                mapperResult.getSql());
+        mapperResult = historyConfigInfoMapperByMySql.addConfigHistoryPartition(context);
+        assertEquals("ALTER TABLE his_config_info REORGANIZE PARTITION pmax INTO (PARTITION p20240102 VALUES LESS THAN "
+                + "('2024-01-03 00:00:00'), PARTITION pmax VALUES LESS THAN (MAXVALUE))", mapperResult.getSql());
+        mapperResult = historyConfigInfoMapperByMySql.dropConfigHistoryPartition(context);
+        assertEquals("ALTER TABLE his_config_info DROP PARTITION p20240102", mapperResult.getSql());
+        assertEquals(0, mapperResult.getParamList().size());
+    }
+    
     @Test
     void testFindConfigHistoryFetchRows() {
         Object dataId = "dataId";